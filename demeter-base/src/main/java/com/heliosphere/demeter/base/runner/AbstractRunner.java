@@ -11,42 +11,87 @@
  */
 package com.heliosphere.demeter.base.runner;
 
+import java.io.IOException;
 import java.lang.annotation.Annotation;
-import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.concurrent.Callable;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang.StringUtils;
 
 import com.google.common.base.Stopwatch;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.heliosphere.demeter.base.file.FileException;
 import com.heliosphere.demeter.base.file.xml.base.IXmlFile;
+import com.heliosphere.demeter.base.runner.annotation.RunnerBulkhead;
 import com.heliosphere.demeter.base.runner.annotation.RunnerConfig;
 import com.heliosphere.demeter.base.runner.annotation.RunnerFile;
-import com.heliosphere.demeter.base.runner.context.Context;
+import com.heliosphere.demeter.base.runner.annotation.RunnerRetry;
+import com.heliosphere.demeter.base.runner.batch.BatchSettings;
+import com.heliosphere.demeter.base.runner.context.ContextSupplier;
 import com.heliosphere.demeter.base.runner.context.IContext;
+import com.heliosphere.demeter.base.runner.daemon.DaemonSchedule;
 import com.heliosphere.demeter.base.runner.entity.Entity;
 import com.heliosphere.demeter.base.runner.entity.EntityType;
 import com.heliosphere.demeter.base.runner.entity.IEntity;
+import com.heliosphere.demeter.base.runner.executor.Bulkhead;
+import com.heliosphere.demeter.base.runner.executor.BulkheadExecutor;
+import com.heliosphere.demeter.base.runner.executor.ExecutorFactory;
+import com.heliosphere.demeter.base.runner.executor.ExecutorMode;
+import com.heliosphere.demeter.base.runner.executor.OverflowPolicy;
+import com.heliosphere.demeter.base.runner.file.split.FileSource;
+import com.heliosphere.demeter.base.runner.file.split.FileSplit;
 import com.heliosphere.demeter.base.runner.file.xml.configuration.XmlConfigurationFile;
 import com.heliosphere.demeter.base.runner.file.xml.execution.XmlExecutionFile;
+import com.heliosphere.demeter.base.runner.lifecycle.LifecycleController;
+import com.heliosphere.demeter.base.runner.message.MessageChannel;
+import com.heliosphere.demeter.base.runner.message.MessageSettings;
+import com.heliosphere.demeter.base.runner.metric.PoolMetrics;
 import com.heliosphere.demeter.base.runner.parameter.base.IParameter;
 import com.heliosphere.demeter.base.runner.parameter.base.IParameterType;
 import com.heliosphere.demeter.base.runner.parameter.base.ParameterException;
 import com.heliosphere.demeter.base.runner.parameter.base.ParameterStatusType;
+import com.heliosphere.demeter.base.runner.parameter.base.ParameterTypeTable;
 import com.heliosphere.demeter.base.runner.parameter.configuration.IParameterConfiguration;
 import com.heliosphere.demeter.base.runner.parameter.execution.IParameterExecution;
 import com.heliosphere.demeter.base.runner.processor.IProcessor;
+import com.heliosphere.demeter.base.runner.processor.IProcessorFactory;
+import com.heliosphere.demeter.base.runner.processor.ProcessorFactory;
+import com.heliosphere.demeter.base.runner.processor.ProcessorPool;
 import com.heliosphere.demeter.base.runner.processor.ProcessorException;
+import com.heliosphere.demeter.base.runner.result.ExecutionResultPublisher;
 import com.heliosphere.demeter.base.runner.result.ExecutionStatusType;
+import com.heliosphere.demeter.base.runner.result.ExecutionSummary;
 import com.heliosphere.demeter.base.runner.result.IExecutionResult;
+import com.heliosphere.demeter.base.runner.result.IExecutionResultListener;
+import com.heliosphere.demeter.base.runner.result.IExecutionResultSubscriber;
+import com.heliosphere.demeter.base.runner.retry.RetryPolicy;
+import com.heliosphere.demeter.base.runner.retry.RetryScheduler;
+import com.heliosphere.demeter.base.runner.scheduler.DependencyContextScheduler;
+import com.heliosphere.demeter.base.runner.scheduler.IContextScheduler;
+import com.heliosphere.demeter.base.runner.scheduler.ParameterGraph;
+import com.heliosphere.demeter.base.runner.scheduler.PriorityContextScheduler;
 
 import lombok.NonNull;
 import lombok.extern.log4j.Log4j;
@@ -71,9 +116,14 @@ public abstract class AbstractRunner implements IRunner
 	private XmlExecutionFile execution = null;
 
 	/**
-	 * Collection of contexts for this runner.
+	 * Supplier of the contexts to be dispatched by this runner.
 	 */
-	private List<IContext> contexts = new ArrayList<>();
+	private ContextSupplier contexts = null;
+
+	/**
+	 * Entity types of the contexts to be dispatched.
+	 */
+	private final Set<EntityType> types = EnumSet.noneOf(EntityType.class);
 
 	/**
 	 * Processor class to use.
@@ -86,20 +136,117 @@ public abstract class AbstractRunner implements IRunner
 	private int threadCount;
 
 	/**
-	 * Executor service used for multi-threading the processors execution.
+	 * Executor mode used to run the processors.
+	 */
+	private ExecutorMode executorMode = ExecutorMode.FIXED;
+
+	/**
+	 * Maximum number of processors allowed to run concurrently (only used by the {@link ExecutorMode#VIRTUAL} mode).
+	 */
+	private int maxConcurrency;
+
+	/**
+	 * Aging rate (in priority points per second) of the contexts waiting to be dispatched.
+	 */
+	private int priorityAging;
+
+	/**
+	 * Maximum time (in milliseconds) to wait for the running processors when the runner is stopped.
+	 */
+	private long stopTimeout = 10000;
+
+	/**
+	 * Maximum number of idle processors kept to be reused ({@code 0} to disable the processor pool).
+	 */
+	private int processorPoolSize;
+
+	/**
+	 * Maximum number of contexts created ahead of their dispatching ({@code 0} for no limit).
+	 */
+	private int contextWindow = 256;
+
+	/**
+	 * Policy applied to the contexts whose bulkhead is saturated.
+	 */
+	private OverflowPolicy overflow = OverflowPolicy.BLOCK;
+
+	/**
+	 * Maximum time (in milliseconds) a context is allowed to run ({@code 0} for no timeout).
+	 */
+	private long timeout;
+
+	/**
+	 * Maximum time (in milliseconds) the whole run is allowed to last ({@code 0} for no deadline).
+	 */
+	private long runDeadline;
+
+	/**
+	 * Retry policy of the failed contexts.
+	 */
+	private RetryPolicy retryPolicy = RetryPolicy.none();
+
+	/**
+	 * Factory used to obtain the processors of the contexts.
+	 */
+	private IProcessorFactory processorFactory = null;
+
+	/**
+	 * Bulkheads overriding the default executor of some entity types.
+	 */
+	private RunnerBulkhead[] bulkheads = new RunnerBulkhead[0];
+
+	/**
+	 * Bulkhead executor used for multi-threading the processors execution.
+	 */
+	private BulkheadExecutor executor = null;
+
+	/**
+	 * Dependency graph of the execution parameters.
+	 */
+	private ParameterGraph graph = null;
+
+	/**
+	 * Lifecycle controller.
+	 */
+	private final LifecycleController lifecycle = new LifecycleController();
+
+	/**
+	 * Queue of the dispatched contexts whose execution has completed.
 	 */
-	@SuppressWarnings("unused")
-	private ExecutorService executor = null;
+	private final BlockingQueue<Dispatched> completed = new LinkedBlockingQueue<>();
 
 	/**
-	 * Collection of callables for the multi-threading.
+	 * Wakes up the dispatching thread once the slot of a processor has been released, as a cancelled processor may only
+	 * release it after its result has been reported, or once a failed context is due to be retried.
 	 */
-	private List<Callable<IExecutionResult>> callables = new ArrayList<>();
+	private final Runnable wakeUp = new Runnable()
+	{
+		@Override
+		public void run()
+		{
+			completed.add(Dispatched.WAKE_UP);
+		}
+	};
+
+	/**
+	 * Collection of execution result listeners.
+	 */
+	private final List<IExecutionResultListener> resultListeners = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Summary of the execution results.
+	 */
+	private final ExecutionSummary summary = new ExecutionSummary();
+
+	/**
+	 * Publisher streaming the execution results to the subscribers.
+	 */
+	private final ExecutionResultPublisher publisher = new ExecutionResultPublisher();
 
 	/**
-	 * Collection of futures (for gathering processing results from callables) for multi-threading.
+	 * Message channels indexed by name.
 	 */
-	private List<Future<IExecutionResult>> futures = null;
+	private final Map<String, MessageChannel<?>> channels = new ConcurrentHashMap<>();
 
 	/**
 	 * Watch to measure elapsed time.
@@ -112,6 +259,11 @@ public abstract class AbstractRunner implements IRunner
 	@SuppressWarnings("rawtypes")
 	private Class enumParameterClass = null;
 
+	/**
+	 * Parameter type table built from the parameter type enumeration.
+	 */
+	private ParameterTypeTable parameterTypes = null;
+
 	/**
 	 * Properties file name.
 	 */
@@ -140,6 +292,27 @@ public abstract class AbstractRunner implements IRunner
 		initialize();
 	}
 
+	/**
+	 * Creates a new abstract runner given some values and an executor mode overriding the one defined by the {@link RunnerConfig}
+	 * annotation.
+	 * <hr>
+	 * @param configuration XML configuration file to be used by the runner.
+	 * @param execution XML execution file to be used by the runner.
+	 * @param properties Properties file name.
+	 * @param mode Executor mode used to run the processors.
+	 * @param maxConcurrency Maximum number of processors allowed to run concurrently when using the {@link ExecutorMode#VIRTUAL}
+	 * mode.
+	 * @throws RunnerException Thrown in case an error occurred while trying to initialize the runner.
+	 */
+	@SuppressWarnings("rawtypes")
+	public AbstractRunner(final IXmlFile configuration, final IXmlFile execution, final String properties, @NonNull final ExecutorMode mode, final int maxConcurrency) throws RunnerException
+	{
+		this(configuration, execution, properties);
+
+		this.executorMode = mode;
+		this.maxConcurrency = maxConcurrency;
+	}
+
 	/**
 	 * Creates a new abstract runner.
 	 * <hr>
@@ -206,23 +379,66 @@ public abstract class AbstractRunner implements IRunner
 					try
 					{
 						value = method.invoke(annotation, (Object[]) null);
-						if (method.getName().equals("processorClass"))
-						{
-							this.processorClass = (Class<? extends IProcessor>) value;
-						}
-						else
+						switch (method.getName())
 						{
-							if (method.getName().equals("enumParameterClass"))
-							{
+							case "processorClass":
+								this.processorClass = (Class<? extends IProcessor>) value;
+								break;
+
+							case "enumParameterClass":
 								this.enumParameterClass = (Class) value;
-							}
-							else
-							{
-								if (method.getName().equals("threadCount"))
-								{
-									this.threadCount = ((Integer) value).intValue();
-								}
-							}
+								break;
+
+							case "threadCount":
+								this.threadCount = ((Integer) value).intValue();
+								break;
+
+							case "executorMode":
+								this.executorMode = (ExecutorMode) value;
+								break;
+
+							case "maxConcurrency":
+								this.maxConcurrency = ((Integer) value).intValue();
+								break;
+
+							case "priorityAging":
+								this.priorityAging = ((Integer) value).intValue();
+								break;
+
+							case "stopTimeout":
+								this.stopTimeout = ((Long) value).longValue();
+								break;
+
+							case "processorPoolSize":
+								this.processorPoolSize = ((Integer) value).intValue();
+								break;
+
+							case "contextWindow":
+								this.contextWindow = ((Integer) value).intValue();
+								break;
+
+							case "overflow":
+								this.overflow = (OverflowPolicy) value;
+								break;
+
+							case "timeout":
+								this.timeout = ((Long) value).longValue();
+								break;
+
+							case "deadline":
+								this.runDeadline = ((Long) value).longValue();
+								break;
+
+							case "retry":
+								this.retryPolicy = RetryPolicy.of((RunnerRetry) value);
+								break;
+
+							case "bulkheads":
+								this.bulkheads = (RunnerBulkhead[]) value;
+								break;
+
+							default:
+								break;
 						}
 					}
 					catch (Exception e)
@@ -316,65 +532,106 @@ public abstract class AbstractRunner implements IRunner
 	 * Prepares the internal runner structure.
 	 * <hr>
 	 * @throws ProcessorException Thrown in case an error occurred while trying to initialize the processor.
+	 * @throws ParameterException Thrown in case the dependencies of the execution parameters cannot be resolved.
 	 */
 	@SuppressWarnings("nls")
-	private void prepare() throws ProcessorException
+	private void prepare() throws ProcessorException, ParameterException
 	{
+		graph = ParameterGraph.build(configuration, execution.getContent().getElements());
+
+		initializeProcessorFactory();
 		initializeContexts();
 
 		log.info(" ");
-		log.info(String.format("%1d context(s) have been initialized:", contexts.size()));
-		for (IContext context : contexts)
+		log.info(String.format("%1d context(s) to be created within a look-ahead window of: [%2s]", Integer.valueOf(contexts.size()), contextWindow > 0 ? Integer.toString(contextWindow) : "unbounded"));
+		log.info(" ");
+
+		if (graph.hasDependencies())
 		{
-			log.info(String.format("   context for entity name: [%1s], type: [%2s]", context.getEntity().getName(), context.getEntity().getType()));
+			log.info(String.format("Parameter dependencies: depth: [%1d], critical path: %2s, maximum parallelism: [%3d]", graph.getDepth(), graph.getCriticalPath(), graph.getMaxParallelism()));
+			log.info(" ");
 		}
-		log.info(" ");
 	}
 
 	/**
 	 * Initializes the contexts.
 	 * <hr>
+	 * Only the entities are created upfront, their contexts are created on demand by a {@link ContextSupplier} when they are about
+	 * to be dispatched. Entities are ordered by dependency level and then by priority so the contexts a context depends on are
+	 * always created before it.
+	 * <hr>
 	 * @throws ProcessorException Thrown in case an error occurred while trying to initialize the processor.
+	 * @throws ParameterException Thrown in case an entity cannot be created from its execution parameter.
 	 */
-	public void initializeContexts() throws ProcessorException
+	@SuppressWarnings("nls")
+	public void initializeContexts() throws ProcessorException, ParameterException
 	{
-		IContext context = null;
+		List<IEntity<?>> entities = initializeEntities();
 
-		/*
-		 * Create one context per entity to process.
-		 */
-		for (IEntity<?> entity : initializeEntities())
+		types.clear();
+		for (IEntity<?> entity : entities)
+		{
+			log.info(String.format("   entity name: [%1s], type: [%2s]", entity.getName(), entity.getType()));
+
+			graph.register(entity);
+			if (entity.getType() instanceof EntityType)
+			{
+				types.add((EntityType) entity.getType());
+			}
+		}
+
+		Collections.sort(entities, new Comparator<IEntity<?>>()
 		{
-			context = new Context(entity, execution.getContent());
-			initializeProcessor(context);
-			contexts.add(context);
+			@Override
+			public int compare(final IEntity<?> first, final IEntity<?> second)
+			{
+				int result = Integer.compare(graph.getLevel(first), graph.getLevel(second));
+				return result != 0 ? result : Integer.compare(PriorityContextScheduler.getPriority(first), PriorityContextScheduler.getPriority(second));
+			}
+		});
+
+		contexts = new ContextSupplier(this, entities, execution.getContent());
+	}
+
+	/**
+	 * Initializes the processor factory.
+	 * <hr>
+	 * The processor constructor is resolved once per runner, and the factory is backed by a processor pool when a
+	 * {@link RunnerConfig#processorPoolSize()} is set.
+	 * <hr>
+	 * @throws ProcessorException Thrown in case the processor constructor cannot be resolved.
+	 */
+	@SuppressWarnings("nls")
+	private void initializeProcessorFactory() throws ProcessorException
+	{
+		if (processorFactory == null)
+		{
+			IProcessorFactory factory = new ProcessorFactory(processorClass);
+			processorFactory = processorPoolSize > 0 ? new ProcessorPool(factory, processorPoolSize) : factory;
+
+			log.info(String.format("Processor class: [%1s], pool size: [%2d]", processorClass.getName(), Integer.valueOf(processorPoolSize)));
 		}
 	}
 
 	/**
-	 * Initializes the processor.
+	 * Returns the processor of a context, initializing it if needed.
+	 * <hr>
+	 * Processors are only obtained from the processor factory once their context is about to be dispatched (or reported without
+	 * being run), so pooled processors can be reused by the next contexts.
 	 * <hr>
 	 * @param context Context to be processed by the processor.
 	 * @return Initialized processor.
 	 * @throws ProcessorException Thrown in case an error occurred while trying to initialize the processor.
 	 */
-	@SuppressWarnings({ "nls" })
 	private IProcessor initializeProcessor(final IContext context) throws ProcessorException
 	{
-		IProcessor processor = null;
-		Class<?> clazz;
-
-		try
+		IProcessor processor = context.getProcessor();
+		if (processor == null)
 		{
-			clazz = Class.forName(processorClass.getName());
-			Constructor<?> ctor = clazz.getConstructor(IContext.class);
-			processor = (IProcessor) ctor.newInstance(new Object[] { context });
+			initializeProcessorFactory();
+			processor = processorFactory.create(context);
 			context.setProcessor(processor);
 		}
-		catch (Exception e)
-		{
-			throw new ProcessorException(String.format("Unable to instantiate processor of class: %1s due to: %2s", processorClass.getName(), e.getMessage()));
-		}
 
 		return processor;
 	}
@@ -383,8 +640,9 @@ public abstract class AbstractRunner implements IRunner
 	 * Initializes the entities.
 	 * <hr>
 	 * @return List of entities to be processed.
+	 * @throws ParameterException Thrown in case an entity cannot be created from its execution parameter.
 	 */
-	public List<IEntity<?>> initializeEntities()
+	public List<IEntity<?>> initializeEntities() throws ParameterException
 	{
 		List<IEntity<?>> entities = new ArrayList<>();
 
@@ -396,17 +654,45 @@ public abstract class AbstractRunner implements IRunner
 			{
 				case DISPLAY:
 					// Create a fake entity for the context initialization to display a message.
-					IEntity<String> entity = new Entity<>(parameter.getName(), type, null);
+					IEntity<String> entity = new Entity<>(parameter.getName(), type, null, parameter);
 					entities.add(entity);
 					break;
 
-				default:
-					// Do nothing for these entity types!
-				case BATCH:
 				case DAEMON:
+					// The entity of a daemon holds its schedule parsed from the parameter value.
+					entities.add(new Entity<>(parameter.getName(), type, DaemonSchedule.of(parameter), parameter));
+					break;
+
+				case BATCH:
+					// The entity of a batch holds its chunking settings parsed from the parameter value.
+					entities.add(new Entity<>(parameter.getName(), type, BatchSettings.of(parameter), parameter));
+					break;
+
 				case FILE:
-				case COMPUTATION:
+					// The file is split on record boundaries, each split being processed by its own context.
+					for (FileSplit split : split(parameter))
+					{
+						entities.add(new Entity<>(String.format("%1s[%2d]", parameter.getName(), Integer.valueOf(split.getIndex())), type, split, parameter));
+					}
+					break;
+
 				case MESSAGE:
+					// Each consumer of the channel is run by its own context.
+					MessageSettings settings = MessageSettings.of(parameter);
+					MessageChannel<?> channel = createChannel(settings);
+					for (int i = 0; i < settings.getConsumers(); i++)
+					{
+						entities.add(new Entity<>(String.format("%1s[%2d]", parameter.getName(), Integer.valueOf(i)), type, channel, parameter));
+					}
+					break;
+
+				case COMPUTATION:
+					// The entity of a computation holds the parameter value as computation input.
+					entities.add(new Entity<>(parameter.getName(), type, parameter.getValue(), parameter));
+					break;
+
+				default:
+					// Do nothing for these entity types!
 				case RESERVED:
 					break;
 			}
@@ -416,32 +702,90 @@ public abstract class AbstractRunner implements IRunner
 		return entities;
 	}
 
+	/**
+	 * Returns the message channel having the given settings, creating it if it does not exist or has been closed.
+	 * <hr>
+	 * @param settings Message settings.
+	 * @return Message channel.
+	 */
+	private MessageChannel<?> createChannel(final MessageSettings settings)
+	{
+		MessageChannel<?> channel = channels.get(settings.getChannel());
+		if (channel == null || channel.isClosed())
+		{
+			channel = new MessageChannel<>(settings);
+			channels.put(settings.getChannel(), channel);
+		}
+
+		return channel;
+	}
+
+	/**
+	 * Splits the source file of a {@link EntityType#FILE} execution parameter.
+	 * <hr>
+	 * @param parameter Execution parameter.
+	 * @return List of file splits.
+	 * @throws ParameterException Thrown in case the parameter value does not define a valid source or the file cannot be read.
+	 */
+	@SuppressWarnings("nls")
+	private static List<FileSplit> split(final IParameterExecution parameter) throws ParameterException
+	{
+		FileSource source = FileSource.of(parameter);
+
+		try
+		{
+			List<FileSplit> splits = source.split();
+			log.info(String.format("File parameter: [%1s] split into: [%2d] range(s) of: %3s", parameter.getName(), Integer.valueOf(splits.size()), source));
+
+			return splits;
+		}
+		catch (IOException e)
+		{
+			throw new ParameterException(String.format("Unable to split the file of parameter: %1s due to: %2s", parameter.getName(), e.getMessage()));
+		}
+	}
+
 	@SuppressWarnings("nls")
 	@Override
 	public void start() throws RunnerException
 	{
-		log.info(String.format("Runner started: dispatching [%1d] context(s) across [%2d] thread(s).", contexts.size(), threadCount));
-		log.info(" ");
-
-		ExecutorService executor = Executors.newFixedThreadPool(this.threadCount);
-		for (IContext context : contexts)
+		if (!lifecycle.start())
 		{
-			callables.add(context.getProcessor());
+			throw new RunnerException(String.format("Unable to start runner: %1s as its status is: %2s", getClass().getName(), lifecycle.getStatus()));
 		}
 
-		try
+		if (executorMode == ExecutorMode.VIRTUAL)
 		{
-			futures = executor.invokeAll(callables);
+			log.info(String.format("Runner started: dispatching [%1d] context(s) on %2s thread(s) with a concurrency limit of [%3d].", Integer.valueOf(contexts.size()), ExecutorFactory.isVirtualThreadSupported() ? "virtual" : "elastic platform", maxConcurrency));
 		}
-		catch (InterruptedException e)
+		else
 		{
-			throw new RunnerException("An error occurred due to: " + e.getMessage(), e);
+			log.info(String.format("Runner started: dispatching [%1d] context(s) across [%2d] thread(s).", Integer.valueOf(contexts.size()), Integer.valueOf(threadCount)));
 		}
+		log.info(" ");
+
+		executor = createExecutor();
 
 		log.info("*********************************************************************************************************");
 		log.info("EXECUTION SUMMARY:");
 		log.info(" ");
-		log.info(String.format(" Thread pool size..: [%1d]", threadCount));
+		log.info(String.format(" Executor mode.....: [%1s]", executorMode));
+		if (overflow != OverflowPolicy.BLOCK)
+		{
+			log.info(String.format(" Overflow policy...: [%1s]", overflow));
+		}
+		if (timeout > 0 || runDeadline > 0)
+		{
+			log.info(String.format(" Timeout...........: [%1d] ms, run deadline: [%2d] ms", Long.valueOf(timeout), Long.valueOf(runDeadline)));
+		}
+		if (retryPolicy.isEnabled())
+		{
+			log.info(String.format(" Retry policy......: %1s", retryPolicy));
+		}
+		for (EntityType type : types)
+		{
+			log.info(String.format(" Bulkhead..........: %1s", executor.get(type)));
+		}
 		log.info(String.format(" Configuration file: [%1s]", configuration.getResource().getFile().getName()));
 		log.info(String.format(" Execution file....: [%1s]", execution.getResource().getFile().getName()));
 		log.info(String.format("        Description: %1s", execution.getHeader().getDescription()));
@@ -454,70 +798,796 @@ public abstract class AbstractRunner implements IRunner
 		}
 		log.info(" ");
 
-		for (Future<IExecutionResult> future : futures)
+		try
 		{
-			try
-			{
-				IExecutionResult result = future.get();
-
-				// Dump the execution result of the execution of a processor.
-				String message = String.format("Context name:[%1s], status:[%2s], execution:[%4s]", StringUtils.abbreviateMiddle(result.getName(), "...", 50), result.getStatus().toString(), result.getElapsed());
-				log.error(message);
-
-				// If process has failed, then dump the exceptions!
-				if (result.getStatus() == ExecutionStatusType.FAILED)
-				{
-					for (Exception exception : result.getExceptions())
-					{
-						log.error(String.format("   Exception caught -> %1s", exception.getMessage()), exception);
-					}
-				}
-			}
-			catch (InterruptedException | ExecutionException e)
-			{
-				throw new RunnerException("An error occurred due to: " + e.getMessage(), e);
-			}
+			dispatch(executor);
+		}
+		catch (RunnerException | RuntimeException e)
+		{
+			publisher.error(e);
+			throw e;
+		}
+		finally
+		{
+			executor.shutdown();
+			lifecycle.terminate();
 		}
 
-		executor.shutdown();
 		watch.stop();
 
 		log.info(" ");
-		log.info(String.format("Runner finished processing: [%1d] context(s) in a total of: [%2s]", contexts.size(), watch.toString()));
+		for (PoolMetrics metrics : executor.getMetrics())
+		{
+			log.info(String.format("Bulkhead utilization: %1s", metrics));
+		}
+		if (processorFactory instanceof ProcessorPool)
+		{
+			log.info(String.format("Processor pool: %1s", processorFactory));
+		}
+		log.info(String.format("Runner %1s processing: [%2d] context(s) in a total of: [%3s]", lifecycle.isStopping() ? "stopped" : "finished", summary.getCount(), watch.toString()));
 		log.info("*********************************************************************************************************");
+
+		publisher.complete();
 	}
 
+	@SuppressWarnings("nls")
 	@Override
-	public void pause() throws RunnerException
+	public final ListenableFuture<ExecutionSummary> startAsync()
 	{
-		// TODO Auto-generated method stub
+		final SettableFuture<ExecutionSummary> future = SettableFuture.create();
 
-	}
+		future.addListener(new Runnable()
+		{
+			@Override
+			public void run()
+			{
+				if (future.isCancelled())
+				{
+					try
+					{
+						stop();
+					}
+					catch (RunnerException e)
+					{
+						// The run has not started or has already ended.
+						log.debug(String.format("Unable to stop the cancelled run due to: %1s", e.getMessage()));
+					}
+				}
+			}
+		}, MoreExecutors.directExecutor());
 
-	@Override
-	public void resume() throws RunnerException
-	{
-		// TODO Auto-generated method stub
+		Thread thread = new ThreadFactoryBuilder().setNameFormat(getClass().getSimpleName() + "-dispatcher-%d").build().newThread(new Runnable()
+		{
+			@Override
+			public void run()
+			{
+				if (future.isCancelled())
+				{
+					return;
+				}
+
+				try
+				{
+					start();
+					future.set(summary);
+				}
+				catch (RunnerException | RuntimeException e)
+				{
+					future.setException(e);
+				}
+			}
+		});
+		thread.start();
 
+		return future;
 	}
 
-	@Override
-	public void stop() throws RunnerException
+	/**
+	 * Creates the bulkhead executor, applying the bulkheads defined by the {@link RunnerConfig} annotation.
+	 * <hr>
+	 * The fixed size bulkheads are limited to the maximum parallelism allowed by the parameter dependencies.
+	 * <hr>
+	 * @return Bulkhead executor.
+	 */
+	@SuppressWarnings("nls")
+	private BulkheadExecutor createExecutor()
 	{
-		// TODO Auto-generated method stub
+		BulkheadExecutor bulkheadExecutor = new BulkheadExecutor(executorMode, threadCount, maxConcurrency, getClass().getSimpleName());
 
-	}
+		for (RunnerBulkhead bulkhead : bulkheads)
+		{
+			bulkheadExecutor.configure(new Bulkhead(bulkhead.type(), bulkhead.mode(), bulkhead.size(), bulkhead.queueSize(), getClass().getSimpleName()));
+		}
 
-	@Override
-	public void reset() throws RunnerException
-	{
-		// TODO Auto-generated method stub
+		for (Bulkhead bulkhead : bulkheadExecutor.getBulkheads())
+		{
+			if (bulkhead.limit(graph.getMaxParallelism()))
+			{
+				log.debug(String.format("Bulkhead: [%1s] reduced to: [%2d] thread(s) as no more context(s) can run in parallel.", bulkhead.getType().getName(), Integer.valueOf(bulkhead.getSize())));
+			}
+		}
 
+		return bulkheadExecutor;
 	}
 
-	@Override
-	public final IParameterConfiguration getConfigurationParameter(Enum<? extends IParameterType> type)
-	{
+	/**
+	 * Dispatches the contexts on the given executor and harvests their execution results in completion order.
+	 * <hr>
+	 * Contexts are handed to the bulkhead of their entity type only when it has a free slot, in the order decided by the context
+	 * scheduler, so the priority and the dependencies of the pending contexts are honored until they are dispatched. A context
+	 * whose bulkhead is saturated is parked until a slot is released so it does not hold back the contexts of the other entity
+	 * types, unless the overflow policy is {@link OverflowPolicy#SHED} in which case it is rejected. As contexts are created
+	 * within the look-ahead window only, the number of contexts in memory is bounded by the bulkhead capacities and the window
+	 * rather than by the number of entities. A context is released by the runner as soon as it has been submitted, and its result as soon as it has been
+	 * reported, so memory is not retained for the whole run. The processor of a context is only obtained when it is submitted and
+	 * is handed back to the processor factory once its result has been reported.
+	 * <p>
+	 * No context is dispatched while the runner is paused. Once the runner is stopping, the contexts not yet dispatched are
+	 * cancelled and the running ones are interrupted if they have not finished before the stop deadline. A running context is
+	 * cancelled as soon as its timeout expires, and once the run deadline expires all the contexts are cancelled; both are
+	 * reported as {@link ExecutionStatusType#TIMED_OUT}.
+	 * <hr>
+	 * @param executor Bulkhead executor to use.
+	 * @throws RunnerException Thrown in case an error occurred while running a processor.
+	 */
+	@SuppressWarnings("nls")
+	private void dispatch(final BulkheadExecutor executor) throws RunnerException
+	{
+		final Map<EntityType, Queue<IContext>> parked = new EnumMap<>(EntityType.class);
+		final Set<Dispatched> running = new LinkedHashSet<>();
+		IContextScheduler scheduler = new PriorityContextScheduler(priorityAging);
+		IContext context;
+		int waiting = 0;
+		boolean stopping = false;
+		boolean expired = false;
+		final long started = System.nanoTime();
+		final RetryScheduler retries = new RetryScheduler(retryPolicy, getClass().getSimpleName(), wakeUp);
+
+		if (graph.hasDependencies())
+		{
+			scheduler = new DependencyContextScheduler(graph, scheduler);
+		}
+
+		try
+		{
+			do
+			{
+				if (!expired && remaining(started) == 0)
+				{
+					log.warn(String.format("Run deadline of: [%1d] ms reached, cancelling: [%2d] running context(s).", Long.valueOf(runDeadline), Integer.valueOf(running.size())));
+					for (Dispatched element : running)
+					{
+						expire(element);
+					}
+					expired = true;
+				}
+
+				if (expired || lifecycle.isStopping())
+				{
+					if (!stopping)
+					{
+						// Daemons run until stopped, request them to stop once.
+						executor.stop();
+						stopping = true;
+					}
+
+					ExecutionStatusType status = expired ? ExecutionStatusType.TIMED_OUT : ExecutionStatusType.CANCELLED;
+					for (IContext retried : retries.drain())
+					{
+						cancel(retried, status);
+					}
+					cancel(scheduler, parked, status);
+					waiting = 0;
+				}
+				else if (lifecycle.isDispatching())
+				{
+					// Contexts to retry have precedence as their dependents are waiting for them.
+					while ((context = retries.poll()) != null)
+					{
+						park(parked, context);
+						waiting++;
+					}
+
+					// Contexts parked on a saturated bulkhead have precedence over the ones still in the scheduler.
+					for (Map.Entry<EntityType, Queue<IContext>> entry : parked.entrySet())
+					{
+						Bulkhead bulkhead = executor.get(entry.getKey());
+						while (bulkhead.hasCapacity() && (context = entry.getValue().poll()) != null)
+						{
+							running.add(submit(bulkhead, context));
+							waiting--;
+						}
+					}
+
+					while ((context = next(scheduler, waiting)) != null)
+					{
+						Bulkhead bulkhead = executor.get(context.getEntity().getType());
+						Queue<IContext> queue = parked.get(bulkhead.getType());
+						if (bulkhead.hasCapacity() && (queue == null || queue.isEmpty()))
+						{
+							running.add(submit(bulkhead, context));
+						}
+						else if (overflow == OverflowPolicy.SHED)
+						{
+							reject(scheduler, context);
+						}
+						else
+						{
+							park(parked, context);
+							waiting++;
+						}
+					}
+				}
+
+				skip(scheduler);
+
+				if (!running.isEmpty())
+				{
+					Dispatched dispatched = next(running, expired ? Long.MAX_VALUE : remaining(started));
+					if (dispatched != null && dispatched != Dispatched.WAKE_UP)
+					{
+						running.remove(dispatched);
+
+						IExecutionResult result = harvest(dispatched);
+						if (!expired && !lifecycle.isStopping() && retries.retry(dispatched.context, result))
+						{
+							log.debug(String.format("Context for entity: [%1s] failed, retry scheduled.", dispatched.context.getEntity().getName()));
+						}
+						else
+						{
+							scheduler.complete(dispatched.context, result);
+							onResult(result);
+
+							// A cancelled processor may still be running, it cannot be reused.
+							if (!dispatched.future.isCancelled())
+							{
+								processorFactory.release(dispatched.context.getProcessor());
+							}
+							skip(scheduler);
+						}
+					}
+				}
+				else if ((!lifecycle.isDispatching() && !lifecycle.isStopping()) || retries.size() > 0)
+				{
+					// Paused or waiting for a retry, wait until resumed, stopped, a retry is due or the run deadline is reached.
+					long wait = remaining(started);
+					if (wait == Long.MAX_VALUE)
+					{
+						completed.take();
+					}
+					else
+					{
+						completed.poll(wait, TimeUnit.NANOSECONDS);
+					}
+				}
+				else if (waiting > 0 && isOccupied(executor, parked))
+				{
+					// Contexts are parked on a bulkhead whose slots are held by cancelled processors still running.
+					long wait = remaining(started);
+					if (wait == Long.MAX_VALUE)
+					{
+						completed.take();
+					}
+					else
+					{
+						completed.poll(wait, TimeUnit.NANOSECONDS);
+					}
+				}
+				else if (waiting > 0 || !scheduler.isEmpty() || contexts.hasNext())
+				{
+					throw new RunnerException(String.format("Unable to dispatch the remaining: [%1d] context(s) as their dependencies cannot be satisfied!", Integer.valueOf(waiting + scheduler.size() + contexts.getRemaining())));
+				}
+			}
+			while (!running.isEmpty() || waiting > 0 || !scheduler.isEmpty() || contexts.hasNext() || retries.size() > 0);
+		}
+		catch (InterruptedException | ExecutionException | ProcessorException e)
+		{
+			throw new RunnerException("An error occurred due to: " + e.getMessage(), e);
+		}
+		finally
+		{
+			if (retries.getRetried() > 0)
+			{
+				log.info(String.format("Retries: [%1d] context attempt(s) retried, remaining failure budget: [%2d]", Integer.valueOf(retries.getRetried()), Integer.valueOf(retries.getBudget())));
+			}
+			retries.shutdown();
+			completed.clear();
+		}
+	}
+
+	/**
+	 * Returns if a bulkhead having parked contexts has its slots held by processors the runner is no longer waiting for?
+	 * <hr>
+	 * @param executor Bulkhead executor.
+	 * @param parked Contexts parked on a saturated bulkhead.
+	 * @return {@code True} if a slot will be released once these processors end, {@code false} otherwise.
+	 */
+	private static boolean isOccupied(final BulkheadExecutor executor, final Map<EntityType, Queue<IContext>> parked)
+	{
+		for (Map.Entry<EntityType, Queue<IContext>> entry : parked.entrySet())
+		{
+			if (!entry.getValue().isEmpty() && executor.get(entry.getKey()).getOccupied() > 0)
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Parks a context until the bulkhead of its entity type has a free slot.
+	 * <hr>
+	 * @param parked Contexts parked on a saturated bulkhead.
+	 * @param context Context to park.
+	 */
+	private void park(final Map<EntityType, Queue<IContext>> parked, final IContext context)
+	{
+		EntityType type = executor.get(context.getEntity().getType()).getType();
+		Queue<IContext> queue = parked.get(type);
+		if (queue == null)
+		{
+			queue = new ArrayDeque<>();
+			parked.put(type, queue);
+		}
+		queue.add(context);
+	}
+
+	/**
+	 * Returns the next context to dispatch, creating the contexts of the look-ahead window beforehand.
+	 * <hr>
+	 * @param scheduler Context scheduler.
+	 * @param waiting Number of contexts parked on a saturated bulkhead.
+	 * @return Next context to dispatch or {@code null} if no context is ready to be dispatched.
+	 */
+	private IContext next(final IContextScheduler scheduler, final int waiting)
+	{
+		while (contexts.hasNext() && (contextWindow <= 0 || scheduler.size() + waiting < contextWindow))
+		{
+			scheduler.schedule(contexts.next());
+		}
+
+		return scheduler.next();
+	}
+
+	/**
+	 * Returns the time left before the run deadline.
+	 * <hr>
+	 * @param started Time (in nanoseconds) the dispatching has started.
+	 * @return Time left (in nanoseconds), {@code 0} if the deadline is reached or {@link Long#MAX_VALUE} if there is no deadline.
+	 */
+	private long remaining(final long started)
+	{
+		if (runDeadline <= 0)
+		{
+			return Long.MAX_VALUE;
+		}
+
+		return Math.max(0, TimeUnit.MILLISECONDS.toNanos(runDeadline) - (System.nanoTime() - started));
+	}
+
+	/**
+	 * Returns the timeout of a context.
+	 * <hr>
+	 * The timeout of the configuration parameter of the context has precedence over the one of the bulkhead of its entity type
+	 * which has precedence over the one of the runner.
+	 * <hr>
+	 * @param context Context.
+	 * @return Timeout (in milliseconds) or {@code 0} for no timeout.
+	 */
+	private long getTimeout(final IContext context)
+	{
+		IParameterExecution parameter = context.getEntity().getParameter();
+		if (parameter != null && parameter.getConfiguration() != null && parameter.getConfiguration().getTimeout() > 0)
+		{
+			return parameter.getConfiguration().getTimeout();
+		}
+
+		for (RunnerBulkhead bulkhead : bulkheads)
+		{
+			if (bulkhead.type() == context.getEntity().getType() && bulkhead.timeout() > 0)
+			{
+				return bulkhead.timeout();
+			}
+		}
+
+		return timeout;
+	}
+
+	/**
+	 * Cancels a running context as its timeout or the run deadline has expired.
+	 * <hr>
+	 * @param dispatched Running context.
+	 */
+	private static void expire(final Dispatched dispatched)
+	{
+		dispatched.timedOut = true;
+		dispatched.future.cancel(true);
+	}
+
+	/**
+	 * Waits for the next completed context.
+	 * <hr>
+	 * Waits at most until the nearest timeout of the running contexts and cancels the ones whose timeout has expired. Once the
+	 * runner is stopping, waits at most until the stop deadline and then interrupts the running contexts.
+	 * <hr>
+	 * @param running Running contexts.
+	 * @param remaining Maximum time (in nanoseconds) to wait, {@link Long#MAX_VALUE} for no limit.
+	 * @return Completed context, {@link Dispatched#WAKE_UP} if the lifecycle has changed, or {@code null} if no context has
+	 * completed in time.
+	 * @throws InterruptedException Thrown in case the dispatching thread has been interrupted.
+	 */
+	@SuppressWarnings("nls")
+	private Dispatched next(final Set<Dispatched> running, final long remaining) throws InterruptedException
+	{
+		long now = System.nanoTime();
+		long wait = remaining;
+
+		for (Dispatched element : running)
+		{
+			if (element.timeout > 0 && !element.timedOut)
+			{
+				wait = Math.min(wait, element.timeout - (now - element.started));
+			}
+		}
+
+		if (lifecycle.isStopping())
+		{
+			wait = Math.min(wait, lifecycle.getDeadline() - now);
+		}
+
+		if (wait == Long.MAX_VALUE)
+		{
+			return completed.take();
+		}
+
+		Dispatched dispatched = completed.poll(Math.max(0, wait), TimeUnit.NANOSECONDS);
+		if (dispatched == null)
+		{
+			now = System.nanoTime();
+			if (lifecycle.isStopping() && now - lifecycle.getDeadline() >= 0)
+			{
+				log.warn(String.format("Stop deadline reached, interrupting: [%1d] running context(s).", Integer.valueOf(running.size())));
+				for (Dispatched element : running)
+				{
+					element.future.cancel(true);
+				}
+			}
+			else
+			{
+				for (Dispatched element : running)
+				{
+					if (element.timeout > 0 && !element.timedOut && now - element.started >= element.timeout)
+					{
+						log.warn(String.format("Context for entity: [%1s] timed out after: [%2d] ms, cancelling it.", element.context.getEntity().getName(), Long.valueOf(TimeUnit.NANOSECONDS.toMillis(element.timeout))));
+						expire(element);
+					}
+				}
+			}
+		}
+
+		return dispatched;
+	}
+
+	/**
+	 * Returns the execution result of a completed context.
+	 * <hr>
+	 * @param dispatched Completed context.
+	 * @return Execution result.
+	 * @throws ExecutionException Thrown in case the processor has thrown an exception.
+	 * @throws InterruptedException Thrown in case the dispatching thread has been interrupted.
+	 */
+	private static IExecutionResult harvest(final Dispatched dispatched) throws ExecutionException, InterruptedException
+	{
+		try
+		{
+			return dispatched.future.get();
+		}
+		catch (CancellationException e)
+		{
+			IExecutionResult result = dispatched.context.getProcessor().getExecutionResult();
+			result.setStatus(dispatched.timedOut ? ExecutionStatusType.TIMED_OUT : ExecutionStatusType.CANCELLED);
+
+			return result;
+		}
+	}
+
+	/**
+	 * Cancels all the contexts not yet dispatched, including the ones not yet created.
+	 * <hr>
+	 * @param scheduler Context scheduler.
+	 * @param parked Contexts parked on a saturated bulkhead.
+	 * @param status Status to report.
+	 * @throws ProcessorException Thrown in case an error occurred while trying to initialize a processor.
+	 */
+	private void cancel(final IContextScheduler scheduler, final Map<EntityType, Queue<IContext>> parked, final ExecutionStatusType status) throws ProcessorException
+	{
+		List<IContext> cancelled = scheduler.drain();
+		for (Queue<IContext> queue : parked.values())
+		{
+			cancelled.addAll(queue);
+			queue.clear();
+		}
+
+		for (IContext context : cancelled)
+		{
+			cancel(context, status);
+		}
+
+		while (contexts.hasNext())
+		{
+			cancel(contexts.next(), status);
+		}
+	}
+
+	/**
+	 * Reports a context as not run.
+	 * <hr>
+	 * @param context Context.
+	 * @param status Status to report.
+	 * @throws ProcessorException Thrown in case an error occurred while trying to initialize the processor.
+	 */
+	private void cancel(final IContext context, final ExecutionStatusType status) throws ProcessorException
+	{
+		IExecutionResult result = initializeProcessor(context).getExecutionResult();
+		result.setStatus(status);
+		onResult(result);
+		processorFactory.release(context.getProcessor());
+	}
+
+	/**
+	 * Reports a context as rejected because the bulkhead of its entity type is saturated.
+	 * <hr>
+	 * The scheduler is notified so the contexts depending on it are skipped.
+	 * <hr>
+	 * @param scheduler Context scheduler.
+	 * @param context Context.
+	 * @throws ProcessorException Thrown in case an error occurred while trying to initialize the processor.
+	 */
+	private void reject(final IContextScheduler scheduler, final IContext context) throws ProcessorException
+	{
+		IExecutionResult result = initializeProcessor(context).getExecutionResult();
+		result.setStatus(ExecutionStatusType.REJECTED);
+		scheduler.complete(context, result);
+		onResult(result);
+		processorFactory.release(context.getProcessor());
+	}
+
+	/**
+	 * Reports the contexts the scheduler will never dispatch.
+	 * <hr>
+	 * @param scheduler Context scheduler.
+	 * @throws ProcessorException Thrown in case an error occurred while trying to initialize a processor.
+	 */
+	private void skip(final IContextScheduler scheduler) throws ProcessorException
+	{
+		for (IContext context : scheduler.drainSkipped())
+		{
+			IExecutionResult result = initializeProcessor(context).getExecutionResult();
+			result.setStatus(ExecutionStatusType.SKIPPED);
+			onResult(result);
+			processorFactory.release(context.getProcessor());
+		}
+	}
+
+	/**
+	 * Submits the processor of a context to the given bulkhead.
+	 * <hr>
+	 * @param bulkhead Bulkhead to use.
+	 * @param context Context to submit.
+	 * @return Dispatched context, added to the completed queue once its execution has completed.
+	 * @throws ProcessorException Thrown in case an error occurred while trying to initialize the processor.
+	 */
+	private Dispatched submit(final Bulkhead bulkhead, final IContext context) throws ProcessorException
+	{
+		final Dispatched dispatched = new Dispatched(context, bulkhead.submit(initializeProcessor(context), wakeUp), TimeUnit.MILLISECONDS.toNanos(getTimeout(context)));
+		dispatched.future.addListener(new Runnable()
+		{
+			@Override
+			public void run()
+			{
+				completed.add(dispatched);
+			}
+		}, MoreExecutors.directExecutor());
+
+		return dispatched;
+	}
+
+	/**
+	 * Reports an execution result to the summary and to the registered listeners.
+	 * <hr>
+	 * @param result Execution result.
+	 */
+	@SuppressWarnings("nls")
+	private void onResult(final IExecutionResult result)
+	{
+		summary.record(result);
+
+		// Dump the execution result of the execution of a processor.
+		String message = String.format("Context name:[%1s], status:[%2s], execution:[%3.3f ms], queued:[%4.3f ms], thread:[%5s]", StringUtils.abbreviateMiddle(result.getName(), "...", 50), result.getStatus().toString(), Double.valueOf(result.getTotalTime() / 1e6), Double.valueOf(result.getQueuedTime() / 1e6), result.getExecutionThread());
+		log.error(message);
+
+		// If process has failed, then dump the exceptions!
+		if (result.getStatus() == ExecutionStatusType.FAILED)
+		{
+			for (Exception exception : result.getExceptions())
+			{
+				log.error(String.format("   Exception caught -> %1s", exception.getMessage()), exception);
+			}
+		}
+
+		if (result.getTickMetrics() != null)
+		{
+			log.info(String.format("   Daemon ticks -> %1s", result.getTickMetrics()));
+		}
+
+		if (result.getBatchMetrics() != null)
+		{
+			log.info(String.format("   Batch chunks -> %1s", result.getBatchMetrics()));
+		}
+
+		for (IExecutionResultListener listener : resultListeners)
+		{
+			try
+			{
+				listener.onResult(result);
+			}
+			catch (RuntimeException e)
+			{
+				log.error(String.format("Execution result listener: %1s has failed due to: %2s", listener.getClass().getName(), e.getMessage()), e);
+			}
+		}
+
+		try
+		{
+			publisher.publish(result);
+		}
+		catch (RuntimeException e)
+		{
+			log.error(String.format("Execution result subscriber has failed and has been cancelled due to: %1s", e.getMessage()), e);
+		}
+	}
+
+	@Override
+	public final void addResultListener(@NonNull final IExecutionResultListener listener)
+	{
+		if (!resultListeners.contains(listener))
+		{
+			resultListeners.add(listener);
+		}
+	}
+
+	@Override
+	public final void removeResultListener(@NonNull final IExecutionResultListener listener)
+	{
+		resultListeners.remove(listener);
+	}
+
+	@Override
+	public final void subscribe(@NonNull final IExecutionResultSubscriber subscriber)
+	{
+		publisher.subscribe(subscriber);
+	}
+
+	@Override
+	public final ExecutionSummary getSummary()
+	{
+		return summary;
+	}
+
+	@Override
+	public final List<PoolMetrics> getPoolMetrics()
+	{
+		return executor == null ? new ArrayList<PoolMetrics>() : executor.getMetrics();
+	}
+
+	@SuppressWarnings("nls")
+	@Override
+	public void pause() throws RunnerException
+	{
+		if (!lifecycle.pause())
+		{
+			throw new RunnerException(String.format("Unable to pause runner: %1s as its status is: %2s", getClass().getName(), lifecycle.getStatus()));
+		}
+
+		completed.add(Dispatched.WAKE_UP);
+		log.info("Runner paused.");
+	}
+
+	@SuppressWarnings("nls")
+	@Override
+	public void resume() throws RunnerException
+	{
+		if (!lifecycle.resume())
+		{
+			throw new RunnerException(String.format("Unable to resume runner: %1s as its status is: %2s", getClass().getName(), lifecycle.getStatus()));
+		}
+
+		completed.add(Dispatched.WAKE_UP);
+		log.info("Runner resumed.");
+	}
+
+	@Override
+	public void stop() throws RunnerException
+	{
+		stop(stopTimeout, TimeUnit.MILLISECONDS);
+	}
+
+	@SuppressWarnings("nls")
+	@Override
+	public void stop(final long timeout, @NonNull final TimeUnit unit) throws RunnerException
+	{
+		if (!lifecycle.stop(timeout, unit))
+		{
+			throw new RunnerException(String.format("Unable to stop runner: %1s as its status is: %2s", getClass().getName(), lifecycle.getStatus()));
+		}
+
+		// Message consumers terminate once their channel is closed and drained.
+		for (MessageChannel<?> channel : channels.values())
+		{
+			channel.close();
+		}
+
+		completed.add(Dispatched.WAKE_UP);
+		log.info(String.format("Runner stopping, running context(s) will be interrupted after: [%1d] ms.", Long.valueOf(unit.toMillis(timeout))));
+	}
+
+	@SuppressWarnings("nls")
+	@Override
+	public void reset() throws RunnerException
+	{
+		if (!lifecycle.reset())
+		{
+			throw new RunnerException(String.format("Unable to reset runner: %1s as its status is: %2s", getClass().getName(), lifecycle.getStatus()));
+		}
+
+		watch = Stopwatch.createStarted();
+		contexts = null;
+		completed.clear();
+		summary.clear();
+		executor = null;
+
+		try
+		{
+			// The configuration and execution files are already loaded and validated, only the contexts are re-created.
+			prepare();
+		}
+		catch (ParameterException | ProcessorException e)
+		{
+			throw new RunnerException(e);
+		}
+	}
+
+	@Override
+	public final ForkJoinPool getForkJoinPool()
+	{
+		BulkheadExecutor current = executor;
+		return current == null ? null : current.get(EntityType.COMPUTATION).getForkJoinPool();
+	}
+
+	@Override
+	public final Executor getChunkExecutor()
+	{
+		BulkheadExecutor current = executor;
+		return current == null ? null : current.getChunks();
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public final <E> MessageChannel<E> getChannel(@NonNull final String name)
+	{
+		return (MessageChannel<E>) channels.get(name);
+	}
+
+	@Override
+	public final LifecycleController getLifecycle()
+	{
+		return lifecycle;
+	}
+
+	@Override
+	public final IParameterConfiguration getConfigurationParameter(Enum<? extends IParameterType> type)
+	{
 		return configuration.getParameter(type);
 	}
 
@@ -585,6 +1655,8 @@ public abstract class AbstractRunner implements IRunner
 	@SuppressWarnings("nls")
 	protected final void validate() throws ParameterException
 	{
+		determineParameterType(enumParameterClass);
+
 		for (IParameterExecution p : execution.getContent().getElements())
 		{
 			validateParameter(p);
@@ -600,50 +1672,10 @@ public abstract class AbstractRunner implements IRunner
 	 * <hr>
 	 * @throws ParameterException Thrown in case an error occurred while validating the parameters.
 	 */
-	@SuppressWarnings("nls")
 	protected void validateParameters() throws ParameterException
 	{
-		IParameterConfiguration pConfig;
-		IParameterConfiguration pConfigOther;
-		IParameterExecution pExecOther;
-
-		// Check incompatible parameters.
-		for (IParameterExecution parameter : execution.getContent().getElements())
-		{
-			pConfig = configuration.getParameter(parameter.getType());
-			if (pConfig.getIncompatibleParameters() != null)
-			{
-				for (String name : pConfig.getIncompatibleParameters())
-				{
-					pConfigOther = getConfigurationParameter(name);
-					pExecOther = getExecutionParameter(pConfigOther.getType());
-
-					if (pExecOther != null)
-					{
-						throw new ParameterException(String.format("Parameters %1s and %2s are incompatible!", pConfig.getName(), pConfigOther.getName()));
-					}
-				}
-			}
-		}
-
-		// Check required parameters.
-		for (IParameterExecution parameter : execution.getContent().getElements())
-		{
-			pConfig = configuration.getParameter(parameter.getType());
-			if (pConfig.getRequiredParameters() != null)
-			{
-				for (String name : pConfig.getRequiredParameters())
-				{
-					pConfigOther = getConfigurationParameter(name);
-					pExecOther = getExecutionParameter(pConfigOther.getType());
-
-					if (pExecOther == null)
-					{
-						throw new ParameterException(String.format("Parameters %1s and %2s are required!", pConfig.getName(), pConfigOther.getName()));
-					}
-				}
-			}
-		}
+		// Incompatible and required parameters are checked against the constraints compiled with the configuration.
+		configuration.getConstraints().validate(execution.getContent().getElements());
 	}
 
 	/**
@@ -655,14 +1687,27 @@ public abstract class AbstractRunner implements IRunner
 	@SuppressWarnings("nls")
 	protected final void validateParameter(final IParameter parameter) throws ParameterException
 	{
-		determineParameterType(enumParameterClass);
+		if (parameter.getType() == null)
+		{
+			determineParameterType(enumParameterClass);
+		}
 
 		if (!existParameter(parameter, configuration.getParameter(parameter)))
 		{
 			throw new ParameterException(String.format("Invalid parameter: %1s for runner: %2s using configuration file: %3s and excution file: %4s", parameter.getName(), this.getClass().getName(), configuration.getResource().getFile().getName(), execution.getResource().getFile().getName()));
 		}
 
-		if (!isValueAllowed(parameter, configuration.getParameter(parameter)))
+		boolean allowed;
+		try
+		{
+			allowed = isValueAllowed(parameter, configuration.getParameter(parameter));
+		}
+		catch (IllegalArgumentException e)
+		{
+			throw new ParameterException(String.format("Invalid allowed values for parameter name: %1s in configuration file: %2s: %3s", parameter.getName(), configuration.getResource().getFile().getName(), e.getMessage()), e);
+		}
+
+		if (!allowed)
 		{
 			throw new ParameterException(String.format("Invalid parameter value: %1s for parameter name: %2s for runner: %3s using configuration file: %4s and excution file: %5s", parameter.getName(), parameter.getName(), this.getClass().getName(), configuration.getResource().getFile().getName(), execution.getResource().getFile().getName()));
 		}
@@ -671,76 +1716,75 @@ public abstract class AbstractRunner implements IRunner
 	/**
 	 * Determines the parameters' type.
 	 * <hr>
+	 * Types are resolved from the parameter names through a {@link ParameterTypeTable} built once per runner.
+	 * <hr>
 	 * @param enumClass Parameter enumeration class to use to determine the parameters' type.
 	 * @throws ParameterException Thrown in case an error occurred when determining a parameter type.
 	 */
-	@SuppressWarnings({ "unchecked", "rawtypes", "nls" })
-	private final void determineParameterType(final Class enumClass) throws ParameterException
+	@SuppressWarnings("nls")
+	private final void determineParameterType(final Class<?> enumClass) throws ParameterException
 	{
-		Method method;
-		String name = null;
-		String value = null;
-
-		this.enumParameterClass = enumClass;
-		Object o = Enum.valueOf(enumClass, "UNKNOWN");
+		if (enumClass == null)
+		{
+			throw new ParameterException("No parameter enumeration class defined for runner: " + this.getClass().getName());
+		}
 
-		try
+		if (parameterTypes == null || parameterTypes.getEnumeration() != enumClass)
 		{
-			method = enumClass.getDeclaredMethod("fromName", String.class);
+			parameterTypes = ParameterTypeTable.of(enumClass);
+			this.enumParameterClass = enumClass;
+		}
 
-			for (IParameterConfiguration parameter : configuration.getContent().getElements())
-			{
-				value = parameter.getName();
-				parameter.setType((Enum<? extends IParameterType>) method.invoke(o, value));
-				parameter.setEntityType(((IParameterType) parameter.getType()).getEntityType());
-				if (parameter.getType() == null)
-				{
-					throw new ParameterException("No parameter definition found for: " + value);
-				}
-			}
+		Enum<? extends IParameterType> type;
 
-			for (IParameterExecution parameter : execution.getContent().getElements())
+		for (IParameterConfiguration parameter : configuration.getContent().getElements())
+		{
+			type = parameterTypes.get(parameter.getName());
+			if (type == null)
 			{
-				name = parameter.getName();
-				parameter.setType((Enum<? extends IParameterType>) method.invoke(o, name));
-				parameter.setEntityType(((IParameterType) parameter.getType()).getEntityType());
-				parameter.setStatus(ParameterStatusType.UNPROCESSED);
-				parameter.setConfiguration(configuration.getParameter(parameter.getType()));
+				throw new ParameterException(String.format("Unable to create enumerated value for enumeration: %1s, parameter: %2s", enumClass.getName(), parameter.getName()));
 			}
+
+			parameter.setType(type);
+			parameter.setEntityType(((IParameterType) type).getEntityType());
 		}
-		catch (Exception e)
+
+		// The indexes are rebuilt as the types have changed.
+		configuration.getContent().reindex();
+
+		for (IParameterExecution parameter : execution.getContent().getElements())
 		{
-			throw new ParameterException(String.format("Unable to create enumerated value for enumeration: %1s, parameter: %2s", enumClass.getName(), name == null ? value : name));
+			type = parameterTypes.get(parameter.getName());
+			if (type == null)
+			{
+				throw new ParameterException(String.format("Unable to create enumerated value for enumeration: %1s, parameter: %2s", enumClass.getName(), parameter.getName()));
+			}
+
+			parameter.setType(type);
+			parameter.setEntityType(((IParameterType) type).getEntityType());
+			parameter.setStatus(ParameterStatusType.UNPROCESSED);
+			parameter.setConfiguration(configuration.getParameter(type));
 		}
 
-		checkParameterDefinitionAgainstEnumeration(o.getClass());
+		execution.getContent().reindex();
+
+		checkParameterDefinitionAgainstEnumeration(parameterTypes);
 	}
 
 	/**
 	 * Checks the definition of the parameters against their enumeration class.
 	 * <hr>
-	 * @param clazz Parameter enumeration class.
+	 * @param types Parameter type table of the enumeration class.
 	 * @throws ParameterException Thrown in case an error occurred when validating a parameter type against its enumeration class.
 	 */
-	@SuppressWarnings({ "unchecked", "rawtypes", "nls" })
-	private final void checkParameterDefinitionAgainstEnumeration(@NonNull final Class clazz) throws ParameterException
+	@SuppressWarnings("nls")
+	private final void checkParameterDefinitionAgainstEnumeration(@NonNull final ParameterTypeTable types) throws ParameterException
 	{
-		Class<? extends Enum<? extends IParameterType>> enumeration = clazz;
-		List<Enum<? extends IParameterType>> list = (List<Enum<? extends IParameterType>>) Arrays.asList(enumeration.getEnumConstants());
-		for (Enum<? extends IParameterType> e : list)
+		for (Enum<? extends IParameterType> e : types.getTypes())
 		{
-			boolean found = false;
-			for (IParameterConfiguration p : configuration.getContent().getElements())
-			{
-				if (p.getType() == e)
-				{
-					found = true;
-					break;
-				}
-			}
-			if (!found && !e.toString().equals("UNKNOWN"))
+			if (configuration.getParameter(e) == null && !e.name().equals(ParameterTypeTable.UNKNOWN))
 			{
-				throw new ParameterException(String.format("Unable to find parameter name: '%1s' in file: '%2s' corresponding to enumeration class: %3s for enumerated value: %4s", ((IParameterType) e).getName(), configuration.getResource().getFile().getName(), clazz.getSimpleName(), e.toString()));
+				throw new ParameterException(String.format("Unable to find parameter name: '%1s' in file: '%2s' corresponding to enumeration class: %3s for enumerated value: %4s", ((IParameterType) e).getName(), configuration.getResource().getFile().getName(), types.getEnumeration().getSimpleName(), e.toString()));
 			}
 		}
 	}
@@ -771,32 +1815,64 @@ public abstract class AbstractRunner implements IRunner
 		IParameterExecution e = (IParameterExecution) execution;
 		IParameterConfiguration c = (IParameterConfiguration) configuration;
 
-		if (e.getValue() == null)
-		{
-			if (c.getAllowedValues().isEmpty())
-			{
-				return true;
-			}
-
-			return false;
-		}
-
 		/*
 		 * If no allowed value specified, then consider the execution parameter value as correct.
 		 */
-		if (c.getAllowedValues() == null || c.getAllowedValues().isEmpty())
+		if (e.getValue() == null)
 		{
-			return true;
+			return !c.getAllowed().isRestricted();
 		}
 
-		for (String element : c.getAllowedValues())
+		return c.isAllowedIgnoreCase(e.getValue());
+	}
+
+	/**
+	 * Context dispatched on an executor.
+	 */
+	private static final class Dispatched
+	{
+		/**
+		 * Marker added to the completed queue to wake up the dispatching thread when the lifecycle changes.
+		 */
+		private static final Dispatched WAKE_UP = new Dispatched(null, null, 0);
+
+		/**
+		 * Dispatched context.
+		 */
+		private final IContext context;
+
+		/**
+		 * Future of the context processor.
+		 */
+		private final ListenableFuture<IExecutionResult> future;
+
+		/**
+		 * Time (in nanoseconds) the context has been dispatched.
+		 */
+		private final long started = System.nanoTime();
+
+		/**
+		 * Maximum time (in nanoseconds) the context is allowed to run, {@code 0} for no timeout.
+		 */
+		private final long timeout;
+
+		/**
+		 * Has the context been cancelled as its timeout or the run deadline has expired?
+		 */
+		private boolean timedOut = false;
+
+		/**
+		 * Creates a new dispatched context.
+		 * <hr>
+		 * @param context Dispatched context.
+		 * @param future Future of the context processor.
+		 * @param timeout Maximum time (in nanoseconds) the context is allowed to run, {@code 0} for no timeout.
+		 */
+		private Dispatched(final IContext context, final ListenableFuture<IExecutionResult> future, final long timeout)
 		{
-			if (element.equalsIgnoreCase(e.getValue()))
-			{
-				return true;
-			}
+			this.context = context;
+			this.future = future;
+			this.timeout = timeout;
 		}
-
-		return false;
 	}
 }
@@ -11,11 +11,23 @@
  */
 package com.heliosphere.demeter.base.runner;
 
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.util.concurrent.ListenableFuture;
 import com.heliosphere.demeter.base.runner.file.xml.configuration.XmlConfigurationFile;
 import com.heliosphere.demeter.base.runner.file.xml.execution.XmlExecutionFile;
+import com.heliosphere.demeter.base.runner.lifecycle.LifecycleController;
+import com.heliosphere.demeter.base.runner.message.MessageChannel;
+import com.heliosphere.demeter.base.runner.metric.PoolMetrics;
 import com.heliosphere.demeter.base.runner.parameter.base.IParameterType;
 import com.heliosphere.demeter.base.runner.parameter.configuration.IParameterConfiguration;
 import com.heliosphere.demeter.base.runner.parameter.execution.IParameterExecution;
+import com.heliosphere.demeter.base.runner.result.ExecutionSummary;
+import com.heliosphere.demeter.base.runner.result.IExecutionResultListener;
+import com.heliosphere.demeter.base.runner.result.IExecutionResultSubscriber;
 
 /**
  * Defines the behavior of a {@code Runner} which is used as an advanced program launcher.
@@ -54,7 +66,16 @@ public interface IRunner
 	void start() throws RunnerException;
 
 	/**
-	 * Pauses the runner.
+	 * Starts the runner without blocking the calling thread.
+	 * <hr>
+	 * The run is dispatched from a dedicated thread. Cancelling the returned future stops the runner.
+	 * <hr>
+	 * @return Future holding the execution summary once the run is over, or the {@link RunnerException} it has failed with.
+	 */
+	ListenableFuture<ExecutionSummary> startAsync();
+
+	/**
+	 * Pauses the runner: no more context is dispatched and the running processors wait at their next checkpoint.
 	 * <hr>
 	 * @throws RunnerException Thrown in case an error occurred while trying to pause the runner.
 	 */
@@ -68,14 +89,29 @@ public interface IRunner
 	void resume() throws RunnerException;
 
 	/**
-	 * Stops the runner.
+	 * Stops the runner using its default stop timeout.
 	 * <hr>
 	 * @throws RunnerException Thrown in case an error occurred while trying to stop the runner.
+	 * @see #stop(long, TimeUnit)
 	 */
 	void stop() throws RunnerException;
 
 	/**
-	 * Resets the runner.
+	 * Stops the runner: the contexts not yet dispatched are cancelled, the running processors are cancelled at their next
+	 * checkpoint and interrupted if still running once the timeout has elapsed.
+	 * <hr>
+	 * This method returns immediately, {@link #start()} returning once the running processors have finished or have been
+	 * interrupted.
+	 * <hr>
+	 * @param timeout Maximum time to wait for the running processors before interrupting them.
+	 * @param unit Time unit of the timeout.
+	 * @throws RunnerException Thrown in case an error occurred while trying to stop the runner.
+	 */
+	void stop(long timeout, TimeUnit unit) throws RunnerException;
+
+	/**
+	 * Resets a runner which is not running so it can be started again, reusing the already loaded configuration and execution
+	 * files.
 	 * <hr>
 	 * @throws RunnerException Thrown in case an error occurred while trying to reset the runner.
 	 */
@@ -128,4 +164,69 @@ public interface IRunner
 	 * @return Execution parameter or {@code null} if no parameter has been found.
 	 */
 	IParameterExecution getExecutionParameter(IParameterExecution parameter);
+
+	/**
+	 * Adds a listener to be notified of each execution result as soon as it is available.
+	 * <hr>
+	 * @param listener Listener to add.
+	 */
+	void addResultListener(IExecutionResultListener listener);
+
+	/**
+	 * Removes a previously registered execution result listener.
+	 * <hr>
+	 * @param listener Listener to remove.
+	 */
+	void removeResultListener(IExecutionResultListener listener);
+
+	/**
+	 * Subscribes a subscriber to the execution results of the next (or current) run, delivered according to its demand.
+	 * <hr>
+	 * @param subscriber Subscriber to subscribe.
+	 */
+	void subscribe(IExecutionResultSubscriber subscriber);
+
+	/**
+	 * Returns the summary of the execution results produced by the runner.
+	 * <hr>
+	 * @return Execution summary.
+	 */
+	ExecutionSummary getSummary();
+
+	/**
+	 * Returns the work-stealing fork/join pool shared by the {@code COMPUTATION} contexts of the runner.
+	 * <hr>
+	 * @return Fork/join pool or {@code null} if the runner is not started or its computation bulkhead is not work-stealing.
+	 */
+	ForkJoinPool getForkJoinPool();
+
+	/**
+	 * Returns the executor shared by the {@code BATCH} contexts of the runner to process their chunks.
+	 * <hr>
+	 * @return Chunk executor or {@code null} if the runner is not started.
+	 */
+	Executor getChunkExecutor();
+
+	/**
+	 * Returns a message channel feeding the {@code MESSAGE} contexts of the runner.
+	 * <hr>
+	 * @param <E> Message type.
+	 * @param name Channel name.
+	 * @return Message channel or {@code null} if no channel has been created with this name.
+	 */
+	<E> MessageChannel<E> getChannel(String name);
+
+	/**
+	 * Returns the lifecycle controller of the runner.
+	 * <hr>
+	 * @return Lifecycle controller.
+	 */
+	LifecycleController getLifecycle();
+
+	/**
+	 * Returns a snapshot of the utilization of the executor pools (one per entity type) used by the runner.
+	 * <hr>
+	 * @return List of pool metrics, empty if the runner has not been started.
+	 */
+	List<PoolMetrics> getPoolMetrics();
 }
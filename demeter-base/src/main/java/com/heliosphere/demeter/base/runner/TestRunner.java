@@ -11,8 +11,12 @@
  */
 package com.heliosphere.demeter.base.runner;
 
+import com.heliosphere.demeter.base.runner.annotation.RunnerBulkhead;
 import com.heliosphere.demeter.base.runner.annotation.RunnerConfig;
 import com.heliosphere.demeter.base.runner.annotation.RunnerFile;
+import com.heliosphere.demeter.base.runner.annotation.RunnerRetry;
+import com.heliosphere.demeter.base.runner.entity.EntityType;
+import com.heliosphere.demeter.base.runner.executor.ExecutorMode;
 import com.heliosphere.demeter.base.runner.file.xml.configuration.XmlConfigurationFile;
 import com.heliosphere.demeter.base.runner.file.xml.execution.XmlExecutionFile;
 import com.heliosphere.demeter.base.runner.parameter.TestParameterType;
@@ -24,7 +28,7 @@ import com.heliosphere.demeter.base.runner.processor.TestProcessor;
  * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
  * @version 1.0.0
  */
-@RunnerConfig(enumParameterClass = TestParameterType.class, processorClass = TestProcessor.class, threadCount = 4)
+@RunnerConfig(enumParameterClass = TestParameterType.class, processorClass = TestProcessor.class, threadCount = 4, bulkheads = { @RunnerBulkhead(type = EntityType.DISPLAY, size = 2, queueSize = 2) }, retry = @RunnerRetry(attempts = 3, delay = 10))
 @RunnerFile(configurationFile = "config/runner/test.runner.configuration.xml", executionFile = "config/runner/test.runner.execution.xml")
 public class TestRunner extends AbstractRunner
 {
@@ -61,4 +65,19 @@ public class TestRunner extends AbstractRunner
 	{
 		super(configuration, execution, properties);
 	}
+
+	/**
+	 * Creates a new test runner using the given executor mode.
+	 * <hr>
+	 * @param configuration XML configuration file to use.
+	 * @param execution XML execution file to use.
+	 * @param properties Properties file name to use.
+	 * @param mode Executor mode to use.
+	 * @param maxConcurrency Maximum number of processors allowed to run concurrently in {@link ExecutorMode#VIRTUAL} mode.
+	 * @throws RunnerException Thrown in case an error occurred while initializing the runner.
+	 */
+	public TestRunner(final XmlConfigurationFile configuration, final XmlExecutionFile execution, final String properties, final ExecutorMode mode, final int maxConcurrency) throws RunnerException
+	{
+		super(configuration, execution, properties, mode, maxConcurrency);
+	}
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.annotation;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.heliosphere.demeter.base.runner.entity.EntityType;
+import com.heliosphere.demeter.base.runner.executor.ExecutorMode;
+
+/**
+ * This annotation is used exclusively as a value of the {@link RunnerConfig#bulkheads()} attribute. It overrides the executor
+ * (bulkhead) dedicated to the processors of an entity type.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+@Target({})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RunnerBulkhead
+{
+	/**
+	 * Entity type the bulkhead is dedicated to.
+	 * <hr>
+	 * @return Entity type.
+	 */
+	EntityType type();
+
+	/**
+	 * Executor mode of the bulkhead.
+	 * <hr>
+	 * @return Executor mode.
+	 */
+	ExecutorMode mode() default ExecutorMode.FIXED;
+
+	/**
+	 * Number of threads for the {@link ExecutorMode#FIXED} mode, or maximum number of processors running concurrently for the
+	 * other modes.
+	 * <hr>
+	 * @return Bulkhead size.
+	 */
+	int size() default 1;
+
+	/**
+	 * Maximum number of processors submitted to the bulkhead while waiting for a free thread (only used by the
+	 * {@link ExecutorMode#FIXED} mode).
+	 * <hr>
+	 * @return Queue size.
+	 */
+	int queueSize() default 0;
+
+	/**
+	 * Maximum time (in milliseconds) a context of the entity type is allowed to run before being cancelled ({@code 0} to use the
+	 * runner timeout).
+	 * <hr>
+	 * @return Timeout.
+	 */
+	long timeout() default 0;
+}
@@ -16,6 +16,8 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 import com.heliosphere.demeter.base.runner.IRunner;
+import com.heliosphere.demeter.base.runner.executor.ExecutorMode;
+import com.heliosphere.demeter.base.runner.executor.OverflowPolicy;
 import com.heliosphere.demeter.base.runner.processor.IProcessor;
 
 /**
@@ -50,4 +52,95 @@ public @interface RunnerConfig
 	 * @return Number of threads.
 	 */
 	int threadCount() default 1;
+
+	/**
+	 * Executor mode used to run the processors.
+	 * <hr>
+	 * @return Executor mode.
+	 */
+	ExecutorMode executorMode() default ExecutorMode.FIXED;
+
+	/**
+	 * Maximum number of processors allowed to run concurrently when using the {@link ExecutorMode#VIRTUAL} executor mode.
+	 * <hr>
+	 * @return Concurrency limit.
+	 */
+	int maxConcurrency() default 10000;
+
+	/**
+	 * Aging rate (in priority points per second) applied to the contexts waiting to be dispatched so contexts having a high
+	 * priority value are not starved. A value of {@code 0} disables the aging.
+	 * <hr>
+	 * @return Priority aging rate.
+	 */
+	int priorityAging() default 0;
+
+	/**
+	 * Maximum time (in milliseconds) to wait for the running processors when the runner is stopped before interrupting them.
+	 * <hr>
+	 * @return Stop timeout.
+	 */
+	long stopTimeout() default 10000;
+
+	/**
+	 * Maximum number of idle processors kept to be reused by the next contexts ({@code 0} to create a new processor for each
+	 * context).
+	 * <hr>
+	 * @return Processor pool size.
+	 */
+	int processorPoolSize() default 0;
+
+	/**
+	 * Maximum number of contexts created ahead of their dispatching ({@code 0} to create all the contexts upfront).
+	 * <hr>
+	 * Contexts are created on demand, as the bulkheads free up, so the memory used by a runner does not grow with the number of
+	 * entities to process.
+	 * <hr>
+	 * @return Context look-ahead window.
+	 */
+	int contextWindow() default 256;
+
+	/**
+	 * Policy applied to the contexts whose bulkhead is saturated.
+	 * <hr>
+	 * The number of contexts in flight is bounded by the capacity of the bulkheads ({@code size + queueSize} each). Once a
+	 * bulkhead is full, its contexts either wait for a free slot or are rejected.
+	 * <hr>
+	 * @return Overflow policy.
+	 */
+	OverflowPolicy overflow() default OverflowPolicy.BLOCK;
+
+	/**
+	 * Maximum time (in milliseconds) a context is allowed to run before being cancelled ({@code 0} for no timeout).
+	 * <hr>
+	 * The timeout of a context is the one of its configuration parameter if defined, otherwise the one of the bulkhead of its
+	 * entity type if defined, otherwise this one. Contexts running until stopped, such as daemons, are cancelled too.
+	 * <hr>
+	 * @return Timeout.
+	 */
+	long timeout() default 0;
+
+	/**
+	 * Maximum time (in milliseconds) the whole run is allowed to last ({@code 0} for no deadline).
+	 * <hr>
+	 * Once the deadline has expired, the running contexts are cancelled and the contexts not yet dispatched are reported without
+	 * being run.
+	 * <hr>
+	 * @return Run deadline.
+	 */
+	long deadline() default 0;
+
+	/**
+	 * Retry policy of the failed contexts.
+	 * <hr>
+	 * @return Retry policy, by default failed contexts are not retried.
+	 */
+	RunnerRetry retry() default @RunnerRetry;
+
+	/**
+	 * Bulkheads overriding the default executor of some entity types.
+	 * <hr>
+	 * @return Bulkheads.
+	 */
+	RunnerBulkhead[] bulkheads() default {};
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the 
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.annotation;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.heliosphere.demeter.base.runner.result.ExecutionStatusType;
+
+/**
+ * This annotation is used exclusively as a value of the {@link RunnerConfig#retry()} attribute. It defines how the contexts
+ * whose execution has {@link ExecutionStatusType#FAILED} are retried.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+@Target({})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RunnerRetry
+{
+	/**
+	 * Maximum number of times a context is run, including its first run ({@code 1} to disable the retries).
+	 * <hr>
+	 * @return Maximum number of attempts.
+	 */
+	int attempts() default 1;
+
+	/**
+	 * Delay (in milliseconds) before the first retry.
+	 * <hr>
+	 * @return Initial delay.
+	 */
+	long delay() default 100;
+
+	/**
+	 * Maximum delay (in milliseconds) between two attempts.
+	 * <hr>
+	 * @return Maximum delay.
+	 */
+	long maxDelay() default 10000;
+
+	/**
+	 * Factor applied to the delay after each retry.
+	 * <hr>
+	 * @return Backoff multiplier.
+	 */
+	double multiplier() default 2.0;
+
+	/**
+	 * Ratio of the delay randomly added or removed so contexts failing together are not retried together.
+	 * <hr>
+	 * @return Jitter between {@code 0} and {@code 1}.
+	 */
+	double jitter() default 0.2;
+
+	/**
+	 * Maximum number of retries for the whole run ({@code -1} for no limit). Once the budget is spent, failed contexts are
+	 * reported without being retried.
+	 * <hr>
+	 * @return Failure budget.
+	 */
+	int budget() default -1;
+}
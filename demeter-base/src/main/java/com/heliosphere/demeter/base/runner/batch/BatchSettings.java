@@ -0,0 +1,217 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.batch;
+
+import com.heliosphere.demeter.base.runner.entity.EntityType;
+import com.heliosphere.demeter.base.runner.parameter.base.ParameterException;
+import com.heliosphere.demeter.base.runner.parameter.base.ParameterOptions;
+import com.heliosphere.demeter.base.runner.parameter.execution.IParameterExecution;
+import com.heliosphere.demeter.base.runner.retry.RetryPolicy;
+
+import lombok.NonNull;
+
+/**
+ * Provides the settings of a {@link EntityType#BATCH} entity.
+ * <hr>
+ * The settings are given by the value of the execution parameter as a list of options (see {@link ParameterOptions}):
+ * <ul>
+ * <li>{@code chunk}: number of items per chunk (default {@value #DEFAULT_CHUNK_SIZE}),</li>
+ * <li>{@code parallelism}: number of chunks processed at the same time (default: number of available processors),</li>
+ * <li>{@code retries}: number of times a failed chunk is retried before being given up (default {@code 0}),</li>
+ * <li>{@code delay}: delay (in milliseconds) before the first retry of a failed chunk (default {@value #DEFAULT_RETRY_DELAY}), doubled
+ * at each following retry up to {@value #MAX_RETRY_DELAY} ms.</li>
+ * </ul>
+ * For example: {@code chunk=500;parallelism=4;retries=2;delay=50}.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public final class BatchSettings
+{
+	/**
+	 * Default number of items per chunk.
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = 100;
+
+	/**
+	 * Default delay (in milliseconds) before the first retry of a failed chunk.
+	 */
+	public static final long DEFAULT_RETRY_DELAY = 100;
+
+	/**
+	 * Maximum delay (in milliseconds) between two attempts of a failed chunk.
+	 */
+	public static final long MAX_RETRY_DELAY = 10000;
+
+	/**
+	 * Backoff multiplier applied to the delay at each retry of a failed chunk.
+	 */
+	private static final double RETRY_MULTIPLIER = 2;
+
+	/**
+	 * Jitter ratio applied to the delay between two attempts of a failed chunk.
+	 */
+	private static final double RETRY_JITTER = 0.1;
+
+	/**
+	 * Number of items per chunk.
+	 */
+	private final int chunkSize;
+
+	/**
+	 * Number of chunks processed at the same time.
+	 */
+	private final int parallelism;
+
+	/**
+	 * Number of times a failed chunk is retried.
+	 */
+	private final int retries;
+
+	/**
+	 * Delay (in milliseconds) before the first retry of a failed chunk.
+	 */
+	private final long retryDelay;
+
+	/**
+	 * Creates new batch settings.
+	 * <hr>
+	 * @param chunkSize Number of items per chunk.
+	 * @param parallelism Number of chunks processed at the same time.
+	 * @param retries Number of times a failed chunk is retried.
+	 */
+	public BatchSettings(final int chunkSize, final int parallelism, final int retries)
+	{
+		this(chunkSize, parallelism, retries, DEFAULT_RETRY_DELAY);
+	}
+
+	/**
+	 * Creates new batch settings.
+	 * <hr>
+	 * @param chunkSize Number of items per chunk.
+	 * @param parallelism Number of chunks processed at the same time.
+	 * @param retries Number of times a failed chunk is retried.
+	 * @param retryDelay Delay (in milliseconds) before the first retry of a failed chunk.
+	 */
+	@SuppressWarnings("nls")
+	public BatchSettings(final int chunkSize, final int parallelism, final int retries, final long retryDelay)
+	{
+		if (chunkSize < 1 || parallelism < 1)
+		{
+			throw new IllegalArgumentException(String.format("Batch chunk size: [%1d] and parallelism: [%2d] must be greater than 0", Integer.valueOf(chunkSize), Integer.valueOf(parallelism)));
+		}
+
+		if (retries < 0)
+		{
+			throw new IllegalArgumentException("Batch retries cannot be negative, found: " + retries);
+		}
+
+		if (retryDelay < 0 || retryDelay > MAX_RETRY_DELAY)
+		{
+			throw new IllegalArgumentException(String.format("Batch retry delay must be between 0 and %1d ms, found: %2d", Long.valueOf(MAX_RETRY_DELAY), Long.valueOf(retryDelay)));
+		}
+
+		this.chunkSize = chunkSize;
+		this.parallelism = parallelism;
+		this.retries = retries;
+		this.retryDelay = retryDelay;
+	}
+
+	/**
+	 * Creates the default batch settings.
+	 * <hr>
+	 * @return Batch settings.
+	 */
+	public static final BatchSettings defaults()
+	{
+		return new BatchSettings(DEFAULT_CHUNK_SIZE, Runtime.getRuntime().availableProcessors(), 0);
+	}
+
+	/**
+	 * Creates the batch settings defined by the value of an execution parameter.
+	 * <hr>
+	 * @param parameter Execution parameter.
+	 * @return Batch settings.
+	 * @throws ParameterException Thrown in case the parameter value does not define valid settings.
+	 */
+	@SuppressWarnings("nls")
+	public static final BatchSettings of(@NonNull final IParameterExecution parameter) throws ParameterException
+	{
+		ParameterOptions options = new ParameterOptions(parameter.getName(), parameter.getValue());
+
+		try
+		{
+			return new BatchSettings(options.getInt("chunk", DEFAULT_CHUNK_SIZE), options.getInt("parallelism", Runtime.getRuntime().availableProcessors()), options.getInt("retries", 0), options.getLong("delay", DEFAULT_RETRY_DELAY));
+		}
+		catch (IllegalArgumentException e)
+		{
+			throw new ParameterException(String.format("Invalid settings for batch parameter: %1s due to: %2s", parameter.getName(), e.getMessage()));
+		}
+	}
+
+	/**
+	 * Returns the number of items per chunk.
+	 * <hr>
+	 * @return Chunk size.
+	 */
+	public final int getChunkSize()
+	{
+		return chunkSize;
+	}
+
+	/**
+	 * Returns the number of chunks processed at the same time.
+	 * <hr>
+	 * @return Parallelism.
+	 */
+	public final int getParallelism()
+	{
+		return parallelism;
+	}
+
+	/**
+	 * Returns the number of times a failed chunk is retried before being given up.
+	 * <hr>
+	 * @return Number of retries.
+	 */
+	public final int getRetries()
+	{
+		return retries;
+	}
+
+	/**
+	 * Returns the delay (in milliseconds) before the first retry of a failed chunk.
+	 * <hr>
+	 * @return Retry delay.
+	 */
+	public final long getRetryDelay()
+	{
+		return retryDelay;
+	}
+
+	/**
+	 * Returns the policy used to retry the failed chunks, with an exponential backoff between two attempts.
+	 * <hr>
+	 * @return Retry policy.
+	 */
+	public final RetryPolicy getRetryPolicy()
+	{
+		return new RetryPolicy(retries + 1, retryDelay, MAX_RETRY_DELAY, RETRY_MULTIPLIER, RETRY_JITTER, -1);
+	}
+
+	@SuppressWarnings("nls")
+	@Override
+	public final String toString()
+	{
+		return String.format("chunk:[%1d], parallelism:[%2d], retries:[%3d], delay:[%4d]", Integer.valueOf(chunkSize), Integer.valueOf(parallelism), Integer.valueOf(retries), Long.valueOf(retryDelay));
+	}
+}
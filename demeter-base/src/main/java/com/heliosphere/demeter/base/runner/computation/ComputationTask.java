@@ -0,0 +1,83 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.computation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Provides an abstract computation recursively splitting itself into subtasks.
+ * <hr>
+ * A task small enough (see {@link #isDivisible()}) is computed directly, otherwise it is split into subtasks which are forked
+ * on the fork/join pool the task runs on, idle worker threads stealing them, and their partial results are then combined.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ * @param <R> Result type.
+ */
+public abstract class ComputationTask<R> extends RecursiveTask<R>
+{
+	/**
+	 * Default serialization identifier.
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Returns if the task is worth being split into subtasks?
+	 * <hr>
+	 * @return {@code True} if the task must be split, {@code false} if it must be computed directly.
+	 */
+	protected abstract boolean isDivisible();
+
+	/**
+	 * Computes the task directly (without splitting it).
+	 * <hr>
+	 * @return Result.
+	 */
+	protected abstract R computeDirectly();
+
+	/**
+	 * Splits the task into subtasks.
+	 * <hr>
+	 * @return List of subtasks.
+	 */
+	protected abstract List<? extends ComputationTask<R>> split();
+
+	/**
+	 * Combines the partial results of the subtasks.
+	 * <hr>
+	 * @param results Results of the subtasks, in the order of the subtasks.
+	 * @return Combined result.
+	 */
+	protected abstract R combine(List<R> results);
+
+	@Override
+	protected final R compute()
+	{
+		if (!isDivisible())
+		{
+			return computeDirectly();
+		}
+
+		List<? extends ComputationTask<R>> subtasks = split();
+		invokeAll(subtasks);
+
+		List<R> results = new ArrayList<>(subtasks.size());
+		for (ComputationTask<R> subtask : subtasks)
+		{
+			results.add(subtask.join());
+		}
+
+		return combine(results);
+	}
+}
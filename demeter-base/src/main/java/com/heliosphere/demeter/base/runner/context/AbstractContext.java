@@ -11,12 +11,14 @@
  */
 package com.heliosphere.demeter.base.runner.context;
 
+import com.heliosphere.demeter.base.runner.IRunner;
 import com.heliosphere.demeter.base.runner.entity.IEntity;
 import com.heliosphere.demeter.base.runner.parameter.execution.IParameterExecution;
 import com.heliosphere.demeter.base.runner.parameter.list.IParameterList;
 import com.heliosphere.demeter.base.runner.parameter.list.ParameterList;
+import com.heliosphere.demeter.base.runner.parameter.list.ParameterOverlay;
+import com.heliosphere.demeter.base.runner.parameter.list.ParameterSnapshot;
 import com.heliosphere.demeter.base.runner.processor.IProcessor;
-import com.rits.cloning.Cloner;
 
 import lombok.NonNull;
 
@@ -43,19 +45,24 @@ public abstract class AbstractContext implements IContext
 	 */
 	private IEntity<?> entity;
 
+	/**
+	 * Runner owning the context.
+	 */
+	private IRunner runner;
+
 	/**
 	 * Creates a new abstract context.
 	 * <hr>
+	 * The context gets a copy-on-write overlay of the execution parameters, so its modifications are not visible from the other
+	 * contexts. When the given parameters are a {@link ParameterSnapshot} shared by several contexts, no parameter is copied.
+	 * <hr>
 	 * @param entity Entity.
 	 * @param parameters List of execution parameters.
 	 */
 	public AbstractContext(@NonNull final IEntity<?> entity, @NonNull final IParameterList<IParameterExecution> parameters)
 	{
 		this.entity = entity;
-
-		Cloner cloner = new Cloner();
-		IParameterList<IParameterExecution> clone = cloner.deepClone(parameters);
-		this.parameters = clone;
+		this.parameters = new ParameterOverlay(ParameterSnapshot.of(parameters));
 	}
 
 	/**
@@ -101,4 +108,16 @@ public abstract class AbstractContext implements IContext
 	{
 		this.parameters = parameters;
 	}
+
+	@Override
+	public final IRunner getRunner()
+	{
+		return runner;
+	}
+
+	@Override
+	public final void setRunner(@NonNull final IRunner runner)
+	{
+		this.runner = runner;
+	}
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the 
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.context;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import com.heliosphere.demeter.base.runner.IRunner;
+import com.heliosphere.demeter.base.runner.entity.IEntity;
+import com.heliosphere.demeter.base.runner.parameter.execution.IParameterExecution;
+import com.heliosphere.demeter.base.runner.parameter.list.IParameterList;
+import com.heliosphere.demeter.base.runner.parameter.list.ParameterSnapshot;
+
+import lombok.NonNull;
+
+/**
+ * Provides the contexts of a {@link IRunner} on demand.
+ * <hr>
+ * Contexts are only created when requested, in the order of the given entities, so a runner materializes its contexts as its
+ * workers free up instead of creating all of them upfront. An entity is released by the supplier as soon as its context has
+ * been created. The execution parameters are copied once into a snapshot shared by all the contexts.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public final class ContextSupplier implements Iterator<IContext>
+{
+	/**
+	 * Entities whose contexts have not yet been created.
+	 */
+	private final List<IEntity<?>> entities;
+
+	/**
+	 * Snapshot of the execution parameters shared by the contexts.
+	 */
+	private final ParameterSnapshot parameters;
+
+	/**
+	 * Runner owning the contexts.
+	 */
+	private final IRunner runner;
+
+	/**
+	 * Index of the next entity.
+	 */
+	private int index = 0;
+
+	/**
+	 * Creates a new context supplier.
+	 * <hr>
+	 * @param runner Runner owning the contexts.
+	 * @param entities Entities to create a context for, in their dispatching order.
+	 * @param parameters List of execution parameters.
+	 */
+	public ContextSupplier(@NonNull final IRunner runner, @NonNull final List<IEntity<?>> entities, @NonNull final IParameterList<IParameterExecution> parameters)
+	{
+		this.runner = runner;
+		this.entities = new ArrayList<>(entities);
+		this.parameters = ParameterSnapshot.of(parameters);
+	}
+
+	@Override
+	public final boolean hasNext()
+	{
+		return index < entities.size();
+	}
+
+	@Override
+	public final IContext next()
+	{
+		if (!hasNext())
+		{
+			throw new NoSuchElementException();
+		}
+
+		IEntity<?> entity = entities.set(index++, null);
+		IContext context = new Context(entity, parameters);
+		context.setRunner(runner);
+
+		return context;
+	}
+
+	@Override
+	public final void remove()
+	{
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Returns the total number of contexts to supply.
+	 * <hr>
+	 * @return Number of contexts.
+	 */
+	public final int size()
+	{
+		return entities.size();
+	}
+
+	/**
+	 * Returns the number of contexts not yet supplied.
+	 * <hr>
+	 * @return Number of remaining contexts.
+	 */
+	public final int getRemaining()
+	{
+		return entities.size() - index;
+	}
+}
@@ -70,4 +70,18 @@ public interface IContext
 	 * @param parameters List of execution parameters.
 	 */
 	void setParameters(IParameterList<IParameterExecution> parameters);
+
+	/**
+	 * Returns the runner owning this context.
+	 * <hr>
+	 * @return Runner or {@code null} if the context is not owned by a runner.
+	 */
+	IRunner getRunner();
+
+	/**
+	 * Sets the runner owning this context.
+	 * <hr>
+	 * @param runner Runner.
+	 */
+	void setRunner(IRunner runner);
 }
@@ -0,0 +1,32 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.daemon;
+
+/**
+ * Provides an enumeration of the scheduling modes of a daemon.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public enum DaemonModeType
+{
+	/**
+	 * Ticks are planned at a fixed rate from the daemon start, whatever their duration. A tick lasting longer than the period
+	 * makes the following planned ticks missed.
+	 */
+	FIXED_RATE,
+
+	/**
+	 * Each tick is planned a fixed delay after the end of the previous one.
+	 */
+	FIXED_DELAY;
+}
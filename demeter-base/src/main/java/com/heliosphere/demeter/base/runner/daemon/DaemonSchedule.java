@@ -0,0 +1,176 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.daemon;
+
+import com.heliosphere.demeter.base.runner.entity.EntityType;
+import com.heliosphere.demeter.base.runner.parameter.base.ParameterException;
+import com.heliosphere.demeter.base.runner.parameter.base.ParameterOptions;
+import com.heliosphere.demeter.base.runner.parameter.execution.IParameterExecution;
+
+import lombok.NonNull;
+
+/**
+ * Provides the schedule of a {@link EntityType#DAEMON} entity.
+ * <hr>
+ * The schedule is given by the value of the execution parameter as a list of options (see {@link ParameterOptions}):
+ * <ul>
+ * <li>{@code mode}: {@code fixed-rate} (default) or {@code fixed-delay},</li>
+ * <li>{@code period}: period (or delay) between two ticks (mandatory),</li>
+ * <li>{@code delay}: initial delay before the first tick (default {@code 0}),</li>
+ * <li>{@code jitter}: maximum random delay added to each tick (default {@code 0}),</li>
+ * <li>{@code ticks}: number of ticks to execute, {@code 0} (default) to run until the runner is stopped.</li>
+ * </ul>
+ * For example: {@code mode=fixed-delay;period=5s;jitter=250ms}.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public final class DaemonSchedule
+{
+	/**
+	 * Scheduling mode.
+	 */
+	private final DaemonModeType mode;
+
+	/**
+	 * Period (in milliseconds) between two ticks.
+	 */
+	private final long period;
+
+	/**
+	 * Initial delay (in milliseconds) before the first tick.
+	 */
+	private final long delay;
+
+	/**
+	 * Maximum random delay (in milliseconds) added to each tick.
+	 */
+	private final long jitter;
+
+	/**
+	 * Number of ticks to execute, {@code 0} for an unlimited number.
+	 */
+	private final long ticks;
+
+	/**
+	 * Creates a new daemon schedule.
+	 * <hr>
+	 * @param mode Scheduling mode.
+	 * @param period Period (in milliseconds) between two ticks.
+	 * @param delay Initial delay (in milliseconds) before the first tick.
+	 * @param jitter Maximum random delay (in milliseconds) added to each tick.
+	 * @param ticks Number of ticks to execute, {@code 0} for an unlimited number.
+	 */
+	@SuppressWarnings("nls")
+	public DaemonSchedule(@NonNull final DaemonModeType mode, final long period, final long delay, final long jitter, final long ticks)
+	{
+		if (period <= 0)
+		{
+			throw new IllegalArgumentException("Daemon period must be greater than 0, found: " + period);
+		}
+
+		if (delay < 0 || jitter < 0 || ticks < 0)
+		{
+			throw new IllegalArgumentException(String.format("Daemon delay: [%1d], jitter: [%2d] and ticks: [%3d] cannot be negative", Long.valueOf(delay), Long.valueOf(jitter), Long.valueOf(ticks)));
+		}
+
+		this.mode = mode;
+		this.period = period;
+		this.delay = delay;
+		this.jitter = jitter;
+		this.ticks = ticks;
+	}
+
+	/**
+	 * Creates the daemon schedule defined by the value of an execution parameter.
+	 * <hr>
+	 * @param parameter Execution parameter.
+	 * @return Daemon schedule.
+	 * @throws ParameterException Thrown in case the parameter value does not define a valid schedule.
+	 */
+	@SuppressWarnings("nls")
+	public static final DaemonSchedule of(@NonNull final IParameterExecution parameter) throws ParameterException
+	{
+		ParameterOptions options = new ParameterOptions(parameter.getName(), parameter.getValue());
+
+		if (!options.contains("period"))
+		{
+			throw new ParameterException(String.format("Daemon parameter: %1s must define a period, found: '%2s'", parameter.getName(), parameter.getValue()));
+		}
+
+		try
+		{
+			return new DaemonSchedule(options.getEnum("mode", DaemonModeType.class, DaemonModeType.FIXED_RATE), options.getDuration("period", 0), options.getDuration("delay", 0), options.getDuration("jitter", 0), options.getLong("ticks", 0));
+		}
+		catch (IllegalArgumentException e)
+		{
+			throw new ParameterException(String.format("Invalid schedule for daemon parameter: %1s due to: %2s", parameter.getName(), e.getMessage()));
+		}
+	}
+
+	/**
+	 * Returns the scheduling mode.
+	 * <hr>
+	 * @return Scheduling mode.
+	 */
+	public final DaemonModeType getMode()
+	{
+		return mode;
+	}
+
+	/**
+	 * Returns the period (in milliseconds) between two ticks.
+	 * <hr>
+	 * @return Period.
+	 */
+	public final long getPeriod()
+	{
+		return period;
+	}
+
+	/**
+	 * Returns the initial delay (in milliseconds) before the first tick.
+	 * <hr>
+	 * @return Initial delay.
+	 */
+	public final long getDelay()
+	{
+		return delay;
+	}
+
+	/**
+	 * Returns the maximum random delay (in milliseconds) added to each tick.
+	 * <hr>
+	 * @return Jitter.
+	 */
+	public final long getJitter()
+	{
+		return jitter;
+	}
+
+	/**
+	 * Returns the number of ticks to execute.
+	 * <hr>
+	 * @return Number of ticks, {@code 0} for an unlimited number.
+	 */
+	public final long getTicks()
+	{
+		return ticks;
+	}
+
+	@SuppressWarnings("nls")
+	@Override
+	public final String toString()
+	{
+		return String.format("mode:[%1s], period:[%2d ms], delay:[%3d ms], jitter:[%4d ms], ticks:[%5s]", mode, Long.valueOf(period), Long.valueOf(delay), Long.valueOf(jitter), ticks == 0 ? "unlimited" : String.valueOf(ticks));
+	}
+}
@@ -12,6 +12,7 @@
 package com.heliosphere.demeter.base.runner.entity;
 
 import com.heliosphere.demeter.base.element.AbstractElement;
+import com.heliosphere.demeter.base.runner.parameter.execution.IParameterExecution;
 
 import lombok.NonNull;
 
@@ -27,6 +28,11 @@ public class AbstractEntity<T> extends AbstractElement<String> implements IEntit
 	 */
 	private T content;
 
+	/**
+	 * Execution parameter the entity has been created for.
+	 */
+	private IParameterExecution parameter;
+
 	/**
 	 * Creates a new abstract entity.
 	 * <hr>
@@ -42,6 +48,21 @@ public class AbstractEntity<T> extends AbstractElement<String> implements IEntit
 		this.content = content;
 	}
 
+	/**
+	 * Creates a new abstract entity for an execution parameter.
+	 * <hr>
+	 * @param name Entity name.
+	 * @param type Entity type.
+	 * @param content Entity content.
+	 * @param parameter Execution parameter the entity is created for.
+	 */
+	public AbstractEntity(String name, Enum<? extends IEntityType> type, T content, IParameterExecution parameter)
+	{
+		this(name, type, content);
+
+		this.parameter = parameter;
+	}
+
 	@Override
 	public final Enum<? extends IEntityType> getType()
 	{
@@ -65,4 +86,16 @@ public class AbstractEntity<T> extends AbstractElement<String> implements IEntit
 	{
 		this.content = content;
 	}
+
+	@Override
+	public final IParameterExecution getParameter()
+	{
+		return parameter;
+	}
+
+	@Override
+	public final void setParameter(final IParameterExecution parameter)
+	{
+		this.parameter = parameter;
+	}
 }
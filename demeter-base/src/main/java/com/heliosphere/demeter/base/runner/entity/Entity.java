@@ -11,10 +11,17 @@
  */
 package com.heliosphere.demeter.base.runner.entity;
 
+import com.heliosphere.demeter.base.runner.parameter.execution.IParameterExecution;
+
 public class Entity<T> extends AbstractEntity<T>
 {
 	public Entity(String name, Enum<? extends IEntityType> type, T content)
 	{
 		super(name, type, content);
 	}
+
+	public Entity(String name, Enum<? extends IEntityType> type, T content, IParameterExecution parameter)
+	{
+		super(name, type, content, parameter);
+	}
 }
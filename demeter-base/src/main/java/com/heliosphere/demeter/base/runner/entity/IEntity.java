@@ -13,6 +13,7 @@ package com.heliosphere.demeter.base.runner.entity;
 
 import com.heliosphere.demeter.base.element.IElement;
 import com.heliosphere.demeter.base.runner.IRunner;
+import com.heliosphere.demeter.base.runner.parameter.execution.IParameterExecution;
 import com.heliosphere.demeter.base.runner.processor.IProcessor;
 
 /**
@@ -51,4 +52,18 @@ public interface IEntity<T> extends IElement<String>
 	 * @param content Case content.
 	 */
 	void setContent(final T content);
+
+	/**
+	 * Returns the execution parameter this entity has been created for.
+	 * <hr>
+	 * @return Execution parameter or {@code null} if the entity has not been created from an execution parameter.
+	 */
+	IParameterExecution getParameter();
+
+	/**
+	 * Sets the execution parameter this entity has been created for.
+	 * <hr>
+	 * @param parameter Execution parameter.
+	 */
+	void setParameter(final IParameterExecution parameter);
 }
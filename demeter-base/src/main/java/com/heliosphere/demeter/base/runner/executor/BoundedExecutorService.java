@@ -0,0 +1,156 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.executor;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import lombok.NonNull;
+
+/**
+ * Provides an {@link ExecutorService} decorator bounding the number of tasks running concurrently on the underlying executor.
+ * <hr>
+ * A permit is acquired by the submitting thread before a task is handed to the underlying executor and is released once the
+ * task has finished. When no permit is available, the submitting thread blocks until a running task finishes.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public final class BoundedExecutorService extends AbstractExecutorService
+{
+	/**
+	 * Underlying executor service.
+	 */
+	private final ExecutorService delegate;
+
+	/**
+	 * Permits bounding the number of running tasks.
+	 */
+	private final Semaphore permits;
+
+	/**
+	 * Concurrency limit.
+	 */
+	private final int concurrency;
+
+	/**
+	 * Creates a new bounded executor service.
+	 * <hr>
+	 * @param delegate Underlying executor service.
+	 * @param concurrency Maximum number of tasks allowed to run concurrently.
+	 */
+	@SuppressWarnings("nls")
+	public BoundedExecutorService(@NonNull final ExecutorService delegate, final int concurrency)
+	{
+		if (concurrency < 1)
+		{
+			throw new IllegalArgumentException("Concurrency limit must be greater than zero, found: " + concurrency);
+		}
+
+		this.delegate = delegate;
+		this.concurrency = concurrency;
+		this.permits = new Semaphore(concurrency);
+	}
+
+	/**
+	 * Returns the concurrency limit.
+	 * <hr>
+	 * @return Maximum number of tasks allowed to run concurrently.
+	 */
+	public final int getConcurrency()
+	{
+		return concurrency;
+	}
+
+	/**
+	 * Returns the number of tasks currently running.
+	 * <hr>
+	 * @return Number of running tasks.
+	 */
+	public final int getRunningCount()
+	{
+		return concurrency - permits.availablePermits();
+	}
+
+	@SuppressWarnings("nls")
+	@Override
+	public final void execute(@NonNull final Runnable command)
+	{
+		try
+		{
+			permits.acquire();
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new RejectedExecutionException("Interrupted while waiting for a free execution slot", e);
+		}
+
+		try
+		{
+			delegate.execute(new Runnable()
+			{
+				@Override
+				public void run()
+				{
+					try
+					{
+						command.run();
+					}
+					finally
+					{
+						permits.release();
+					}
+				}
+			});
+		}
+		catch (RejectedExecutionException e)
+		{
+			permits.release();
+			throw e;
+		}
+	}
+
+	@Override
+	public final void shutdown()
+	{
+		delegate.shutdown();
+	}
+
+	@Override
+	public final List<Runnable> shutdownNow()
+	{
+		return delegate.shutdownNow();
+	}
+
+	@Override
+	public final boolean isShutdown()
+	{
+		return delegate.isShutdown();
+	}
+
+	@Override
+	public final boolean isTerminated()
+	{
+		return delegate.isTerminated();
+	}
+
+	@Override
+	public final boolean awaitTermination(final long timeout, @NonNull final TimeUnit unit) throws InterruptedException
+	{
+		return delegate.awaitTermination(timeout, unit);
+	}
+}
@@ -0,0 +1,604 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.executor;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.heliosphere.demeter.base.runner.daemon.DaemonSchedule;
+import com.heliosphere.demeter.base.runner.entity.EntityType;
+import com.heliosphere.demeter.base.runner.metric.PoolMetrics;
+import com.heliosphere.demeter.base.runner.processor.IProcessor;
+import com.heliosphere.demeter.base.runner.result.IExecutionResult;
+
+import lombok.NonNull;
+
+/**
+ * Provides an executor (bulkhead) dedicated to the processors of an entity type, so a burst of processors of one type cannot
+ * starve the processors of the other types.
+ * <hr>
+ * A bulkhead accepts at most {@code size + queueSize} processors at the same time ({@code size} when its executor mode has no
+ * queue), the runner holding back the other ones. Its executor service is only created when the first processor is submitted.
+ * The slot of a processor is released when its execution actually ends, or when it is cancelled before being started, so a
+ * cancelled processor still running (for example ignoring the interruption) keeps holding its slot.
+ * <p>
+ * A {@link ExecutorMode#SCHEDULED} bulkhead runs the daemons periodically (see {@link DaemonSchedule}) and accepts any number of
+ * them, a daemon only holding a thread while one of its ticks is being executed.
+ * <p>
+ * A bulkhead is also an {@link Executor} on which processors can run their own tasks (for example the chunks of a batch), each
+ * task being accounted for in the bulkhead metrics.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public final class Bulkhead implements Executor
+{
+	/**
+	 * Slot state of a submitted processor not yet started.
+	 */
+	private static final int SUBMITTED = 0;
+
+	/**
+	 * Slot state of a started processor.
+	 */
+	private static final int STARTED = 1;
+
+	/**
+	 * Slot state of a released slot.
+	 */
+	private static final int RELEASED = 2;
+
+	/**
+	 * Entity type the bulkhead is dedicated to.
+	 */
+	private final EntityType type;
+
+	/**
+	 * Executor mode.
+	 */
+	private final ExecutorMode mode;
+
+	/**
+	 * Number of threads ({@link ExecutorMode#FIXED}) or concurrency limit (other modes).
+	 */
+	private int size;
+
+	/**
+	 * Maximum number of processors waiting for a free slot (only used by the {@link ExecutorMode#FIXED} mode).
+	 */
+	private final int queueSize;
+
+	/**
+	 * Name prefix of the threads.
+	 */
+	private final String name;
+
+	/**
+	 * Pool name used for the threads and the metrics.
+	 */
+	private final String pool;
+
+	/**
+	 * Underlying executor service (created on first submission).
+	 */
+	private ExecutorService service = null;
+
+	/**
+	 * Listening decorator of the executor service.
+	 */
+	private ListeningExecutorService executor = null;
+
+	/**
+	 * Creation time of the executor service.
+	 */
+	private long created;
+
+	/**
+	 * Number of submitted processors whose slot has not been released yet.
+	 */
+	private final AtomicInteger submitted = new AtomicInteger();
+
+	/**
+	 * Number of processors being executed.
+	 */
+	private final AtomicInteger active = new AtomicInteger();
+
+	/**
+	 * Highest number of processors executed at the same time.
+	 */
+	private final AtomicInteger peak = new AtomicInteger();
+
+	/**
+	 * Number of completed processors.
+	 */
+	private final AtomicLong completed = new AtomicLong();
+
+	/**
+	 * Cumulated execution time (in nanoseconds) of the processors.
+	 */
+	private final AtomicLong busyTime = new AtomicLong();
+
+	/**
+	 * Daemons being run ({@link ExecutorMode#SCHEDULED} mode only).
+	 */
+	private final Set<DaemonTask> daemons = Collections.newSetFromMap(new ConcurrentHashMap<DaemonTask, Boolean>());
+
+	/**
+	 * Creates a new bulkhead.
+	 * <hr>
+	 * @param type Entity type the bulkhead is dedicated to.
+	 * @param mode Executor mode.
+	 * @param size Number of threads ({@link ExecutorMode#FIXED}) or concurrency limit (other modes).
+	 * @param queueSize Maximum number of processors waiting for a free slot.
+	 * @param name Name prefix of the threads.
+	 */
+	public Bulkhead(@NonNull final EntityType type, @NonNull final ExecutorMode mode, final int size, final int queueSize, @NonNull final String name)
+	{
+		this(type, mode, size, queueSize, name, type.getName());
+	}
+
+	/**
+	 * Creates a new bulkhead having its own pool name.
+	 * <hr>
+	 * @param type Entity type the bulkhead is dedicated to.
+	 * @param mode Executor mode.
+	 * @param size Number of threads ({@link ExecutorMode#FIXED}) or concurrency limit (other modes).
+	 * @param queueSize Maximum number of processors waiting for a free slot.
+	 * @param name Name prefix of the threads.
+	 * @param pool Pool name used for the threads and the metrics.
+	 */
+	@SuppressWarnings("nls")
+	public Bulkhead(@NonNull final EntityType type, @NonNull final ExecutorMode mode, final int size, final int queueSize, @NonNull final String name, @NonNull final String pool)
+	{
+		if (size < 1)
+		{
+			throw new IllegalArgumentException("Bulkhead size must be greater than 0, found: " + size);
+		}
+
+		if (queueSize < 0)
+		{
+			throw new IllegalArgumentException("Bulkhead queue size cannot be negative, found: " + queueSize);
+		}
+
+		this.type = type;
+		this.mode = mode;
+		this.size = size;
+		this.queueSize = queueSize;
+		this.name = name;
+		this.pool = pool;
+	}
+
+	/**
+	 * Returns the entity type the bulkhead is dedicated to.
+	 * <hr>
+	 * @return Entity type.
+	 */
+	public final EntityType getType()
+	{
+		return type;
+	}
+
+	/**
+	 * Returns the executor mode.
+	 * <hr>
+	 * @return Executor mode.
+	 */
+	public final ExecutorMode getMode()
+	{
+		return mode;
+	}
+
+	/**
+	 * Returns the number of threads ({@link ExecutorMode#FIXED}) or the concurrency limit (other modes).
+	 * <hr>
+	 * @return Bulkhead size.
+	 */
+	public final int getSize()
+	{
+		return size;
+	}
+
+	/**
+	 * Returns the maximum number of processors waiting for a free slot.
+	 * <hr>
+	 * @return Queue size.
+	 */
+	public final int getQueueSize()
+	{
+		return queueSize;
+	}
+
+	/**
+	 * Limits the size of a {@link ExecutorMode#FIXED} bulkhead not yet started, as no more threads can be used.
+	 * <hr>
+	 * @param limit Maximum size.
+	 * @return {@code True} if the size has been reduced, {@code false} otherwise.
+	 */
+	public final synchronized boolean limit(final int limit)
+	{
+		if (executor == null && mode == ExecutorMode.FIXED && limit > 0 && limit < size)
+		{
+			size = limit;
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns if the bulkhead can accept a new processor?
+	 * <hr>
+	 * @return {@code True} if a processor can be submitted, {@code false} otherwise.
+	 */
+	public final boolean hasCapacity()
+	{
+		if (mode == ExecutorMode.SCHEDULED)
+		{
+			return true;
+		}
+
+		return submitted.get() < (mode == ExecutorMode.FIXED ? size + queueSize : size);
+	}
+
+	/**
+	 * Submits a processor.
+	 * <hr>
+	 * @param processor Processor to run.
+	 * @return Future of the execution result.
+	 */
+	public final ListenableFuture<IExecutionResult> submit(@NonNull final IProcessor processor)
+	{
+		return submit(processor, null);
+	}
+
+	/**
+	 * Submits a processor.
+	 * <hr>
+	 * @param processor Processor to run.
+	 * @param released Callback invoked once the slot of the processor has been released, can be {@code null}.
+	 * @return Future of the execution result.
+	 */
+	public final ListenableFuture<IExecutionResult> submit(@NonNull final IProcessor processor, final Runnable released)
+	{
+		submitted.incrementAndGet();
+		final Slot slot = new Slot(released);
+
+		try
+		{
+			ListeningExecutorService service = getExecutor();
+
+			Object content = processor.getContext() != null && processor.getContext().getEntity() != null ? processor.getContext().getEntity().getContent() : null;
+			if (mode == ExecutorMode.SCHEDULED && content instanceof DaemonSchedule)
+			{
+				// A daemon holds its slot until it has completed.
+				ListenableFuture<IExecutionResult> future = schedule(processor, (DaemonSchedule) content, (ScheduledExecutorService) service);
+				future.addListener(slot, MoreExecutors.directExecutor());
+
+				return future;
+			}
+
+			final long submittedAt = System.nanoTime();
+			ListenableFuture<IExecutionResult> future = service.submit(new Callable<IExecutionResult>()
+			{
+				@Override
+				public IExecutionResult call() throws Exception
+				{
+					if (!slot.start())
+					{
+						throw new CancellationException();
+					}
+
+					long start = begin();
+					try
+					{
+						IExecutionResult result = processor.call();
+						result.setQueuedTime(start - submittedAt);
+						result.setTotalTime(System.nanoTime() - submittedAt);
+
+						return result;
+					}
+					finally
+					{
+						end(start);
+						slot.release();
+					}
+				}
+			});
+
+			// A processor cancelled before being started never runs, its slot is released right away.
+			future.addListener(slot, MoreExecutors.directExecutor());
+
+			return future;
+		}
+		catch (RuntimeException e)
+		{
+			slot.release();
+			throw e;
+		}
+	}
+
+	/**
+	 * Executes a task on the bulkhead threads.
+	 * <hr>
+	 * The task occupies a slot of the bulkhead until it has been executed.
+	 * <hr>
+	 * @param task Task to execute.
+	 */
+	@Override
+	public final void execute(@NonNull final Runnable task)
+	{
+		submitted.incrementAndGet();
+
+		try
+		{
+			getExecutor().execute(new Runnable()
+			{
+				@Override
+				public void run()
+				{
+					long start = begin();
+					try
+					{
+						task.run();
+					}
+					finally
+					{
+						end(start);
+						submitted.decrementAndGet();
+					}
+				}
+			});
+		}
+		catch (RuntimeException e)
+		{
+			submitted.decrementAndGet();
+			throw e;
+		}
+	}
+
+	/**
+	 * Starts a daemon on the scheduled executor service.
+	 * <hr>
+	 * @param processor Daemon processor.
+	 * @param schedule Daemon schedule.
+	 * @param service Scheduled executor service.
+	 * @return Future of the daemon execution result.
+	 */
+	private ListenableFuture<IExecutionResult> schedule(final IProcessor processor, final DaemonSchedule schedule, final ScheduledExecutorService service)
+	{
+		final DaemonTask task = new DaemonTask(this, processor, schedule, service);
+		daemons.add(task);
+
+		ListenableFuture<IExecutionResult> future = task.start();
+		future.addListener(new Runnable()
+		{
+			@Override
+			public void run()
+			{
+				daemons.remove(task);
+			}
+		}, MoreExecutors.directExecutor());
+
+		return future;
+	}
+
+	/**
+	 * Accounts for the start of a processor (or daemon tick) execution.
+	 * <hr>
+	 * @return Start time (in nanoseconds).
+	 */
+	final long begin()
+	{
+		int count = active.incrementAndGet();
+		int max;
+		while (count > (max = peak.get()) && !peak.compareAndSet(max, count))
+		{
+			// Retry.
+		}
+
+		return System.nanoTime();
+	}
+
+	/**
+	 * Accounts for the end of a processor (or daemon tick) execution.
+	 * <hr>
+	 * @param start Start time (in nanoseconds) returned by {@link #begin()}.
+	 */
+	final void end(final long start)
+	{
+		busyTime.addAndGet(System.nanoTime() - start);
+		completed.incrementAndGet();
+		active.decrementAndGet();
+	}
+
+	/**
+	 * Requests the running daemons to stop, each daemon completing at the end of its current tick (if any).
+	 */
+	public final void stop()
+	{
+		for (DaemonTask task : daemons)
+		{
+			task.stop();
+		}
+	}
+
+	/**
+	 * Returns the number of submitted processors whose slot has not been released yet.
+	 * <hr>
+	 * @return Number of occupied slots.
+	 */
+	public final int getOccupied()
+	{
+		return submitted.get();
+	}
+
+	/**
+	 * Returns if the executor service of the bulkhead has been created?
+	 * <hr>
+	 * @return {@code True} if the bulkhead has been started, {@code false} otherwise.
+	 */
+	public final synchronized boolean isStarted()
+	{
+		return executor != null;
+	}
+
+	/**
+	 * Returns a snapshot of the bulkhead utilization.
+	 * <hr>
+	 * @return Pool metrics.
+	 */
+	public final synchronized PoolMetrics getMetrics()
+	{
+		int running = active.get();
+		long elapsed = executor == null ? 0 : System.nanoTime() - created;
+
+		return new PoolMetrics(pool, mode, size, running, Math.max(0, submitted.get() - running), peak.get(), completed.get(), busyTime.get(), elapsed);
+	}
+
+	/**
+	 * Shuts down the executor service, previously submitted processors being executed.
+	 */
+	public final synchronized void shutdown()
+	{
+		if (executor != null)
+		{
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Returns the fork/join pool of a {@link ExecutorMode#WORK_STEALING} bulkhead, creating it if needed, so processors can fork
+	 * their subtasks on it.
+	 * <hr>
+	 * @return Fork/join pool or {@code null} if the bulkhead is not work-stealing.
+	 */
+	public final synchronized ForkJoinPool getForkJoinPool()
+	{
+		if (mode != ExecutorMode.WORK_STEALING)
+		{
+			return null;
+		}
+
+		getExecutor();
+
+		return (ForkJoinPool) service;
+	}
+
+	/**
+	 * Returns the executor service, creating it if needed.
+	 * <hr>
+	 * @return Executor service.
+	 */
+	@SuppressWarnings("nls")
+	private synchronized ListeningExecutorService getExecutor()
+	{
+		if (executor == null)
+		{
+			service = ExecutorFactory.create(mode, size, size, name + "-" + pool);
+			executor = service instanceof ScheduledExecutorService ? MoreExecutors.listeningDecorator((ScheduledExecutorService) service) : MoreExecutors.listeningDecorator(service);
+			created = System.nanoTime();
+		}
+
+		return executor;
+	}
+
+	@SuppressWarnings("nls")
+	@Override
+	public final String toString()
+	{
+		return String.format("type:[%1s], mode:[%2s], size:[%3d], queue:[%4d]", type.getName(), mode, Integer.valueOf(size), Integer.valueOf(queueSize));
+	}
+
+	/**
+	 * Slot of a submitted processor, released exactly once either when its execution ends or when it is cancelled before being
+	 * started.
+	 */
+	private final class Slot implements Runnable
+	{
+		/**
+		 * Slot state: submitted, started or released.
+		 */
+		private final AtomicInteger state = new AtomicInteger(SUBMITTED);
+
+		/**
+		 * Callback invoked once the slot has been released, can be {@code null}.
+		 */
+		private final Runnable released;
+
+		/**
+		 * Creates a new slot.
+		 * <hr>
+		 * @param released Callback invoked once the slot has been released, can be {@code null}.
+		 */
+		private Slot(final Runnable released)
+		{
+			this.released = released;
+		}
+
+		/**
+		 * Marks the processor as started.
+		 * <hr>
+		 * @return {@code True} if the processor can be run, {@code false} if the slot has already been released.
+		 */
+		private boolean start()
+		{
+			return state.compareAndSet(SUBMITTED, STARTED);
+		}
+
+		/**
+		 * Releases the slot once the processor execution has ended.
+		 */
+		private void release()
+		{
+			if (state.getAndSet(RELEASED) != RELEASED)
+			{
+				free();
+			}
+		}
+
+		/**
+		 * Releases the slot of a processor completed without having been started (cancelled or daemon completed).
+		 */
+		@Override
+		public void run()
+		{
+			if (state.compareAndSet(SUBMITTED, RELEASED))
+			{
+				free();
+			}
+		}
+
+		/**
+		 * Frees the slot and notifies the callback.
+		 */
+		private void free()
+		{
+			submitted.decrementAndGet();
+			if (released != null)
+			{
+				released.run();
+			}
+		}
+	}
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.executor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import com.heliosphere.demeter.base.runner.entity.EntityType;
+import com.heliosphere.demeter.base.runner.entity.IEntityType;
+import com.heliosphere.demeter.base.runner.metric.PoolMetrics;
+
+import lombok.NonNull;
+
+/**
+ * Provides the set of {@link Bulkhead} used by a runner, one per entity type.
+ * <hr>
+ * Unless overridden, the bulkheads are sized as follow:
+ * <ul>
+ * <li>{@link EntityType#COMPUTATION}: a work-stealing pool having one thread per available processor as computations are CPU
+ * bound and may fork subtasks,</li>
+ * <li>{@link EntityType#FILE} and {@link EntityType#MESSAGE}: virtual threads bounded by the concurrency limit when supported by
+ * the JVM, otherwise a fixed pool larger than the runner one as file and message processors mostly wait for I/O,</li>
+ * <li>{@link EntityType#DAEMON}: a scheduled pool having one thread per available processor, the daemon ticks being scheduled on
+ * it so idle daemons do not hold any thread,</li>
+ * <li>other types: the runner executor mode, thread count and concurrency limit.</li>
+ * </ul>
+ * The chunks of the {@link EntityType#BATCH} processors are executed on a separate bulkhead sized as the batch one, so a batch
+ * processor never waits for a thread held by another batch processor.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public final class BulkheadExecutor
+{
+	/**
+	 * Factor applied to the number of available processors to size the I/O bound pools when virtual threads are not supported.
+	 */
+	private static final int IO_BOUND_FACTOR = 4;
+
+	/**
+	 * Pool name of the batch chunks bulkhead.
+	 */
+	@SuppressWarnings("nls")
+	private static final String CHUNK_POOL = "batch-chunk";
+
+	/**
+	 * Bulkheads per entity type.
+	 */
+	private final Map<EntityType, Bulkhead> bulkheads = new EnumMap<>(EntityType.class);
+
+	/**
+	 * Bulkhead executing the chunks of the batch processors.
+	 */
+	private final Bulkhead chunks;
+
+	/**
+	 * Creates a new bulkhead executor with the default bulkheads.
+	 * <hr>
+	 * @param mode Runner executor mode.
+	 * @param threadCount Runner thread count.
+	 * @param concurrency Runner concurrency limit.
+	 * @param name Name prefix of the threads.
+	 */
+	public BulkheadExecutor(@NonNull final ExecutorMode mode, final int threadCount, final int concurrency, @NonNull final String name)
+	{
+		int processors = Runtime.getRuntime().availableProcessors();
+		int size = mode == ExecutorMode.FIXED ? threadCount : concurrency;
+
+		for (EntityType type : EntityType.values())
+		{
+			switch (type)
+			{
+				case COMPUTATION:
+					bulkheads.put(type, new Bulkhead(type, ExecutorMode.WORK_STEALING, processors, 0, name));
+					break;
+
+				case FILE:
+				case MESSAGE:
+					if (ExecutorFactory.isVirtualThreadSupported())
+					{
+						bulkheads.put(type, new Bulkhead(type, ExecutorMode.VIRTUAL, concurrency, 0, name));
+					}
+					else
+					{
+						bulkheads.put(type, new Bulkhead(type, ExecutorMode.FIXED, Math.max(threadCount, processors * IO_BOUND_FACTOR), 0, name));
+					}
+					break;
+
+				case DAEMON:
+					bulkheads.put(type, new Bulkhead(type, ExecutorMode.SCHEDULED, processors, 0, name));
+					break;
+
+				case BATCH:
+				case DISPLAY:
+				case RESERVED:
+				default:
+					bulkheads.put(type, new Bulkhead(type, mode, size, 0, name));
+					break;
+			}
+		}
+
+		chunks = new Bulkhead(EntityType.BATCH, mode, size, 0, name, CHUNK_POOL);
+	}
+
+	/**
+	 * Overrides the bulkhead of an entity type.
+	 * <hr>
+	 * @param bulkhead Bulkhead to use.
+	 */
+	public final void configure(@NonNull final Bulkhead bulkhead)
+	{
+		bulkheads.put(bulkhead.getType(), bulkhead);
+	}
+
+	/**
+	 * Returns the bulkhead of an entity type.
+	 * <hr>
+	 * @param type Entity type.
+	 * @return Bulkhead, the {@link EntityType#RESERVED} one for entity types not defined by {@link EntityType}.
+	 */
+	public final Bulkhead get(final Enum<? extends IEntityType> type)
+	{
+		return bulkheads.get(type instanceof EntityType ? (EntityType) type : EntityType.RESERVED);
+	}
+
+	/**
+	 * Returns the bulkhead executing the chunks of the batch processors.
+	 * <hr>
+	 * @return Chunks bulkhead.
+	 */
+	public final Bulkhead getChunks()
+	{
+		return chunks;
+	}
+
+	/**
+	 * Returns all the bulkheads.
+	 * <hr>
+	 * @return Bulkheads.
+	 */
+	public final Collection<Bulkhead> getBulkheads()
+	{
+		return Collections.unmodifiableCollection(bulkheads.values());
+	}
+
+	/**
+	 * Returns a snapshot of the utilization of the started bulkheads.
+	 * <hr>
+	 * @return List of pool metrics.
+	 */
+	public final List<PoolMetrics> getMetrics()
+	{
+		List<PoolMetrics> metrics = new ArrayList<>();
+		for (Bulkhead bulkhead : bulkheads.values())
+		{
+			if (bulkhead.isStarted())
+			{
+				metrics.add(bulkhead.getMetrics());
+			}
+		}
+
+		if (chunks.isStarted())
+		{
+			metrics.add(chunks.getMetrics());
+		}
+
+		return metrics;
+	}
+
+	/**
+	 * Requests the running daemons of all the bulkheads to stop.
+	 */
+	public final void stop()
+	{
+		for (Bulkhead bulkhead : bulkheads.values())
+		{
+			bulkhead.stop();
+		}
+	}
+
+	/**
+	 * Shuts down all the bulkheads.
+	 */
+	public final void shutdown()
+	{
+		for (Bulkhead bulkhead : bulkheads.values())
+		{
+			bulkhead.shutdown();
+		}
+
+		chunks.shutdown();
+	}
+}
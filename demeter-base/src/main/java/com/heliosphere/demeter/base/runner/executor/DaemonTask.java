@@ -0,0 +1,368 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.executor;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import com.heliosphere.demeter.base.runner.daemon.DaemonModeType;
+import com.heliosphere.demeter.base.runner.daemon.DaemonSchedule;
+import com.heliosphere.demeter.base.runner.lifecycle.LifecycleController;
+import com.heliosphere.demeter.base.runner.lifecycle.RunnerStatusType;
+import com.heliosphere.demeter.base.runner.metric.TickMetrics;
+import com.heliosphere.demeter.base.runner.processor.IProcessor;
+import com.heliosphere.demeter.base.runner.processor.ProcessorCancelledException;
+import com.heliosphere.demeter.base.runner.result.ExecutionStatusType;
+import com.heliosphere.demeter.base.runner.result.IExecutionResult;
+
+/**
+ * Executes the {@link IProcessor#process()} method of a daemon processor periodically (ticks) on a scheduled executor.
+ * <hr>
+ * Each tick schedules the next one so no thread is held between two ticks. The daemon completes once its number of ticks has
+ * been executed, when a tick fails or when the daemon is stopped. Ticks planned while the runner is paused are missed.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+final class DaemonTask implements Runnable
+{
+	/**
+	 * Bulkhead running the daemon.
+	 */
+	private final Bulkhead bulkhead;
+
+	/**
+	 * Daemon processor.
+	 */
+	private final IProcessor processor;
+
+	/**
+	 * Daemon schedule.
+	 */
+	private final DaemonSchedule schedule;
+
+	/**
+	 * Scheduled executor service running the ticks.
+	 */
+	private final ScheduledExecutorService executor;
+
+	/**
+	 * Future of the daemon execution result.
+	 */
+	private final SettableFuture<IExecutionResult> future = SettableFuture.create();
+
+	/**
+	 * Tick metrics.
+	 */
+	private final TickMetrics metrics = new TickMetrics();
+
+	/**
+	 * Start time (in nanoseconds) of the daemon.
+	 */
+	private long started;
+
+	/**
+	 * Total time (in nanoseconds) spent running the ticks.
+	 */
+	private volatile long busy = 0;
+
+	/**
+	 * Planned start time (in nanoseconds, without jitter) of the first tick.
+	 */
+	private long origin;
+
+	/**
+	 * Index of the next planned tick ({@link DaemonModeType#FIXED_RATE} mode only).
+	 */
+	private long index = 0;
+
+	/**
+	 * Planned start time (in nanoseconds, with jitter) of the next tick.
+	 */
+	private long planned;
+
+	/**
+	 * Next scheduled tick.
+	 */
+	private ScheduledFuture<?> pending = null;
+
+	/**
+	 * Is a tick being executed?
+	 */
+	private boolean ticking = false;
+
+	/**
+	 * Has the daemon been requested to stop?
+	 */
+	private boolean stopped = false;
+
+	/**
+	 * Creates a new daemon task.
+	 * <hr>
+	 * @param bulkhead Bulkhead running the daemon.
+	 * @param processor Daemon processor.
+	 * @param schedule Daemon schedule.
+	 * @param executor Scheduled executor service running the ticks.
+	 */
+	DaemonTask(final Bulkhead bulkhead, final IProcessor processor, final DaemonSchedule schedule, final ScheduledExecutorService executor)
+	{
+		this.bulkhead = bulkhead;
+		this.processor = processor;
+		this.schedule = schedule;
+		this.executor = executor;
+	}
+
+	/**
+	 * Starts the daemon.
+	 * <hr>
+	 * @return Future of the daemon execution result, cancelling it cancels the next tick.
+	 */
+	final synchronized ListenableFuture<IExecutionResult> start()
+	{
+		IExecutionResult result = processor.getExecutionResult();
+		result.setStatus(ExecutionStatusType.RUNNING);
+		result.setTickMetrics(metrics);
+		started = System.nanoTime();
+
+		future.addListener(new Runnable()
+		{
+			@Override
+			public void run()
+			{
+				if (future.isCancelled())
+				{
+					synchronized (DaemonTask.this)
+					{
+						stopped = true;
+						if (pending != null)
+						{
+							pending.cancel(false);
+						}
+					}
+				}
+			}
+		}, MoreExecutors.directExecutor());
+
+		origin = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(schedule.getDelay());
+		plan(origin);
+
+		return future;
+	}
+
+	/**
+	 * Requests the daemon to stop, the daemon completes immediately if no tick is being executed, otherwise at the end of the
+	 * current tick.
+	 */
+	final synchronized void stop()
+	{
+		stopped = true;
+
+		if (!ticking)
+		{
+			if (pending != null)
+			{
+				pending.cancel(false);
+			}
+			finishStopped();
+		}
+	}
+
+	@Override
+	public final void run()
+	{
+		synchronized (this)
+		{
+			if (future.isDone())
+			{
+				return;
+			}
+
+			ticking = true;
+			pending = null;
+		}
+
+		try
+		{
+			tick();
+		}
+		finally
+		{
+			synchronized (this)
+			{
+				ticking = false;
+				if (stopped && !future.isDone())
+				{
+					finishStopped();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Executes a tick and plans the next one.
+	 */
+	private void tick()
+	{
+		long begin = System.nanoTime();
+		LifecycleController lifecycle = getLifecycle();
+
+		if (lifecycle != null && lifecycle.isStopping())
+		{
+			synchronized (this)
+			{
+				stopped = true;
+			}
+			return;
+		}
+
+		if (lifecycle != null && lifecycle.getStatus() == RunnerStatusType.PAUSED)
+		{
+			metrics.miss(1);
+			next(begin);
+			return;
+		}
+
+		bulkhead.begin();
+		processor.getExecutionResult().setExecutionThread(Thread.currentThread().getName());
+		try
+		{
+			processor.process();
+		}
+		catch (ProcessorCancelledException e)
+		{
+			finish(ExecutionStatusType.CANCELLED, e);
+			return;
+		}
+		catch (Exception e)
+		{
+			finish(ExecutionStatusType.FAILED, e);
+			return;
+		}
+		finally
+		{
+			bulkhead.end(begin);
+			busy += System.nanoTime() - begin;
+		}
+
+		long end = System.nanoTime();
+		metrics.record(begin - planned, end - begin, end - begin > TimeUnit.MILLISECONDS.toNanos(schedule.getPeriod()));
+
+		if (schedule.getTicks() > 0 && metrics.getTicks() >= schedule.getTicks())
+		{
+			finish(ExecutionStatusType.SUCESSS, null);
+			return;
+		}
+
+		next(end);
+	}
+
+	/**
+	 * Plans the next tick.
+	 * <hr>
+	 * @param end End time (in nanoseconds) of the current tick.
+	 */
+	private void next(final long end)
+	{
+		long period = TimeUnit.MILLISECONDS.toNanos(schedule.getPeriod());
+
+		if (schedule.getMode() == DaemonModeType.FIXED_DELAY)
+		{
+			plan(end + period);
+			return;
+		}
+
+		index++;
+		long next = origin + index * period;
+		if (next < end)
+		{
+			// The tick has overrun, the ticks which should have already started are missed.
+			long missed = (end - next) / period + 1;
+			metrics.miss(missed);
+			index += missed;
+			next = origin + index * period;
+		}
+
+		plan(next);
+	}
+
+	/**
+	 * Schedules a tick.
+	 * <hr>
+	 * @param start Planned start time (in nanoseconds, without jitter) of the tick.
+	 */
+	private synchronized void plan(final long start)
+	{
+		if (stopped || future.isDone())
+		{
+			return;
+		}
+
+		long jitter = schedule.getJitter() > 0 ? ThreadLocalRandom.current().nextLong(TimeUnit.MILLISECONDS.toNanos(schedule.getJitter()) + 1) : 0;
+		planned = start + jitter;
+		pending = executor.schedule(this, Math.max(0, planned - System.nanoTime()), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Completes a stopped daemon: successfully for a daemon running until stopped, cancelled for a daemon not having executed all
+	 * its ticks.
+	 */
+	private void finishStopped()
+	{
+		finish(schedule.getTicks() == 0 ? ExecutionStatusType.SUCESSS : ExecutionStatusType.CANCELLED, null);
+	}
+
+	/**
+	 * Completes the daemon.
+	 * <hr>
+	 * @param status Execution status.
+	 * @param exception Exception having terminated the daemon, can be {@code null}.
+	 */
+	private synchronized void finish(final ExecutionStatusType status, final Exception exception)
+	{
+		if (future.isDone())
+		{
+			return;
+		}
+
+		IExecutionResult result = processor.getExecutionResult();
+		if (exception != null)
+		{
+			result.getExceptions().add(exception);
+		}
+		result.setStatus(status);
+
+		result.setProcessTime(busy);
+		result.setTotalTime(System.nanoTime() - started);
+
+		future.set(result);
+	}
+
+	/**
+	 * Returns the lifecycle controller of the runner owning the daemon.
+	 * <hr>
+	 * @return Lifecycle controller or {@code null} if the daemon is not owned by a runner.
+	 */
+	private LifecycleController getLifecycle()
+	{
+		if (processor.getContext() == null || processor.getContext().getRunner() == null)
+		{
+			return null;
+		}
+
+		return processor.getContext().getRunner().getLifecycle();
+	}
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.executor;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import lombok.NonNull;
+
+/**
+ * Provides services to create the executor services used to run processors according to an {@link ExecutorMode}.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public final class ExecutorFactory
+{
+	/**
+	 * Method creating a virtual thread per task executor (only available from Java 21).
+	 */
+	private static final Method VIRTUAL_EXECUTOR_METHOD = lookupVirtualExecutorMethod();
+
+	/**
+	 * Keep alive time (in seconds) of the idle platform threads of an elastic pool.
+	 */
+	private static final long KEEP_ALIVE_SECONDS = 60L;
+
+	/**
+	 * Prevents the instantiation of this class.
+	 */
+	private ExecutorFactory()
+	{
+		// Empty.
+	}
+
+	/**
+	 * Returns if the running JVM supports virtual threads?
+	 * <hr>
+	 * @return {@code True} if virtual threads are supported, {@code false} otherwise.
+	 */
+	public static final boolean isVirtualThreadSupported()
+	{
+		return VIRTUAL_EXECUTOR_METHOD != null;
+	}
+
+	/**
+	 * Creates a new executor service.
+	 * <hr>
+	 * @param mode Executor mode.
+	 * @param threadCount Number of threads to use for the {@link ExecutorMode#FIXED}, {@link ExecutorMode#SCHEDULED} and
+	 * {@link ExecutorMode#WORK_STEALING} modes.
+	 * @param concurrency Maximum number of tasks allowed to run concurrently for the {@link ExecutorMode#VIRTUAL} and
+	 * {@link ExecutorMode#DEDICATED} modes.
+	 * @param name Name prefix of the created threads.
+	 * @return Executor service.
+	 */
+	@SuppressWarnings("nls")
+	public static final ExecutorService create(@NonNull final ExecutorMode mode, final int threadCount, final int concurrency, @NonNull final String name)
+	{
+		switch (mode)
+		{
+			case VIRTUAL:
+				return new BoundedExecutorService(createVirtual(name), concurrency);
+
+			case DEDICATED:
+				return new BoundedExecutorService(createElastic(name), concurrency);
+
+			case SCHEDULED:
+				return Executors.newScheduledThreadPool(threadCount, new ThreadFactoryBuilder().setNameFormat(name + "-%d").build());
+
+			case WORK_STEALING:
+				return createWorkStealing(threadCount, name);
+
+			case FIXED:
+			default:
+				return Executors.newFixedThreadPool(threadCount, new ThreadFactoryBuilder().setNameFormat(name + "-%d").build());
+		}
+	}
+
+	/**
+	 * Creates an unbounded executor service running each task on its own virtual thread if supported by the JVM, otherwise an
+	 * elastic pool of platform threads.
+	 * <hr>
+	 * @param name Name prefix of the created platform threads.
+	 * @return Executor service.
+	 * @throws IllegalStateException Thrown in case the JVM supports virtual threads but the virtual thread executor cannot be
+	 * created.
+	 */
+	@SuppressWarnings("nls")
+	private static ExecutorService createVirtual(final String name)
+	{
+		if (VIRTUAL_EXECUTOR_METHOD == null)
+		{
+			return createElastic(name);
+		}
+
+		try
+		{
+			return (ExecutorService) VIRTUAL_EXECUTOR_METHOD.invoke(null);
+		}
+		catch (InvocationTargetException e)
+		{
+			throw new IllegalStateException("Cannot create the virtual thread executor for: " + name, e.getCause());
+		}
+		catch (IllegalAccessException | RuntimeException e)
+		{
+			throw new IllegalStateException("Cannot create the virtual thread executor for: " + name, e);
+		}
+	}
+
+	/**
+	 * Creates an unbounded elastic pool of platform threads, a new thread being created when no idle thread is available.
+	 * <hr>
+	 * @param name Name prefix of the created threads.
+	 * @return Executor service.
+	 */
+	@SuppressWarnings("nls")
+	private static ExecutorService createElastic(final String name)
+	{
+		return new ThreadPoolExecutor(0, Integer.MAX_VALUE, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new SynchronousQueue<Runnable>(), new ThreadFactoryBuilder().setNameFormat(name + "-%d").build());
+	}
+
+	/**
+	 * Creates a work-stealing fork/join pool.
+	 * <hr>
+	 * @param parallelism Number of worker threads.
+	 * @param name Name prefix of the created threads.
+	 * @return Fork/join pool.
+	 */
+	public static final ForkJoinPool createWorkStealing(final int parallelism, @NonNull final String name)
+	{
+		final AtomicInteger counter = new AtomicInteger();
+
+		return new ForkJoinPool(parallelism, new ForkJoinWorkerThreadFactory()
+		{
+			@SuppressWarnings("nls")
+			@Override
+			public ForkJoinWorkerThread newThread(final ForkJoinPool pool)
+			{
+				ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+				thread.setName(name + "-" + counter.getAndIncrement());
+
+				return thread;
+			}
+		}, null, false);
+	}
+
+	/**
+	 * Looks up the {@code Executors.newVirtualThreadPerTaskExecutor} method.
+	 * <hr>
+	 * @return Method or {@code null} if the running JVM does not support virtual threads.
+	 */
+	@SuppressWarnings("nls")
+	private static Method lookupVirtualExecutorMethod()
+	{
+		try
+		{
+			return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+		}
+		catch (NoSuchMethodException | SecurityException e)
+		{
+			return null;
+		}
+	}
+}
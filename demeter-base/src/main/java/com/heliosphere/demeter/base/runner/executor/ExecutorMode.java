@@ -0,0 +1,65 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.executor;
+
+import com.heliosphere.demeter.base.runner.IRunner;
+import com.heliosphere.demeter.base.runner.processor.IProcessor;
+
+/**
+ * Provides an enumeration of the executor modes a {@link IRunner} can use to run its {@link IProcessor}.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public enum ExecutorMode
+{
+	/**
+	 * Processors are run on a fixed size pool of platform threads.
+	 * <hr>
+	 * The pool size is given by the runner thread count.
+	 */
+	FIXED,
+
+	/**
+	 * Each processor is run on its own virtual thread.
+	 * <hr>
+	 * Intended for I/O bound processors. The number of processors running concurrently is bounded by the runner concurrency
+	 * limit. When the running JVM does not support virtual threads, processors are run on an elastic pool of platform
+	 * threads bounded by the same limit. When the JVM supports virtual threads but their executor cannot be created, the
+	 * executor creation fails rather than silently falling back to platform threads.
+	 */
+	VIRTUAL,
+
+	/**
+	 * Each processor is run on its own dedicated platform thread.
+	 * <hr>
+	 * Intended for long-lived processors (such as daemons) which must neither hold a thread of a shared pool nor be pinned to a
+	 * carrier thread. Threads are created on demand and released once idle.
+	 */
+	DEDICATED,
+
+	/**
+	 * Processors are run on a scheduled pool of platform threads.
+	 * <hr>
+	 * Intended for daemons, each tick of a daemon being scheduled on the pool so idle daemons do not hold any thread. The pool
+	 * size is given by the thread count.
+	 */
+	SCHEDULED,
+
+	/**
+	 * Processors are run on a work-stealing fork/join pool of platform threads.
+	 * <hr>
+	 * Intended for CPU bound computations splitting their work into subtasks, the subtasks forked by a processor being stolen by
+	 * the idle threads of the pool. The pool parallelism is given by the thread count.
+	 */
+	WORK_STEALING;
+}
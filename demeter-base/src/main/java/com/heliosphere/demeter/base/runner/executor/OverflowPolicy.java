@@ -0,0 +1,40 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the 
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.executor;
+
+import com.heliosphere.demeter.base.runner.IRunner;
+import com.heliosphere.demeter.base.runner.result.ExecutionStatusType;
+
+/**
+ * Provides an enumeration of the policies a {@link IRunner} can apply to a context when the bulkhead of its entity type is
+ * saturated.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public enum OverflowPolicy
+{
+	/**
+	 * The context waits until the bulkhead has a free slot.
+	 * <hr>
+	 * No more context is created while the look-ahead window is full, so the number of contexts in memory is bounded by the
+	 * bulkhead capacities and the look-ahead window, whatever the number of entities to process.
+	 */
+	BLOCK,
+
+	/**
+	 * The context is not run and is reported as {@link ExecutionStatusType#REJECTED}.
+	 * <hr>
+	 * Intended for runs where throughput matters more than completeness. Contexts to retry are never shed.
+	 */
+	SHED;
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.file.split;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.heliosphere.demeter.base.resource.Resource;
+import com.heliosphere.demeter.base.resource.ResourceException;
+import com.heliosphere.demeter.base.runner.entity.EntityType;
+import com.heliosphere.demeter.base.runner.parameter.base.ParameterException;
+import com.heliosphere.demeter.base.runner.parameter.base.ParameterOptions;
+import com.heliosphere.demeter.base.runner.parameter.execution.IParameterExecution;
+
+import lombok.NonNull;
+
+/**
+ * Provides the source file of a {@link EntityType#FILE} entity and splits it into {@link FileSplit} to be read in parallel.
+ * <hr>
+ * The source is given by the value of the execution parameter as a list of options (see {@link ParameterOptions}):
+ * <ul>
+ * <li>{@code path}: path name of the file, resolved through a {@link Resource} (mandatory),</li>
+ * <li>{@code format}: record format, {@code line} (default) or {@code fixed},</li>
+ * <li>{@code record}: record length in bytes (mandatory for the {@code fixed} format),</li>
+ * <li>{@code splits}: maximum number of splits (default: number of available processors),</li>
+ * <li>{@code min-size}: minimum size in bytes of a split (default {@value #DEFAULT_MIN_SIZE}),</li>
+ * <li>{@code charset}: character set of the records (default {@code UTF-8}).</li>
+ * </ul>
+ * As lines are delimited by looking for a line feed byte, the {@code line} format only supports ASCII compatible character sets
+ * (such as {@code UTF-8} or {@code ISO-8859-1}) in which a line feed is encoded as a single {@code 0x0A} byte never part of
+ * another character. Other character sets (such as {@code UTF-16}) are rejected.
+ * For example: {@code path=data/input.csv;splits=8}.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public final class FileSource
+{
+	/**
+	 * Default minimum size (in bytes) of a split.
+	 */
+	public static final long DEFAULT_MIN_SIZE = 1024 * 1024;
+
+	/**
+	 * Size (in bytes) of the buffer used to look for a line boundary.
+	 */
+	private static final int SCAN_SIZE = 8 * 1024;
+
+	/**
+	 * Source file.
+	 */
+	private final File file;
+
+	/**
+	 * Record format.
+	 */
+	private final RecordFormatType format;
+
+	/**
+	 * Record length (in bytes) for the {@link RecordFormatType#FIXED} format.
+	 */
+	private final int recordLength;
+
+	/**
+	 * Maximum number of splits.
+	 */
+	private final int splits;
+
+	/**
+	 * Minimum size (in bytes) of a split.
+	 */
+	private final long minSize;
+
+	/**
+	 * Character set of the records.
+	 */
+	private final Charset charset;
+
+	/**
+	 * Creates a new file source.
+	 * <hr>
+	 * @param file Source file.
+	 * @param format Record format.
+	 * @param recordLength Record length (in bytes) for the {@link RecordFormatType#FIXED} format.
+	 * @param splits Maximum number of splits.
+	 * @param minSize Minimum size (in bytes) of a split.
+	 * @param charset Character set of the records.
+	 */
+	@SuppressWarnings("nls")
+	public FileSource(@NonNull final File file, @NonNull final RecordFormatType format, final int recordLength, final int splits, final long minSize, @NonNull final Charset charset)
+	{
+		if (format == RecordFormatType.FIXED && recordLength < 1)
+		{
+			throw new IllegalArgumentException("Record length must be greater than 0, found: " + recordLength);
+		}
+
+		if (format == RecordFormatType.LINE && !isAsciiCompatible(charset))
+		{
+			throw new IllegalArgumentException("Line format requires an ASCII compatible character set, found: " + charset.name());
+		}
+
+		if (splits < 1 || minSize < 1)
+		{
+			throw new IllegalArgumentException(String.format("Number of splits: [%1d] and minimum split size: [%2d] must be greater than 0", Integer.valueOf(splits), Long.valueOf(minSize)));
+		}
+
+		this.file = file;
+		this.format = format;
+		this.recordLength = recordLength;
+		this.splits = splits;
+		this.minSize = minSize;
+		this.charset = charset;
+	}
+
+	/**
+	 * Creates the file source defined by the value of an execution parameter.
+	 * <hr>
+	 * @param parameter Execution parameter.
+	 * @return File source.
+	 * @throws ParameterException Thrown in case the parameter value does not define a valid source.
+	 */
+	@SuppressWarnings("nls")
+	public static final FileSource of(@NonNull final IParameterExecution parameter) throws ParameterException
+	{
+		ParameterOptions options = new ParameterOptions(parameter.getName(), parameter.getValue());
+
+		String path = options.getString("path", null);
+		if (path == null)
+		{
+			throw new ParameterException(String.format("File parameter: %1s must define a path, found: '%2s'", parameter.getName(), parameter.getValue()));
+		}
+
+		try
+		{
+			return new FileSource(new Resource(path).getFile(), options.getEnum("format", RecordFormatType.class, RecordFormatType.LINE), options.getInt("record", 0), options.getInt("splits", Runtime.getRuntime().availableProcessors()), options.getLong("min-size", DEFAULT_MIN_SIZE), Charset.forName(options.getString("charset", "UTF-8")));
+		}
+		catch (ResourceException | IllegalArgumentException e)
+		{
+			throw new ParameterException(String.format("Invalid source for file parameter: %1s due to: %2s", parameter.getName(), e.getMessage()));
+		}
+	}
+
+	/**
+	 * Returns if a character set encodes the ASCII characters as their single byte ASCII code?
+	 * <hr>
+	 * @param charset Character set.
+	 * @return {@code True} if the character set is ASCII compatible, {@code false} otherwise.
+	 */
+	private static boolean isAsciiCompatible(final Charset charset)
+	{
+		if (!charset.canEncode())
+		{
+			return false;
+		}
+
+		char[] characters = new char[128];
+		byte[] expected = new byte[128];
+		for (int i = 0; i < characters.length; i++)
+		{
+			characters[i] = (char) i;
+			expected[i] = (byte) i;
+		}
+
+		return Arrays.equals(expected, new String(characters).getBytes(charset));
+	}
+
+	/**
+	 * Returns the source file.
+	 * <hr>
+	 * @return File.
+	 */
+	public final File getFile()
+	{
+		return file;
+	}
+
+	/**
+	 * Returns the record format.
+	 * <hr>
+	 * @return Record format.
+	 */
+	public final RecordFormatType getFormat()
+	{
+		return format;
+	}
+
+	/**
+	 * Splits the file into byte ranges starting and ending on record boundaries.
+	 * <hr>
+	 * The file is split into at most {@code splits} ranges of at least {@code min-size} bytes (except the last one), each range
+	 * boundary being moved forward to the next record boundary.
+	 * <hr>
+	 * @return List of splits, empty if the file is empty.
+	 * @throws IOException Thrown in case an error occurred while reading the file.
+	 */
+	public final List<FileSplit> split() throws IOException
+	{
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ))
+		{
+			long size = channel.size();
+			if (size == 0)
+			{
+				return Collections.emptyList();
+			}
+
+			int count = (int) Math.max(1, Math.min(splits, size / minSize));
+			List<FileSplit> list = new ArrayList<>(count);
+			long start = 0;
+
+			for (int i = 1; i <= count && start < size; i++)
+			{
+				long end = i == count ? size : align(channel, size * i / count, size);
+				if (end > start)
+				{
+					list.add(new FileSplit(file, list.size(), start, end, format, recordLength, charset));
+					start = end;
+				}
+			}
+
+			return list;
+		}
+	}
+
+	/**
+	 * Moves a position forward to the next record boundary.
+	 * <hr>
+	 * @param channel File channel.
+	 * @param position Position.
+	 * @param size File size.
+	 * @return Position of the first byte of the record following the given position, or the file size.
+	 * @throws IOException Thrown in case an error occurred while reading the file.
+	 */
+	private long align(final FileChannel channel, final long position, final long size) throws IOException
+	{
+		if (format == RecordFormatType.FIXED)
+		{
+			return Math.min(size, (position + recordLength - 1) / recordLength * recordLength);
+		}
+
+		// A line starts right after a line feed, so look for the first line feed at or after the byte preceding the position.
+		ByteBuffer buffer = ByteBuffer.allocate(SCAN_SIZE);
+		long current = position - 1;
+
+		while (current < size)
+		{
+			buffer.clear();
+			int read = channel.read(buffer, current);
+			if (read <= 0)
+			{
+				break;
+			}
+
+			for (int i = 0; i < read; i++)
+			{
+				if (buffer.get(i) == '\n')
+				{
+					return current + i + 1;
+				}
+			}
+			current += read;
+		}
+
+		return size;
+	}
+
+	@SuppressWarnings("nls")
+	@Override
+	public final String toString()
+	{
+		return String.format("file:[%1s], format:[%2s], splits:[%3d], min-size:[%4d]", file.getPath(), format, Integer.valueOf(splits), Long.valueOf(minSize));
+	}
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.file.split;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+
+import lombok.NonNull;
+
+/**
+ * Provides a byte range of a file starting and ending on record boundaries, so it can be read independently of the other ranges.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public final class FileSplit
+{
+	/**
+	 * File the split belongs to.
+	 */
+	private final File file;
+
+	/**
+	 * Index of the split in the file.
+	 */
+	private final int index;
+
+	/**
+	 * Position (inclusive) of the first byte of the split.
+	 */
+	private final long start;
+
+	/**
+	 * Position (exclusive) of the last byte of the split.
+	 */
+	private final long end;
+
+	/**
+	 * Record format.
+	 */
+	private final RecordFormatType format;
+
+	/**
+	 * Record length (in bytes) for the {@link RecordFormatType#FIXED} format.
+	 */
+	private final int recordLength;
+
+	/**
+	 * Character set of the records.
+	 */
+	private final Charset charset;
+
+	/**
+	 * Creates a new file split.
+	 * <hr>
+	 * @param file File the split belongs to.
+	 * @param index Index of the split in the file.
+	 * @param start Position (inclusive) of the first byte of the split.
+	 * @param end Position (exclusive) of the last byte of the split.
+	 * @param format Record format.
+	 * @param recordLength Record length (in bytes) for the {@link RecordFormatType#FIXED} format.
+	 * @param charset Character set of the records.
+	 */
+	public FileSplit(@NonNull final File file, final int index, final long start, final long end, @NonNull final RecordFormatType format, final int recordLength, @NonNull final Charset charset)
+	{
+		this.file = file;
+		this.index = index;
+		this.start = start;
+		this.end = end;
+		this.format = format;
+		this.recordLength = recordLength;
+		this.charset = charset;
+	}
+
+	/**
+	 * Returns the file the split belongs to.
+	 * <hr>
+	 * @return File.
+	 */
+	public final File getFile()
+	{
+		return file;
+	}
+
+	/**
+	 * Returns the index of the split in the file.
+	 * <hr>
+	 * @return Split index.
+	 */
+	public final int getIndex()
+	{
+		return index;
+	}
+
+	/**
+	 * Returns the position (inclusive) of the first byte of the split.
+	 * <hr>
+	 * @return Start position.
+	 */
+	public final long getStart()
+	{
+		return start;
+	}
+
+	/**
+	 * Returns the position (exclusive) of the last byte of the split.
+	 * <hr>
+	 * @return End position.
+	 */
+	public final long getEnd()
+	{
+		return end;
+	}
+
+	/**
+	 * Returns the number of bytes of the split.
+	 * <hr>
+	 * @return Length in bytes.
+	 */
+	public final long getLength()
+	{
+		return end - start;
+	}
+
+	/**
+	 * Returns the record format.
+	 * <hr>
+	 * @return Record format.
+	 */
+	public final RecordFormatType getFormat()
+	{
+		return format;
+	}
+
+	/**
+	 * Returns the record length (in bytes) for the {@link RecordFormatType#FIXED} format.
+	 * <hr>
+	 * @return Record length.
+	 */
+	public final int getRecordLength()
+	{
+		return recordLength;
+	}
+
+	/**
+	 * Returns the character set of the records.
+	 * <hr>
+	 * @return Character set.
+	 */
+	public final Charset getCharset()
+	{
+		return charset;
+	}
+
+	/**
+	 * Opens a reader on the records of the split.
+	 * <hr>
+	 * @return Split reader, to be closed by the caller.
+	 * @throws IOException Thrown in case the file cannot be opened.
+	 */
+	public final FileSplitReader open() throws IOException
+	{
+		return new FileSplitReader(this);
+	}
+
+	@SuppressWarnings("nls")
+	@Override
+	public final String toString()
+	{
+		return String.format("file:[%1s], split:[%2d], range:[%3d-%4d], format:[%5s]", file.getName(), Integer.valueOf(index), Long.valueOf(start), Long.valueOf(end), format);
+	}
+}
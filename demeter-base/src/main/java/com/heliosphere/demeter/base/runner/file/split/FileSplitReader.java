@@ -0,0 +1,171 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.file.split;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import lombok.NonNull;
+
+/**
+ * Provides a reader of the records of a {@link FileSplit}.
+ * <hr>
+ * The split is read through positional reads of a {@link FileChannel}, so several splits of the same file can be read at the
+ * same time by different threads without sharing any stream position. A reader is not thread safe.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public final class FileSplitReader implements Closeable
+{
+	/**
+	 * Size (in bytes) of the read buffer.
+	 */
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * Split being read.
+	 */
+	private final FileSplit split;
+
+	/**
+	 * File channel.
+	 */
+	private final FileChannel channel;
+
+	/**
+	 * Read buffer.
+	 */
+	private final ByteBuffer buffer;
+
+	/**
+	 * Position in the file of the next byte to load into the buffer.
+	 */
+	private long position;
+
+	/**
+	 * Bytes of the record being assembled.
+	 */
+	private byte[] record = new byte[256];
+
+	/**
+	 * Number of records read.
+	 */
+	private long count = 0;
+
+	/**
+	 * Creates a new split reader.
+	 * <hr>
+	 * @param split Split to read.
+	 * @throws IOException Thrown in case the file cannot be opened.
+	 */
+	FileSplitReader(@NonNull final FileSplit split) throws IOException
+	{
+		this.split = split;
+		this.channel = FileChannel.open(split.getFile().toPath(), StandardOpenOption.READ);
+		this.buffer = ByteBuffer.allocate((int) Math.max(1, Math.min(BUFFER_SIZE, split.getLength())));
+		this.buffer.limit(0);
+		this.position = split.getStart();
+	}
+
+	/**
+	 * Reads the next record.
+	 * <hr>
+	 * @return Record or {@code null} once the end of the split has been reached.
+	 * @throws IOException Thrown in case an error occurred while reading the file.
+	 */
+	public final String next() throws IOException
+	{
+		int length = 0;
+		int expected = split.getFormat() == RecordFormatType.FIXED ? split.getRecordLength() : Integer.MAX_VALUE;
+
+		while (length < expected)
+		{
+			if (!buffer.hasRemaining() && !fill())
+			{
+				if (length == 0)
+				{
+					return null;
+				}
+				break;
+			}
+
+			byte value = buffer.get();
+			if (split.getFormat() == RecordFormatType.LINE && value == '\n')
+			{
+				if (length > 0 && record[length - 1] == '\r')
+				{
+					length--;
+				}
+				count++;
+				return new String(record, 0, length, split.getCharset());
+			}
+
+			if (length == record.length)
+			{
+				record = Arrays.copyOf(record, record.length * 2);
+			}
+			record[length++] = value;
+		}
+
+		count++;
+		return new String(record, 0, length, split.getCharset());
+	}
+
+	/**
+	 * Loads the next bytes of the split into the buffer.
+	 * <hr>
+	 * @return {@code True} if some bytes have been loaded, {@code false} if the end of the split has been reached.
+	 * @throws IOException Thrown in case an error occurred while reading the file.
+	 */
+	private boolean fill() throws IOException
+	{
+		long remaining = split.getEnd() - position;
+		if (remaining <= 0)
+		{
+			return false;
+		}
+
+		buffer.clear();
+		buffer.limit((int) Math.min(buffer.capacity(), remaining));
+
+		int read = channel.read(buffer, position);
+		buffer.flip();
+		if (read <= 0)
+		{
+			return false;
+		}
+		position += read;
+
+		return true;
+	}
+
+	/**
+	 * Returns the number of records read.
+	 * <hr>
+	 * @return Number of records.
+	 */
+	public final long getCount()
+	{
+		return count;
+	}
+
+	@Override
+	public final void close() throws IOException
+	{
+		channel.close();
+	}
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.file.split;
+
+/**
+ * Enumeration of the record formats a file can be split on.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public enum RecordFormatType
+{
+	/**
+	 * Records are lines terminated by a line feed (an optional carriage return preceding it being stripped).
+	 */
+	LINE,
+
+	/**
+	 * Records have a fixed length (in bytes).
+	 */
+	FIXED
+}
@@ -11,14 +11,22 @@
  */
 package com.heliosphere.demeter.base.runner.file.xml.configuration;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.heliosphere.demeter.base.file.FileException;
 import com.heliosphere.demeter.base.file.xml.base.AbstractXmlFile;
 import com.heliosphere.demeter.base.file.xml.model.Footer;
 import com.heliosphere.demeter.base.file.xml.model.Header;
 import com.heliosphere.demeter.base.runner.parameter.base.IParameter;
 import com.heliosphere.demeter.base.runner.parameter.base.IParameterType;
+import com.heliosphere.demeter.base.runner.parameter.base.ParameterException;
 import com.heliosphere.demeter.base.runner.parameter.configuration.IParameterConfiguration;
 import com.heliosphere.demeter.base.runner.parameter.configuration.ParameterConfiguration;
+import com.heliosphere.demeter.base.runner.parameter.configuration.ParameterConstraints;
 import com.heliosphere.demeter.base.runner.parameter.list.ParameterList;
+import com.thoughtworks.xstream.annotations.XStreamOmitField;
 import com.thoughtworks.xstream.converters.collections.CollectionConverter;
 import com.thoughtworks.xstream.mapper.ClassAliasingMapper;
 
@@ -27,6 +35,15 @@ import lombok.NonNull;
 /**
  * Provides a concrete implementation of a {@code Runner} XML configuration file.
  * <hr>
+ * The parameters are indexed by name and by alias once the file is loaded, so retrieving a parameter does not depend on the
+ * number of parameters. A name or an alias shared by several parameters is rejected when the file is loaded. Parameters are
+ * retrieved by type through the type index of the {@link ParameterList}, as their types are only resolved by the runner once
+ * the file is loaded.
+ * <p>
+ * The incompatible and required parameter constraints are compiled once the parameter types have been determined and cached
+ * with the indexes. The indexes and the constraints are held by an immutable holder published at once, so concurrent lookups
+ * are safe.
+ * <hr>
  * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
  * @version 1.0.0
  */
@@ -37,6 +54,18 @@ public class XmlConfigurationFile extends AbstractXmlFile<Header, ParameterList<
 	 */
 	private static final long serialVersionUID = 1L;
 
+	/**
+	 * Index of the parameters by name and by alias, {@code null} until built.
+	 */
+	@XStreamOmitField
+	private transient volatile Index index;
+
+	/**
+	 * Compiled parameter constraints, {@code null} until compiled.
+	 */
+	@XStreamOmitField
+	private transient volatile Constraints constraints;
+
 	/**
 	 * Creates a new XML file.
 	 * <hr>
@@ -55,59 +84,140 @@ public class XmlConfigurationFile extends AbstractXmlFile<Header, ParameterList<
 	 */
 	public final IParameterConfiguration getParameter(final @NonNull String nameOrAlias)
 	{
-		for (IParameterConfiguration parameter : getContent().getElements())
+		return getIndex().names.get(nameOrAlias);
+	}
+
+	/**
+	 * Returns a configuration parameter given a parameter type.
+	 * <hr>
+	 * @param type Parameter type to retrieve.
+	 * @return {@link IParameterConfiguration} if found, {@code null} otherwise.
+	 */
+	public final IParameterConfiguration getParameter(final @NonNull Enum<? extends IParameterType> type)
+	{
+		return getContent() == null ? null : getContent().get(type);
+	}
+
+	/**
+	 * Returns a configuration parameter given a parameter.
+	 * <hr>
+	 * @param parameter Parameter to retrieve.
+	 * @return {@link IParameterConfiguration} if found, {@code null} otherwise.
+	 */
+	public final IParameterConfiguration getParameter(final @NonNull IParameter parameter)
+	{
+		return getParameter(parameter.getType());
+	}
+
+	/**
+	 * Returns the constraints of the parameters compiled into bit masks.
+	 * <hr>
+	 * The constraints are compiled on first call and cached until the content of the file changes.
+	 * <hr>
+	 * @return Compiled constraints.
+	 * @throws ParameterException Thrown in case the type of a parameter has not been determined yet or a constraint refers to an
+	 * unknown parameter.
+	 */
+	public final ParameterConstraints getConstraints() throws ParameterException
+	{
+		Index current = getIndex();
+
+		Constraints compiled = constraints;
+		if (compiled == null || compiled.index != current)
+		{
+			compiled = new Constraints(current, ParameterConstraints.compile(getContent() == null || getContent().getElements() == null ? Collections.<IParameterConfiguration> emptyList() : getContent().getElements()));
+			constraints = compiled;
+		}
+
+		return compiled.constraints;
+	}
+
+	/**
+	 * Returns the index of the parameters by name and by alias, rebuilding it if the content has been replaced or modified since
+	 * it has been built.
+	 * <hr>
+	 * @return Index.
+	 */
+	private Index getIndex()
+	{
+		ParameterList<IParameterConfiguration> content = getContent();
+		int size = content == null || content.getElements() == null ? 0 : content.getElements().size();
+
+		Index current = index;
+		if (current == null || current.content != content || current.size != size)
 		{
-			// Does the parameter name is matching the given name?
-			if (parameter.getName().equals(nameOrAlias))
+			try
 			{
-				return parameter;
+				current = index();
 			}
-
-			// Does one of the parameter alias (if some are defined) is matching the given alias?
-			if (parameter.getAliases() != null)
+			catch (FileException e)
 			{
-				for (String alias : parameter.getAliases())
-				{
-					if (alias.equals(nameOrAlias))
-					{
-						return parameter;
-					}
-				}
+				throw new IllegalStateException(e.getMessage(), e);
 			}
 		}
 
-		return null;
+		return current;
+	}
+
+	@Override
+	public void load() throws FileException
+	{
+		super.load();
+		index();
 	}
 
 	/**
-	 * Returns a configuration parameter given a parameter type.
+	 * Builds and publishes the index of the parameters by name and by alias.
 	 * <hr>
-	 * @param type Parameter type to retrieve.
-	 * @return {@link IParameterConfiguration} if found, {@code null} otherwise.
+	 * @return Index.
+	 * @throws FileException Thrown in case a name or an alias is shared by several parameters.
 	 */
-	public final IParameterConfiguration getParameter(final @NonNull Enum<? extends IParameterType> type)
+	private Index index() throws FileException
 	{
-		for (IParameterConfiguration parameter : getContent().getElements())
+		ParameterList<IParameterConfiguration> content = getContent();
+		Map<String, IParameterConfiguration> names = new HashMap<>();
+
+		if (content != null && content.getElements() != null)
 		{
-			// Does the parameter type is matching the given type?
-			if (parameter.getType() == type)
+			for (IParameterConfiguration parameter : content.getElements())
+			{
+				index(names, parameter.getName(), parameter);
+			}
+
+			for (IParameterConfiguration parameter : content.getElements())
 			{
-				return parameter;
+				if (parameter.getAliases() != null)
+				{
+					for (String alias : parameter.getAliases())
+					{
+						index(names, alias, parameter);
+					}
+				}
 			}
 		}
 
-		return null;
+		Index built = new Index(content, content == null || content.getElements() == null ? 0 : content.getElements().size(), names);
+		index = built;
+
+		return built;
 	}
 
 	/**
-	 * Returns a configuration parameter given a parameter.
+	 * Indexes a parameter under a name or an alias.
 	 * <hr>
-	 * @param parameter Parameter to retrieve.
-	 * @return {@link IParameterConfiguration} if found, {@code null} otherwise.
+	 * @param index Index being built.
+	 * @param key Name or alias.
+	 * @param parameter Parameter.
+	 * @throws FileException Thrown in case the name or alias is already used by another parameter.
 	 */
-	public final IParameterConfiguration getParameter(final @NonNull IParameter parameter)
+	@SuppressWarnings("nls")
+	private void index(final Map<String, IParameterConfiguration> index, final String key, final IParameterConfiguration parameter) throws FileException
 	{
-		return getParameter(parameter.getType());
+		IParameterConfiguration other = index.put(key, parameter);
+		if (other != null && other != parameter)
+		{
+			throw new FileException(String.format("Name or alias: %1s of parameter: %2s is already used by parameter: %3s in configuration file: %4s", key, parameter.getName(), other.getName(), getResource().getFile().getName()));
+		}
 	}
 
 	@SuppressWarnings("nls")
@@ -151,4 +261,67 @@ public class XmlConfigurationFile extends AbstractXmlFile<Header, ParameterList<
 		includeMapper.addClassAlias("include", String.class);
 		getEngine().registerLocalConverter(ParameterConfiguration.class, "includes", new CollectionConverter(includeMapper));
 	}
+
+	/**
+	 * Immutable index of the parameters by name and by alias.
+	 */
+	private static final class Index
+	{
+		/**
+		 * Content the index has been built for.
+		 */
+		private final ParameterList<IParameterConfiguration> content;
+
+		/**
+		 * Number of parameters the index has been built for.
+		 */
+		private final int size;
+
+		/**
+		 * Parameters by name and by alias.
+		 */
+		private final Map<String, IParameterConfiguration> names;
+
+		/**
+		 * Creates a new index.
+		 * <hr>
+		 * @param content Content the index has been built for.
+		 * @param size Number of parameters the index has been built for.
+		 * @param names Parameters by name and by alias.
+		 */
+		private Index(final ParameterList<IParameterConfiguration> content, final int size, final Map<String, IParameterConfiguration> names)
+		{
+			this.content = content;
+			this.size = size;
+			this.names = Collections.unmodifiableMap(names);
+		}
+	}
+
+	/**
+	 * Immutable constraints compiled for an index.
+	 */
+	private static final class Constraints
+	{
+		/**
+		 * Index the constraints have been compiled for.
+		 */
+		private final Index index;
+
+		/**
+		 * Compiled constraints.
+		 */
+		private final ParameterConstraints constraints;
+
+		/**
+		 * Creates new compiled constraints.
+		 * <hr>
+		 * @param index Index the constraints have been compiled for.
+		 * @param constraints Compiled constraints.
+		 */
+		private Constraints(final Index index, final ParameterConstraints constraints)
+		{
+			this.index = index;
+			this.constraints = constraints;
+		}
+	}
 }
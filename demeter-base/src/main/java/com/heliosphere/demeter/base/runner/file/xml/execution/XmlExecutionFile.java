@@ -55,16 +55,7 @@ public class XmlExecutionFile extends AbstractXmlFile<Header, ParameterList<IPar
 	 */
 	public final IParameterExecution getParameter(final @NonNull String name)
 	{
-		for (IParameterExecution parameter : getContent().getElements())
-		{
-			// Does the parameter name is matching the given name?
-			if (parameter.getName().equals(name))
-			{
-				return parameter;
-			}
-		}
-
-		return null;
+		return getContent() == null ? null : getContent().get(name);
 	}
 
 	/**
@@ -75,16 +66,7 @@ public class XmlExecutionFile extends AbstractXmlFile<Header, ParameterList<IPar
 	 */
 	public final IParameterExecution getParameter(final @NonNull Enum<? extends IParameterType> type)
 	{
-		for (IParameterExecution parameter : getContent().getElements())
-		{
-			// Does the parameter type is matching the given type?
-			if (parameter.getType() == type)
-			{
-				return parameter;
-			}
-		}
-
-		return null;
+		return getContent() == null ? null : getContent().get(type);
 	}
 
 	/**
@@ -0,0 +1,241 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.lifecycle;
+
+import java.util.concurrent.TimeUnit;
+
+import com.heliosphere.demeter.base.runner.IRunner;
+import com.heliosphere.demeter.base.runner.processor.IProcessor;
+import com.heliosphere.demeter.base.runner.processor.ProcessorCancelledException;
+
+import lombok.NonNull;
+
+/**
+ * Provides the lifecycle controller of a {@link IRunner}.
+ * <hr>
+ * The controller holds the runner status and is polled by the {@link IProcessor} through {@link #checkpoint()}. While the runner
+ * is running, a checkpoint only costs a volatile read, the lock being only taken when the runner is paused or stopping.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public final class LifecycleController
+{
+	/**
+	 * Lock used to wait for a status change.
+	 */
+	private final Object lock = new Object();
+
+	/**
+	 * Runner status.
+	 */
+	private volatile RunnerStatusType status = RunnerStatusType.READY;
+
+	/**
+	 * Time (in nanoseconds) at which the running processors must have finished once a stop has been requested.
+	 */
+	private volatile long deadline = 0;
+
+	/**
+	 * Returns the runner status.
+	 * <hr>
+	 * @return Runner status.
+	 */
+	public final RunnerStatusType getStatus()
+	{
+		return status;
+	}
+
+	/**
+	 * Returns if contexts can be dispatched?
+	 * <hr>
+	 * @return {@code True} if the runner is running, {@code false} otherwise.
+	 */
+	public final boolean isDispatching()
+	{
+		return status == RunnerStatusType.RUNNING;
+	}
+
+	/**
+	 * Returns if a stop has been requested?
+	 * <hr>
+	 * @return {@code True} if the runner is stopping or stopped, {@code false} otherwise.
+	 */
+	public final boolean isStopping()
+	{
+		RunnerStatusType current = status;
+		return current == RunnerStatusType.STOPPING || current == RunnerStatusType.STOPPED;
+	}
+
+	/**
+	 * Returns the time (in nanoseconds, as given by {@link System#nanoTime()}) at which the running processors must have finished.
+	 * <hr>
+	 * @return Stop deadline, only meaningful once a stop has been requested.
+	 */
+	public final long getDeadline()
+	{
+		return deadline;
+	}
+
+	/**
+	 * Cooperative checkpoint to be regularly called by the processors.
+	 * <hr>
+	 * Returns immediately while the runner is running. Blocks while the runner is paused, and throws an exception if the runner is
+	 * stopping or if the calling thread has been interrupted.
+	 * <hr>
+	 * @throws ProcessorCancelledException Thrown in case the processor must stop its execution.
+	 */
+	@SuppressWarnings("nls")
+	public final void checkpoint() throws ProcessorCancelledException
+	{
+		if (status == RunnerStatusType.RUNNING && !Thread.currentThread().isInterrupted())
+		{
+			return;
+		}
+
+		synchronized (lock)
+		{
+			while (status == RunnerStatusType.PAUSED)
+			{
+				try
+				{
+					lock.wait();
+				}
+				catch (InterruptedException e)
+				{
+					Thread.currentThread().interrupt();
+					throw new ProcessorCancelledException("Processor interrupted while the runner was paused");
+				}
+			}
+		}
+
+		if (isStopping())
+		{
+			throw new ProcessorCancelledException("Processor cancelled as the runner is stopping");
+		}
+
+		if (Thread.currentThread().isInterrupted())
+		{
+			throw new ProcessorCancelledException("Processor interrupted");
+		}
+	}
+
+	/**
+	 * Starts the runner.
+	 * <hr>
+	 * @return {@code True} if the runner has been started, {@code false} if it was not ready.
+	 */
+	public final boolean start()
+	{
+		return transition(RunnerStatusType.READY, RunnerStatusType.RUNNING);
+	}
+
+	/**
+	 * Pauses the runner.
+	 * <hr>
+	 * @return {@code True} if the runner has been paused, {@code false} if it was not running.
+	 */
+	public final boolean pause()
+	{
+		return transition(RunnerStatusType.RUNNING, RunnerStatusType.PAUSED);
+	}
+
+	/**
+	 * Resumes the runner.
+	 * <hr>
+	 * @return {@code True} if the runner has been resumed, {@code false} if it was not paused.
+	 */
+	public final boolean resume()
+	{
+		return transition(RunnerStatusType.PAUSED, RunnerStatusType.RUNNING);
+	}
+
+	/**
+	 * Requests the runner to stop.
+	 * <hr>
+	 * @param timeout Maximum time to wait for the running processors before interrupting them.
+	 * @param unit Time unit of the timeout.
+	 * @return {@code True} if a stop has been requested, {@code false} if the runner was neither running nor paused.
+	 */
+	public final boolean stop(final long timeout, @NonNull final TimeUnit unit)
+	{
+		synchronized (lock)
+		{
+			if (status != RunnerStatusType.RUNNING && status != RunnerStatusType.PAUSED)
+			{
+				return false;
+			}
+
+			deadline = System.nanoTime() + unit.toNanos(timeout);
+			status = RunnerStatusType.STOPPING;
+			lock.notifyAll();
+
+			return true;
+		}
+	}
+
+	/**
+	 * Marks the runner as terminated.
+	 */
+	public final void terminate()
+	{
+		synchronized (lock)
+		{
+			status = isStopping() ? RunnerStatusType.STOPPED : RunnerStatusType.FINISHED;
+			lock.notifyAll();
+		}
+	}
+
+	/**
+	 * Resets the runner so it can be started again.
+	 * <hr>
+	 * @return {@code True} if the runner has been reset, {@code false} if it is running, paused or stopping.
+	 */
+	public final boolean reset()
+	{
+		synchronized (lock)
+		{
+			if (status == RunnerStatusType.RUNNING || status == RunnerStatusType.PAUSED || status == RunnerStatusType.STOPPING)
+			{
+				return false;
+			}
+
+			status = RunnerStatusType.READY;
+			deadline = 0;
+
+			return true;
+		}
+	}
+
+	/**
+	 * Changes the runner status.
+	 * <hr>
+	 * @param from Expected current status.
+	 * @param to New status.
+	 * @return {@code True} if the status has been changed, {@code false} if the current status was not the expected one.
+	 */
+	private boolean transition(final RunnerStatusType from, final RunnerStatusType to)
+	{
+		synchronized (lock)
+		{
+			if (status != from)
+			{
+				return false;
+			}
+
+			status = to;
+			lock.notifyAll();
+
+			return true;
+		}
+	}
+}
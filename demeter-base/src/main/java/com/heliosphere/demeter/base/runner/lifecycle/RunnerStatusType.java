@@ -0,0 +1,53 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.lifecycle;
+
+import com.heliosphere.demeter.base.runner.IRunner;
+
+/**
+ * Provides an enumeration of the lifecycle statuses of a {@link IRunner}.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public enum RunnerStatusType
+{
+	/**
+	 * Runner is initialized and ready to be started.
+	 */
+	READY,
+
+	/**
+	 * Runner is dispatching its contexts.
+	 */
+	RUNNING,
+
+	/**
+	 * Runner is paused, no context is dispatched and the running processors wait at their next checkpoint.
+	 */
+	PAUSED,
+
+	/**
+	 * Runner is stopping, no context is dispatched and the running processors are cancelled at their next checkpoint.
+	 */
+	STOPPING,
+
+	/**
+	 * Runner has been stopped before all its contexts have been processed.
+	 */
+	STOPPED,
+
+	/**
+	 * Runner has processed all its contexts.
+	 */
+	FINISHED;
+}
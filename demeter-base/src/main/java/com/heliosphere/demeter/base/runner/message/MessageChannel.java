@@ -0,0 +1,325 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.message;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import lombok.NonNull;
+
+/**
+ * Provides an in-process channel of messages backed by a {@link RingBuffer}.
+ * <hr>
+ * Producers publish messages which are drained by batches by the processors of the {@code MESSAGE} contexts. When the ring
+ * buffer is full, producers either wait or drop their message depending on the {@link BackpressureType}. Waiting producers and
+ * consumers spin briefly then park with an increasing back-off, so an idle channel does not burn any CPU.
+ * <p>
+ * Once closed, a channel rejects any new message while its consumers drain the remaining ones and then terminate. The closed flag
+ * and the number of producers currently publishing share a single atomic state, so a channel is only terminated once the producers
+ * which have entered before it has been closed have left: a message acknowledged as published is always consumed.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ * @param <E> Message type.
+ */
+public final class MessageChannel<E>
+{
+	/**
+	 * Number of busy spins before parking.
+	 */
+	private static final int SPINS = 100;
+
+	/**
+	 * Minimum park duration (in nanoseconds).
+	 */
+	private static final long MIN_PARK = TimeUnit.MICROSECONDS.toNanos(10);
+
+	/**
+	 * Maximum park duration (in nanoseconds).
+	 */
+	private static final long MAX_PARK = TimeUnit.MILLISECONDS.toNanos(1);
+
+	/**
+	 * State bit set once the channel is closed, the other bits counting the producers currently publishing.
+	 */
+	private static final int CLOSED = Integer.MIN_VALUE;
+
+	/**
+	 * Channel settings.
+	 */
+	private final MessageSettings settings;
+
+	/**
+	 * Ring buffer.
+	 */
+	private final RingBuffer<E> buffer;
+
+	/**
+	 * Channel state: {@link #CLOSED} bit and number of producers currently publishing.
+	 */
+	private final AtomicInteger state = new AtomicInteger();
+
+	/**
+	 * Number of published messages.
+	 */
+	private final AtomicLong published = new AtomicLong();
+
+	/**
+	 * Number of dropped messages.
+	 */
+	private final AtomicLong dropped = new AtomicLong();
+
+	/**
+	 * Number of consumed messages.
+	 */
+	private final AtomicLong consumed = new AtomicLong();
+
+	/**
+	 * Creates a new message channel.
+	 * <hr>
+	 * @param settings Channel settings.
+	 */
+	public MessageChannel(@NonNull final MessageSettings settings)
+	{
+		this.settings = settings;
+		this.buffer = new RingBuffer<>(settings.getCapacity(), settings.getProducer());
+	}
+
+	/**
+	 * Returns the channel settings.
+	 * <hr>
+	 * @return Settings.
+	 */
+	public final MessageSettings getSettings()
+	{
+		return settings;
+	}
+
+	/**
+	 * Returns the channel name.
+	 * <hr>
+	 * @return Name.
+	 */
+	public final String getName()
+	{
+		return settings.getChannel();
+	}
+
+	/**
+	 * Publishes a message, waiting without limit for a free slot in {@link BackpressureType#BLOCK} mode.
+	 * <hr>
+	 * @param message Message.
+	 * @return {@code True} if the message has been published, {@code false} if it has been dropped or the channel is closed.
+	 */
+	public final boolean publish(@NonNull final E message)
+	{
+		return publish(message, Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Publishes a message, waiting at most the given time for a free slot in {@link BackpressureType#BLOCK} mode.
+	 * <hr>
+	 * @param message Message.
+	 * @param timeout Maximum time to wait.
+	 * @param unit Time unit of the timeout.
+	 * @return {@code True} if the message has been published, {@code false} if it has been dropped or the channel is closed.
+	 */
+	public final boolean publish(@NonNull final E message, final long timeout, @NonNull final TimeUnit unit)
+	{
+		int current;
+		do
+		{
+			current = state.get();
+			if ((current & CLOSED) != 0)
+			{
+				return false;
+			}
+		}
+		while (!state.compareAndSet(current, current + 1));
+
+		try
+		{
+			if (buffer.offer(message))
+			{
+				published.incrementAndGet();
+				return true;
+			}
+
+			if (settings.getBackpressure() == BackpressureType.BLOCK)
+			{
+				long deadline = deadline(timeout, unit);
+				int attempt = 0;
+
+				while (!isClosed() && !Thread.currentThread().isInterrupted() && System.nanoTime() - deadline < 0)
+				{
+					idle(attempt++);
+					if (buffer.offer(message))
+					{
+						published.incrementAndGet();
+						return true;
+					}
+				}
+			}
+
+			dropped.incrementAndGet();
+			return false;
+		}
+		finally
+		{
+			state.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Drains up to the batch size messages, waiting at most the given time for the first one.
+	 * <hr>
+	 * @param sink Collection receiving the messages.
+	 * @param timeout Maximum time to wait for a message.
+	 * @param unit Time unit of the timeout.
+	 * @return Number of drained messages.
+	 */
+	public final int drain(@NonNull final Collection<? super E> sink, final long timeout, @NonNull final TimeUnit unit)
+	{
+		long deadline = deadline(timeout, unit);
+		int attempt = 0;
+
+		while (true)
+		{
+			int count = buffer.drainTo(sink, settings.getBatchSize());
+			if (count > 0)
+			{
+				consumed.addAndGet(count);
+				return count;
+			}
+
+			if (isTerminated() || Thread.currentThread().isInterrupted() || System.nanoTime() - deadline >= 0)
+			{
+				return 0;
+			}
+
+			idle(attempt++);
+		}
+	}
+
+	/**
+	 * Closes the channel, new messages being rejected.
+	 */
+	public final void close()
+	{
+		int current;
+		do
+		{
+			current = state.get();
+		}
+		while ((current & CLOSED) == 0 && !state.compareAndSet(current, current | CLOSED));
+	}
+
+	/**
+	 * Returns if the channel is closed?
+	 * <hr>
+	 * @return {@code True} if closed, {@code false} otherwise.
+	 */
+	public final boolean isClosed()
+	{
+		return (state.get() & CLOSED) != 0;
+	}
+
+	/**
+	 * Returns if the channel is closed, no producer is still publishing and all its messages have been consumed?
+	 * <hr>
+	 * @return {@code True} if terminated, {@code false} otherwise.
+	 */
+	public final boolean isTerminated()
+	{
+		return state.get() == CLOSED && buffer.isEmpty();
+	}
+
+	/**
+	 * Returns an estimate of the number of messages waiting to be consumed.
+	 * <hr>
+	 * @return Number of messages.
+	 */
+	public final int getPending()
+	{
+		return buffer.size();
+	}
+
+	/**
+	 * Returns the number of published messages.
+	 * <hr>
+	 * @return Number of messages.
+	 */
+	public final long getPublished()
+	{
+		return published.get();
+	}
+
+	/**
+	 * Returns the number of messages dropped because the ring buffer was full or the channel closed.
+	 * <hr>
+	 * @return Number of messages.
+	 */
+	public final long getDropped()
+	{
+		return dropped.get();
+	}
+
+	/**
+	 * Returns the number of consumed messages.
+	 * <hr>
+	 * @return Number of messages.
+	 */
+	public final long getConsumed()
+	{
+		return consumed.get();
+	}
+
+	/**
+	 * Computes a deadline.
+	 * <hr>
+	 * @param timeout Timeout.
+	 * @param unit Time unit of the timeout.
+	 * @return Deadline in nanoseconds.
+	 */
+	private static long deadline(final long timeout, final TimeUnit unit)
+	{
+		// Cap the timeout so a very large one does not overflow the deadline.
+		return System.nanoTime() + Math.min(unit.toNanos(timeout), Long.MAX_VALUE >> 1);
+	}
+
+	/**
+	 * Waits a little before retrying, spinning first then parking with an exponential back-off.
+	 * <hr>
+	 * @param attempt Number of previous attempts.
+	 */
+	private static void idle(final int attempt)
+	{
+		if (attempt < SPINS)
+		{
+			Thread.yield();
+		}
+		else
+		{
+			LockSupport.parkNanos(Math.min(MAX_PARK, MIN_PARK << Math.min(10, (attempt - SPINS) / 10)));
+		}
+	}
+
+	@SuppressWarnings("nls")
+	@Override
+	public final String toString()
+	{
+		return String.format("%1s, published:[%2d], dropped:[%3d], consumed:[%4d], pending:[%5d]", settings, Long.valueOf(getPublished()), Long.valueOf(getDropped()), Long.valueOf(getConsumed()), Integer.valueOf(getPending()));
+	}
+}
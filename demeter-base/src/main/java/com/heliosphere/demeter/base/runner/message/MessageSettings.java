@@ -0,0 +1,194 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.message;
+
+import com.heliosphere.demeter.base.runner.entity.EntityType;
+import com.heliosphere.demeter.base.runner.parameter.base.ParameterException;
+import com.heliosphere.demeter.base.runner.parameter.base.ParameterOptions;
+import com.heliosphere.demeter.base.runner.parameter.execution.IParameterExecution;
+
+import lombok.NonNull;
+
+/**
+ * Provides the settings of a {@link EntityType#MESSAGE} entity.
+ * <hr>
+ * The settings are given by the value of the execution parameter as a list of options (see {@link ParameterOptions}):
+ * <ul>
+ * <li>{@code channel}: name of the message channel (default: the parameter name),</li>
+ * <li>{@code capacity}: capacity of the ring buffer, rounded up to a power of two (default {@value #DEFAULT_CAPACITY}),</li>
+ * <li>{@code producer}: {@code multi} (default) or {@code single} producer mode,</li>
+ * <li>{@code backpressure}: {@code block} (default) or {@code drop} when the ring buffer is full,</li>
+ * <li>{@code consumers}: number of contexts consuming the channel (default {@code 1}),</li>
+ * <li>{@code batch}: maximum number of messages drained at once by a consumer (default {@value #DEFAULT_BATCH_SIZE}).</li>
+ * </ul>
+ * For example: {@code channel=events;capacity=65536;producer=single;consumers=2}.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public final class MessageSettings
+{
+	/**
+	 * Default capacity of the ring buffer.
+	 */
+	public static final int DEFAULT_CAPACITY = 16384;
+
+	/**
+	 * Default maximum number of messages drained at once.
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 256;
+
+	/**
+	 * Channel name.
+	 */
+	private final String channel;
+
+	/**
+	 * Capacity of the ring buffer.
+	 */
+	private final int capacity;
+
+	/**
+	 * Producer mode.
+	 */
+	private final ProducerModeType producer;
+
+	/**
+	 * Backpressure behavior.
+	 */
+	private final BackpressureType backpressure;
+
+	/**
+	 * Number of consuming contexts.
+	 */
+	private final int consumers;
+
+	/**
+	 * Maximum number of messages drained at once.
+	 */
+	private final int batchSize;
+
+	/**
+	 * Creates new message settings.
+	 * <hr>
+	 * @param channel Channel name.
+	 * @param capacity Capacity of the ring buffer.
+	 * @param producer Producer mode.
+	 * @param backpressure Backpressure behavior.
+	 * @param consumers Number of consuming contexts.
+	 * @param batchSize Maximum number of messages drained at once.
+	 */
+	@SuppressWarnings("nls")
+	public MessageSettings(@NonNull final String channel, final int capacity, @NonNull final ProducerModeType producer, @NonNull final BackpressureType backpressure, final int consumers, final int batchSize)
+	{
+		if (capacity < 1 || consumers < 1 || batchSize < 1)
+		{
+			throw new IllegalArgumentException(String.format("Message capacity: [%1d], consumers: [%2d] and batch: [%3d] must be greater than 0", Integer.valueOf(capacity), Integer.valueOf(consumers), Integer.valueOf(batchSize)));
+		}
+
+		this.channel = channel;
+		this.capacity = capacity;
+		this.producer = producer;
+		this.backpressure = backpressure;
+		this.consumers = consumers;
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Creates the message settings defined by the value of an execution parameter.
+	 * <hr>
+	 * @param parameter Execution parameter.
+	 * @return Message settings.
+	 * @throws ParameterException Thrown in case the parameter value does not define valid settings.
+	 */
+	@SuppressWarnings("nls")
+	public static final MessageSettings of(@NonNull final IParameterExecution parameter) throws ParameterException
+	{
+		ParameterOptions options = new ParameterOptions(parameter.getName(), parameter.getValue());
+
+		try
+		{
+			return new MessageSettings(options.getString("channel", parameter.getName()), options.getInt("capacity", DEFAULT_CAPACITY), options.getEnum("producer", ProducerModeType.class, ProducerModeType.MULTI), options.getEnum("backpressure", BackpressureType.class, BackpressureType.BLOCK), options.getInt("consumers", 1), options.getInt("batch", DEFAULT_BATCH_SIZE));
+		}
+		catch (IllegalArgumentException e)
+		{
+			throw new ParameterException(String.format("Invalid settings for message parameter: %1s due to: %2s", parameter.getName(), e.getMessage()));
+		}
+	}
+
+	/**
+	 * Returns the channel name.
+	 * <hr>
+	 * @return Channel name.
+	 */
+	public final String getChannel()
+	{
+		return channel;
+	}
+
+	/**
+	 * Returns the capacity of the ring buffer.
+	 * <hr>
+	 * @return Capacity.
+	 */
+	public final int getCapacity()
+	{
+		return capacity;
+	}
+
+	/**
+	 * Returns the producer mode.
+	 * <hr>
+	 * @return Producer mode.
+	 */
+	public final ProducerModeType getProducer()
+	{
+		return producer;
+	}
+
+	/**
+	 * Returns the backpressure behavior.
+	 * <hr>
+	 * @return Backpressure behavior.
+	 */
+	public final BackpressureType getBackpressure()
+	{
+		return backpressure;
+	}
+
+	/**
+	 * Returns the number of contexts consuming the channel.
+	 * <hr>
+	 * @return Number of consumers.
+	 */
+	public final int getConsumers()
+	{
+		return consumers;
+	}
+
+	/**
+	 * Returns the maximum number of messages drained at once by a consumer.
+	 * <hr>
+	 * @return Batch size.
+	 */
+	public final int getBatchSize()
+	{
+		return batchSize;
+	}
+
+	@SuppressWarnings("nls")
+	@Override
+	public final String toString()
+	{
+		return String.format("channel:[%1s], capacity:[%2d], producer:[%3s], backpressure:[%4s], consumers:[%5d], batch:[%6d]", channel, Integer.valueOf(capacity), producer, backpressure, Integer.valueOf(consumers), Integer.valueOf(batchSize));
+	}
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.message;
+
+/**
+ * Enumeration of the producer modes of a {@link RingBuffer}.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public enum ProducerModeType
+{
+	/**
+	 * A single thread publishes messages, slots are claimed without any compare and swap.
+	 */
+	SINGLE,
+
+	/**
+	 * Several threads publish messages concurrently, slots are claimed with a compare and swap.
+	 */
+	MULTI
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.message;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import lombok.NonNull;
+
+/**
+ * Provides a bounded, lock free, ring buffer of messages.
+ * <hr>
+ * All the slots are allocated at creation time so publishing and consuming a message does not allocate anything. Each slot
+ * carries a sequence number telling if it is free for the producers or holds a message for the consumers (bounded multi
+ * producers, multi consumers queue algorithm). In {@link ProducerModeType#SINGLE} mode, the producer claims its slots without
+ * any compare and swap.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ * @param <E> Message type.
+ */
+public final class RingBuffer<E>
+{
+	/**
+	 * Message slots.
+	 */
+	private final Object[] slots;
+
+	/**
+	 * Sequence number of each slot.
+	 */
+	private final AtomicLongArray sequences;
+
+	/**
+	 * Mask used to compute a slot index from a position (capacity - 1).
+	 */
+	private final int mask;
+
+	/**
+	 * Producer mode.
+	 */
+	private final ProducerModeType mode;
+
+	/**
+	 * Position of the next slot to publish to.
+	 */
+	private final AtomicLong tail = new AtomicLong();
+
+	/**
+	 * Position of the next slot to consume from.
+	 */
+	private final AtomicLong head = new AtomicLong();
+
+	/**
+	 * Creates a new ring buffer.
+	 * <hr>
+	 * @param capacity Minimum capacity, rounded up to the next power of two.
+	 * @param mode Producer mode.
+	 */
+	@SuppressWarnings("nls")
+	public RingBuffer(final int capacity, @NonNull final ProducerModeType mode)
+	{
+		if (capacity < 1 || capacity > 1 << 30)
+		{
+			throw new IllegalArgumentException("Ring buffer capacity must be between 1 and 2^30, found: " + capacity);
+		}
+
+		int size = Integer.highestOneBit(capacity);
+		if (size < capacity)
+		{
+			size <<= 1;
+		}
+
+		this.slots = new Object[size];
+		this.sequences = new AtomicLongArray(size);
+		this.mask = size - 1;
+		this.mode = mode;
+
+		for (int i = 0; i < size; i++)
+		{
+			sequences.set(i, i);
+		}
+	}
+
+	/**
+	 * Publishes a message if a slot is free.
+	 * <hr>
+	 * @param message Message.
+	 * @return {@code True} if the message has been published, {@code false} if the ring buffer is full.
+	 */
+	public final boolean offer(@NonNull final E message)
+	{
+		long position = tail.get();
+		int index;
+
+		while (true)
+		{
+			index = (int) position & mask;
+			long delta = sequences.get(index) - position;
+
+			if (delta == 0)
+			{
+				if (mode == ProducerModeType.SINGLE)
+				{
+					tail.lazySet(position + 1);
+					break;
+				}
+				if (tail.compareAndSet(position, position + 1))
+				{
+					break;
+				}
+				position = tail.get();
+			}
+			else if (delta < 0)
+			{
+				// The slot still holds a message not yet consumed.
+				return false;
+			}
+			else
+			{
+				position = tail.get();
+			}
+		}
+
+		slots[index] = message;
+		sequences.lazySet(index, position + 1);
+
+		return true;
+	}
+
+	/**
+	 * Consumes a message.
+	 * <hr>
+	 * @return Message or {@code null} if the ring buffer is empty.
+	 */
+	@SuppressWarnings("unchecked")
+	public final E poll()
+	{
+		long position = head.get();
+		int index;
+
+		while (true)
+		{
+			index = (int) position & mask;
+			long delta = sequences.get(index) - (position + 1);
+
+			if (delta == 0)
+			{
+				if (head.compareAndSet(position, position + 1))
+				{
+					break;
+				}
+				position = head.get();
+			}
+			else if (delta < 0)
+			{
+				// The slot has not been published yet.
+				return null;
+			}
+			else
+			{
+				position = head.get();
+			}
+		}
+
+		E message = (E) slots[index];
+		slots[index] = null;
+		sequences.lazySet(index, position + mask + 1);
+
+		return message;
+	}
+
+	/**
+	 * Consumes up to a given number of messages.
+	 * <hr>
+	 * @param sink Collection receiving the messages.
+	 * @param max Maximum number of messages to consume.
+	 * @return Number of consumed messages.
+	 */
+	public final int drainTo(@NonNull final Collection<? super E> sink, final int max)
+	{
+		int count = 0;
+		E message;
+
+		while (count < max && (message = poll()) != null)
+		{
+			sink.add(message);
+			count++;
+		}
+
+		return count;
+	}
+
+	/**
+	 * Returns the capacity of the ring buffer.
+	 * <hr>
+	 * @return Capacity.
+	 */
+	public final int getCapacity()
+	{
+		return slots.length;
+	}
+
+	/**
+	 * Returns the producer mode.
+	 * <hr>
+	 * @return Producer mode.
+	 */
+	public final ProducerModeType getMode()
+	{
+		return mode;
+	}
+
+	/**
+	 * Returns an estimate of the number of messages held by the ring buffer.
+	 * <hr>
+	 * @return Number of messages.
+	 */
+	public final int size()
+	{
+		long size = tail.get() - head.get();
+		return (int) Math.max(0, Math.min(slots.length, size));
+	}
+
+	/**
+	 * Returns if the ring buffer holds no message?
+	 * <hr>
+	 * @return {@code True} if empty, {@code false} otherwise.
+	 */
+	public final boolean isEmpty()
+	{
+		return size() == 0;
+	}
+}
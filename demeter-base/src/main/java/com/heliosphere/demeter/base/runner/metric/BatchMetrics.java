@@ -0,0 +1,175 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.metric;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Provides the metrics of a processor processing its items by chunks.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public final class BatchMetrics
+{
+	/**
+	 * Number of processed (committed) items.
+	 */
+	private final AtomicLong items = new AtomicLong();
+
+	/**
+	 * Number of committed chunks.
+	 */
+	private final AtomicLong chunks = new AtomicLong();
+
+	/**
+	 * Number of chunks given up after all their retries have failed.
+	 */
+	private final AtomicLong failures = new AtomicLong();
+
+	/**
+	 * Number of chunk retries.
+	 */
+	private final AtomicLong retries = new AtomicLong();
+
+	/**
+	 * Histogram of the chunk latencies (from the first attempt to the commit).
+	 */
+	private final LatencyHistogram latency = new LatencyHistogram();
+
+	/**
+	 * Start time (in nanoseconds) of the batch.
+	 */
+	private final long started = System.nanoTime();
+
+	/**
+	 * End time (in nanoseconds) of the batch, {@code 0} while running.
+	 */
+	private volatile long ended = 0;
+
+	/**
+	 * Records a committed chunk.
+	 * <hr>
+	 * @param size Number of items of the chunk.
+	 * @param elapsed Latency (in nanoseconds) of the chunk.
+	 */
+	public final void record(final int size, final long elapsed)
+	{
+		items.addAndGet(size);
+		chunks.incrementAndGet();
+		latency.record(elapsed);
+	}
+
+	/**
+	 * Records a chunk retry.
+	 */
+	public final void retry()
+	{
+		retries.incrementAndGet();
+	}
+
+	/**
+	 * Records a chunk given up.
+	 */
+	public final void fail()
+	{
+		failures.incrementAndGet();
+	}
+
+	/**
+	 * Marks the end of the batch.
+	 */
+	public final void end()
+	{
+		ended = System.nanoTime();
+	}
+
+	/**
+	 * Returns the number of processed (committed) items.
+	 * <hr>
+	 * @return Number of items.
+	 */
+	public final long getItems()
+	{
+		return items.get();
+	}
+
+	/**
+	 * Returns the number of committed chunks.
+	 * <hr>
+	 * @return Number of chunks.
+	 */
+	public final long getChunks()
+	{
+		return chunks.get();
+	}
+
+	/**
+	 * Returns the number of chunks given up after all their retries have failed.
+	 * <hr>
+	 * @return Number of failed chunks.
+	 */
+	public final long getFailures()
+	{
+		return failures.get();
+	}
+
+	/**
+	 * Returns the number of chunk retries.
+	 * <hr>
+	 * @return Number of retries.
+	 */
+	public final long getRetries()
+	{
+		return retries.get();
+	}
+
+	/**
+	 * Returns the histogram of the chunk latencies.
+	 * <hr>
+	 * @return Latency histogram.
+	 */
+	public final LatencyHistogram getLatency()
+	{
+		return latency;
+	}
+
+	/**
+	 * Returns the elapsed time of the batch, up to now while it is running.
+	 * <hr>
+	 * @return Elapsed time in nanoseconds.
+	 */
+	public final long getElapsed()
+	{
+		long end = ended;
+		return (end == 0 ? System.nanoTime() : end) - started;
+	}
+
+	/**
+	 * Returns the throughput of the batch.
+	 * <hr>
+	 * @return Number of processed items per second.
+	 */
+	public final double getThroughput()
+	{
+		long elapsed = getElapsed();
+		return elapsed <= 0 ? 0 : items.get() * (double) TimeUnit.SECONDS.toNanos(1) / elapsed;
+	}
+
+	@SuppressWarnings("nls")
+	@Override
+	public final String toString()
+	{
+		return String.format("items:[%1d], chunks:[%2d], failures:[%3d], retries:[%4d], throughput:[%5.1f items/s], latency:{%6s}", Long.valueOf(getItems()), Long.valueOf(getChunks()), Long.valueOf(getFailures()), Long.valueOf(getRetries()), Double.valueOf(getThroughput()), latency);
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.metric;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Provides a lock free histogram of latencies (in nanoseconds).
+ * <hr>
+ * Latencies are recorded in power of two buckets, so percentiles are approximated with a relative error below 100% while the
+ * histogram only uses a fixed amount of memory whatever the number of recorded values.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public final class LatencyHistogram
+{
+	/**
+	 * Number of buckets (one per bit of a positive long).
+	 */
+	private static final int BUCKETS = 64;
+
+	/**
+	 * Number of values per bucket, bucket {@code 0} counting the zero values and bucket {@code i} the values in
+	 * {@code [2^(i-1), 2^i)}.
+	 */
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+	/**
+	 * Number of recorded values.
+	 */
+	private final AtomicLong count = new AtomicLong();
+
+	/**
+	 * Sum of the recorded values.
+	 */
+	private final AtomicLong total = new AtomicLong();
+
+	/**
+	 * Lowest recorded value.
+	 */
+	private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+
+	/**
+	 * Highest recorded value.
+	 */
+	private final AtomicLong max = new AtomicLong();
+
+	/**
+	 * Records a latency.
+	 * <hr>
+	 * @param nanos Latency in nanoseconds (negative values are recorded as {@code 0}).
+	 */
+	public final void record(final long nanos)
+	{
+		long value = Math.max(0, nanos);
+
+		buckets.incrementAndGet(BUCKETS - Long.numberOfLeadingZeros(value));
+		count.incrementAndGet();
+		total.addAndGet(value);
+
+		long current;
+		while (value < (current = min.get()) && !min.compareAndSet(current, value))
+		{
+			// Retry.
+		}
+		while (value > (current = max.get()) && !max.compareAndSet(current, value))
+		{
+			// Retry.
+		}
+	}
+
+	/**
+	 * Returns the number of recorded values.
+	 * <hr>
+	 * @return Count.
+	 */
+	public final long getCount()
+	{
+		return count.get();
+	}
+
+	/**
+	 * Returns the lowest recorded value.
+	 * <hr>
+	 * @return Lowest latency in nanoseconds, {@code 0} if empty.
+	 */
+	public final long getMin()
+	{
+		return count.get() == 0 ? 0 : min.get();
+	}
+
+	/**
+	 * Returns the highest recorded value.
+	 * <hr>
+	 * @return Highest latency in nanoseconds.
+	 */
+	public final long getMax()
+	{
+		return max.get();
+	}
+
+	/**
+	 * Returns the mean of the recorded values.
+	 * <hr>
+	 * @return Mean latency in nanoseconds, {@code 0} if empty.
+	 */
+	public final long getMean()
+	{
+		long n = count.get();
+		return n == 0 ? 0 : total.get() / n;
+	}
+
+	/**
+	 * Returns an approximation (upper bound of the bucket, capped by the highest value) of a percentile.
+	 * <hr>
+	 * @param percentile Percentile between {@code 0} and {@code 100}.
+	 * @return Latency in nanoseconds, {@code 0} if empty.
+	 */
+	public final long getPercentile(final double percentile)
+	{
+		long n = count.get();
+		if (n == 0)
+		{
+			return 0;
+		}
+
+		long rank = (long) Math.ceil(n * Math.min(100, Math.max(0, percentile)) / 100d);
+		long seen = 0;
+
+		for (int i = 0; i < BUCKETS; i++)
+		{
+			seen += buckets.get(i);
+			if (seen >= rank && seen > 0)
+			{
+				return Math.min(i == 0 ? 0 : (1L << i) - 1, getMax());
+			}
+		}
+
+		return getMax();
+	}
+
+	@SuppressWarnings("nls")
+	@Override
+	public final String toString()
+	{
+		return String.format("count:[%1d], min:[%2.3f ms], mean:[%3.3f ms], p50:[%4.3f ms], p99:[%5.3f ms], max:[%6.3f ms]", Long.valueOf(getCount()), toMillis(getMin()), toMillis(getMean()), toMillis(getPercentile(50)), toMillis(getPercentile(99)), toMillis(getMax()));
+	}
+
+	/**
+	 * Converts nanoseconds to (fractional) milliseconds.
+	 * <hr>
+	 * @param nanos Nanoseconds.
+	 * @return Milliseconds.
+	 */
+	private static Double toMillis(final long nanos)
+	{
+		return Double.valueOf(nanos / 1_000_000d);
+	}
+}
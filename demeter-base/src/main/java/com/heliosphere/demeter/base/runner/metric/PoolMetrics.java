@@ -0,0 +1,209 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.metric;
+
+import com.heliosphere.demeter.base.runner.executor.ExecutorMode;
+
+import lombok.NonNull;
+
+/**
+ * Provides an immutable snapshot of the utilization of an executor pool.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public final class PoolMetrics
+{
+	/**
+	 * Pool name.
+	 */
+	private final String name;
+
+	/**
+	 * Executor mode of the pool.
+	 */
+	private final ExecutorMode mode;
+
+	/**
+	 * Pool size (number of threads or concurrency limit).
+	 */
+	private final int size;
+
+	/**
+	 * Number of tasks being executed.
+	 */
+	private final int active;
+
+	/**
+	 * Number of tasks submitted and waiting to be executed.
+	 */
+	private final int queued;
+
+	/**
+	 * Highest number of tasks executed at the same time.
+	 */
+	private final int peak;
+
+	/**
+	 * Number of completed tasks.
+	 */
+	private final long completed;
+
+	/**
+	 * Cumulated execution time (in nanoseconds) of the tasks.
+	 */
+	private final long busyTime;
+
+	/**
+	 * Time (in nanoseconds) elapsed since the pool creation.
+	 */
+	private final long elapsedTime;
+
+	/**
+	 * Creates a new pool metrics snapshot.
+	 * <hr>
+	 * @param name Pool name.
+	 * @param mode Executor mode of the pool.
+	 * @param size Pool size (number of threads or concurrency limit).
+	 * @param active Number of tasks being executed.
+	 * @param queued Number of tasks submitted and waiting to be executed.
+	 * @param peak Highest number of tasks executed at the same time.
+	 * @param completed Number of completed tasks.
+	 * @param busyTime Cumulated execution time (in nanoseconds) of the tasks.
+	 * @param elapsedTime Time (in nanoseconds) elapsed since the pool creation.
+	 */
+	public PoolMetrics(@NonNull final String name, @NonNull final ExecutorMode mode, final int size, final int active, final int queued, final int peak, final long completed, final long busyTime, final long elapsedTime)
+	{
+		this.name = name;
+		this.mode = mode;
+		this.size = size;
+		this.active = active;
+		this.queued = queued;
+		this.peak = peak;
+		this.completed = completed;
+		this.busyTime = busyTime;
+		this.elapsedTime = elapsedTime;
+	}
+
+	/**
+	 * Returns the pool name.
+	 * <hr>
+	 * @return Pool name.
+	 */
+	public final String getName()
+	{
+		return name;
+	}
+
+	/**
+	 * Returns the executor mode of the pool.
+	 * <hr>
+	 * @return Executor mode.
+	 */
+	public final ExecutorMode getMode()
+	{
+		return mode;
+	}
+
+	/**
+	 * Returns the pool size (number of threads or concurrency limit).
+	 * <hr>
+	 * @return Pool size.
+	 */
+	public final int getSize()
+	{
+		return size;
+	}
+
+	/**
+	 * Returns the number of tasks being executed.
+	 * <hr>
+	 * @return Number of active tasks.
+	 */
+	public final int getActive()
+	{
+		return active;
+	}
+
+	/**
+	 * Returns the number of tasks submitted and waiting to be executed.
+	 * <hr>
+	 * @return Number of queued tasks.
+	 */
+	public final int getQueued()
+	{
+		return queued;
+	}
+
+	/**
+	 * Returns the highest number of tasks executed at the same time.
+	 * <hr>
+	 * @return Peak number of active tasks.
+	 */
+	public final int getPeak()
+	{
+		return peak;
+	}
+
+	/**
+	 * Returns the number of completed tasks.
+	 * <hr>
+	 * @return Number of completed tasks.
+	 */
+	public final long getCompleted()
+	{
+		return completed;
+	}
+
+	/**
+	 * Returns the cumulated execution time of the tasks.
+	 * <hr>
+	 * @return Busy time in nanoseconds.
+	 */
+	public final long getBusyTime()
+	{
+		return busyTime;
+	}
+
+	/**
+	 * Returns the time elapsed since the pool creation.
+	 * <hr>
+	 * @return Elapsed time in nanoseconds.
+	 */
+	public final long getElapsedTime()
+	{
+		return elapsedTime;
+	}
+
+	/**
+	 * Returns the utilization of the pool, that is the fraction of its capacity (size multiplied by the elapsed time) spent
+	 * executing tasks.
+	 * <hr>
+	 * @return Utilization between {@code 0} and {@code 1}.
+	 */
+	public final double getUtilization()
+	{
+		if (size <= 0 || elapsedTime <= 0)
+		{
+			return 0;
+		}
+
+		return Math.min(1d, (double) busyTime / ((double) size * elapsedTime));
+	}
+
+	@SuppressWarnings("nls")
+	@Override
+	public final String toString()
+	{
+		return String.format("pool:[%1s], mode:[%2s], size:[%3d], active:[%4d], queued:[%5d], peak:[%6d], completed:[%7d], utilization:[%8.1f%%]", name, mode, Integer.valueOf(size), Integer.valueOf(active), Integer.valueOf(queued), Integer.valueOf(peak), Long.valueOf(completed), Double.valueOf(getUtilization() * 100));
+	}
+}
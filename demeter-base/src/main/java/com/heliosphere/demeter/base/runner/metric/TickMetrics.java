@@ -0,0 +1,134 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.metric;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Provides the metrics of a processor executed periodically (ticks).
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public final class TickMetrics
+{
+	/**
+	 * Number of executed ticks.
+	 */
+	private final AtomicLong ticks = new AtomicLong();
+
+	/**
+	 * Number of ticks having lasted longer than the period.
+	 */
+	private final AtomicLong overruns = new AtomicLong();
+
+	/**
+	 * Number of ticks not executed because of an overrun or because the runner was paused.
+	 */
+	private final AtomicLong missed = new AtomicLong();
+
+	/**
+	 * Histogram of the tick durations.
+	 */
+	private final LatencyHistogram duration = new LatencyHistogram();
+
+	/**
+	 * Histogram of the tick latencies, that is the delay between the planned and the effective start of the ticks.
+	 */
+	private final LatencyHistogram latency = new LatencyHistogram();
+
+	/**
+	 * Records an executed tick.
+	 * <hr>
+	 * @param lateness Delay (in nanoseconds) between the planned and the effective start of the tick.
+	 * @param elapsed Duration (in nanoseconds) of the tick.
+	 * @param overrun Has the tick lasted longer than the period?
+	 */
+	public final void record(final long lateness, final long elapsed, final boolean overrun)
+	{
+		ticks.incrementAndGet();
+		latency.record(lateness);
+		duration.record(elapsed);
+
+		if (overrun)
+		{
+			overruns.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Records missed ticks.
+	 * <hr>
+	 * @param count Number of missed ticks.
+	 */
+	public final void miss(final long count)
+	{
+		missed.addAndGet(count);
+	}
+
+	/**
+	 * Returns the number of executed ticks.
+	 * <hr>
+	 * @return Number of ticks.
+	 */
+	public final long getTicks()
+	{
+		return ticks.get();
+	}
+
+	/**
+	 * Returns the number of ticks having lasted longer than the period.
+	 * <hr>
+	 * @return Number of overruns.
+	 */
+	public final long getOverruns()
+	{
+		return overruns.get();
+	}
+
+	/**
+	 * Returns the number of ticks not executed because of an overrun or because the runner was paused.
+	 * <hr>
+	 * @return Number of missed ticks.
+	 */
+	public final long getMissed()
+	{
+		return missed.get();
+	}
+
+	/**
+	 * Returns the histogram of the tick durations.
+	 * <hr>
+	 * @return Duration histogram.
+	 */
+	public final LatencyHistogram getDuration()
+	{
+		return duration;
+	}
+
+	/**
+	 * Returns the histogram of the tick latencies (delay between the planned and the effective start of the ticks).
+	 * <hr>
+	 * @return Latency histogram.
+	 */
+	public final LatencyHistogram getLatency()
+	{
+		return latency;
+	}
+
+	@SuppressWarnings("nls")
+	@Override
+	public final String toString()
+	{
+		return String.format("ticks:[%1d], overruns:[%2d], missed:[%3d], latency:{%4s}, duration:{%5s}", Long.valueOf(getTicks()), Long.valueOf(getOverruns()), Long.valueOf(getMissed()), latency, duration);
+	}
+}
@@ -54,7 +54,43 @@ public enum TestParameterType implements IParameterType
 	 * <hr>
 	 * This parameter is used to display the famous "Hello World" sentence.
 	 */
-	PARAMETER_HELLO("hello", EntityType.DISPLAY);
+	PARAMETER_HELLO("hello", EntityType.DISPLAY),
+
+	/**
+	 * Heartbeat parameter.
+	 * <hr>
+	 * This parameter is used to run a daemon ticking according to the schedule given as parameter value.
+	 */
+	PARAMETER_HEARTBEAT("heartbeat", EntityType.DAEMON),
+
+	/**
+	 * Input parameter.
+	 * <hr>
+	 * This parameter is used to read, split by split, the input file given as parameter value.
+	 */
+	PARAMETER_INPUT("input", EntityType.FILE),
+
+	/**
+	 * Events parameter.
+	 * <hr>
+	 * This parameter is used to consume the events published on the message channel configured by the parameter value.
+	 */
+	PARAMETER_EVENTS("events", EntityType.MESSAGE),
+
+	/**
+	 * Sleep parameter.
+	 * <hr>
+	 * This parameter is used to simulate a long processing lasting the number of milliseconds given as parameter value.
+	 */
+	PARAMETER_SLEEP("sleep", EntityType.DISPLAY),
+
+	/**
+	 * Fail parameter.
+	 * <hr>
+	 * This parameter is used to simulate a transient failure, the processing fails the number of times given as parameter value
+	 * and then succeeds.
+	 */
+	PARAMETER_FAIL("fail", EntityType.DISPLAY);
 
 	/**
 	 * Parameter name.
@@ -0,0 +1,264 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.parameter.base;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import lombok.NonNull;
+
+/**
+ * Provides a parser of the options given as an execution parameter value.
+ * <hr>
+ * Options are given as a list of {@code key=value} pairs separated by a semicolon, for example: {@code period=5s;jitter=100}.
+ * Keys are case insensitive. Durations are expressed in milliseconds unless suffixed by one of the {@code ms}, {@code s},
+ * {@code m} or {@code h} units.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+@SuppressWarnings("nls")
+public final class ParameterOptions
+{
+	/**
+	 * Options separator.
+	 */
+	private static final String SEPARATOR = ";";
+
+	/**
+	 * Key/value separator.
+	 */
+	private static final char ASSIGNMENT = '=';
+
+	/**
+	 * Parameter name the options belong to (used for error messages).
+	 */
+	private final String name;
+
+	/**
+	 * Options indexed by lower case key.
+	 */
+	private final Map<String, String> options = new LinkedHashMap<>();
+
+	/**
+	 * Creates new parameter options.
+	 * <hr>
+	 * @param name Parameter name the options belong to.
+	 * @param value Parameter value to parse, can be {@code null}.
+	 * @throws ParameterException Thrown in case the value is malformed.
+	 */
+	public ParameterOptions(@NonNull final String name, final String value) throws ParameterException
+	{
+		this.name = name;
+
+		if (value == null)
+		{
+			return;
+		}
+
+		for (String option : value.split(SEPARATOR))
+		{
+			String element = option.trim();
+			if (element.isEmpty())
+			{
+				continue;
+			}
+
+			int index = element.indexOf(ASSIGNMENT);
+			if (index <= 0)
+			{
+				throw new ParameterException(String.format("Invalid option: '%1s' for parameter: %2s, expecting: key=value", element, name));
+			}
+
+			options.put(element.substring(0, index).trim().toLowerCase(), element.substring(index + 1).trim());
+		}
+	}
+
+	/**
+	 * Returns the option keys.
+	 * <hr>
+	 * @return Set of (lower case) keys.
+	 */
+	public final Set<String> getKeys()
+	{
+		return Collections.unmodifiableSet(options.keySet());
+	}
+
+	/**
+	 * Returns if an option is defined?
+	 * <hr>
+	 * @param key Option key.
+	 * @return {@code True} if the option is defined, {@code false} otherwise.
+	 */
+	public final boolean contains(@NonNull final String key)
+	{
+		return options.containsKey(key.toLowerCase());
+	}
+
+	/**
+	 * Returns a string option.
+	 * <hr>
+	 * @param key Option key.
+	 * @param defaultValue Value returned if the option is not defined.
+	 * @return Option value.
+	 */
+	public final String getString(@NonNull final String key, final String defaultValue)
+	{
+		String value = options.get(key.toLowerCase());
+		return value == null || value.isEmpty() ? defaultValue : value;
+	}
+
+	/**
+	 * Returns a long option.
+	 * <hr>
+	 * @param key Option key.
+	 * @param defaultValue Value returned if the option is not defined.
+	 * @return Option value.
+	 * @throws ParameterException Thrown in case the option is not a number.
+	 */
+	public final long getLong(@NonNull final String key, final long defaultValue) throws ParameterException
+	{
+		String value = getString(key, null);
+		if (value == null)
+		{
+			return defaultValue;
+		}
+
+		try
+		{
+			return Long.parseLong(value);
+		}
+		catch (NumberFormatException e)
+		{
+			throw new ParameterException(String.format("Invalid value: '%1s' for option: %2s of parameter: %3s, expecting a number", value, key, name));
+		}
+	}
+
+	/**
+	 * Returns an integer option.
+	 * <hr>
+	 * @param key Option key.
+	 * @param defaultValue Value returned if the option is not defined.
+	 * @return Option value.
+	 * @throws ParameterException Thrown in case the option is not an integer.
+	 */
+	public final int getInt(@NonNull final String key, final int defaultValue) throws ParameterException
+	{
+		long value = getLong(key, defaultValue);
+		if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE)
+		{
+			throw new ParameterException(String.format("Invalid value: '%1d' for option: %2s of parameter: %3s, out of range", Long.valueOf(value), key, name));
+		}
+
+		return (int) value;
+	}
+
+	/**
+	 * Returns a duration option.
+	 * <hr>
+	 * @param key Option key.
+	 * @param defaultValue Value (in milliseconds) returned if the option is not defined.
+	 * @return Option value in milliseconds.
+	 * @throws ParameterException Thrown in case the option is not a valid duration.
+	 */
+	public final long getDuration(@NonNull final String key, final long defaultValue) throws ParameterException
+	{
+		String value = getString(key, null);
+		if (value == null)
+		{
+			return defaultValue;
+		}
+
+		String number = value.toLowerCase();
+		TimeUnit unit = TimeUnit.MILLISECONDS;
+
+		if (number.endsWith("ms"))
+		{
+			number = number.substring(0, number.length() - 2);
+		}
+		else if (number.endsWith("s"))
+		{
+			number = number.substring(0, number.length() - 1);
+			unit = TimeUnit.SECONDS;
+		}
+		else if (number.endsWith("m"))
+		{
+			number = number.substring(0, number.length() - 1);
+			unit = TimeUnit.MINUTES;
+		}
+		else if (number.endsWith("h"))
+		{
+			number = number.substring(0, number.length() - 1);
+			unit = TimeUnit.HOURS;
+		}
+
+		try
+		{
+			return unit.toMillis(Long.parseLong(number.trim()));
+		}
+		catch (NumberFormatException e)
+		{
+			throw new ParameterException(String.format("Invalid duration: '%1s' for option: %2s of parameter: %3s", value, key, name));
+		}
+	}
+
+	/**
+	 * Returns a boolean option.
+	 * <hr>
+	 * @param key Option key.
+	 * @param defaultValue Value returned if the option is not defined.
+	 * @return Option value.
+	 */
+	public final boolean getBoolean(@NonNull final String key, final boolean defaultValue)
+	{
+		String value = getString(key, null);
+		return value == null ? defaultValue : Boolean.parseBoolean(value);
+	}
+
+	/**
+	 * Returns an enumerated option.
+	 * <hr>
+	 * @param <E> Enumeration type.
+	 * @param key Option key.
+	 * @param type Enumeration class.
+	 * @param defaultValue Value returned if the option is not defined.
+	 * @return Option value.
+	 * @throws ParameterException Thrown in case the option is not a value of the enumeration.
+	 */
+	public final <E extends Enum<E>> E getEnum(@NonNull final String key, @NonNull final Class<E> type, final E defaultValue) throws ParameterException
+	{
+		String value = getString(key, null);
+		if (value == null)
+		{
+			return defaultValue;
+		}
+
+		for (E element : type.getEnumConstants())
+		{
+			if (element.name().equalsIgnoreCase(value.replace('-', '_')))
+			{
+				return element;
+			}
+		}
+
+		throw new ParameterException(String.format("Invalid value: '%1s' for option: %2s of parameter: %3s", value, key, name));
+	}
+
+	@Override
+	public final String toString()
+	{
+		return options.toString();
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the 
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.parameter.base;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.NonNull;
+
+/**
+ * Provides a table resolving the parameter types of a parameter type enumeration from their names.
+ * <hr>
+ * The table is built once from the {@link IParameterType#getName()} of the enumerated values, so resolving a parameter name
+ * neither scans the enumerated values nor invokes {@link IParameterType#fromName(String)} reflectively. When several enumerated
+ * values share a name, the first declared one wins as it does for {@code fromName}.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public final class ParameterTypeTable
+{
+	/**
+	 * Name of the enumerated value reserved for internal use.
+	 */
+	@SuppressWarnings("nls")
+	public static final String UNKNOWN = "UNKNOWN";
+
+	/**
+	 * Parameter type enumeration class.
+	 */
+	private final Class<?> enumeration;
+
+	/**
+	 * Enumerated values in declaration order.
+	 */
+	private final List<Enum<? extends IParameterType>> types;
+
+	/**
+	 * Enumerated values indexed by parameter name.
+	 */
+	private final Map<String, Enum<? extends IParameterType>> names;
+
+	/**
+	 * Creates a new parameter type table.
+	 * <hr>
+	 * @param enumeration Parameter type enumeration class.
+	 * @param types Enumerated values in declaration order.
+	 */
+	private ParameterTypeTable(final Class<?> enumeration, final List<Enum<? extends IParameterType>> types)
+	{
+		this.enumeration = enumeration;
+		this.types = Collections.unmodifiableList(types);
+
+		Map<String, Enum<? extends IParameterType>> index = new HashMap<>();
+		for (Enum<? extends IParameterType> type : types)
+		{
+			String name = ((IParameterType) type).getName();
+			if (!index.containsKey(name))
+			{
+				index.put(name, type);
+			}
+		}
+		this.names = Collections.unmodifiableMap(index);
+	}
+
+	/**
+	 * Builds the table of a parameter type enumeration.
+	 * <hr>
+	 * @param enumeration Parameter type enumeration class, its values must implement {@link IParameterType}.
+	 * @return Parameter type table.
+	 * @throws ParameterException Thrown in case the given class is not a parameter type enumeration.
+	 */
+	@SuppressWarnings({ "unchecked", "nls" })
+	public static final ParameterTypeTable of(@NonNull final Class<?> enumeration) throws ParameterException
+	{
+		if (!enumeration.isEnum() || !IParameterType.class.isAssignableFrom(enumeration))
+		{
+			throw new ParameterException(String.format("Class: %1s is not a parameter type enumeration!", enumeration.getName()));
+		}
+
+		return new ParameterTypeTable(enumeration, Arrays.asList((Enum<? extends IParameterType>[]) enumeration.getEnumConstants()));
+	}
+
+	/**
+	 * Returns the parameter type enumeration class.
+	 * <hr>
+	 * @return Enumeration class.
+	 */
+	public final Class<?> getEnumeration()
+	{
+		return enumeration;
+	}
+
+	/**
+	 * Returns the enumerated values in declaration order.
+	 * <hr>
+	 * @return Unmodifiable list of enumerated values.
+	 */
+	public final List<Enum<? extends IParameterType>> getTypes()
+	{
+		return types;
+	}
+
+	/**
+	 * Returns the parameter type having the given name.
+	 * <hr>
+	 * @param name Parameter name (case sensitive).
+	 * @return Parameter type if found, {@code null} otherwise.
+	 */
+	public final Enum<? extends IParameterType> get(final String name)
+	{
+		return names.get(name);
+	}
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the 
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.parameter.configuration;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import lombok.NonNull;
+
+/**
+ * Provides the allowed values of a configuration parameter compiled into matchers.
+ * <hr>
+ * Plain values are compiled into two hash sets, one holding the values as declared and one holding their case-folded form, so
+ * checking a value does not depend on the number of allowed values. An allowed value can also declare a richer matcher using
+ * one of the following prefixes:
+ * <ul>
+ * <li>{@code range:min..max} matches a numeric value between the given bounds (inclusive), a bound can be omitted,</li>
+ * <li>{@code regex:pattern} matches a value entirely matching the given regular expression.</li>
+ * </ul>
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public final class AllowedValues
+{
+	/**
+	 * Prefix of a numeric range matcher.
+	 */
+	@SuppressWarnings("nls")
+	public static final String RANGE_PREFIX = "range:";
+
+	/**
+	 * Prefix of a regular expression matcher.
+	 */
+	@SuppressWarnings("nls")
+	public static final String REGEX_PREFIX = "regex:";
+
+	/**
+	 * Separator of the bounds of a numeric range.
+	 */
+	@SuppressWarnings("nls")
+	private static final String RANGE_SEPARATOR = "..";
+
+	/**
+	 * Allowed values as declared.
+	 */
+	private final Set<String> values = new HashSet<>();
+
+	/**
+	 * Case-folded allowed values.
+	 */
+	private final Set<String> folded = new HashSet<>();
+
+	/**
+	 * Numeric ranges, each one given by its lower and upper bounds.
+	 */
+	private final List<double[]> ranges = new ArrayList<>();
+
+	/**
+	 * Regular expressions.
+	 */
+	private final List<Pattern> patterns = new ArrayList<>();
+
+	/**
+	 * Number of declared allowed values.
+	 */
+	private final int size;
+
+	/**
+	 * Creates new allowed values.
+	 * <hr>
+	 * @param size Number of declared allowed values.
+	 */
+	private AllowedValues(final int size)
+	{
+		this.size = size;
+	}
+
+	/**
+	 * Compiles a list of allowed values.
+	 * <hr>
+	 * @param values Allowed values, {@code null} or empty if there is no restriction.
+	 * @return Compiled allowed values.
+	 * @throws IllegalArgumentException Thrown in case a range or a regular expression is invalid.
+	 */
+	public static final AllowedValues compile(final List<String> values)
+	{
+		List<String> list = values == null ? Collections.<String> emptyList() : values;
+		AllowedValues allowed = new AllowedValues(list.size());
+
+		for (String value : list)
+		{
+			if (value.startsWith(RANGE_PREFIX))
+			{
+				allowed.ranges.add(parseRange(value.substring(RANGE_PREFIX.length())));
+			}
+			else if (value.startsWith(REGEX_PREFIX))
+			{
+				allowed.patterns.add(Pattern.compile(value.substring(REGEX_PREFIX.length())));
+			}
+			else
+			{
+				allowed.values.add(value);
+				allowed.folded.add(fold(value));
+			}
+		}
+
+		return allowed;
+	}
+
+	/**
+	 * Parses a numeric range.
+	 * <hr>
+	 * @param range Range in the form {@code min..max}.
+	 * @return Lower and upper bounds.
+	 * @throws IllegalArgumentException Thrown in case the range is invalid.
+	 */
+	@SuppressWarnings("nls")
+	private static double[] parseRange(final String range)
+	{
+		int index = range.indexOf(RANGE_SEPARATOR);
+		if (index < 0)
+		{
+			throw new IllegalArgumentException("Invalid range: " + range + ", expected: min..max");
+		}
+
+		String min = range.substring(0, index).trim();
+		String max = range.substring(index + RANGE_SEPARATOR.length()).trim();
+
+		try
+		{
+			double[] bounds = new double[] { min.isEmpty() ? Double.NEGATIVE_INFINITY : Double.parseDouble(min), max.isEmpty() ? Double.POSITIVE_INFINITY : Double.parseDouble(max) };
+			if (bounds[0] > bounds[1])
+			{
+				throw new IllegalArgumentException("Invalid range: " + range + ", lower bound is greater than upper bound");
+			}
+
+			return bounds;
+		}
+		catch (NumberFormatException e)
+		{
+			throw new IllegalArgumentException("Invalid range: " + range, e);
+		}
+	}
+
+	/**
+	 * Returns the case-folded form of a value.
+	 * <hr>
+	 * @param value Value.
+	 * @return Case-folded value.
+	 */
+	private static String fold(final String value)
+	{
+		return value.toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * Returns the number of declared allowed values.
+	 * <hr>
+	 * @return Number of allowed values.
+	 */
+	public final int size()
+	{
+		return size;
+	}
+
+	/**
+	 * Returns if the values are restricted?
+	 * <hr>
+	 * @return {@code True} if at least one allowed value has been declared, {@code false} otherwise.
+	 */
+	public final boolean isRestricted()
+	{
+		return size > 0;
+	}
+
+	/**
+	 * Returns if a value is allowed?
+	 * <hr>
+	 * @param value Value to check.
+	 * @return {@code True} if there is no restriction or if the value is matching an allowed value (case sensitive), a range
+	 * or a regular expression, {@code false} otherwise.
+	 */
+	public final boolean matches(@NonNull final String value)
+	{
+		return !isRestricted() || values.contains(value) || matchesRange(value) || matchesPattern(value);
+	}
+
+	/**
+	 * Returns if a value is allowed ignoring the case of the plain allowed values?
+	 * <hr>
+	 * @param value Value to check.
+	 * @return {@code True} if there is no restriction or if the value is matching an allowed value (case insensitive), a range
+	 * or a regular expression, {@code false} otherwise.
+	 */
+	public final boolean matchesIgnoreCase(@NonNull final String value)
+	{
+		return !isRestricted() || folded.contains(fold(value)) || matchesRange(value) || matchesPattern(value);
+	}
+
+	/**
+	 * Returns if a value is matching one of the numeric ranges?
+	 * <hr>
+	 * @param value Value to check.
+	 * @return {@code True} if the value is a number within a range, {@code false} otherwise.
+	 */
+	private boolean matchesRange(final String value)
+	{
+		if (ranges.isEmpty())
+		{
+			return false;
+		}
+
+		double number;
+		try
+		{
+			number = Double.parseDouble(value.trim());
+		}
+		catch (NumberFormatException e)
+		{
+			return false;
+		}
+
+		for (double[] range : ranges)
+		{
+			if (number >= range[0] && number <= range[1])
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns if a value is matching one of the regular expressions?
+	 * <hr>
+	 * @param value Value to check.
+	 * @return {@code True} if the value entirely matches a regular expression, {@code false} otherwise.
+	 */
+	private boolean matchesPattern(final String value)
+	{
+		for (Pattern pattern : patterns)
+		{
+			if (pattern.matcher(value).matches())
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+}
@@ -41,6 +41,23 @@ public interface IParameterConfiguration extends IParameter
 	 */
 	void setPriority(int priority);
 
+	/**
+	 * Returns the parameter timeout.
+	 * <hr>
+	 * The timeout is the maximum time (in milliseconds) a context created for this parameter is allowed to run before being
+	 * cancelled. It overrides the timeouts defined by the runner.
+	 * <hr>
+	 * @return Timeout or {@code 0} if not defined.
+	 */
+	long getTimeout();
+
+	/**
+	 * Set the parameter timeout.
+	 * <hr>
+	 * @param timeout Timeout (in milliseconds) to set, {@code 0} for none.
+	 */
+	void setTimeout(long timeout);
+
 	/**
 	 * Returns the parameter description.
 	 * <hr>
@@ -120,6 +137,22 @@ public interface IParameterConfiguration extends IParameter
 	 */
 	boolean isAllowed(String value);
 
+	/**
+	 * Returns if the given value is allowed ignoring the case of the plain allowed values?
+	 * <hr>
+	 * @param value Value to check.
+	 * @return {@code True} if the given value is allowed, {@code false} otherwise.
+	 */
+	boolean isAllowedIgnoreCase(String value);
+
+	/**
+	 * Returns the allowed values compiled into matchers.
+	 * <hr>
+	 * @return Compiled allowed values.
+	 * @throws IllegalArgumentException Thrown in case an allowed value declares an invalid range or regular expression.
+	 */
+	AllowedValues getAllowed();
+
 	/**
 	 * Returns a list of incompatible parameters.
 	 * <hr>
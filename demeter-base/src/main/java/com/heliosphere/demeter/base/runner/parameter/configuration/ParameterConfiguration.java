@@ -17,6 +17,7 @@ import java.util.List;
 import com.heliosphere.demeter.base.runner.parameter.base.AbstractParameter;
 import com.heliosphere.demeter.base.runner.parameter.base.IParameter;
 import com.thoughtworks.xstream.annotations.XStreamAlias;
+import com.thoughtworks.xstream.annotations.XStreamOmitField;
 
 import lombok.NonNull;
 
@@ -39,6 +40,12 @@ public class ParameterConfiguration extends AbstractParameter implements IParame
 	@XStreamAlias("priority")
 	private int priority;
 
+	/**
+	 * Parameter timeout (in milliseconds).
+	 */
+	@XStreamAlias("timeout")
+	private long timeout;
+
 	/**
 	 * Parameter description.
 	 */
@@ -67,6 +74,18 @@ public class ParameterConfiguration extends AbstractParameter implements IParame
 	 */
 	private List<String> values;
 
+	/**
+	 * Compiled allowed values, {@code null} until compiled.
+	 */
+	@XStreamOmitField
+	private transient AllowedValues allowed;
+
+	/**
+	 * List of allowed values the compiled allowed values have been built for.
+	 */
+	@XStreamOmitField
+	private transient List<String> compiled;
+
 	/**
 	 * List of incompatible parameters.
 	 */
@@ -83,6 +102,12 @@ public class ParameterConfiguration extends AbstractParameter implements IParame
 		return priority;
 	}
 
+	@Override
+	public final long getTimeout()
+	{
+		return timeout;
+	}
+
 	@Override
 	public final String getDescription()
 	{
@@ -134,15 +159,26 @@ public class ParameterConfiguration extends AbstractParameter implements IParame
 	@Override
 	public final boolean isAllowed(@NonNull final String value)
 	{
-		for (String element : values)
+		return getAllowed().matches(value);
+	}
+
+	@Override
+	public final boolean isAllowedIgnoreCase(@NonNull final String value)
+	{
+		return getAllowed().matchesIgnoreCase(value);
+	}
+
+	@Override
+	public final AllowedValues getAllowed()
+	{
+		// The list of allowed values has been replaced or modified since it has been compiled.
+		if (allowed == null || compiled != values || allowed.size() != (values == null ? 0 : values.size()))
 		{
-			if (element.equals(value))
-			{
-				return true;
-			}
+			allowed = AllowedValues.compile(values);
+			compiled = values;
 		}
 
-		return false;
+		return allowed;
 	}
 
 	@Override
@@ -191,6 +227,12 @@ public class ParameterConfiguration extends AbstractParameter implements IParame
 		this.priority = priority;
 	}
 
+	@Override
+	public final void setTimeout(final long timeout)
+	{
+		this.timeout = timeout;
+	}
+
 	@Override
 	public final void setDescription(@NonNull final String description)
 	{
@@ -201,6 +243,7 @@ public class ParameterConfiguration extends AbstractParameter implements IParame
 	public final void setAllowedValues(@NonNull final List<String> values)
 	{
 		this.values = values;
+		this.allowed = null;
 	}
 
 	@Override
@@ -268,6 +311,7 @@ public class ParameterConfiguration extends AbstractParameter implements IParame
 		if (!values.contains(value))
 		{
 			values.add(value);
+			allowed = null;
 		}
 	}
 }
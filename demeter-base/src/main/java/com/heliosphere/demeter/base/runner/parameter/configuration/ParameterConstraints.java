@@ -0,0 +1,209 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the 
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.parameter.configuration;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.heliosphere.demeter.base.runner.parameter.base.IParameterType;
+import com.heliosphere.demeter.base.runner.parameter.base.ParameterException;
+import com.heliosphere.demeter.base.runner.parameter.execution.IParameterExecution;
+
+import lombok.NonNull;
+
+/**
+ * Provides the incompatible and required parameter constraints of a configuration compiled into bit masks.
+ * <hr>
+ * Each configuration parameter is identified by the ordinal of its type. Its incompatible and required parameters are compiled
+ * once into two bit masks, so validating a set of execution parameters only costs a few word wide operations per parameter
+ * instead of resolving each constraint by name and then by type.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public final class ParameterConstraints
+{
+	/**
+	 * Configuration parameters indexed by type ordinal.
+	 */
+	private final IParameterConfiguration[] parameters;
+
+	/**
+	 * Incompatible parameters mask indexed by type ordinal.
+	 */
+	private final BitSet[] excludes;
+
+	/**
+	 * Required parameters mask indexed by type ordinal.
+	 */
+	private final BitSet[] requires;
+
+	/**
+	 * Creates new parameter constraints.
+	 * <hr>
+	 * @param size Number of type ordinals.
+	 */
+	private ParameterConstraints(final int size)
+	{
+		this.parameters = new IParameterConfiguration[size];
+		this.excludes = new BitSet[size];
+		this.requires = new BitSet[size];
+	}
+
+	/**
+	 * Compiles the constraints of a set of configuration parameters.
+	 * <hr>
+	 * @param configuration Configuration parameters, their type must have been determined.
+	 * @return Compiled constraints.
+	 * @throws ParameterException Thrown in case a parameter has no type or a constraint refers to an unknown parameter.
+	 */
+	@SuppressWarnings("nls")
+	public static final ParameterConstraints compile(@NonNull final Collection<IParameterConfiguration> configuration) throws ParameterException
+	{
+		Map<String, IParameterConfiguration> names = new HashMap<>();
+		int size = 0;
+
+		for (IParameterConfiguration parameter : configuration)
+		{
+			if (parameter.getType() == null)
+			{
+				throw new ParameterException(String.format("Type of parameter: %1s has not been determined!", parameter.getName()));
+			}
+
+			size = Math.max(size, parameter.getType().ordinal() + 1);
+			names.put(parameter.getName(), parameter);
+			if (parameter.getAliases() != null)
+			{
+				for (String alias : parameter.getAliases())
+				{
+					names.put(alias, parameter);
+				}
+			}
+		}
+
+		ParameterConstraints constraints = new ParameterConstraints(size);
+		for (IParameterConfiguration parameter : configuration)
+		{
+			int ordinal = parameter.getType().ordinal();
+			if (constraints.parameters[ordinal] == null)
+			{
+				constraints.parameters[ordinal] = parameter;
+				constraints.excludes[ordinal] = compile(parameter, parameter.getIncompatibleParameters(), names);
+				constraints.requires[ordinal] = compile(parameter, parameter.getRequiredParameters(), names);
+			}
+		}
+
+		return constraints;
+	}
+
+	/**
+	 * Compiles a list of parameter names into a mask.
+	 * <hr>
+	 * @param parameter Configuration parameter the names are referred by.
+	 * @param references Parameter names or aliases, can be {@code null}.
+	 * @param names Configuration parameters indexed by name and alias.
+	 * @return Mask.
+	 * @throws ParameterException Thrown in case a name refers to an unknown parameter.
+	 */
+	@SuppressWarnings("nls")
+	private static BitSet compile(final IParameterConfiguration parameter, final List<String> references, final Map<String, IParameterConfiguration> names) throws ParameterException
+	{
+		BitSet mask = new BitSet();
+
+		if (references != null)
+		{
+			for (String name : references)
+			{
+				IParameterConfiguration other = names.get(name);
+				if (other == null)
+				{
+					throw new ParameterException(String.format("Unknown parameter: %1s referred by parameter: %2s!", name, parameter.getName()));
+				}
+
+				mask.set(other.getType().ordinal());
+			}
+		}
+
+		return mask;
+	}
+
+	/**
+	 * Validates a set of execution parameters against the constraints.
+	 * <hr>
+	 * @param execution Execution parameters, their type must have been determined.
+	 * @throws ParameterException Thrown in case two parameters are incompatible or a required parameter is missing.
+	 */
+	@SuppressWarnings("nls")
+	public final void validate(@NonNull final Collection<IParameterExecution> execution) throws ParameterException
+	{
+		BitSet present = new BitSet(parameters.length);
+		for (IParameterExecution parameter : execution)
+		{
+			Enum<? extends IParameterType> type = parameter.getType();
+			if (type != null && type.ordinal() < parameters.length && parameters[type.ordinal()] != null)
+			{
+				present.set(type.ordinal());
+			}
+		}
+
+		// Check incompatible parameters.
+		for (int i = present.nextSetBit(0); i >= 0; i = present.nextSetBit(i + 1))
+		{
+			if (excludes[i].intersects(present))
+			{
+				BitSet conflict = (BitSet) excludes[i].clone();
+				conflict.and(present);
+				throw new ParameterException(String.format("Parameters %1s and %2s are incompatible!", parameters[i].getName(), parameters[conflict.nextSetBit(0)].getName()));
+			}
+		}
+
+		// Check required parameters.
+		for (int i = present.nextSetBit(0); i >= 0; i = present.nextSetBit(i + 1))
+		{
+			BitSet missing = (BitSet) requires[i].clone();
+			missing.andNot(present);
+			if (!missing.isEmpty())
+			{
+				throw new ParameterException(String.format("Parameters %1s and %2s are required!", parameters[i].getName(), parameters[missing.nextSetBit(0)].getName()));
+			}
+		}
+	}
+
+	/**
+	 * Returns if a parameter type is incompatible with another one?
+	 * <hr>
+	 * @param type Parameter type.
+	 * @param other Other parameter type.
+	 * @return {@code True} if the configuration of the first parameter excludes the second one, {@code false} otherwise.
+	 */
+	public final boolean isIncompatible(@NonNull final Enum<? extends IParameterType> type, @NonNull final Enum<? extends IParameterType> other)
+	{
+		int ordinal = type.ordinal();
+		return ordinal < excludes.length && excludes[ordinal] != null && excludes[ordinal].get(other.ordinal());
+	}
+
+	/**
+	 * Returns if a parameter type requires another one?
+	 * <hr>
+	 * @param type Parameter type.
+	 * @param other Other parameter type.
+	 * @return {@code True} if the configuration of the first parameter requires the second one, {@code false} otherwise.
+	 */
+	public final boolean isRequired(@NonNull final Enum<? extends IParameterType> type, @NonNull final Enum<? extends IParameterType> other)
+	{
+		int ordinal = type.ordinal();
+		return ordinal < requires.length && requires[ordinal] != null && requires[ordinal].get(other.ordinal());
+	}
+}
@@ -73,6 +73,36 @@ public class ParameterExecution extends AbstractParameter implements IParameterE
 		setName(name);
 	}
 
+	/**
+	 * Creates a new execution parameter as a copy of another one.
+	 * <hr>
+	 * The properties of a {@link ParameterExecution} are copied, the configuration (which is never modified once loaded) is
+	 * shared.
+	 * <hr>
+	 * @param source Execution parameter to copy.
+	 */
+	public ParameterExecution(@NonNull final IParameterExecution source)
+	{
+		setName(source.getName());
+		if (source.getType() != null)
+		{
+			setType(source.getType());
+		}
+		if (source.getEntityType() != null)
+		{
+			setEntityType(source.getEntityType());
+		}
+
+		value = source.getValue();
+		status = source.getStatus();
+		configuration = source.getConfiguration();
+
+		if (source instanceof ParameterExecution && ((ParameterExecution) source).properties != null)
+		{
+			properties = new HashMap<>(((ParameterExecution) source).properties);
+		}
+	}
+
 	@Override
 	public final String getValue()
 	{
@@ -0,0 +1,215 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the 
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.parameter.execution;
+
+import com.heliosphere.demeter.base.runner.entity.IEntityType;
+import com.heliosphere.demeter.base.runner.parameter.base.IParameter;
+import com.heliosphere.demeter.base.runner.parameter.base.IParameterType;
+import com.heliosphere.demeter.base.runner.parameter.base.ParameterStatusType;
+import com.heliosphere.demeter.base.runner.parameter.configuration.IParameterConfiguration;
+
+import lombok.NonNull;
+
+/**
+ * Provides a copy-on-write view of a shared execution parameter.
+ * <hr>
+ * Reads are served by the shared parameter until the first modification, which copies it into a private execution parameter
+ * the view then reads from and writes to. The shared parameter is therefore never modified.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public final class ParameterExecutionOverlay implements IParameterExecution
+{
+	/**
+	 * Default serialization identifier.
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Shared execution parameter.
+	 */
+	private final IParameterExecution shared;
+
+	/**
+	 * Private copy of the shared execution parameter, {@code null} until the view is modified.
+	 */
+	private IParameterExecution copy = null;
+
+	/**
+	 * Creates a new execution parameter overlay.
+	 * <hr>
+	 * @param shared Shared execution parameter.
+	 */
+	public ParameterExecutionOverlay(@NonNull final IParameterExecution shared)
+	{
+		this.shared = shared;
+	}
+
+	/**
+	 * Returns if the view has been modified and no longer reads from the shared parameter?
+	 * <hr>
+	 * @return {@code True} if modified, {@code false} otherwise.
+	 */
+	public final boolean isModified()
+	{
+		return copy != null;
+	}
+
+	/**
+	 * Returns the parameter the view reads from.
+	 * <hr>
+	 * @return Private copy if the view has been modified, shared parameter otherwise.
+	 */
+	private IParameterExecution read()
+	{
+		return copy != null ? copy : shared;
+	}
+
+	/**
+	 * Returns the parameter the view writes to, copying the shared parameter on the first modification.
+	 * <hr>
+	 * @return Private copy.
+	 */
+	private IParameterExecution write()
+	{
+		if (copy == null)
+		{
+			copy = new ParameterExecution(shared);
+		}
+
+		return copy;
+	}
+
+	@Override
+	public final String getName()
+	{
+		return read().getName();
+	}
+
+	@Override
+	public final void setName(final String name)
+	{
+		write().setName(name);
+	}
+
+	@Override
+	public final Enum<? extends IParameterType> getType()
+	{
+		return read().getType();
+	}
+
+	@Override
+	public final void setType(@NonNull final Enum<? extends IParameterType> type)
+	{
+		write().setType(type);
+	}
+
+	@Override
+	public final Enum<? extends IEntityType> getEntityType()
+	{
+		return read().getEntityType();
+	}
+
+	@Override
+	public final void setEntityType(@NonNull final Enum<? extends IEntityType> type)
+	{
+		write().setEntityType(type);
+	}
+
+	@Override
+	public final String getValue()
+	{
+		return read().getValue();
+	}
+
+	@Override
+	public final void setValue(final String value)
+	{
+		write().setValue(value);
+	}
+
+	@Override
+	public final void addProperty(@NonNull final String name, final Object value)
+	{
+		write().addProperty(name, value);
+	}
+
+	@Override
+	public final void removeProperty(@NonNull final String name)
+	{
+		if (read().existProperty(name))
+		{
+			write().removeProperty(name);
+		}
+	}
+
+	@Override
+	public final Object getProperty(@NonNull final String name)
+	{
+		return read().getProperty(name);
+	}
+
+	@Override
+	public final void deleteProperties()
+	{
+		if (read().countProperties() > 0)
+		{
+			write().deleteProperties();
+		}
+	}
+
+	@Override
+	public final int countProperties()
+	{
+		return read().countProperties();
+	}
+
+	@Override
+	public final boolean existProperty(@NonNull final String name)
+	{
+		return read().existProperty(name);
+	}
+
+	@Override
+	public final IParameterConfiguration getConfiguration()
+	{
+		return read().getConfiguration();
+	}
+
+	@Override
+	public final void setConfiguration(final IParameterConfiguration parameter)
+	{
+		write().setConfiguration(parameter);
+	}
+
+	@Override
+	public final ParameterStatusType getStatus()
+	{
+		return read().getStatus();
+	}
+
+	@Override
+	public final void setStatus(@NonNull final ParameterStatusType status)
+	{
+		if (read().getStatus() != status)
+		{
+			write().setStatus(status);
+		}
+	}
+
+	@Override
+	public final int compareTo(final IParameter o)
+	{
+		return read().compareTo(o);
+	}
+}
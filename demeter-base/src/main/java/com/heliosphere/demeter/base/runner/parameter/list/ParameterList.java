@@ -11,9 +11,13 @@
  */
 package com.heliosphere.demeter.base.runner.parameter.list;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
 
 import com.heliosphere.demeter.base.runner.parameter.base.IParameter;
 import com.heliosphere.demeter.base.runner.parameter.base.IParameterType;
@@ -23,6 +27,16 @@ import lombok.NonNull;
 /**
  * Provides a concrete implementation of a list of parameters.
  * <hr>
+ * Lookups by type and by name are served by two hash indexes, an identity one on the parameter types (enumerated values) and
+ * one on the parameter names, so they run in constant time whatever the number of parameters. When several parameters have the
+ * same type or name, the first one in the list is returned. The indexes are not serialized: they are built on the first lookup,
+ * including for lists created by XStream which bypasses the constructors, and discarded whenever the list is modified, either
+ * through this class or through the list returned by {@link #getElements()}.
+ * <p>
+ * The indexes are built into an immutable holder published at once, so concurrent lookups on a list which is no more modified
+ * are safe. As the indexes do not track the types (or names) set on the parameters afterwards, {@link #reindex()} must be called
+ * once they have been changed, as done by the runner once it has resolved the types of the parameters loaded from a file.
+ * <hr>
  * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
  * @version 1.0.0
  * @param <T> - Type of parameter.
@@ -34,81 +48,83 @@ public final class ParameterList<T extends IParameter> implements IParameterList
 	 */
 	private List<T> parameters;
 
+	/**
+	 * Indexes of the parameters, {@code null} until built.
+	 */
+	private transient volatile Index<T> index;
+
+	/**
+	 * View of the parameters keeping the indexes consistent when modified.
+	 */
+	private transient List<T> view;
+
 	@Override
 	public final List<T> getElements()
 	{
-		return parameters;
+		if (parameters == null)
+		{
+			return null;
+		}
+
+		if (view == null)
+		{
+			view = new Elements();
+		}
+
+		return view;
 	}
 
 	@Override
 	public final void setElements(@NonNull final List<T> elements)
 	{
 		this.parameters = elements;
+		invalidate();
 	}
 
 	@Override
 	public final T get(@NonNull final Enum<? extends IParameterType> type)
 	{
-		if (parameters != null)
+		if (parameters == null)
 		{
-			for (T parameter : parameters)
-			{
-				if (parameter.getType() == type)
-				{
-					return parameter;
-				}
-			}
+			return null;
 		}
 
-		return null;
+		return index().types.get(type);
 	}
 
 	@Override
 	public final T get(@NonNull final String name)
 	{
-		if (parameters != null)
+		if (parameters == null)
 		{
-			for (T parameter : parameters)
-			{
-				if (parameter.getName().equals(name))
-				{
-					return parameter;
-				}
-			}
+			return null;
 		}
 
-		return null;
+		return index().names.get(name);
 	}
 
+	/**
+	 * Adds a parameter to the list.
+	 * <hr>
+	 * A parameter whose type is already in the list is ignored.
+	 * <hr>
+	 * @param parameter Parameter to add.
+	 */
 	@Override
 	public final void add(@NonNull final T parameter)
 	{
-		T old = null;
-
 		if (parameters == null)
 		{
 			parameters = new ArrayList<>();
 		}
 
-		for (T element : parameters)
+		if (index().types.containsKey(parameter.getType()))
 		{
-			if (element.getType() == parameter.getType())
-			{
-				old = parameter;
-			}
+			return;
 		}
 
-		/*
-		 * If the parameter already exist, replace it, otherwise add it!
-		 */
-		if (old != null)
-		{
-			Collections.replaceAll(parameters, old, parameter);
-		}
-		else
-		{
-			parameters.add(parameter);
-		}
+		parameters.add(parameter);
+		invalidate();
 	}
 
 	@Override
@@ -119,14 +135,21 @@ public final class ParameterList<T extends IParameter> implements IParameterList
 			return;
 		}
 
-		parameters.remove(parameter);
+		if (parameters.remove(parameter))
+		{
+			invalidate();
+		}
 	}
 
 	@Override
 	public final void clear()
 	{
-		parameters.clear();
+		if (parameters != null)
+		{
+			parameters.clear();
+		}
 		parameters = null;
+		invalidate();
 	}
 
 	@Override
@@ -146,4 +169,121 @@ public final class ParameterList<T extends IParameter> implements IParameterList
 	{
 		return get(name) != null ? true : false;
 	}
+
+	/**
+	 * Rebuilds the indexes, to be called once the types or the names of the parameters have been changed.
+	 */
+	public final void reindex()
+	{
+		index = parameters == null ? null : new Index<>(parameters);
+	}
+
+	/**
+	 * Returns the indexes, building them if needed.
+	 * <hr>
+	 * @return Indexes.
+	 */
+	private Index<T> index()
+	{
+		Index<T> current = index;
+		if (current == null)
+		{
+			current = new Index<>(parameters);
+			index = current;
+		}
+
+		return current;
+	}
+
+	/**
+	 * Discards the indexes so they are rebuilt on the next lookup.
+	 */
+	private void invalidate()
+	{
+		index = null;
+	}
+
+	/**
+	 * Immutable indexes of the parameters by type and by name.
+	 * <hr>
+	 * @param <T> - Type of parameter.
+	 */
+	private static final class Index<T extends IParameter>
+	{
+		/**
+		 * First parameter of each type.
+		 */
+		private final Map<Enum<? extends IParameterType>, T> types = new IdentityHashMap<>();
+
+		/**
+		 * First parameter of each name.
+		 */
+		private final Map<String, T> names = new HashMap<>();
+
+		/**
+		 * Builds the indexes of a list of parameters.
+		 * <hr>
+		 * @param parameters Parameters to index.
+		 */
+		private Index(final List<T> parameters)
+		{
+			for (T parameter : parameters)
+			{
+				if (!types.containsKey(parameter.getType()))
+				{
+					types.put(parameter.getType(), parameter);
+				}
+
+				if (!names.containsKey(parameter.getName()))
+				{
+					names.put(parameter.getName(), parameter);
+				}
+			}
+		}
+	}
+
+	/**
+	 * List of the parameters discarding the indexes each time it is modified.
+	 */
+	private final class Elements extends AbstractList<T> implements RandomAccess
+	{
+		@Override
+		public T get(final int index)
+		{
+			return parameters.get(index);
+		}
+
+		@Override
+		public int size()
+		{
+			return parameters == null ? 0 : parameters.size();
+		}
+
+		@Override
+		public T set(final int index, final T element)
+		{
+			T previous = parameters.set(index, element);
+			invalidate();
+
+			return previous;
+		}
+
+		@Override
+		public void add(final int index, final T element)
+		{
+			parameters.add(index, element);
+			modCount++;
+			invalidate();
+		}
+
+		@Override
+		public T remove(final int index)
+		{
+			T previous = parameters.remove(index);
+			modCount++;
+			invalidate();
+
+			return previous;
+		}
+	}
 }
@@ -0,0 +1,185 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the 
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.parameter.list;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.heliosphere.demeter.base.runner.parameter.base.IParameterType;
+import com.heliosphere.demeter.base.runner.parameter.execution.IParameterExecution;
+import com.heliosphere.demeter.base.runner.parameter.execution.ParameterExecutionOverlay;
+
+import lombok.NonNull;
+
+/**
+ * Provides a copy-on-write list of execution parameters on top of a shared {@link ParameterSnapshot}.
+ * <hr>
+ * Creating an overlay is constant time whatever the number of parameters. Each parameter is exposed through a
+ * {@link ParameterExecutionOverlay}, created on first access, which only copies the shared parameter when it is modified. The
+ * list itself is only materialized when its elements are requested or when it is structurally modified.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public final class ParameterOverlay implements IParameterList<IParameterExecution>
+{
+	/**
+	 * Shared parameter snapshot.
+	 */
+	private final ParameterSnapshot snapshot;
+
+	/**
+	 * Parameter views indexed as the snapshot parameters, created on first access.
+	 */
+	private IParameterExecution[] views = null;
+
+	/**
+	 * Materialized list of parameters, {@code null} until requested or structurally modified.
+	 */
+	private ParameterList<IParameterExecution> list = null;
+
+	/**
+	 * Creates a new parameter overlay.
+	 * <hr>
+	 * @param snapshot Shared parameter snapshot.
+	 */
+	public ParameterOverlay(@NonNull final ParameterSnapshot snapshot)
+	{
+		this.snapshot = snapshot;
+	}
+
+	/**
+	 * Returns the shared parameter snapshot.
+	 * <hr>
+	 * @return Parameter snapshot.
+	 */
+	public final ParameterSnapshot getSnapshot()
+	{
+		return snapshot;
+	}
+
+	/**
+	 * Returns the view of a snapshot parameter, creating it if needed.
+	 * <hr>
+	 * @param index Parameter index.
+	 * @return Parameter view.
+	 */
+	private IParameterExecution view(final int index)
+	{
+		if (views == null)
+		{
+			views = new IParameterExecution[snapshot.size()];
+		}
+
+		if (views[index] == null)
+		{
+			views[index] = new ParameterExecutionOverlay(snapshot.get(index));
+		}
+
+		return views[index];
+	}
+
+	/**
+	 * Returns the materialized list of parameters, creating it if needed.
+	 * <hr>
+	 * @return List of parameters.
+	 */
+	private ParameterList<IParameterExecution> list()
+	{
+		if (list == null)
+		{
+			List<IParameterExecution> elements = new ArrayList<>(snapshot.size());
+			for (int i = 0; i < snapshot.size(); i++)
+			{
+				elements.add(view(i));
+			}
+
+			list = new ParameterList<>();
+			list.setElements(elements);
+		}
+
+		return list;
+	}
+
+	@Override
+	public final List<IParameterExecution> getElements()
+	{
+		return list().getElements();
+	}
+
+	@Override
+	public final void setElements(@NonNull final List<IParameterExecution> elements)
+	{
+		list = new ParameterList<>();
+		list.setElements(elements);
+	}
+
+	@Override
+	public final IParameterExecution get(@NonNull final Enum<? extends IParameterType> type)
+	{
+		if (list != null)
+		{
+			return list.get(type);
+		}
+
+		int index = snapshot.indexOf(type);
+		return index < 0 ? null : view(index);
+	}
+
+	@Override
+	public final IParameterExecution get(@NonNull final String name)
+	{
+		if (list != null)
+		{
+			return list.get(name);
+		}
+
+		int index = snapshot.indexOf(name);
+		return index < 0 ? null : view(index);
+	}
+
+	@Override
+	public final void add(@NonNull final IParameterExecution parameter)
+	{
+		list().add(parameter);
+	}
+
+	@Override
+	public final void remove(@NonNull final IParameterExecution parameter)
+	{
+		list().remove(parameter);
+	}
+
+	@Override
+	public final void clear()
+	{
+		list().clear();
+	}
+
+	@Override
+	public final boolean contain(@NonNull final IParameterExecution parameter)
+	{
+		return get(parameter.getType()) != null;
+	}
+
+	@Override
+	public final boolean contain(@NonNull final Enum<? extends IParameterType> type)
+	{
+		return get(type) != null;
+	}
+
+	@Override
+	public final boolean contain(@NonNull final String name)
+	{
+		return get(name) != null;
+	}
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the 
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.parameter.list;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.heliosphere.demeter.base.runner.parameter.base.IParameterType;
+import com.heliosphere.demeter.base.runner.parameter.execution.IParameterExecution;
+import com.heliosphere.demeter.base.runner.parameter.execution.ParameterExecution;
+
+import lombok.NonNull;
+
+/**
+ * Provides an immutable snapshot of a list of execution parameters, shared by all the contexts of a runner.
+ * <hr>
+ * The parameters are copied once when the snapshot is taken, so later modifications of the source list are not visible. The
+ * parameters of a snapshot must never be modified, contexts access them through a {@link ParameterOverlay} holding their own
+ * modifications.
+ * <p>
+ * The parameters are indexed by type and by name once when the snapshot is taken, the indexes being shared by all the overlays
+ * created over the snapshot. When several parameters share a type or a name, the first one is indexed.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public final class ParameterSnapshot implements IParameterList<IParameterExecution>
+{
+	/**
+	 * Parameters of the snapshot.
+	 */
+	private final List<IParameterExecution> parameters;
+
+	/**
+	 * Index of the parameters given their type.
+	 */
+	private final Map<Enum<? extends IParameterType>, Integer> types = new IdentityHashMap<>();
+
+	/**
+	 * Index of the parameters given their name.
+	 */
+	private final Map<String, Integer> names = new HashMap<>();
+
+	/**
+	 * Creates a new parameter snapshot.
+	 * <hr>
+	 * @param parameters Parameters of the snapshot.
+	 */
+	private ParameterSnapshot(final List<IParameterExecution> parameters)
+	{
+		this.parameters = Collections.unmodifiableList(parameters);
+
+		for (int i = 0; i < parameters.size(); i++)
+		{
+			IParameterExecution parameter = parameters.get(i);
+			if (!types.containsKey(parameter.getType()))
+			{
+				types.put(parameter.getType(), Integer.valueOf(i));
+			}
+			if (!names.containsKey(parameter.getName()))
+			{
+				names.put(parameter.getName(), Integer.valueOf(i));
+			}
+		}
+	}
+
+	/**
+	 * Returns a snapshot of a list of execution parameters.
+	 * <hr>
+	 * @param parameters List of execution parameters.
+	 * @return Given list if it is already a snapshot, new snapshot otherwise.
+	 */
+	public static final ParameterSnapshot of(@NonNull final IParameterList<IParameterExecution> parameters)
+	{
+		if (parameters instanceof ParameterSnapshot)
+		{
+			return (ParameterSnapshot) parameters;
+		}
+
+		List<IParameterExecution> copies = new ArrayList<>();
+		if (parameters.getElements() != null)
+		{
+			for (IParameterExecution parameter : parameters.getElements())
+			{
+				copies.add(new ParameterExecution(parameter));
+			}
+		}
+
+		return new ParameterSnapshot(copies);
+	}
+
+	/**
+	 * Returns the number of parameters.
+	 * <hr>
+	 * @return Number of parameters.
+	 */
+	public final int size()
+	{
+		return parameters.size();
+	}
+
+	/**
+	 * Returns a parameter given its index.
+	 * <hr>
+	 * @param index Parameter index.
+	 * @return Parameter.
+	 */
+	public final IParameterExecution get(final int index)
+	{
+		return parameters.get(index);
+	}
+
+	/**
+	 * Returns the index of a parameter given its type.
+	 * <hr>
+	 * @param type Parameter type.
+	 * @return Parameter index or {@code -1} if not found.
+	 */
+	public final int indexOf(@NonNull final Enum<? extends IParameterType> type)
+	{
+		Integer index = types.get(type);
+		return index == null ? -1 : index.intValue();
+	}
+
+	/**
+	 * Returns the index of a parameter given its name.
+	 * <hr>
+	 * @param name Parameter name.
+	 * @return Parameter index or {@code -1} if not found.
+	 */
+	public final int indexOf(@NonNull final String name)
+	{
+		Integer index = names.get(name);
+		return index == null ? -1 : index.intValue();
+	}
+
+	@Override
+	public final List<IParameterExecution> getElements()
+	{
+		return parameters;
+	}
+
+	@Override
+	public final IParameterExecution get(@NonNull final Enum<? extends IParameterType> type)
+	{
+		int index = indexOf(type);
+		return index < 0 ? null : parameters.get(index);
+	}
+
+	@Override
+	public final IParameterExecution get(@NonNull final String name)
+	{
+		int index = indexOf(name);
+		return index < 0 ? null : parameters.get(index);
+	}
+
+	@Override
+	public final boolean contain(@NonNull final IParameterExecution parameter)
+	{
+		return indexOf(parameter.getType()) >= 0;
+	}
+
+	@Override
+	public final boolean contain(@NonNull final Enum<? extends IParameterType> type)
+	{
+		return indexOf(type) >= 0;
+	}
+
+	@Override
+	public final boolean contain(@NonNull final String name)
+	{
+		return indexOf(name) >= 0;
+	}
+
+	@SuppressWarnings("nls")
+	@Override
+	public final void setElements(final List<IParameterExecution> elements)
+	{
+		throw new UnsupportedOperationException("Parameter snapshot cannot be modified!");
+	}
+
+	@SuppressWarnings("nls")
+	@Override
+	public final void add(final IParameterExecution parameter)
+	{
+		throw new UnsupportedOperationException("Parameter snapshot cannot be modified!");
+	}
+
+	@SuppressWarnings("nls")
+	@Override
+	public final void remove(final IParameterExecution parameter)
+	{
+		throw new UnsupportedOperationException("Parameter snapshot cannot be modified!");
+	}
+
+	@SuppressWarnings("nls")
+	@Override
+	public final void clear()
+	{
+		throw new UnsupportedOperationException("Parameter snapshot cannot be modified!");
+	}
+}
@@ -0,0 +1,350 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.processor;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import com.heliosphere.demeter.base.runner.batch.BatchSettings;
+import com.heliosphere.demeter.base.runner.context.IContext;
+import com.heliosphere.demeter.base.runner.executor.ExecutorFactory;
+import com.heliosphere.demeter.base.runner.executor.ExecutorMode;
+import com.heliosphere.demeter.base.runner.metric.BatchMetrics;
+import com.heliosphere.demeter.base.runner.retry.RetryPolicy;
+
+/**
+ * Provides an abstract processor processing a (potentially large) source of items by chunks.
+ * <hr>
+ * Items are read from the source returned by {@link #open()} and grouped into chunks of {@link BatchSettings#getChunkSize()}
+ * items. Up to {@link BatchSettings#getParallelism()} chunks are processed at the same time, each chunk being processed then
+ * committed on its own. A failed chunk is rolled back and retried up to {@link BatchSettings#getRetries()} times, with an
+ * exponential backoff between two attempts, before being given up, the other chunks still being processed. At most twice as many
+ * chunks as the parallelism are held in memory.
+ * <p>
+ * The chunks are executed on the chunk executor shared by the batch processors of the runner (see
+ * {@link com.heliosphere.demeter.base.runner.IRunner#getChunkExecutor()}), or on a temporary pool when the processor is not run
+ * by a runner.
+ * <p>
+ * The settings are taken from the entity content when it is a {@link BatchSettings}, otherwise {@link BatchSettings#defaults()}
+ * are used. The throughput and the chunk latencies are reported by the {@link BatchMetrics} of the execution result.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ * @param <T> Item type.
+ */
+public abstract class AbstractBatchProcessor<T> extends AbstractProcessor
+{
+	/**
+	 * Creates a new batch processor given a context.
+	 * <hr>
+	 * @param context Context to process.
+	 */
+	public AbstractBatchProcessor(final IContext context)
+	{
+		super(context);
+	}
+
+	/**
+	 * Opens the source of the items to process.
+	 * <hr>
+	 * @return Iterator on the items, only accessed by the processing thread.
+	 * @throws ProcessorException Thrown in case the source cannot be opened.
+	 */
+	protected abstract Iterator<T> open() throws ProcessorException;
+
+	/**
+	 * Processes a chunk of items.
+	 * <hr>
+	 * This method is called concurrently for different chunks and must be thread safe.
+	 * <hr>
+	 * @param chunk Items of the chunk.
+	 * @throws ProcessorException Thrown in case the chunk cannot be processed.
+	 */
+	protected abstract void processChunk(List<T> chunk) throws ProcessorException;
+
+	/**
+	 * Commits a successfully processed chunk.
+	 * <hr>
+	 * @param chunk Items of the chunk.
+	 * @throws ProcessorException Thrown in case the chunk cannot be committed, the chunk is then rolled back.
+	 */
+	protected void commit(final List<T> chunk) throws ProcessorException
+	{
+		// To be overridden by sub classes!
+	}
+
+	/**
+	 * Rolls back a chunk whose processing or commit has failed.
+	 * <hr>
+	 * @param chunk Items of the chunk.
+	 */
+	protected void rollback(final List<T> chunk)
+	{
+		// To be overridden by sub classes!
+	}
+
+	/**
+	 * Closes the source of the items, called once all the chunks have been processed.
+	 */
+	protected void close()
+	{
+		// To be overridden by sub classes!
+	}
+
+	/**
+	 * Returns the batch settings.
+	 * <hr>
+	 * @return Batch settings.
+	 */
+	public final BatchSettings getSettings()
+	{
+		IContext context = getContext();
+		if (context != null && context.getEntity() != null && context.getEntity().getContent() instanceof BatchSettings)
+		{
+			return (BatchSettings) context.getEntity().getContent();
+		}
+
+		return BatchSettings.defaults();
+	}
+
+	@SuppressWarnings("nls")
+	@Override
+	public final void process() throws ProcessorException
+	{
+		super.process();
+
+		final BatchSettings settings = getSettings();
+		final BatchMetrics metrics = new BatchMetrics();
+		final Queue<Exception> failures = new ConcurrentLinkedQueue<>();
+		final int window = settings.getParallelism() * 2;
+		final Semaphore permits = new Semaphore(window);
+		final CountDownLatch aborted = new CountDownLatch(1);
+		getExecutionResult().setBatchMetrics(metrics);
+
+		Executor shared = settings.getParallelism() > 1 && getContext() != null && getContext().getRunner() != null ? getContext().getRunner().getChunkExecutor() : null;
+		ExecutorService temporary = settings.getParallelism() > 1 && shared == null ? ExecutorFactory.create(ExecutorMode.FIXED, settings.getParallelism(), settings.getParallelism(), getName() + "-chunk") : null;
+		Executor executor = shared != null ? shared : temporary;
+		boolean completed = false;
+
+		try
+		{
+			Iterator<T> source = open();
+			List<T> chunk = new ArrayList<>(settings.getChunkSize());
+
+			while (source.hasNext())
+			{
+				chunk.add(source.next());
+				if (chunk.size() == settings.getChunkSize() || !source.hasNext())
+				{
+					checkpoint();
+					submit(executor, permits, chunk, settings.getRetryPolicy(), aborted, metrics, failures);
+					chunk = new ArrayList<>(settings.getChunkSize());
+				}
+			}
+
+			// Wait for all the in-flight chunks.
+			permits.acquire(window);
+			completed = true;
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new ProcessorCancelledException(String.format("Batch: %1s has been interrupted", getName()));
+		}
+		finally
+		{
+			if (!completed)
+			{
+				// The queued chunks are skipped and the chunks being retried are given up.
+				aborted.countDown();
+				if (temporary != null)
+				{
+					permits.release(temporary.shutdownNow().size());
+				}
+				awaitChunks(permits, window);
+			}
+
+			if (temporary != null)
+			{
+				temporary.shutdown();
+			}
+
+			metrics.end();
+			close();
+		}
+
+		if (!failures.isEmpty())
+		{
+			getExecutionResult().getExceptions().addAll(failures);
+			throw new ProcessorException(String.format("Batch: %1s has failed to process: [%2d] chunk(s)", getName(), Long.valueOf(metrics.getFailures())));
+		}
+	}
+
+	/**
+	 * Submits a chunk for processing, waiting for a free slot if too many chunks are in-flight.
+	 * <hr>
+	 * @param executor Executor processing the chunks, {@code null} to process the chunk in the calling thread.
+	 * @param permits In-flight chunk slots.
+	 * @param chunk Items of the chunk.
+	 * @param policy Policy used to retry the chunk.
+	 * @param aborted Signal released when the batch is aborted.
+	 * @param metrics Batch metrics.
+	 * @param failures Exceptions of the chunks given up.
+	 * @throws InterruptedException Thrown in case the processing thread has been interrupted while waiting for a free slot.
+	 */
+	private void submit(final Executor executor, final Semaphore permits, final List<T> chunk, final RetryPolicy policy, final CountDownLatch aborted, final BatchMetrics metrics, final Queue<Exception> failures) throws InterruptedException
+	{
+		permits.acquire();
+
+		Runnable task = new Runnable()
+		{
+			@Override
+			public void run()
+			{
+				try
+				{
+					if (aborted.getCount() > 0)
+					{
+						execute(chunk, policy, aborted, metrics, failures);
+					}
+				}
+				finally
+				{
+					permits.release();
+				}
+			}
+		};
+
+		if (executor == null)
+		{
+			task.run();
+			return;
+		}
+
+		try
+		{
+			executor.execute(task);
+		}
+		catch (RuntimeException e)
+		{
+			permits.release();
+			throw e;
+		}
+	}
+
+	/**
+	 * Processes and commits a chunk, retrying it on failure after the backoff delay of the retry policy.
+	 * <hr>
+	 * @param chunk Items of the chunk.
+	 * @param policy Policy used to retry the chunk.
+	 * @param aborted Signal released when the batch is aborted.
+	 * @param metrics Batch metrics.
+	 * @param failures Exceptions of the chunks given up.
+	 */
+	private void execute(final List<T> chunk, final RetryPolicy policy, final CountDownLatch aborted, final BatchMetrics metrics, final Queue<Exception> failures)
+	{
+		long start = System.nanoTime();
+
+		for (int attempt = 1;; attempt++)
+		{
+			try
+			{
+				processChunk(chunk);
+				commit(chunk);
+				metrics.record(chunk.size(), System.nanoTime() - start);
+				return;
+			}
+			catch (ProcessorException | RuntimeException e)
+			{
+				rollback(chunk);
+
+				if (attempt >= policy.getAttempts() || e instanceof ProcessorCancelledException || !backoff(policy, attempt, aborted))
+				{
+					metrics.fail();
+					failures.add(e);
+					return;
+				}
+
+				metrics.retry();
+			}
+		}
+	}
+
+	/**
+	 * Waits for the backoff delay before retrying a failed chunk.
+	 * <hr>
+	 * @param policy Retry policy.
+	 * @param attempt Number of attempts already done.
+	 * @param aborted Signal released when the batch is aborted.
+	 * @return {@code True} if the chunk can be retried, {@code false} if the batch has been aborted or the thread interrupted.
+	 */
+	private static boolean backoff(final RetryPolicy policy, final int attempt, final CountDownLatch aborted)
+	{
+		if (Thread.currentThread().isInterrupted())
+		{
+			return false;
+		}
+
+		try
+		{
+			return !aborted.await(policy.getDelay(attempt, TimeUnit.MILLISECONDS), TimeUnit.MILLISECONDS);
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	/**
+	 * Waits for the in-flight chunks to terminate once the batch has been aborted.
+	 * <hr>
+	 * @param permits In-flight chunk slots.
+	 * @param window Total number of slots.
+	 */
+	private static void awaitChunks(final Semaphore permits, final int window)
+	{
+		boolean interrupted = false;
+		long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(1);
+
+		try
+		{
+			while (true)
+			{
+				try
+				{
+					permits.tryAcquire(window, Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+					return;
+				}
+				catch (InterruptedException e)
+				{
+					interrupted = true;
+				}
+			}
+		}
+		finally
+		{
+			if (interrupted)
+			{
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.processor;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import com.heliosphere.demeter.base.runner.computation.ComputationTask;
+import com.heliosphere.demeter.base.runner.context.IContext;
+import com.heliosphere.demeter.base.runner.executor.ExecutorFactory;
+
+/**
+ * Provides an abstract processor running a computation decomposed into fork/join subtasks (see {@link ComputationTask}).
+ * <hr>
+ * When the processor runs on a work-stealing bulkhead (the default for the {@code COMPUTATION} entities), the computation is
+ * invoked in place so its subtasks are stolen by the idle threads of the same pool. Otherwise it is submitted to the fork/join
+ * pool shared by the runner, or to a temporary pool when the processor is run outside of a runner.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ * @param <R> Result type.
+ */
+public abstract class AbstractComputationProcessor<R> extends AbstractProcessor
+{
+	/**
+	 * Result of the computation.
+	 */
+	private volatile R computationResult;
+
+	/**
+	 * Creates a new computation processor given a context.
+	 * <hr>
+	 * @param context Context to process.
+	 */
+	public AbstractComputationProcessor(final IContext context)
+	{
+		super(context);
+	}
+
+	/**
+	 * Creates the root task of the computation.
+	 * <hr>
+	 * @return Root task.
+	 * @throws ProcessorException Thrown in case the computation cannot be created.
+	 */
+	protected abstract ForkJoinTask<R> createTask() throws ProcessorException;
+
+	@Override
+	public void reset(final IContext context) throws ProcessorException
+	{
+		super.reset(context);
+		computationResult = null;
+	}
+
+	/**
+	 * Returns the result of the computation.
+	 * <hr>
+	 * @return Result or {@code null} if the computation has not completed.
+	 */
+	public final R getComputationResult()
+	{
+		return computationResult;
+	}
+
+	@SuppressWarnings("nls")
+	@Override
+	public final void process() throws ProcessorException
+	{
+		super.process();
+
+		try
+		{
+			computationResult = invoke(createTask());
+		}
+		catch (RuntimeException e)
+		{
+			throw new ProcessorException(String.format("Computation: %1s has failed due to: %2s", getName(), e.getMessage()), e);
+		}
+	}
+
+	/**
+	 * Invokes the computation and waits for its result.
+	 * <hr>
+	 * @param task Root task.
+	 * @return Result.
+	 */
+	private R invoke(final ForkJoinTask<R> task)
+	{
+		if (ForkJoinTask.inForkJoinPool())
+		{
+			// Already on a worker thread, the subtasks are forked on the current pool.
+			return task.invoke();
+		}
+
+		ForkJoinPool pool = getContext() != null && getContext().getRunner() != null ? getContext().getRunner().getForkJoinPool() : null;
+		if (pool != null)
+		{
+			return pool.invoke(task);
+		}
+
+		ForkJoinPool temporary = ExecutorFactory.createWorkStealing(Runtime.getRuntime().availableProcessors(), getName());
+		try
+		{
+			return temporary.invoke(task);
+		}
+		finally
+		{
+			temporary.shutdown();
+		}
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.heliosphere.demeter.base.runner.context.IContext;
+import com.heliosphere.demeter.base.runner.message.MessageChannel;
+
+/**
+ * Provides an abstract processor continuously consuming the messages of a {@link MessageChannel}.
+ * <hr>
+ * Messages are drained by batches of at most {@code batch} messages (see {@link com.heliosphere.demeter.base.runner.message.MessageSettings})
+ * and handed to {@link #processMessages(List)}. The processor terminates once its channel is closed and all the messages have
+ * been consumed.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ * @param <E> Message type.
+ */
+public abstract class AbstractMessageProcessor<E> extends AbstractProcessor
+{
+	/**
+	 * Maximum time (in milliseconds) to wait for a message before checking the runner lifecycle again.
+	 */
+	private static final long POLL_TIMEOUT = 100;
+
+	/**
+	 * Creates a new message processor given a context.
+	 * <hr>
+	 * @param context Context to process.
+	 */
+	public AbstractMessageProcessor(final IContext context)
+	{
+		super(context);
+	}
+
+	/**
+	 * Processes a batch of messages.
+	 * <hr>
+	 * @param messages Messages, the list is reused for the next batch once this method returns.
+	 * @throws ProcessorException Thrown in case the messages cannot be processed, the processor then terminates.
+	 */
+	protected abstract void processMessages(List<E> messages) throws ProcessorException;
+
+	/**
+	 * Returns the message channel consumed by the processor.
+	 * <hr>
+	 * @return Message channel.
+	 * @throws ProcessorException Thrown in case the entity of the context is not a message channel.
+	 */
+	@SuppressWarnings({ "unchecked", "nls" })
+	public final MessageChannel<E> getChannel() throws ProcessorException
+	{
+		IContext context = getContext();
+		if (context == null || context.getEntity() == null || !(context.getEntity().getContent() instanceof MessageChannel))
+		{
+			throw new ProcessorException(String.format("Processor: %1s is not bound to a message channel", getName()));
+		}
+
+		return (MessageChannel<E>) context.getEntity().getContent();
+	}
+
+	@Override
+	public final void process() throws ProcessorException
+	{
+		super.process();
+
+		MessageChannel<E> channel = getChannel();
+		List<E> batch = new ArrayList<>(channel.getSettings().getBatchSize());
+
+		while (true)
+		{
+			// Once the channel is closed, the remaining messages are drained whatever the runner lifecycle.
+			if (!channel.isClosed())
+			{
+				checkpoint();
+			}
+
+			if (channel.drain(batch, POLL_TIMEOUT, TimeUnit.MILLISECONDS) > 0)
+			{
+				processMessages(batch);
+				batch.clear();
+			}
+			else if (channel.isTerminated())
+			{
+				break;
+			}
+		}
+	}
+}
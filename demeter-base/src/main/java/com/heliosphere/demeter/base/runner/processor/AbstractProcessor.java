@@ -15,7 +15,6 @@ import java.util.ArrayList;
 import java.util.ConcurrentModificationException;
 import java.util.List;
 
-import com.google.common.base.Stopwatch;
 import com.heliosphere.demeter.base.element.Element;
 import com.heliosphere.demeter.base.runner.context.IContext;
 import com.heliosphere.demeter.base.runner.result.ExecutionResult;
@@ -36,11 +35,6 @@ public class AbstractProcessor extends Element<String> implements IProcessor
 	 */
 	private IContext context;
 
-	/**
-	 * Processor watch to measure elapsed time of processing.
-	 */
-	private Stopwatch watch = null;
-
 	/**
 	 * Collection of processor listeners.
 	 */
@@ -65,22 +59,49 @@ public class AbstractProcessor extends Element<String> implements IProcessor
 	{
 		super(context.getEntity().getName());
 
+		bind(context);
+	}
+
+	/**
+	 * Binds the processor to a context.
+	 * <hr>
+	 * @param context Context to process.
+	 */
+	private void bind(final IContext context)
+	{
 		this.context = context;
 		setName(context.getEntity().getName());
 		result = new ExecutionResult(getName());
 		result.setParameters(context.getParameters());
-		watch = Stopwatch.createStarted();
 	}
 
+	@Override
+	public void reset(@NonNull final IContext context) throws ProcessorException
+	{
+		bind(context);
+	}
+
+	/**
+	 * Executes the processor, measuring the time (in nanoseconds) taken by its initialization and by its processing.
+	 */
 	@Override
 	public IExecutionResult call() throws Exception
 	{
+		long start = System.nanoTime();
+		long initialized = start;
+
+		result.setExecutionThread(Thread.currentThread().getName());
+
 		try
 		{
 			result.setStatus(ExecutionStatusType.RUNNING);
 
 			try
 			{
+				initialize();
+				initialized = System.nanoTime();
+				result.setInitializeTime(initialized - start);
+
 				process();
 				result.setStatus(ExecutionStatusType.SUCESSS);
 			}
@@ -90,6 +111,11 @@ public class AbstractProcessor extends Element<String> implements IProcessor
 				e.printStackTrace();
 			}
 		}
+		catch (ProcessorCancelledException e)
+		{
+			result.getExceptions().add(e);
+			result.setStatus(ExecutionStatusType.CANCELLED);
+		}
 		catch (ProcessorException e)
 		{
 			result.getExceptions().add(e);
@@ -97,10 +123,9 @@ public class AbstractProcessor extends Element<String> implements IProcessor
 		}
 		finally
 		{
-			//result.setThreadName(Thread.currentThread().getName());
-			//result.setParameters(getContext().getParameters());
-			watch.stop();
-			result.setElapsed(watch.toString());
+			long end = System.nanoTime();
+			result.setProcessTime(end - initialized);
+			result.setTotalTime(end - start);
 		}
 
 		return result;
@@ -146,6 +171,22 @@ public class AbstractProcessor extends Element<String> implements IProcessor
 	public void process() throws ProcessorException
 	{
 		// To be overridden by sub classes!
+		checkpoint();
+	}
+
+	/**
+	 * Cooperative checkpoint to be regularly called by the sub classes while processing.
+	 * <hr>
+	 * Returns immediately while the runner owning the context is running, blocks while it is paused.
+	 * <hr>
+	 * @throws ProcessorCancelledException Thrown in case the processor must stop as its runner is stopping.
+	 */
+	protected final void checkpoint() throws ProcessorCancelledException
+	{
+		if (context != null && context.getRunner() != null)
+		{
+			context.getRunner().getLifecycle().checkpoint();
+		}
 	}
 
 	@Override
@@ -75,6 +75,16 @@ public interface IProcessor extends IElement<String>, Callable<IExecutionResult>
 	 */
 	void setContext(IContext context);
 
+	/**
+	 * Resets the processor so it can be reused to process another context.
+	 * <hr>
+	 * Called by a processor pool before handing back an idle processor. In a derived class holding a per-context state, a call to
+	 * super {@code MUST} be done by the overridden method implementation.
+	 * @param context Context to process.
+	 * @throws ProcessorException Thrown in case the processor cannot be reset.
+	 */
+	void reset(IContext context) throws ProcessorException;
+
 	/**
 	 * Returns the execution result.
 	 * <hr>
@@ -0,0 +1,40 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the 
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.processor;
+
+import com.heliosphere.demeter.base.runner.IRunner;
+import com.heliosphere.demeter.base.runner.context.IContext;
+
+/**
+ * This interface defines the behavior of a factory used by a {@link IRunner} to obtain the processors of its contexts.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public interface IProcessorFactory
+{
+	/**
+	 * Returns a processor bound to the given context.
+	 * <hr>
+	 * @param context Context to process.
+	 * @return Processor.
+	 * @throws ProcessorException Thrown in case the processor cannot be created.
+	 */
+	IProcessor create(IContext context) throws ProcessorException;
+
+	/**
+	 * Releases a processor whose execution has completed so it can eventually be reused.
+	 * <hr>
+	 * @param processor Processor to release.
+	 */
+	void release(IProcessor processor);
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.processor;
+
+/**
+ * Exception thrown to indicate a {@link IProcessor} has been cancelled before the end of its execution, for example because its
+ * runner is stopping.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public class ProcessorCancelledException extends ProcessorException
+{
+	/**
+	 * Serialization identifier.
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Exception thrown to indicate a {@link IProcessor} has been cancelled.
+	 * <p>
+	 * @param message Message describing the reason of the cancellation.
+	 */
+	public ProcessorCancelledException(final String message)
+	{
+		super(message);
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the 
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.processor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+import com.heliosphere.demeter.base.runner.context.IContext;
+
+import lombok.NonNull;
+
+/**
+ * Provides a {@link IProcessorFactory} creating a new processor for each context.
+ * <hr>
+ * The {@code (IContext)} constructor of the processor class is resolved once, when the factory is created, into a method
+ * handle so creating a processor does not involve any reflective lookup.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public final class ProcessorFactory implements IProcessorFactory
+{
+	/**
+	 * Processor class.
+	 */
+	private final Class<? extends IProcessor> type;
+
+	/**
+	 * Processor constructor adapted to the {@code (IContext)IProcessor} type.
+	 */
+	private final MethodHandle constructor;
+
+	/**
+	 * Creates a new processor factory.
+	 * <hr>
+	 * @param type Processor class, must be public and provide a public constructor accepting a {@link IContext}.
+	 * @throws ProcessorException Thrown in case the processor constructor cannot be resolved.
+	 */
+	@SuppressWarnings("nls")
+	public ProcessorFactory(@NonNull final Class<? extends IProcessor> type) throws ProcessorException
+	{
+		this.type = type;
+
+		try
+		{
+			constructor = MethodHandles.publicLookup().findConstructor(type, MethodType.methodType(void.class, IContext.class)).asType(MethodType.methodType(IProcessor.class, IContext.class));
+		}
+		catch (NoSuchMethodException | IllegalAccessException e)
+		{
+			throw new ProcessorException(String.format("Unable to resolve constructor of processor class: %1s due to: %2s", type.getName(), e.getMessage()));
+		}
+	}
+
+	/**
+	 * Returns the processor class.
+	 * <hr>
+	 * @return Processor class.
+	 */
+	public final Class<? extends IProcessor> getType()
+	{
+		return type;
+	}
+
+	@SuppressWarnings("nls")
+	@Override
+	public final IProcessor create(@NonNull final IContext context) throws ProcessorException
+	{
+		try
+		{
+			return (IProcessor) constructor.invokeExact(context);
+		}
+		catch (Error e)
+		{
+			throw e;
+		}
+		catch (Throwable e)
+		{
+			throw new ProcessorException(String.format("Unable to instantiate processor of class: %1s due to: %2s", type.getName(), e.getMessage()));
+		}
+	}
+
+	@Override
+	public final void release(final IProcessor processor)
+	{
+		// Nothing to do, processors are not reused.
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the 
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.processor;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.heliosphere.demeter.base.runner.context.IContext;
+
+import lombok.NonNull;
+
+/**
+ * Provides a {@link IProcessorFactory} keeping a bounded number of idle processors to reuse them for the next contexts instead
+ * of creating new ones.
+ * <hr>
+ * An idle processor is bound to its new context by {@link IProcessor#reset(IContext)}, so processors holding a per-context state
+ * must reset it there. Processors are only created by the underlying factory when no idle processor is available, and released
+ * processors exceeding the pool size are left to the garbage collector.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public final class ProcessorPool implements IProcessorFactory
+{
+	/**
+	 * Factory creating the processors when the pool is empty.
+	 */
+	private final IProcessorFactory factory;
+
+	/**
+	 * Maximum number of idle processors.
+	 */
+	private final int size;
+
+	/**
+	 * Idle processors.
+	 */
+	private final Queue<IProcessor> idle = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * Number of idle processors.
+	 */
+	private final AtomicInteger count = new AtomicInteger();
+
+	/**
+	 * Number of processors created by the underlying factory.
+	 */
+	private final AtomicLong created = new AtomicLong();
+
+	/**
+	 * Number of processors reused.
+	 */
+	private final AtomicLong reused = new AtomicLong();
+
+	/**
+	 * Creates a new processor pool.
+	 * <hr>
+	 * @param factory Factory creating the processors when the pool is empty.
+	 * @param size Maximum number of idle processors.
+	 */
+	@SuppressWarnings("nls")
+	public ProcessorPool(@NonNull final IProcessorFactory factory, final int size)
+	{
+		if (size < 1)
+		{
+			throw new IllegalArgumentException("Processor pool size must be greater than 0, found: " + size);
+		}
+
+		this.factory = factory;
+		this.size = size;
+	}
+
+	@Override
+	public final IProcessor create(@NonNull final IContext context) throws ProcessorException
+	{
+		IProcessor processor = idle.poll();
+		if (processor == null)
+		{
+			created.incrementAndGet();
+			return factory.create(context);
+		}
+
+		count.decrementAndGet();
+		processor.reset(context);
+		reused.incrementAndGet();
+
+		return processor;
+	}
+
+	@Override
+	public final void release(@NonNull final IProcessor processor)
+	{
+		if (count.incrementAndGet() <= size)
+		{
+			idle.offer(processor);
+		}
+		else
+		{
+			count.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Returns the maximum number of idle processors.
+	 * <hr>
+	 * @return Pool size.
+	 */
+	public final int getSize()
+	{
+		return size;
+	}
+
+	/**
+	 * Returns the number of idle processors.
+	 * <hr>
+	 * @return Number of idle processors.
+	 */
+	public final int getIdle()
+	{
+		return count.get();
+	}
+
+	/**
+	 * Returns the number of processors created by the underlying factory.
+	 * <hr>
+	 * @return Number of created processors.
+	 */
+	public final long getCreated()
+	{
+		return created.get();
+	}
+
+	/**
+	 * Returns the number of processors reused.
+	 * <hr>
+	 * @return Number of reused processors.
+	 */
+	public final long getReused()
+	{
+		return reused.get();
+	}
+
+	@SuppressWarnings("nls")
+	@Override
+	public final String toString()
+	{
+		return String.format("size: [%1d], idle: [%2d], created: [%3d], reused: [%4d]", Integer.valueOf(size), Integer.valueOf(getIdle()), Long.valueOf(getCreated()), Long.valueOf(getReused()));
+	}
+}
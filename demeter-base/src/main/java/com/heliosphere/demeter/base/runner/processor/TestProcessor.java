@@ -11,7 +11,14 @@
  */
 package com.heliosphere.demeter.base.runner.processor;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
 import com.heliosphere.demeter.base.runner.context.IContext;
+import com.heliosphere.demeter.base.runner.file.split.FileSplit;
+import com.heliosphere.demeter.base.runner.file.split.FileSplitReader;
+import com.heliosphere.demeter.base.runner.message.MessageChannel;
 import com.heliosphere.demeter.base.runner.parameter.TestParameterType;
 import com.heliosphere.demeter.base.runner.parameter.execution.IParameterExecution;
 
@@ -42,6 +49,8 @@ public final class TestProcessor extends AbstractProcessor
 		// Process 'unprocessed' execution parameters only!
 		for (IParameterExecution parameter : getExecutionResult().getUnprocessedParameters().getElements())
 		{
+			checkpoint();
+
 			switch ((TestParameterType) parameter.getType())
 			{
 				case PARAMETER_HELP:
@@ -56,6 +65,26 @@ public final class TestProcessor extends AbstractProcessor
 					executeHello(parameter);
 					break;
 
+				case PARAMETER_HEARTBEAT:
+					executeHeartbeat(parameter);
+					break;
+
+				case PARAMETER_INPUT:
+					executeInput(parameter);
+					break;
+
+				case PARAMETER_EVENTS:
+					executeEvents(parameter);
+					break;
+
+				case PARAMETER_SLEEP:
+					executeSleep(parameter);
+					break;
+
+				case PARAMETER_FAIL:
+					executeFail(parameter);
+					break;
+
 				case UNKNOWN:
 					// DO nothing ; it's a special enumerated value reserved for internal usage!
 					break;
@@ -134,4 +163,121 @@ public final class TestProcessor extends AbstractProcessor
 			getExecutionResult().setParameterProcessed(parameter);
 		}
 	}
+
+	/**
+	 * Executes a tick of the {@link TestParameterType#PARAMETER_HEARTBEAT} parameter.
+	 * <hr>
+	 * The parameter is never marked as processed as a daemon processes it on each tick.
+	 * <hr>
+	 * @param parameter Parameter.
+	 */
+	private final void executeHeartbeat(IParameterExecution parameter)
+	{
+		// Do some work here!
+	}
+
+	/**
+	 * Executes the process of the {@link TestParameterType#PARAMETER_INPUT} parameter by reading the records of the file split.
+	 * <hr>
+	 * @param parameter Parameter.
+	 */
+	private final void executeInput(IParameterExecution parameter)
+	{
+		try (FileSplitReader reader = ((FileSplit) getContext().getEntity().getContent()).open())
+		{
+			while (reader.next() != null)
+			{
+				// Do some work here!
+			}
+		}
+		catch (Exception e)
+		{
+			getExecutionResult().getExceptions().add(e);
+		}
+		finally
+		{
+			getExecutionResult().setParameterProcessed(parameter);
+		}
+	}
+
+	/**
+	 * Executes the process of the {@link TestParameterType#PARAMETER_EVENTS} parameter by consuming the messages of the channel
+	 * until it is closed.
+	 * <hr>
+	 * @param parameter Parameter.
+	 */
+	@SuppressWarnings("unchecked")
+	private final void executeEvents(IParameterExecution parameter)
+	{
+		try
+		{
+			MessageChannel<Object> channel = (MessageChannel<Object>) getContext().getEntity().getContent();
+			List<Object> batch = new ArrayList<>(channel.getSettings().getBatchSize());
+
+			while (!channel.isTerminated())
+			{
+				channel.drain(batch, 100, TimeUnit.MILLISECONDS);
+				batch.clear();
+			}
+		}
+		catch (Exception e)
+		{
+			getExecutionResult().getExceptions().add(e);
+		}
+		finally
+		{
+			getExecutionResult().setParameterProcessed(parameter);
+		}
+	}
+
+	/**
+	 * Executes the process of the {@link TestParameterType#PARAMETER_SLEEP} parameter by sleeping the given number of
+	 * milliseconds.
+	 * <hr>
+	 * @param parameter Parameter.
+	 */
+	private final void executeSleep(IParameterExecution parameter)
+	{
+		try
+		{
+			Thread.sleep(Long.parseLong(parameter.getValue().trim()));
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			getExecutionResult().getExceptions().add(e);
+		}
+		catch (Exception e)
+		{
+			getExecutionResult().getExceptions().add(e);
+		}
+		finally
+		{
+			getExecutionResult().setParameterProcessed(parameter);
+		}
+	}
+
+	/**
+	 * Executes the process of the {@link TestParameterType#PARAMETER_FAIL} parameter by failing until the number of failures
+	 * given as parameter value is reached.
+	 * <hr>
+	 * The number of failures is kept as a property of the parameter which is private to the context, so it survives the retries.
+	 * <hr>
+	 * @param parameter Parameter.
+	 * @throws ProcessorException Thrown while the number of failures is not reached.
+	 */
+	@SuppressWarnings("nls")
+	private final void executeFail(IParameterExecution parameter) throws ProcessorException
+	{
+		Integer failures = (Integer) parameter.getProperty("failures");
+		int count = failures == null ? 0 : failures.intValue();
+
+		if (count < Integer.parseInt(parameter.getValue().trim()))
+		{
+			parameter.addProperty("failures", Integer.valueOf(count + 1));
+			throw new ProcessorException(String.format("Simulated failure: [%1d] of parameter: %2s", Integer.valueOf(count + 1), parameter.getName()));
+		}
+
+		getExecutionResult().setParameterProcessed(parameter);
+	}
 }
@@ -11,12 +11,15 @@
  */
 package com.heliosphere.demeter.base.runner.result;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import com.heliosphere.demeter.base.element.AbstractElement;
 import com.heliosphere.demeter.base.element.IElement;
+import com.heliosphere.demeter.base.runner.metric.BatchMetrics;
+import com.heliosphere.demeter.base.runner.metric.TickMetrics;
 import com.heliosphere.demeter.base.runner.parameter.base.IParameterType;
 import com.heliosphere.demeter.base.runner.parameter.base.ParameterStatusType;
 import com.heliosphere.demeter.base.runner.parameter.execution.IParameterExecution;
@@ -37,7 +40,7 @@ public class ExecutionResult extends AbstractElement<String> implements IExecuti
 	/**
 	 * List of exceptions that have been raised during the processor execution.
 	 */
-	private List<Exception> exceptions;
+	private List<Exception> exceptions = new ArrayList<>();
 
 	/**
 	 * Status of the execution result object.
@@ -55,9 +58,49 @@ public class ExecutionResult extends AbstractElement<String> implements IExecuti
 	private Map<Enum<? extends IParameterType>, String> threads;
 
 	/**
-	 * Elapsed execution time of the underlying processor.
+	 * Time (in nanoseconds) waited between the submission and the start of the execution.
 	 */
-	private String elapsed;
+	private long queuedTime;
+
+	/**
+	 * Time (in nanoseconds) taken by the initialization of the processor.
+	 */
+	private long initializeTime;
+
+	/**
+	 * Time (in nanoseconds) taken by the processing of the entity.
+	 */
+	private long processTime;
+
+	/**
+	 * Total time (in nanoseconds) of the execution.
+	 */
+	private long totalTime;
+
+	/**
+	 * Name of the thread which has run the processor.
+	 */
+	private String executionThread;
+
+	/**
+	 * Tick metrics of a processor executed periodically.
+	 */
+	private TickMetrics tickMetrics;
+
+	/**
+	 * Batch metrics of a processor processing its items by chunks.
+	 */
+	private BatchMetrics batchMetrics;
+
+	/**
+	 * Number of times the processor has been run.
+	 */
+	private int attempts = 1;
+
+	/**
+	 * Time (in nanoseconds) elapsed between the first failed attempt and the last attempt.
+	 */
+	private long retryTime;
 
 	/**
 	 * Creates a new execution result given a name.
@@ -116,15 +159,63 @@ public class ExecutionResult extends AbstractElement<String> implements IExecuti
 	}
 
 	@Override
-	public final String getElapsed()
+	public final long getQueuedTime()
+	{
+		return queuedTime;
+	}
+
+	@Override
+	public final void setQueuedTime(final long time)
+	{
+		this.queuedTime = time;
+	}
+
+	@Override
+	public final long getInitializeTime()
+	{
+		return initializeTime;
+	}
+
+	@Override
+	public final void setInitializeTime(final long time)
+	{
+		this.initializeTime = time;
+	}
+
+	@Override
+	public final long getProcessTime()
+	{
+		return processTime;
+	}
+
+	@Override
+	public final void setProcessTime(final long time)
 	{
-		return elapsed;
+		this.processTime = time;
 	}
 
 	@Override
-	public final void setElapsed(@NonNull final String time)
+	public final long getTotalTime()
 	{
-		elapsed = time;
+		return totalTime;
+	}
+
+	@Override
+	public final void setTotalTime(final long time)
+	{
+		this.totalTime = time;
+	}
+
+	@Override
+	public final String getExecutionThread()
+	{
+		return executionThread;
+	}
+
+	@Override
+	public final void setExecutionThread(final String name)
+	{
+		this.executionThread = name;
 	}
 
 	@Override
@@ -188,4 +279,52 @@ public class ExecutionResult extends AbstractElement<String> implements IExecuti
 
 		return result;
 	}
+
+	@Override
+	public final TickMetrics getTickMetrics()
+	{
+		return tickMetrics;
+	}
+
+	@Override
+	public final void setTickMetrics(final TickMetrics metrics)
+	{
+		this.tickMetrics = metrics;
+	}
+
+	@Override
+	public final BatchMetrics getBatchMetrics()
+	{
+		return batchMetrics;
+	}
+
+	@Override
+	public final void setBatchMetrics(final BatchMetrics metrics)
+	{
+		this.batchMetrics = metrics;
+	}
+
+	@Override
+	public final int getAttempts()
+	{
+		return attempts;
+	}
+
+	@Override
+	public final void setAttempts(final int attempts)
+	{
+		this.attempts = attempts;
+	}
+
+	@Override
+	public final long getRetryTime()
+	{
+		return retryTime;
+	}
+
+	@Override
+	public final void setRetryTime(final long time)
+	{
+		this.retryTime = time;
+	}
 }
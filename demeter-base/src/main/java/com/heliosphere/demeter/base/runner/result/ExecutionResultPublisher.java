@@ -0,0 +1,358 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the 
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.result;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.heliosphere.demeter.base.runner.IRunner;
+
+import lombok.NonNull;
+
+/**
+ * Provides a publisher streaming the {@link IExecutionResult} produced by a {@link IRunner} run to its
+ * {@link IExecutionResultSubscriber} according to their demand.
+ * <hr>
+ * Each subscription buffers the results published but not yet requested. Once its buffer is full, publishing blocks until the
+ * subscriber requests more results or cancels its subscription, so a slow subscriber holds back the runner instead of letting
+ * the results pile up in memory. Subscriptions last until the end of the run: they are completed, or failed, once the run is
+ * over and the subscribers must subscribe again to receive the results of the next run.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public final class ExecutionResultPublisher
+{
+	/**
+	 * Default number of results buffered per subscription.
+	 */
+	public static final int DEFAULT_BUFFER_SIZE = 256;
+
+	/**
+	 * Active subscriptions.
+	 */
+	private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Subscribes a subscriber using the default buffer size.
+	 * <hr>
+	 * @param subscriber Subscriber.
+	 */
+	public final void subscribe(@NonNull final IExecutionResultSubscriber subscriber)
+	{
+		subscribe(subscriber, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Subscribes a subscriber.
+	 * <hr>
+	 * @param subscriber Subscriber.
+	 * @param bufferSize Maximum number of results published but not yet requested by the subscriber.
+	 */
+	@SuppressWarnings("nls")
+	public final void subscribe(@NonNull final IExecutionResultSubscriber subscriber, final int bufferSize)
+	{
+		if (bufferSize < 1)
+		{
+			throw new IllegalArgumentException("Subscription buffer size must be at least 1, found: " + bufferSize);
+		}
+
+		Subscription subscription = new Subscription(subscriber, bufferSize);
+		subscriptions.add(subscription);
+		subscriber.onSubscribe(subscription);
+	}
+
+	/**
+	 * Publishes an execution result to all the subscribers, waiting for the subscribers whose buffer is full.
+	 * <hr>
+	 * If the publishing thread is interrupted while waiting, the subscription it is waiting for is cancelled and the interrupted
+	 * status of the thread is restored. A failing subscriber is cancelled without preventing the other subscribers from receiving
+	 * the result, its exception being rethrown once the result has been offered to all the subscriptions.
+	 * <hr>
+	 * @param result Execution result.
+	 */
+	public final void publish(@NonNull final IExecutionResult result)
+	{
+		RuntimeException failure = null;
+
+		for (Subscription subscription : subscriptions)
+		{
+			try
+			{
+				subscription.offer(result);
+			}
+			catch (RuntimeException e)
+			{
+				failure = collect(failure, e);
+			}
+		}
+
+		if (failure != null)
+		{
+			throw failure;
+		}
+	}
+
+	/**
+	 * Completes all the subscriptions once their buffered results have been delivered.
+	 */
+	public final void complete()
+	{
+		terminate(null);
+	}
+
+	/**
+	 * Fails all the subscriptions, discarding their buffered results.
+	 * <hr>
+	 * @param throwable Cause of the failure.
+	 */
+	public final void error(@NonNull final Throwable throwable)
+	{
+		terminate(throwable);
+	}
+
+	/**
+	 * Returns the number of active subscriptions.
+	 * <hr>
+	 * @return Number of subscriptions.
+	 */
+	public final int getSubscriptionCount()
+	{
+		return subscriptions.size();
+	}
+
+	/**
+	 * Terminates all the subscriptions.
+	 * <hr>
+	 * @param throwable Cause of the failure or {@code null} if the run has completed.
+	 */
+	private void terminate(final Throwable throwable)
+	{
+		RuntimeException failure = null;
+
+		for (Subscription subscription : subscriptions)
+		{
+			subscriptions.remove(subscription);
+			try
+			{
+				subscription.terminate(throwable);
+			}
+			catch (RuntimeException e)
+			{
+				failure = collect(failure, e);
+			}
+		}
+
+		if (failure != null)
+		{
+			throw failure;
+		}
+	}
+
+	/**
+	 * Collects the exception raised by a failing subscriber.
+	 * <hr>
+	 * @param failure Exception raised by a previous subscriber, {@code null} if none.
+	 * @param exception Exception raised by the subscriber.
+	 * @return First exception, the following ones being added as suppressed exceptions.
+	 */
+	private static RuntimeException collect(final RuntimeException failure, final RuntimeException exception)
+	{
+		if (failure == null)
+		{
+			return exception;
+		}
+
+		failure.addSuppressed(exception);
+
+		return failure;
+	}
+
+	/**
+	 * Subscription of a subscriber.
+	 * <hr>
+	 * Signals are delivered by whichever thread publishes a result or requests more results, a work-in-progress counter ensuring
+	 * only one thread delivers them at a time.
+	 */
+	private final class Subscription implements IExecutionResultSubscription
+	{
+		/**
+		 * Subscriber.
+		 */
+		private final IExecutionResultSubscriber subscriber;
+
+		/**
+		 * Results published but not yet delivered.
+		 */
+		private final BlockingQueue<IExecutionResult> buffer;
+
+		/**
+		 * Number of results requested but not yet delivered.
+		 */
+		private final AtomicLong demand = new AtomicLong();
+
+		/**
+		 * Number of pending delivery requests.
+		 */
+		private final AtomicInteger work = new AtomicInteger();
+
+		/**
+		 * Has the subscription been cancelled or terminated?
+		 */
+		private volatile boolean cancelled = false;
+
+		/**
+		 * Has the run ended?
+		 */
+		private volatile boolean done = false;
+
+		/**
+		 * Cause of the run failure, if any.
+		 */
+		private volatile Throwable error = null;
+
+		/**
+		 * Creates a new subscription.
+		 * <hr>
+		 * @param subscriber Subscriber.
+		 * @param bufferSize Buffer size.
+		 */
+		private Subscription(final IExecutionResultSubscriber subscriber, final int bufferSize)
+		{
+			this.subscriber = subscriber;
+			this.buffer = new ArrayBlockingQueue<>(bufferSize);
+		}
+
+		@SuppressWarnings("nls")
+		@Override
+		public final void request(final long count)
+		{
+			if (count <= 0)
+			{
+				throw new IllegalArgumentException("Number of requested results must be positive, found: " + count);
+			}
+
+			long current;
+			long next;
+			do
+			{
+				current = demand.get();
+				next = current + count < 0 ? Long.MAX_VALUE : current + count;
+			}
+			while (!demand.compareAndSet(current, next));
+
+			drain();
+		}
+
+		@Override
+		public final void cancel()
+		{
+			cancelled = true;
+			subscriptions.remove(this);
+			buffer.clear();
+		}
+
+		/**
+		 * Buffers a published result, waiting for a free slot if the buffer is full.
+		 * <hr>
+		 * @param result Execution result.
+		 */
+		private void offer(final IExecutionResult result)
+		{
+			if (cancelled)
+			{
+				return;
+			}
+
+			try
+			{
+				buffer.put(result);
+			}
+			catch (InterruptedException e)
+			{
+				cancel();
+				Thread.currentThread().interrupt();
+				return;
+			}
+
+			drain();
+		}
+
+		/**
+		 * Terminates the subscription.
+		 * <hr>
+		 * @param throwable Cause of the failure or {@code null} if the run has completed.
+		 */
+		private void terminate(final Throwable throwable)
+		{
+			error = throwable;
+			done = true;
+			drain();
+		}
+
+		/**
+		 * Delivers the requested results and the terminal signal.
+		 */
+		private void drain()
+		{
+			if (work.getAndIncrement() != 0)
+			{
+				// Another thread is delivering, it will loop once more.
+				return;
+			}
+
+			int missed = 1;
+			do
+			{
+				try
+				{
+					IExecutionResult result;
+					while (!cancelled && demand.get() > 0 && (result = buffer.poll()) != null)
+					{
+						if (demand.get() != Long.MAX_VALUE)
+						{
+							demand.decrementAndGet();
+						}
+						subscriber.onNext(result);
+					}
+
+					if (!cancelled && done && (error != null || buffer.isEmpty()))
+					{
+						cancelled = true;
+						buffer.clear();
+						if (error != null)
+						{
+							subscriber.onError(error);
+						}
+						else
+						{
+							subscriber.onComplete();
+						}
+					}
+				}
+				catch (RuntimeException e)
+				{
+					// A failing subscriber is dropped so it cannot hold back the runner.
+					cancel();
+					throw e;
+				}
+
+				missed = work.addAndGet(-missed);
+			}
+			while (missed != 0);
+		}
+	}
+}
@@ -39,5 +39,25 @@ public enum ExecutionStatusType
 	/**
 	 * The execution status is finished without error.
 	 */
-	SUCESSS
+	SUCESSS,
+
+	/**
+	 * The execution has not been run because a context it depends on did not succeed.
+	 */
+	SKIPPED,
+
+	/**
+	 * The execution has been cancelled, not dispatched or interrupted, because the runner has been stopped.
+	 */
+	CANCELLED,
+
+	/**
+	 * The execution has been cancelled, not dispatched or interrupted, because its timeout or the runner deadline has expired.
+	 */
+	TIMED_OUT,
+
+	/**
+	 * The execution has not been run because the bulkhead of its entity type was saturated.
+	 */
+	REJECTED
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.result;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.heliosphere.demeter.base.runner.IRunner;
+
+import lombok.NonNull;
+
+/**
+ * Provides an aggregated view of the {@link IExecutionResult} produced by a {@link IRunner} execution.
+ * <hr>
+ * The summary is updated incrementally each time a result is available so it never needs to retain the results themselves.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public final class ExecutionSummary
+{
+	/**
+	 * Number of results per execution status.
+	 */
+	private final Map<ExecutionStatusType, Integer> counts = new EnumMap<>(ExecutionStatusType.class);
+
+	/**
+	 * Total number of results.
+	 */
+	private int count;
+
+	/**
+	 * Records an execution result.
+	 * <hr>
+	 * @param result Execution result to record.
+	 */
+	public final synchronized void record(@NonNull final IExecutionResult result)
+	{
+		ExecutionStatusType status = result.getStatus() == null ? ExecutionStatusType.UNKNOWN : result.getStatus();
+		Integer value = counts.get(status);
+		counts.put(status, Integer.valueOf(value == null ? 1 : value.intValue() + 1));
+		count++;
+	}
+
+	/**
+	 * Returns the total number of recorded results.
+	 * <hr>
+	 * @return Number of results.
+	 */
+	public final synchronized int getCount()
+	{
+		return count;
+	}
+
+	/**
+	 * Returns the number of recorded results having the given status.
+	 * <hr>
+	 * @param status Execution status.
+	 * @return Number of results.
+	 */
+	public final synchronized int getCount(@NonNull final ExecutionStatusType status)
+	{
+		Integer value = counts.get(status);
+		return value == null ? 0 : value.intValue();
+	}
+
+	/**
+	 * Resets the summary.
+	 */
+	public final synchronized void clear()
+	{
+		counts.clear();
+		count = 0;
+	}
+
+	@SuppressWarnings("nls")
+	@Override
+	public final synchronized String toString()
+	{
+		return String.format("total:[%1d], status:%2s", Integer.valueOf(count), counts);
+	}
+}
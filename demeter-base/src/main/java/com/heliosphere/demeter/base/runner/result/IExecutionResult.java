@@ -17,6 +17,8 @@ import com.heliosphere.demeter.base.element.IElement;
 import com.heliosphere.demeter.base.runner.IRunner;
 import com.heliosphere.demeter.base.runner.context.IContext;
 import com.heliosphere.demeter.base.runner.entity.IEntity;
+import com.heliosphere.demeter.base.runner.metric.BatchMetrics;
+import com.heliosphere.demeter.base.runner.metric.TickMetrics;
 import com.heliosphere.demeter.base.runner.parameter.base.IParameterType;
 import com.heliosphere.demeter.base.runner.parameter.execution.IParameterExecution;
 import com.heliosphere.demeter.base.runner.parameter.list.IParameterList;
@@ -60,17 +62,75 @@ public interface IExecutionResult extends IElement<String>
 	void setExceptions(List<Exception> exceptions);
 
 	/**
-	 * Returns the elapsed time.
-	 * @return Elapsed time.
+	 * Returns the time (in nanoseconds) the processor has waited between its submission and the start of its execution.
+	 * <hr>
+	 * @return Queued time, {@code 0} if the processor has not been submitted to a bulkhead.
+	 */
+	long getQueuedTime();
+
+	/**
+	 * Sets the time (in nanoseconds) the processor has waited between its submission and the start of its execution.
+	 * <hr>
+	 * @param time Queued time.
+	 */
+	void setQueuedTime(long time);
+
+	/**
+	 * Returns the time (in nanoseconds) the processor took to initialize.
+	 * <hr>
+	 * @return Initialization time.
+	 */
+	long getInitializeTime();
+
+	/**
+	 * Sets the time (in nanoseconds) the processor took to initialize.
+	 * <hr>
+	 * @param time Initialization time.
+	 */
+	void setInitializeTime(long time);
+
+	/**
+	 * Returns the time (in nanoseconds) the processor took to process the entity.
+	 * <hr>
+	 * @return Processing time.
+	 */
+	long getProcessTime();
+
+	/**
+	 * Sets the time (in nanoseconds) the processor took to process the entity.
+	 * <hr>
+	 * @param time Processing time.
+	 */
+	void setProcessTime(long time);
+
+	/**
+	 * Returns the total time (in nanoseconds) of the execution, from the submission of the processor (or from the start of its
+	 * execution if it has not been submitted to a bulkhead) to its completion.
+	 * <hr>
+	 * @return Total time.
+	 */
+	long getTotalTime();
+
+	/**
+	 * Sets the total time (in nanoseconds) of the execution.
+	 * <hr>
+	 * @param time Total time.
+	 */
+	void setTotalTime(long time);
+
+	/**
+	 * Returns the name of the thread which has run the processor.
+	 * <hr>
+	 * @return Thread name or {@code null} if the processor has not been run.
 	 */
-	String getElapsed();
+	String getExecutionThread();
 
 	/**
-	 * Sets the elapsed time the processor took to process the entity.
+	 * Sets the name of the thread which has run the processor.
 	 * <hr>
-	 * @param time Elapsed time.
+	 * @param name Thread name.
 	 */
-	void setElapsed(final String time);
+	void setExecutionThread(String name);
 
 	/**
 	 * Sets the list of parameters used for the execution.
@@ -122,4 +182,60 @@ public interface IExecutionResult extends IElement<String>
 	 * @param parameter Parameter to update.
 	 */
 	void setParameterProcessed(IParameterExecution parameter);
+
+	/**
+	 * Returns the tick metrics of a processor executed periodically.
+	 * <hr>
+	 * @return Tick metrics or {@code null} if the processor has not been executed periodically.
+	 */
+	TickMetrics getTickMetrics();
+
+	/**
+	 * Sets the tick metrics of a processor executed periodically.
+	 * <hr>
+	 * @param metrics Tick metrics.
+	 */
+	void setTickMetrics(TickMetrics metrics);
+
+	/**
+	 * Returns the batch metrics of a processor having processed its items by chunks.
+	 * <hr>
+	 * @return Batch metrics or {@code null} if the processor is not a batch processor.
+	 */
+	BatchMetrics getBatchMetrics();
+
+	/**
+	 * Sets the batch metrics of a processor processing its items by chunks.
+	 * <hr>
+	 * @param metrics Batch metrics.
+	 */
+	void setBatchMetrics(BatchMetrics metrics);
+
+	/**
+	 * Returns the number of times the processor has been run.
+	 * <hr>
+	 * @return Number of attempts, {@code 1} if the processor has not been retried.
+	 */
+	int getAttempts();
+
+	/**
+	 * Sets the number of times the processor has been run.
+	 * <hr>
+	 * @param attempts Number of attempts.
+	 */
+	void setAttempts(int attempts);
+
+	/**
+	 * Returns the time (in nanoseconds) elapsed between the first failed attempt and the last attempt.
+	 * <hr>
+	 * @return Retry time, {@code 0} if the processor has not been retried.
+	 */
+	long getRetryTime();
+
+	/**
+	 * Sets the time (in nanoseconds) elapsed between the first failed attempt and the last attempt.
+	 * <hr>
+	 * @param time Retry time.
+	 */
+	void setRetryTime(long time);
 }
@@ -0,0 +1,34 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.result;
+
+import com.heliosphere.demeter.base.runner.IRunner;
+
+/**
+ * This interface defines the behavior of a listener that want to be notified of the {@link IExecutionResult} produced by a
+ * {@link IRunner}.
+ * <hr>
+ * Results are notified in completion order, as soon as each one is available, from the thread dispatching the contexts of the
+ * runner. Once all listeners have been notified, the runner no longer holds any reference on the result.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public interface IExecutionResultListener
+{
+	/**
+	 * Triggered when a context has finished its execution.
+	 * <hr>
+	 * @param result Execution result of the context.
+	 */
+	void onResult(IExecutionResult result);
+}
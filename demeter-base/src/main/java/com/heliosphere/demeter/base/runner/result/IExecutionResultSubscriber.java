@@ -0,0 +1,54 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the 
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.result;
+
+import com.heliosphere.demeter.base.runner.IRunner;
+
+/**
+ * This interface defines the behavior of a subscriber receiving the {@link IExecutionResult} produced by a {@link IRunner} run
+ * at its own pace.
+ * <hr>
+ * Unlike a {@link IExecutionResultListener}, a subscriber only receives the results it has requested through its
+ * {@link IExecutionResultSubscription}. Signals are never delivered concurrently to a subscriber. A subscriber not requesting
+ * any more result holds back the runner once its buffer is full.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public interface IExecutionResultSubscriber
+{
+	/**
+	 * Triggered once when the subscriber has been subscribed, before any other signal.
+	 * <hr>
+	 * @param subscription Subscription used to request the results.
+	 */
+	void onSubscribe(IExecutionResultSubscription subscription);
+
+	/**
+	 * Triggered for each requested execution result.
+	 * <hr>
+	 * @param result Execution result of a context.
+	 */
+	void onNext(IExecutionResult result);
+
+	/**
+	 * Triggered once when the run has failed, no other signal follows.
+	 * <hr>
+	 * @param throwable Cause of the failure.
+	 */
+	void onError(Throwable throwable);
+
+	/**
+	 * Triggered once when the run has finished and all its results have been delivered, no other signal follows.
+	 */
+	void onComplete();
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the 
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.result;
+
+/**
+ * This interface defines the behavior of the subscription linking a {@link IExecutionResultSubscriber} to an
+ * {@link ExecutionResultPublisher}.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public interface IExecutionResultSubscription
+{
+	/**
+	 * Requests the given number of additional execution results.
+	 * <hr>
+	 * @param count Number of results ({@link Long#MAX_VALUE} for an unbounded demand).
+	 */
+	void request(long count);
+
+	/**
+	 * Cancels the subscription, no more result is delivered and the buffered ones are discarded.
+	 */
+	void cancel();
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the 
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.retry;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.heliosphere.demeter.base.runner.annotation.RunnerRetry;
+
+import lombok.NonNull;
+
+/**
+ * Provides the policy used to retry the failed contexts, with an exponential backoff and a jitter.
+ * <hr>
+ * The delay before the retry following the n-th attempt is {@code delay * multiplier^(n - 1)}, limited to the maximum delay, and
+ * randomly increased or decreased by up to {@code jitter} times its value.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public final class RetryPolicy
+{
+	/**
+	 * Maximum number of attempts, including the first one.
+	 */
+	private final int attempts;
+
+	/**
+	 * Initial delay (in milliseconds).
+	 */
+	private final long delay;
+
+	/**
+	 * Maximum delay (in milliseconds).
+	 */
+	private final long maxDelay;
+
+	/**
+	 * Backoff multiplier.
+	 */
+	private final double multiplier;
+
+	/**
+	 * Jitter ratio.
+	 */
+	private final double jitter;
+
+	/**
+	 * Maximum number of retries for the whole run, {@code -1} for no limit.
+	 */
+	private final int budget;
+
+	/**
+	 * Creates a new retry policy.
+	 * <hr>
+	 * @param attempts Maximum number of attempts, including the first one.
+	 * @param delay Initial delay (in milliseconds).
+	 * @param maxDelay Maximum delay (in milliseconds).
+	 * @param multiplier Backoff multiplier.
+	 * @param jitter Jitter ratio between {@code 0} and {@code 1}.
+	 * @param budget Maximum number of retries for the whole run, {@code -1} for no limit.
+	 */
+	@SuppressWarnings("nls")
+	public RetryPolicy(final int attempts, final long delay, final long maxDelay, final double multiplier, final double jitter, final int budget)
+	{
+		if (attempts < 1)
+		{
+			throw new IllegalArgumentException("Retry attempts must be greater than 0, found: " + attempts);
+		}
+		if (delay < 0 || maxDelay < delay)
+		{
+			throw new IllegalArgumentException(String.format("Invalid retry delays: [%1d] and maximum: [%2d]", Long.valueOf(delay), Long.valueOf(maxDelay)));
+		}
+		if (multiplier < 1)
+		{
+			throw new IllegalArgumentException("Retry multiplier cannot be lower than 1, found: " + multiplier);
+		}
+		if (jitter < 0 || jitter > 1)
+		{
+			throw new IllegalArgumentException("Retry jitter must be between 0 and 1, found: " + jitter);
+		}
+
+		this.attempts = attempts;
+		this.delay = delay;
+		this.maxDelay = maxDelay;
+		this.multiplier = multiplier;
+		this.jitter = jitter;
+		this.budget = budget;
+	}
+
+	/**
+	 * Creates a retry policy from a {@link RunnerRetry} annotation.
+	 * <hr>
+	 * @param retry Retry annotation.
+	 * @return Retry policy.
+	 */
+	public static final RetryPolicy of(@NonNull final RunnerRetry retry)
+	{
+		return new RetryPolicy(retry.attempts(), retry.delay(), retry.maxDelay(), retry.multiplier(), retry.jitter(), retry.budget());
+	}
+
+	/**
+	 * Returns a policy never retrying the failed contexts.
+	 * <hr>
+	 * @return Retry policy.
+	 */
+	public static final RetryPolicy none()
+	{
+		return new RetryPolicy(1, 0, 0, 1, 0, 0);
+	}
+
+	/**
+	 * Returns if the policy retries the failed contexts?
+	 * <hr>
+	 * @return {@code True} if enabled, {@code false} otherwise.
+	 */
+	public final boolean isEnabled()
+	{
+		return attempts > 1 && budget != 0;
+	}
+
+	/**
+	 * Returns the maximum number of attempts, including the first one.
+	 * <hr>
+	 * @return Maximum number of attempts.
+	 */
+	public final int getAttempts()
+	{
+		return attempts;
+	}
+
+	/**
+	 * Returns the maximum number of retries for the whole run.
+	 * <hr>
+	 * @return Failure budget, {@code -1} for no limit.
+	 */
+	public final int getBudget()
+	{
+		return budget;
+	}
+
+	/**
+	 * Returns the delay before retrying a context.
+	 * <hr>
+	 * @param attempt Number of attempts already done (starting at {@code 1}).
+	 * @param unit Time unit of the delay.
+	 * @return Delay.
+	 */
+	public final long getDelay(final int attempt, @NonNull final TimeUnit unit)
+	{
+		double value = Math.min(maxDelay, delay * Math.pow(multiplier, Math.max(0, attempt - 1)));
+
+		if (jitter > 0 && value > 0)
+		{
+			value += value * jitter * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+		}
+
+		return unit.convert(Math.round(value), TimeUnit.MILLISECONDS);
+	}
+
+	@SuppressWarnings("nls")
+	@Override
+	public final String toString()
+	{
+		return String.format("attempts: [%1d], delay: [%2d] ms, max delay: [%3d] ms, multiplier: [%4s], jitter: [%5s], budget: [%6d]", Integer.valueOf(attempts), Long.valueOf(delay), Long.valueOf(maxDelay), Double.valueOf(multiplier), Double.valueOf(jitter), Integer.valueOf(budget));
+	}
+}
@@ -0,0 +1,300 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the 
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.retry;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.heliosphere.demeter.base.runner.context.IContext;
+import com.heliosphere.demeter.base.runner.processor.ProcessorException;
+import com.heliosphere.demeter.base.runner.result.ExecutionStatusType;
+import com.heliosphere.demeter.base.runner.result.IExecutionResult;
+
+import lombok.NonNull;
+
+/**
+ * Provides the scheduling of the retries of the failed contexts according to a {@link RetryPolicy}.
+ * <hr>
+ * A context to retry is not held by a worker thread while waiting: a timer hands it back once its backoff delay has elapsed, and
+ * the dispatching thread polls it to submit it again to its bulkhead. Apart from the hand back, the scheduler is only accessed by
+ * the dispatching thread.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public final class RetryScheduler
+{
+	/**
+	 * Retry policy.
+	 */
+	private final RetryPolicy policy;
+
+	/**
+	 * Name used for the timer thread.
+	 */
+	private final String name;
+
+	/**
+	 * Callback invoked when a context is due to be retried.
+	 */
+	private final Runnable callback;
+
+	/**
+	 * Attempts of the contexts being retried.
+	 */
+	private final Map<IContext, Attempt> attempts = new HashMap<>();
+
+	/**
+	 * Contexts whose backoff delay has elapsed.
+	 */
+	private final Queue<IContext> due = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * Timer, created on the first retry.
+	 */
+	private ScheduledExecutorService timer = null;
+
+	/**
+	 * Remaining number of retries, {@code -1} for no limit.
+	 */
+	private int budget;
+
+	/**
+	 * Number of contexts waiting to be retried.
+	 */
+	private int delayed = 0;
+
+	/**
+	 * Total number of retries.
+	 */
+	private int retried = 0;
+
+	/**
+	 * Creates a new retry scheduler.
+	 * <hr>
+	 * @param policy Retry policy.
+	 * @param name Name used for the timer thread.
+	 * @param callback Callback invoked (from the timer thread) when a context is due to be retried.
+	 */
+	public RetryScheduler(@NonNull final RetryPolicy policy, @NonNull final String name, @NonNull final Runnable callback)
+	{
+		this.policy = policy;
+		this.name = name;
+		this.callback = callback;
+		this.budget = policy.getBudget();
+	}
+
+	/**
+	 * Schedules the retry of a completed context if its execution has failed and the retry policy allows it.
+	 * <hr>
+	 * When the context is not retried, its result is updated with the number of attempts and the time spent retrying it.
+	 * <hr>
+	 * @param context Completed context.
+	 * @param result Execution result of the context.
+	 * @return {@code True} if the context will be retried, {@code false} if its result is final.
+	 * @throws ProcessorException Thrown in case the processor of the context cannot be reset.
+	 */
+	public final boolean retry(@NonNull final IContext context, @NonNull final IExecutionResult result) throws ProcessorException
+	{
+		Attempt attempt = attempts.get(context);
+		int count = attempt == null ? 1 : attempt.count;
+
+		if (result.getStatus() == ExecutionStatusType.FAILED && count < policy.getAttempts() && budget != 0)
+		{
+			if (budget > 0)
+			{
+				budget--;
+			}
+
+			if (attempt == null)
+			{
+				attempt = new Attempt();
+				attempts.put(context, attempt);
+			}
+
+			context.getProcessor().reset(context);
+			attempt.count = count + 1;
+			attempt.delayed = true;
+			attempt.timer = getTimer().schedule(new Runnable()
+			{
+				@Override
+				public void run()
+				{
+					due.add(context);
+					callback.run();
+				}
+			}, policy.getDelay(count, TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+
+			delayed++;
+			retried++;
+
+			return true;
+		}
+
+		if (attempt != null)
+		{
+			attempts.remove(context);
+			result.setAttempts(count);
+			result.setRetryTime(System.nanoTime() - attempt.started);
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns the next context whose backoff delay has elapsed.
+	 * <hr>
+	 * @return Context to retry or {@code null} if none.
+	 */
+	public final IContext poll()
+	{
+		IContext context;
+		while ((context = due.poll()) != null)
+		{
+			// Skips the contexts handed back by a timer racing with a drain.
+			Attempt attempt = attempts.get(context);
+			if (attempt != null && attempt.delayed)
+			{
+				attempt.delayed = false;
+				delayed--;
+				return context;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns, and removes from the scheduler, all the contexts waiting to be retried.
+	 * <hr>
+	 * @return List of contexts, empty if none.
+	 */
+	public final List<IContext> drain()
+	{
+		List<IContext> list = new ArrayList<>(delayed);
+
+		for (Map.Entry<IContext, Attempt> entry : attempts.entrySet())
+		{
+			if (entry.getValue().delayed)
+			{
+				entry.getValue().timer.cancel(false);
+				list.add(entry.getKey());
+			}
+		}
+
+		for (IContext context : list)
+		{
+			attempts.remove(context);
+		}
+		due.clear();
+		delayed = 0;
+
+		return list;
+	}
+
+	/**
+	 * Returns the number of contexts waiting to be retried.
+	 * <hr>
+	 * @return Number of contexts.
+	 */
+	public final int size()
+	{
+		return delayed;
+	}
+
+	/**
+	 * Returns the total number of retries.
+	 * <hr>
+	 * @return Number of retries.
+	 */
+	public final int getRetried()
+	{
+		return retried;
+	}
+
+	/**
+	 * Returns the remaining number of retries.
+	 * <hr>
+	 * @return Remaining failure budget, {@code -1} for no limit.
+	 */
+	public final int getBudget()
+	{
+		return budget;
+	}
+
+	/**
+	 * Shuts down the timer and forgets all the contexts.
+	 */
+	public final void shutdown()
+	{
+		if (timer != null)
+		{
+			timer.shutdownNow();
+			timer = null;
+		}
+
+		attempts.clear();
+		due.clear();
+		delayed = 0;
+	}
+
+	/**
+	 * Returns the timer, creating it if needed.
+	 * <hr>
+	 * @return Timer.
+	 */
+	@SuppressWarnings("nls")
+	private ScheduledExecutorService getTimer()
+	{
+		if (timer == null)
+		{
+			timer = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat(name + "-retry-%d").setDaemon(true).build());
+		}
+
+		return timer;
+	}
+
+	/**
+	 * Attempts of a context being retried.
+	 */
+	private static final class Attempt
+	{
+		/**
+		 * Time (in nanoseconds) of the first failure.
+		 */
+		private final long started = System.nanoTime();
+
+		/**
+		 * Number of the current attempt.
+		 */
+		private int count;
+
+		/**
+		 * Is the context waiting for its backoff delay?
+		 */
+		private boolean delayed;
+
+		/**
+		 * Timer of the backoff delay.
+		 */
+		private ScheduledFuture<?> timer;
+	}
+}
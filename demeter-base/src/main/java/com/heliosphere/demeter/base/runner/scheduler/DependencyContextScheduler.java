@@ -0,0 +1,320 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.scheduler;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+import com.heliosphere.demeter.base.runner.context.IContext;
+import com.heliosphere.demeter.base.runner.result.ExecutionStatusType;
+import com.heliosphere.demeter.base.runner.result.IExecutionResult;
+import com.heliosphere.demeter.base.runner.scheduler.ParameterGraph.Node;
+
+import lombok.NonNull;
+
+/**
+ * Provides a {@link IContextScheduler} holding back the contexts of a parameter until all the contexts of the parameters it
+ * depends on have succeeded.
+ * <hr>
+ * Dependencies are given by a {@link ParameterGraph}. Contexts whose dependencies are satisfied are handed to an underlying
+ * scheduler deciding of their dispatching order. When a context fails, the contexts of all the parameters depending (directly or
+ * not) on its parameter are never dispatched and are returned by {@link #drainSkipped()}.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public final class DependencyContextScheduler implements IContextScheduler
+{
+	/**
+	 * Dependency graph.
+	 */
+	private final ParameterGraph graph;
+
+	/**
+	 * Scheduler of the contexts whose dependencies are satisfied.
+	 */
+	private final IContextScheduler ready;
+
+	/**
+	 * Scheduling state of the graph nodes.
+	 */
+	private final Map<Node, State> states = new HashMap<>();
+
+	/**
+	 * Contexts which will never be dispatched because a dependency has failed.
+	 */
+	private final List<IContext> skipped = new ArrayList<>();
+
+	/**
+	 * Number of contexts waiting for their dependencies.
+	 */
+	private int waiting = 0;
+
+	/**
+	 * Do the waiting contexts need to be re-evaluated?
+	 */
+	private boolean dirty = false;
+
+	/**
+	 * Creates a new dependency context scheduler.
+	 * <hr>
+	 * @param graph Dependency graph.
+	 * @param ready Scheduler of the contexts whose dependencies are satisfied.
+	 */
+	public DependencyContextScheduler(@NonNull final ParameterGraph graph, @NonNull final IContextScheduler ready)
+	{
+		this.graph = graph;
+		this.ready = ready;
+	}
+
+	@Override
+	public final void schedule(@NonNull final IContext context)
+	{
+		Node node = graph.getNode(context);
+		if (node == null)
+		{
+			ready.schedule(context);
+			return;
+		}
+
+		State state = getState(node);
+		if (state.failed)
+		{
+			skipped.add(context);
+			return;
+		}
+
+		state.pending++;
+
+		if (node.prerequisites.isEmpty())
+		{
+			ready.schedule(context);
+		}
+		else
+		{
+			state.blocked.add(context);
+			waiting++;
+			dirty = true;
+		}
+	}
+
+	@Override
+	public final IContext next()
+	{
+		if (dirty)
+		{
+			release();
+		}
+
+		return ready.next();
+	}
+
+	@Override
+	public final void complete(@NonNull final IContext context, @NonNull final IExecutionResult result)
+	{
+		ready.complete(context, result);
+
+		Node node = graph.getNode(context);
+		if (node == null)
+		{
+			return;
+		}
+
+		State state = getState(node);
+		state.pending--;
+
+		if (result.getStatus() != ExecutionStatusType.SUCESSS)
+		{
+			fail(node);
+		}
+		else if (state.pending == 0)
+		{
+			dirty = true;
+		}
+	}
+
+	@Override
+	public final List<IContext> drainSkipped()
+	{
+		if (skipped.isEmpty())
+		{
+			return Collections.emptyList();
+		}
+
+		List<IContext> list = new ArrayList<>(skipped);
+		skipped.clear();
+
+		return list;
+	}
+
+	@Override
+	public final List<IContext> drain()
+	{
+		List<IContext> list = ready.drain();
+
+		for (IContext context : list)
+		{
+			Node node = graph.getNode(context);
+			if (node != null)
+			{
+				getState(node).pending--;
+			}
+		}
+
+		for (State state : states.values())
+		{
+			state.pending -= state.blocked.size();
+			list.addAll(state.blocked);
+			state.blocked.clear();
+		}
+		waiting = 0;
+
+		return list;
+	}
+
+	@Override
+	public final int size()
+	{
+		return ready.size() + waiting;
+	}
+
+	@Override
+	public final boolean isEmpty()
+	{
+		return size() == 0 && skipped.isEmpty();
+	}
+
+	@Override
+	public final void clear()
+	{
+		ready.clear();
+		states.clear();
+		skipped.clear();
+		waiting = 0;
+		dirty = false;
+	}
+
+	/**
+	 * Hands the waiting contexts whose dependencies are now satisfied to the underlying scheduler.
+	 */
+	private void release()
+	{
+		dirty = false;
+
+		for (Map.Entry<Node, State> entry : states.entrySet())
+		{
+			State state = entry.getValue();
+			if (!state.blocked.isEmpty() && isSatisfied(entry.getKey()))
+			{
+				IContext context;
+				while ((context = state.blocked.poll()) != null)
+				{
+					ready.schedule(context);
+					waiting--;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns if all the dependencies of a node have been run successfully?
+	 * <hr>
+	 * @param node Node.
+	 * @return {@code True} if the dependencies are satisfied, {@code false} otherwise.
+	 */
+	private boolean isSatisfied(final Node node)
+	{
+		for (Node prerequisite : node.prerequisites)
+		{
+			State state = states.get(prerequisite);
+			if (state != null && (state.failed || state.pending > 0))
+			{
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Marks a node as failed and skips the waiting contexts of all the nodes depending on it.
+	 * <hr>
+	 * @param node Failed node.
+	 */
+	private void fail(final Node node)
+	{
+		Queue<Node> queue = new ArrayDeque<>();
+		getState(node).failed = true;
+		queue.addAll(node.dependents);
+
+		while (!queue.isEmpty())
+		{
+			Node dependent = queue.poll();
+			State state = getState(dependent);
+			if (state.failed)
+			{
+				continue;
+			}
+
+			state.failed = true;
+			state.pending -= state.blocked.size();
+			waiting -= state.blocked.size();
+			skipped.addAll(state.blocked);
+			state.blocked.clear();
+			queue.addAll(dependent.dependents);
+		}
+	}
+
+	/**
+	 * Returns the scheduling state of a node, creating it if needed.
+	 * <hr>
+	 * @param node Node.
+	 * @return Scheduling state.
+	 */
+	private State getState(final Node node)
+	{
+		State state = states.get(node);
+		if (state == null)
+		{
+			state = new State();
+			states.put(node, state);
+		}
+
+		return state;
+	}
+
+	/**
+	 * Scheduling state of a node.
+	 */
+	private static final class State
+	{
+		/**
+		 * Number of scheduled contexts not yet completed.
+		 */
+		private int pending = 0;
+
+		/**
+		 * Has a context of the node, or of one of its dependencies, failed?
+		 */
+		private boolean failed = false;
+
+		/**
+		 * Contexts waiting for the dependencies of the node.
+		 */
+		private final Queue<IContext> blocked = new ArrayDeque<>();
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.scheduler;
+
+import java.util.List;
+
+import com.heliosphere.demeter.base.runner.IRunner;
+import com.heliosphere.demeter.base.runner.context.IContext;
+import com.heliosphere.demeter.base.runner.result.IExecutionResult;
+
+/**
+ * This interface defines the behavior of a scheduler deciding in which order the contexts of a {@link IRunner} are dispatched.
+ * <hr>
+ * Schedulers are not thread safe, they are only accessed by the thread dispatching the contexts.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public interface IContextScheduler
+{
+	/**
+	 * Schedules a context for dispatching.
+	 * <hr>
+	 * @param context Context to schedule.
+	 */
+	void schedule(IContext context);
+
+	/**
+	 * Returns the next context to dispatch and removes it from the scheduler.
+	 * <hr>
+	 * @return Next context to dispatch or {@code null} if no context is ready to be dispatched.
+	 */
+	IContext next();
+
+	/**
+	 * Notifies the scheduler a dispatched context has finished its execution.
+	 * <hr>
+	 * @param context Context.
+	 * @param result Execution result of the context.
+	 */
+	void complete(IContext context, IExecutionResult result);
+
+	/**
+	 * Returns, and removes from the scheduler, the contexts which will never be dispatched (for example because a context they
+	 * depend on has failed).
+	 * <hr>
+	 * @return List of skipped contexts, empty if none.
+	 */
+	List<IContext> drainSkipped();
+
+	/**
+	 * Returns, and removes from the scheduler, all the contexts not yet dispatched whether their dependencies are satisfied or
+	 * not.
+	 * <hr>
+	 * @return List of contexts, empty if none.
+	 */
+	List<IContext> drain();
+
+	/**
+	 * Returns the number of scheduled contexts not yet dispatched.
+	 * <hr>
+	 * @return Number of contexts.
+	 */
+	int size();
+
+	/**
+	 * Returns if the scheduler holds no context waiting to be dispatched?
+	 * <hr>
+	 * @return {@code True} if empty, {@code false} otherwise.
+	 */
+	boolean isEmpty();
+
+	/**
+	 * Removes all the scheduled contexts.
+	 */
+	void clear();
+}
@@ -0,0 +1,451 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.scheduler;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+import com.heliosphere.demeter.base.runner.context.IContext;
+import com.heliosphere.demeter.base.runner.entity.IEntity;
+import com.heliosphere.demeter.base.runner.file.xml.configuration.XmlConfigurationFile;
+import com.heliosphere.demeter.base.runner.parameter.base.IParameterType;
+import com.heliosphere.demeter.base.runner.parameter.base.ParameterException;
+import com.heliosphere.demeter.base.runner.parameter.configuration.IParameterConfiguration;
+import com.heliosphere.demeter.base.runner.parameter.execution.IParameterExecution;
+
+import lombok.NonNull;
+
+/**
+ * Provides the dependency graph of the execution parameters of a runner.
+ * <hr>
+ * The graph is built from the {@code includes} (required parameters) of the configuration parameters: a parameter including
+ * another one depends on it, so its contexts can only be run once all the contexts of the included parameter have succeeded.
+ * The {@code excludes} (incompatible parameters) do not produce any edge as incompatible parameters are rejected when the
+ * execution file is validated.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public final class ParameterGraph
+{
+	/**
+	 * Graph nodes indexed by parameter type, in topological order once the graph is built.
+	 */
+	private final Map<Enum<? extends IParameterType>, Node> nodes = new LinkedHashMap<>();
+
+	/**
+	 * Prevents direct instantiation, use {@link #build(XmlConfigurationFile, Collection)}.
+	 */
+	private ParameterGraph()
+	{
+		// Empty.
+	}
+
+	/**
+	 * Builds the dependency graph of the given execution parameters.
+	 * <hr>
+	 * @param configuration XML configuration file declaring the parameter dependencies.
+	 * @param parameters Execution parameters.
+	 * @return Dependency graph.
+	 * @throws ParameterException Thrown in case a dependency cannot be resolved or in case of a dependency cycle.
+	 */
+	@SuppressWarnings("nls")
+	public static final ParameterGraph build(@NonNull final XmlConfigurationFile configuration, @NonNull final Collection<IParameterExecution> parameters) throws ParameterException
+	{
+		Map<Enum<? extends IParameterType>, Node> unsorted = new HashMap<>();
+		List<Node> declared = new ArrayList<>();
+
+		for (IParameterExecution parameter : parameters)
+		{
+			// A parameter given several times in the execution file has a single node shared by all its contexts.
+			if (!unsorted.containsKey(parameter.getType()))
+			{
+				Node node = new Node(parameter.getType(), parameter.getName());
+				unsorted.put(parameter.getType(), node);
+				declared.add(node);
+			}
+		}
+
+		for (IParameterExecution parameter : parameters)
+		{
+			IParameterConfiguration definition = configuration.getParameter(parameter.getType());
+			if (definition == null || definition.getRequiredParameters() == null)
+			{
+				continue;
+			}
+
+			Node node = unsorted.get(parameter.getType());
+			for (String name : definition.getRequiredParameters())
+			{
+				IParameterConfiguration required = configuration.getParameter(name);
+				Node prerequisite = required != null ? unsorted.get(required.getType()) : null;
+				if (prerequisite == null)
+				{
+					throw new ParameterException(String.format("Parameter %1s requires parameter %2s which is not part of the execution!", parameter.getName(), name));
+				}
+
+				if (!node.prerequisites.contains(prerequisite))
+				{
+					node.prerequisites.add(prerequisite);
+					prerequisite.dependents.add(node);
+				}
+			}
+		}
+
+		ParameterGraph graph = new ParameterGraph();
+		graph.sort(declared);
+
+		return graph;
+	}
+
+	/**
+	 * Sorts the nodes in topological order (Kahn's algorithm) and computes their level.
+	 * <hr>
+	 * @param declared Nodes in declaration order.
+	 * @throws ParameterException Thrown in case of a dependency cycle.
+	 */
+	@SuppressWarnings("nls")
+	private void sort(final List<Node> declared) throws ParameterException
+	{
+		Map<Node, Integer> degrees = new HashMap<>();
+		Queue<Node> queue = new ArrayDeque<>();
+
+		for (Node node : declared)
+		{
+			degrees.put(node, Integer.valueOf(node.prerequisites.size()));
+			if (node.prerequisites.isEmpty())
+			{
+				queue.add(node);
+			}
+		}
+
+		while (!queue.isEmpty())
+		{
+			Node node = queue.poll();
+			nodes.put(node.type, node);
+
+			for (Node dependent : node.dependents)
+			{
+				dependent.level = Math.max(dependent.level, node.level + 1);
+
+				int degree = degrees.get(dependent).intValue() - 1;
+				degrees.put(dependent, Integer.valueOf(degree));
+				if (degree == 0)
+				{
+					queue.add(dependent);
+				}
+			}
+		}
+
+		if (nodes.size() != declared.size())
+		{
+			List<String> cycle = new ArrayList<>();
+			for (Node node : declared)
+			{
+				if (!nodes.containsKey(node.type))
+				{
+					cycle.add(node.name);
+				}
+			}
+
+			throw new ParameterException(String.format("Dependency cycle detected between parameters: %1s", cycle));
+		}
+	}
+
+	/**
+	 * Registers a context to be run for its parameter node.
+	 * <hr>
+	 * @param context Context.
+	 */
+	public final void register(@NonNull final IContext context)
+	{
+		if (context.getEntity() != null)
+		{
+			register(context.getEntity());
+		}
+	}
+
+	/**
+	 * Registers an entity to be run for its parameter node.
+	 * <hr>
+	 * @param entity Entity.
+	 */
+	public final void register(@NonNull final IEntity<?> entity)
+	{
+		Node node = getNode(entity);
+		if (node != null)
+		{
+			node.weight++;
+		}
+	}
+
+	/**
+	 * Returns the dependency level of the parameter an entity has been created for.
+	 * <hr>
+	 * Entities of a level can only be run once all the entities of the lower levels they depend on have succeeded.
+	 * <hr>
+	 * @param entity Entity.
+	 * @return Dependency level, {@code 0} if the entity is not bound to a parameter of the graph.
+	 */
+	public final int getLevel(@NonNull final IEntity<?> entity)
+	{
+		Node node = getNode(entity);
+		return node == null ? 0 : node.level;
+	}
+
+	/**
+	 * Returns the node of the parameter a context has been created for.
+	 * <hr>
+	 * @param context Context.
+	 * @return Node or {@code null} if the context is not bound to a parameter of the graph.
+	 */
+	final Node getNode(final IContext context)
+	{
+		return context.getEntity() == null ? null : getNode(context.getEntity());
+	}
+
+	/**
+	 * Returns the node of the parameter an entity has been created for.
+	 * <hr>
+	 * @param entity Entity.
+	 * @return Node or {@code null} if the entity is not bound to a parameter of the graph.
+	 */
+	private Node getNode(final IEntity<?> entity)
+	{
+		return entity.getParameter() == null ? null : nodes.get(entity.getParameter().getType());
+	}
+
+	/**
+	 * Returns the number of dependency levels of the graph.
+	 * <hr>
+	 * @return Depth.
+	 */
+	public final int getDepth()
+	{
+		int depth = 0;
+		for (Node node : nodes.values())
+		{
+			depth = Math.max(depth, node.level + 1);
+		}
+
+		return depth;
+	}
+
+	/**
+	 * Returns the critical path, that is the longest chain of dependent parameters which must be run one after the other.
+	 * <hr>
+	 * @return List of parameter names, from the first parameter to run to the last one.
+	 */
+	public final List<String> getCriticalPath()
+	{
+		LinkedList<String> path = new LinkedList<>();
+		Node last = null;
+
+		for (Node node : nodes.values())
+		{
+			if (last == null || node.level > last.level)
+			{
+				last = node;
+			}
+		}
+
+		while (last != null)
+		{
+			path.addFirst(last.name);
+
+			Node previous = null;
+			for (Node prerequisite : last.prerequisites)
+			{
+				if (prerequisite.level == last.level - 1)
+				{
+					previous = prerequisite;
+					break;
+				}
+			}
+			last = previous;
+		}
+
+		return Collections.unmodifiableList(path);
+	}
+
+	/**
+	 * Returns the maximum achievable parallelism, that is the largest number of registered contexts whose parameters do not
+	 * depend on each other (even indirectly) and which can therefore run at the same time.
+	 * <hr>
+	 * The value is the weight of the maximum weight antichain of the dependency graph, each node weighing its number of
+	 * contexts. By the weighted Dilworth theorem, it is the total weight minus the maximum flow of the bipartite network linking
+	 * each parameter to the parameters depending on it (directly or not), each side of a node having its weight as capacity.
+	 * <hr>
+	 * @return Maximum parallelism.
+	 */
+	public final int getMaxParallelism()
+	{
+		List<Node> sorted = new ArrayList<>(nodes.values());
+		int count = sorted.size();
+		Map<Node, Integer> positions = new HashMap<>();
+		for (int i = 0; i < count; i++)
+		{
+			positions.put(sorted.get(i), Integer.valueOf(i));
+		}
+
+		// Descendants of each node, computed in reverse topological order.
+		BitSet[] descendants = new BitSet[count];
+		for (int i = count - 1; i >= 0; i--)
+		{
+			descendants[i] = new BitSet(count);
+			for (Node dependent : sorted.get(i).dependents)
+			{
+				int position = positions.get(dependent).intValue();
+				descendants[i].set(position);
+				descendants[i].or(descendants[position]);
+			}
+		}
+
+		// Network: source (0), sink (1), left side of the nodes (2 + i) and right side of the nodes (2 + count + i).
+		int total = 0;
+		int[][] capacities = new int[2 * count + 2][2 * count + 2];
+		for (int i = 0; i < count; i++)
+		{
+			int weight = sorted.get(i).weight;
+			total += weight;
+			capacities[0][2 + i] = weight;
+			capacities[2 + count + i][1] = weight;
+
+			for (int j = descendants[i].nextSetBit(0); j >= 0; j = descendants[i].nextSetBit(j + 1))
+			{
+				capacities[2 + i][2 + count + j] = Integer.MAX_VALUE;
+			}
+		}
+
+		return total - maxFlow(capacities);
+	}
+
+	/**
+	 * Computes the maximum flow from the source (vertex {@code 0}) to the sink (vertex {@code 1}) of a network (Edmonds-Karp).
+	 * <hr>
+	 * @param capacities Capacities of the edges, updated with the residual capacities.
+	 * @return Maximum flow.
+	 */
+	private static int maxFlow(final int[][] capacities)
+	{
+		int flow = 0;
+		int[] parents = new int[capacities.length];
+
+		while (true)
+		{
+			Arrays.fill(parents, -1);
+			parents[0] = 0;
+			Queue<Integer> queue = new ArrayDeque<>();
+			queue.add(Integer.valueOf(0));
+
+			while (!queue.isEmpty() && parents[1] < 0)
+			{
+				int vertex = queue.poll().intValue();
+				for (int next = 0; next < capacities.length; next++)
+				{
+					if (parents[next] < 0 && capacities[vertex][next] > 0)
+					{
+						parents[next] = vertex;
+						queue.add(Integer.valueOf(next));
+					}
+				}
+			}
+
+			if (parents[1] < 0)
+			{
+				return flow;
+			}
+
+			int augment = Integer.MAX_VALUE;
+			for (int vertex = 1; vertex != 0; vertex = parents[vertex])
+			{
+				augment = Math.min(augment, capacities[parents[vertex]][vertex]);
+			}
+
+			for (int vertex = 1; vertex != 0; vertex = parents[vertex])
+			{
+				capacities[parents[vertex]][vertex] -= augment;
+				capacities[vertex][parents[vertex]] += augment;
+			}
+
+			flow += augment;
+		}
+	}
+
+	/**
+	 * Returns if the graph contains at least one dependency?
+	 * <hr>
+	 * @return {@code True} if some parameters depend on other ones, {@code false} otherwise.
+	 */
+	public final boolean hasDependencies()
+	{
+		return getDepth() > 1;
+	}
+
+	/**
+	 * Node of the graph representing an execution parameter.
+	 */
+	static final class Node
+	{
+		/**
+		 * Parameter type.
+		 */
+		final Enum<? extends IParameterType> type;
+
+		/**
+		 * Parameter name.
+		 */
+		final String name;
+
+		/**
+		 * Parameters this parameter depends on.
+		 */
+		final List<Node> prerequisites = new ArrayList<>();
+
+		/**
+		 * Parameters depending on this parameter.
+		 */
+		final List<Node> dependents = new ArrayList<>();
+
+		/**
+		 * Dependency level (0 for parameters without prerequisite).
+		 */
+		int level = 0;
+
+		/**
+		 * Number of contexts registered for this parameter.
+		 */
+		int weight = 0;
+
+		/**
+		 * Creates a new node.
+		 * <hr>
+		 * @param type Parameter type.
+		 * @param name Parameter name.
+		 */
+		Node(final Enum<? extends IParameterType> type, final String name)
+		{
+			this.type = type;
+			this.name = name;
+		}
+	}
+}
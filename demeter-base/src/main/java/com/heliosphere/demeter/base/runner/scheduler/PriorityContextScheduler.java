@@ -0,0 +1,226 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.scheduler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+import com.heliosphere.demeter.base.runner.context.IContext;
+import com.heliosphere.demeter.base.runner.entity.IEntity;
+import com.heliosphere.demeter.base.runner.parameter.configuration.IParameterConfiguration;
+import com.heliosphere.demeter.base.runner.parameter.execution.IParameterExecution;
+import com.heliosphere.demeter.base.runner.result.IExecutionResult;
+
+import lombok.NonNull;
+
+/**
+ * Provides a {@link IContextScheduler} dispatching the contexts according to the priority of the configuration parameter they
+ * have been created for.
+ * <hr>
+ * As stated by {@link IParameterConfiguration#getPriority()}, contexts with a low priority value are dispatched first. Contexts
+ * having the same priority are dispatched in their scheduling order.
+ * <p>
+ * An optional aging rate (in priority points per second) lowers the effective priority of a context while it is waiting, so
+ * contexts with a high priority value are not starved by a continuous flow of contexts with a lower one. As every waiting context
+ * ages at the same rate, the aging is folded into a static ordering key computed once at scheduling time.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public final class PriorityContextScheduler implements IContextScheduler
+{
+	/**
+	 * Priority assigned to the contexts not created for a configuration parameter.
+	 */
+	public static final int DEFAULT_PRIORITY = Integer.MAX_VALUE;
+
+	/**
+	 * Queue of scheduled contexts.
+	 */
+	private final PriorityQueue<Entry> queue = new PriorityQueue<>();
+
+	/**
+	 * Aging rate in priority points per second.
+	 */
+	private final double aging;
+
+	/**
+	 * Scheduler creation time used as the origin of the aging.
+	 */
+	private final long origin = System.nanoTime();
+
+	/**
+	 * Scheduling sequence number.
+	 */
+	private long sequence = 0;
+
+	/**
+	 * Creates a new priority context scheduler without aging.
+	 */
+	public PriorityContextScheduler()
+	{
+		this(0);
+	}
+
+	/**
+	 * Creates a new priority context scheduler.
+	 * <hr>
+	 * @param aging Aging rate in priority points per second ({@code 0} to disable the aging).
+	 */
+	@SuppressWarnings("nls")
+	public PriorityContextScheduler(final double aging)
+	{
+		if (aging < 0)
+		{
+			throw new IllegalArgumentException("Aging rate cannot be negative, found: " + aging);
+		}
+
+		this.aging = aging;
+	}
+
+	/**
+	 * Returns the priority of a context.
+	 * <hr>
+	 * @param context Context.
+	 * @return Priority of the configuration parameter the context has been created for, or {@link #DEFAULT_PRIORITY}.
+	 */
+	public static final int getPriority(@NonNull final IContext context)
+	{
+		return context.getEntity() != null ? getPriority(context.getEntity()) : DEFAULT_PRIORITY;
+	}
+
+	/**
+	 * Returns the priority of an entity.
+	 * <hr>
+	 * @param entity Entity.
+	 * @return Priority of the configuration parameter the entity has been created for, or {@link #DEFAULT_PRIORITY}.
+	 */
+	public static final int getPriority(@NonNull final IEntity<?> entity)
+	{
+		IParameterExecution parameter = entity.getParameter();
+		if (parameter != null && parameter.getConfiguration() != null)
+		{
+			return parameter.getConfiguration().getPriority();
+		}
+
+		return DEFAULT_PRIORITY;
+	}
+
+	@Override
+	public final void schedule(@NonNull final IContext context)
+	{
+		double key = getPriority(context);
+
+		if (aging > 0)
+		{
+			key += aging * (System.nanoTime() - origin) / TimeUnit.SECONDS.toNanos(1);
+		}
+
+		queue.add(new Entry(context, key, sequence++));
+	}
+
+	@Override
+	public final IContext next()
+	{
+		Entry entry = queue.poll();
+		return entry == null ? null : entry.context;
+	}
+
+	@Override
+	public final void complete(final IContext context, final IExecutionResult result)
+	{
+		// Nothing to do, the dispatching order does not depend on the execution results.
+	}
+
+	@Override
+	public final List<IContext> drainSkipped()
+	{
+		return Collections.emptyList();
+	}
+
+	@Override
+	public final List<IContext> drain()
+	{
+		List<IContext> list = new ArrayList<>(queue.size());
+
+		Entry entry;
+		while ((entry = queue.poll()) != null)
+		{
+			list.add(entry.context);
+		}
+
+		return list;
+	}
+
+	@Override
+	public final int size()
+	{
+		return queue.size();
+	}
+
+	@Override
+	public final boolean isEmpty()
+	{
+		return queue.isEmpty();
+	}
+
+	@Override
+	public final void clear()
+	{
+		queue.clear();
+	}
+
+	/**
+	 * Entry of the priority queue.
+	 */
+	private static final class Entry implements Comparable<Entry>
+	{
+		/**
+		 * Scheduled context.
+		 */
+		private final IContext context;
+
+		/**
+		 * Ordering key.
+		 */
+		private final double key;
+
+		/**
+		 * Scheduling sequence number.
+		 */
+		private final long sequence;
+
+		/**
+		 * Creates a new entry.
+		 * <hr>
+		 * @param context Scheduled context.
+		 * @param key Ordering key.
+		 * @param sequence Scheduling sequence number.
+		 */
+		private Entry(final IContext context, final double key, final long sequence)
+		{
+			this.context = context;
+			this.key = key;
+			this.sequence = sequence;
+		}
+
+		@Override
+		public int compareTo(final Entry other)
+		{
+			int result = Double.compare(key, other.key);
+			return result != 0 ? result : Long.compare(sequence, other.sequence);
+		}
+	}
+}
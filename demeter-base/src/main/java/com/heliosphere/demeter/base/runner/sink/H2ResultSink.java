@@ -0,0 +1,263 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the 
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.sink;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import lombok.NonNull;
+
+/**
+ * Provides a {@link IResultSink} inserting the result records into a table of an embedded H2 database.
+ * <hr>
+ * The table is created if it does not exist. Each batch is inserted using a JDBC batch and committed as a whole.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public final class H2ResultSink implements IResultSink
+{
+	/**
+	 * H2 JDBC driver class name.
+	 */
+	@SuppressWarnings("nls")
+	private static final String DRIVER = "org.h2.Driver";
+
+	/**
+	 * Default table name.
+	 */
+	@SuppressWarnings("nls")
+	public static final String DEFAULT_TABLE = "EXECUTION_RESULT";
+
+	/**
+	 * Pattern of a valid table name.
+	 */
+	@SuppressWarnings("nls")
+	private static final Pattern TABLE_NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+
+	/**
+	 * JDBC URL of the database.
+	 */
+	private final String url;
+
+	/**
+	 * Database user.
+	 */
+	private final String user;
+
+	/**
+	 * Database password.
+	 */
+	private final String password;
+
+	/**
+	 * Table name.
+	 */
+	private final String table;
+
+	/**
+	 * Connection, {@code null} if the sink is not open.
+	 */
+	private Connection connection = null;
+
+	/**
+	 * Insert statement.
+	 */
+	private PreparedStatement insert = null;
+
+	/**
+	 * Creates a new H2 result sink using the default table.
+	 * <hr>
+	 * @param url JDBC URL of the database (for example {@code jdbc:h2:./target/results}).
+	 * @param user Database user.
+	 * @param password Database password.
+	 */
+	public H2ResultSink(@NonNull final String url, @NonNull final String user, @NonNull final String password)
+	{
+		this(url, user, password, DEFAULT_TABLE);
+	}
+
+	/**
+	 * Creates a new H2 result sink.
+	 * <hr>
+	 * @param url JDBC URL of the database (for example {@code jdbc:h2:./target/results}).
+	 * @param user Database user.
+	 * @param password Database password.
+	 * @param table Table name.
+	 */
+	@SuppressWarnings("nls")
+	public H2ResultSink(@NonNull final String url, @NonNull final String user, @NonNull final String password, @NonNull final String table)
+	{
+		if (!TABLE_NAME.matcher(table).matches())
+		{
+			throw new IllegalArgumentException("Invalid result table name: " + table);
+		}
+
+		this.url = url;
+		this.user = user;
+		this.password = password;
+		this.table = table;
+	}
+
+	/**
+	 * Returns the table name.
+	 * <hr>
+	 * @return Table name.
+	 */
+	public final String getTable()
+	{
+		return table;
+	}
+
+	@SuppressWarnings("nls")
+	@Override
+	public final void open() throws ResultSinkException
+	{
+		try
+		{
+			Class.forName(DRIVER);
+			connection = DriverManager.getConnection(url, user, password);
+			connection.setAutoCommit(false);
+
+			try (Statement statement = connection.createStatement())
+			{
+				statement.execute("CREATE TABLE IF NOT EXISTS " + table + " (ID IDENTITY, RECORDED TIMESTAMP, NAME VARCHAR(1024), STATUS VARCHAR(32), QUEUED_TIME BIGINT, INITIALIZE_TIME BIGINT, PROCESS_TIME BIGINT, TOTAL_TIME BIGINT, THREAD VARCHAR(256), ATTEMPTS INT, RETRY_TIME BIGINT, ERRORS CLOB)");
+			}
+			connection.commit();
+
+			insert = connection.prepareStatement("INSERT INTO " + table + " (RECORDED, NAME, STATUS, QUEUED_TIME, INITIALIZE_TIME, PROCESS_TIME, TOTAL_TIME, THREAD, ATTEMPTS, RETRY_TIME, ERRORS) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+		}
+		catch (ClassNotFoundException | SQLException e)
+		{
+			close(connection);
+			connection = null;
+			throw new ResultSinkException(String.format("Unable to open result database: %1s due to: %2s", url, e.getMessage()), e);
+		}
+	}
+
+	@SuppressWarnings("nls")
+	@Override
+	public final void write(@NonNull final List<ResultRecord> records) throws ResultSinkException
+	{
+		if (insert == null)
+		{
+			throw new ResultSinkException("Result sink is not open: " + url);
+		}
+
+		try
+		{
+			for (ResultRecord record : records)
+			{
+				insert.setTimestamp(1, new Timestamp(record.getTime()));
+				insert.setString(2, record.getName());
+				insert.setString(3, record.getStatus().name());
+				insert.setLong(4, record.getQueuedTime());
+				insert.setLong(5, record.getInitializeTime());
+				insert.setLong(6, record.getProcessTime());
+				insert.setLong(7, record.getTotalTime());
+				insert.setString(8, record.getThread());
+				insert.setInt(9, record.getAttempts());
+				insert.setLong(10, record.getRetryTime());
+				insert.setString(11, record.getErrors().isEmpty() ? null : join(record.getErrors()));
+				insert.addBatch();
+			}
+
+			insert.executeBatch();
+			connection.commit();
+		}
+		catch (SQLException e)
+		{
+			try
+			{
+				connection.rollback();
+			}
+			catch (SQLException rollback)
+			{
+				e.setNextException(rollback);
+			}
+
+			throw new ResultSinkException(String.format("Unable to insert: [%1d] result(s) into table: %2s due to: %3s", Integer.valueOf(records.size()), table, e.getMessage()), e);
+		}
+	}
+
+	@SuppressWarnings("nls")
+	@Override
+	public final void close() throws ResultSinkException
+	{
+		if (connection == null)
+		{
+			return;
+		}
+
+		try
+		{
+			insert.close();
+			connection.close();
+		}
+		catch (SQLException e)
+		{
+			throw new ResultSinkException(String.format("Unable to close result database: %1s due to: %2s", url, e.getMessage()), e);
+		}
+		finally
+		{
+			insert = null;
+			connection = null;
+		}
+	}
+
+	/**
+	 * Closes a connection, ignoring any error.
+	 * <hr>
+	 * @param connection Connection, can be {@code null}.
+	 */
+	private static void close(final Connection connection)
+	{
+		if (connection != null)
+		{
+			try
+			{
+				connection.close();
+			}
+			catch (SQLException e)
+			{
+				// Already failing, the original error is reported.
+			}
+		}
+	}
+
+	/**
+	 * Joins the error messages, one per line.
+	 * <hr>
+	 * @param errors Error messages.
+	 * @return Joined messages.
+	 */
+	private static String join(final List<String> errors)
+	{
+		StringBuilder builder = new StringBuilder();
+		for (String error : errors)
+		{
+			if (builder.length() > 0)
+			{
+				builder.append('\n');
+			}
+			builder.append(error);
+		}
+
+		return builder.toString();
+	}
+}
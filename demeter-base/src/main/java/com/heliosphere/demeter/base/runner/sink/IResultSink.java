@@ -0,0 +1,48 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the 
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.sink;
+
+import java.util.List;
+
+/**
+ * This interface defines the behavior of a sink persisting the execution results of a runner as they complete.
+ * <hr>
+ * Sinks receive the results by batches, as {@link ResultRecord} snapshots, from a {@link ResultSinkWriter} which is the only
+ * one calling them, so implementations do not need to be thread safe.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public interface IResultSink
+{
+	/**
+	 * Opens the sink before the first batch is written.
+	 * <hr>
+	 * @throws ResultSinkException Thrown in case an error occurred while trying to open the sink.
+	 */
+	void open() throws ResultSinkException;
+
+	/**
+	 * Writes a batch of result records.
+	 * <hr>
+	 * @param records Result records to write.
+	 * @throws ResultSinkException Thrown in case an error occurred while trying to write the records.
+	 */
+	void write(List<ResultRecord> records) throws ResultSinkException;
+
+	/**
+	 * Closes the sink once the last batch has been written.
+	 * <hr>
+	 * @throws ResultSinkException Thrown in case an error occurred while trying to close the sink.
+	 */
+	void close() throws ResultSinkException;
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the 
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.sink;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import lombok.NonNull;
+
+/**
+ * Provides a {@link IResultSink} writing each result record as a JSON object on its own line of a file.
+ * <hr>
+ * Each batch is flushed to the file once written, so the file is readable line by line while the runner is still running.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public final class JsonLinesResultSink implements IResultSink
+{
+	/**
+	 * File to write.
+	 */
+	private final File file;
+
+	/**
+	 * Are the records appended to an existing file?
+	 */
+	private final boolean append;
+
+	/**
+	 * Writer, {@code null} if the sink is not open.
+	 */
+	private Writer writer = null;
+
+	/**
+	 * Reusable line builder.
+	 */
+	private final StringBuilder line = new StringBuilder(256);
+
+	/**
+	 * Creates a new JSON lines result sink replacing the content of the file.
+	 * <hr>
+	 * @param file File to write.
+	 */
+	public JsonLinesResultSink(@NonNull final File file)
+	{
+		this(file, false);
+	}
+
+	/**
+	 * Creates a new JSON lines result sink.
+	 * <hr>
+	 * @param file File to write.
+	 * @param append {@code True} to append the records to an existing file, {@code false} to replace its content.
+	 */
+	public JsonLinesResultSink(@NonNull final File file, final boolean append)
+	{
+		this.file = file;
+		this.append = append;
+	}
+
+	@SuppressWarnings("nls")
+	@Override
+	public final void open() throws ResultSinkException
+	{
+		try
+		{
+			File parent = file.getAbsoluteFile().getParentFile();
+			if (parent != null && !parent.exists() && !parent.mkdirs())
+			{
+				throw new IOException("Unable to create directory: " + parent);
+			}
+
+			writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file, append), StandardCharsets.UTF_8));
+		}
+		catch (IOException e)
+		{
+			throw new ResultSinkException(String.format("Unable to open result file: %1s due to: %2s", file, e.getMessage()), e);
+		}
+	}
+
+	@SuppressWarnings("nls")
+	@Override
+	public final void write(@NonNull final List<ResultRecord> records) throws ResultSinkException
+	{
+		if (writer == null)
+		{
+			throw new ResultSinkException("Result sink is not open: " + file);
+		}
+
+		try
+		{
+			for (ResultRecord record : records)
+			{
+				line.setLength(0);
+				line.append("{\"time\":").append(record.getTime());
+				line.append(",\"name\":");
+				quote(record.getName());
+				line.append(",\"status\":\"").append(record.getStatus().name()).append('"');
+				line.append(",\"queuedTime\":").append(record.getQueuedTime());
+				line.append(",\"initializeTime\":").append(record.getInitializeTime());
+				line.append(",\"processTime\":").append(record.getProcessTime());
+				line.append(",\"totalTime\":").append(record.getTotalTime());
+				line.append(",\"thread\":");
+				quote(record.getThread());
+				line.append(",\"attempts\":").append(record.getAttempts());
+				line.append(",\"retryTime\":").append(record.getRetryTime());
+				line.append(",\"errors\":[");
+				for (int i = 0; i < record.getErrors().size(); i++)
+				{
+					if (i > 0)
+					{
+						line.append(',');
+					}
+					quote(record.getErrors().get(i));
+				}
+				line.append("]}\n");
+
+				writer.append(line);
+			}
+
+			writer.flush();
+		}
+		catch (IOException e)
+		{
+			throw new ResultSinkException(String.format("Unable to write result file: %1s due to: %2s", file, e.getMessage()), e);
+		}
+	}
+
+	@SuppressWarnings("nls")
+	@Override
+	public final void close() throws ResultSinkException
+	{
+		if (writer == null)
+		{
+			return;
+		}
+
+		try
+		{
+			writer.close();
+		}
+		catch (IOException e)
+		{
+			throw new ResultSinkException(String.format("Unable to close result file: %1s due to: %2s", file, e.getMessage()), e);
+		}
+		finally
+		{
+			writer = null;
+		}
+	}
+
+	/**
+	 * Appends a value as a JSON string to the line.
+	 * <hr>
+	 * @param value Value, {@code null} is written as a JSON {@code null}.
+	 */
+	@SuppressWarnings("nls")
+	private void quote(final String value)
+	{
+		if (value == null)
+		{
+			line.append("null");
+			return;
+		}
+
+		line.append('"');
+		for (int i = 0; i < value.length(); i++)
+		{
+			char c = value.charAt(i);
+			switch (c)
+			{
+				case '"':
+					line.append("\\\"");
+					break;
+
+				case '\\':
+					line.append("\\\\");
+					break;
+
+				case '\n':
+					line.append("\\n");
+					break;
+
+				case '\r':
+					line.append("\\r");
+					break;
+
+				case '\t':
+					line.append("\\t");
+					break;
+
+				default:
+					if (c < 0x20)
+					{
+						line.append(String.format("\\u%04x", Integer.valueOf(c)));
+					}
+					else
+					{
+						line.append(c);
+					}
+					break;
+			}
+		}
+		line.append('"');
+	}
+}
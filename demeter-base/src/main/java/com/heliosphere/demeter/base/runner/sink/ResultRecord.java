@@ -0,0 +1,255 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the 
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.sink;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.heliosphere.demeter.base.runner.result.ExecutionStatusType;
+import com.heliosphere.demeter.base.runner.result.IExecutionResult;
+
+import lombok.NonNull;
+
+/**
+ * Provides an immutable snapshot of the persisted fields of an {@link IExecutionResult}.
+ * <hr>
+ * A record does not reference the result it has been taken from, so the result, its exceptions and its parameters can be
+ * released while the record is waiting to be written.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public final class ResultRecord
+{
+	/**
+	 * Time (in milliseconds since the epoch) the result has been recorded.
+	 */
+	private final long time;
+
+	/**
+	 * Context name.
+	 */
+	private final String name;
+
+	/**
+	 * Execution status.
+	 */
+	private final ExecutionStatusType status;
+
+	/**
+	 * Time (in nanoseconds) waited between the submission and the start of the execution.
+	 */
+	private final long queuedTime;
+
+	/**
+	 * Time (in nanoseconds) taken by the initialization of the processor.
+	 */
+	private final long initializeTime;
+
+	/**
+	 * Time (in nanoseconds) taken by the processing of the entity.
+	 */
+	private final long processTime;
+
+	/**
+	 * Total time (in nanoseconds) of the execution.
+	 */
+	private final long totalTime;
+
+	/**
+	 * Name of the thread which has run the processor.
+	 */
+	private final String thread;
+
+	/**
+	 * Number of attempts.
+	 */
+	private final int attempts;
+
+	/**
+	 * Time (in nanoseconds) spent retrying.
+	 */
+	private final long retryTime;
+
+	/**
+	 * Messages of the exceptions raised by the execution.
+	 */
+	private final List<String> errors;
+
+	/**
+	 * Creates a new result record.
+	 * <hr>
+	 * @param time Time (in milliseconds since the epoch) the result has been recorded.
+	 * @param name Context name.
+	 * @param status Execution status.
+	 * @param queuedTime Time (in nanoseconds) waited between the submission and the start of the execution.
+	 * @param initializeTime Time (in nanoseconds) taken by the initialization of the processor.
+	 * @param processTime Time (in nanoseconds) taken by the processing of the entity.
+	 * @param totalTime Total time (in nanoseconds) of the execution.
+	 * @param thread Name of the thread which has run the processor.
+	 * @param attempts Number of attempts.
+	 * @param retryTime Time (in nanoseconds) spent retrying.
+	 * @param errors Messages of the exceptions raised by the execution.
+	 */
+	public ResultRecord(final long time, final String name, final ExecutionStatusType status, final long queuedTime, final long initializeTime, final long processTime, final long totalTime, final String thread, final int attempts, final long retryTime, @NonNull final List<String> errors)
+	{
+		this.time = time;
+		this.name = name;
+		this.status = status == null ? ExecutionStatusType.UNKNOWN : status;
+		this.queuedTime = queuedTime;
+		this.initializeTime = initializeTime;
+		this.processTime = processTime;
+		this.totalTime = totalTime;
+		this.thread = thread;
+		this.attempts = attempts;
+		this.retryTime = retryTime;
+		this.errors = Collections.unmodifiableList(new ArrayList<>(errors));
+	}
+
+	/**
+	 * Takes a snapshot of an execution result.
+	 * <hr>
+	 * @param result Execution result.
+	 * @return Result record.
+	 */
+	public static final ResultRecord of(@NonNull final IExecutionResult result)
+	{
+		List<String> errors = new ArrayList<>();
+		if (result.getExceptions() != null)
+		{
+			for (Exception exception : result.getExceptions())
+			{
+				errors.add(exception.getMessage() != null ? exception.getMessage() : exception.getClass().getName());
+			}
+		}
+
+		return new ResultRecord(System.currentTimeMillis(), result.getName(), result.getStatus(), result.getQueuedTime(), result.getInitializeTime(), result.getProcessTime(), result.getTotalTime(), result.getExecutionThread(), result.getAttempts(), result.getRetryTime(), errors);
+	}
+
+	/**
+	 * Returns the time the result has been recorded.
+	 * <hr>
+	 * @return Time (in milliseconds since the epoch).
+	 */
+	public final long getTime()
+	{
+		return time;
+	}
+
+	/**
+	 * Returns the context name.
+	 * <hr>
+	 * @return Context name.
+	 */
+	public final String getName()
+	{
+		return name;
+	}
+
+	/**
+	 * Returns the execution status.
+	 * <hr>
+	 * @return Execution status.
+	 */
+	public final ExecutionStatusType getStatus()
+	{
+		return status;
+	}
+
+	/**
+	 * Returns the time waited between the submission and the start of the execution.
+	 * <hr>
+	 * @return Queued time (in nanoseconds).
+	 */
+	public final long getQueuedTime()
+	{
+		return queuedTime;
+	}
+
+	/**
+	 * Returns the time taken by the initialization of the processor.
+	 * <hr>
+	 * @return Initialization time (in nanoseconds).
+	 */
+	public final long getInitializeTime()
+	{
+		return initializeTime;
+	}
+
+	/**
+	 * Returns the time taken by the processing of the entity.
+	 * <hr>
+	 * @return Processing time (in nanoseconds).
+	 */
+	public final long getProcessTime()
+	{
+		return processTime;
+	}
+
+	/**
+	 * Returns the total time of the execution.
+	 * <hr>
+	 * @return Total time (in nanoseconds).
+	 */
+	public final long getTotalTime()
+	{
+		return totalTime;
+	}
+
+	/**
+	 * Returns the name of the thread which has run the processor.
+	 * <hr>
+	 * @return Thread name, can be {@code null}.
+	 */
+	public final String getThread()
+	{
+		return thread;
+	}
+
+	/**
+	 * Returns the number of attempts.
+	 * <hr>
+	 * @return Number of attempts.
+	 */
+	public final int getAttempts()
+	{
+		return attempts;
+	}
+
+	/**
+	 * Returns the time spent retrying.
+	 * <hr>
+	 * @return Retry time (in nanoseconds).
+	 */
+	public final long getRetryTime()
+	{
+		return retryTime;
+	}
+
+	/**
+	 * Returns the messages of the exceptions raised by the execution.
+	 * <hr>
+	 * @return Unmodifiable list of messages, empty if none.
+	 */
+	public final List<String> getErrors()
+	{
+		return errors;
+	}
+
+	@SuppressWarnings("nls")
+	@Override
+	public final String toString()
+	{
+		return String.format("name:[%1s], status:[%2s], total:[%3d] ns, attempts:[%4d]", name, status, Long.valueOf(totalTime), Integer.valueOf(attempts));
+	}
+}
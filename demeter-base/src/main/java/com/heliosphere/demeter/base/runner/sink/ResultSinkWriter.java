@@ -0,0 +1,278 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the 
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.sink;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.heliosphere.demeter.base.runner.IRunner;
+import com.heliosphere.demeter.base.runner.result.IExecutionResult;
+import com.heliosphere.demeter.base.runner.result.IExecutionResultSubscriber;
+import com.heliosphere.demeter.base.runner.result.IExecutionResultSubscription;
+
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j;
+
+/**
+ * Provides a {@link IExecutionResultSubscriber} writing the execution results of a runner to a {@link IResultSink} by batches.
+ * <hr>
+ * Results are turned into {@link ResultRecord} as soon as they are received, so the runner can release them, and buffered
+ * until the batch size is reached or the flush interval has elapsed. The writer never requests more results than it can
+ * buffer: the number of results in memory is bounded by the batch size, and a slow sink holds back the runner. The sink is
+ * opened when the writer is subscribed and closed, after a last flush, once the run is over.
+ * <p>
+ * Usage: {@code runner.subscribe(new ResultSinkWriter(new JsonLinesResultSink(file), 500, 1000));}
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ * @see IRunner#subscribe(IExecutionResultSubscriber)
+ */
+@Log4j
+public final class ResultSinkWriter implements IExecutionResultSubscriber
+{
+	/**
+	 * Sink to write.
+	 */
+	private final IResultSink sink;
+
+	/**
+	 * Maximum number of records per batch.
+	 */
+	private final int batchSize;
+
+	/**
+	 * Maximum time (in milliseconds) a record is buffered ({@code 0} to flush on size only).
+	 */
+	private final long flushInterval;
+
+	/**
+	 * Records waiting to be written.
+	 */
+	private final List<ResultRecord> buffer;
+
+	/**
+	 * Subscription.
+	 */
+	private volatile IExecutionResultSubscription subscription = null;
+
+	/**
+	 * Timer flushing the buffer periodically.
+	 */
+	private ScheduledExecutorService timer = null;
+
+	/**
+	 * Has the sink failed or been closed?
+	 */
+	private boolean closed = false;
+
+	/**
+	 * Total number of written records.
+	 */
+	private long written = 0;
+
+	/**
+	 * Creates a new result sink writer.
+	 * <hr>
+	 * @param sink Sink to write.
+	 * @param batchSize Maximum number of records per batch.
+	 * @param flushInterval Maximum time (in milliseconds) a record is buffered ({@code 0} to flush on size only).
+	 */
+	@SuppressWarnings("nls")
+	public ResultSinkWriter(@NonNull final IResultSink sink, final int batchSize, final long flushInterval)
+	{
+		if (batchSize < 1)
+		{
+			throw new IllegalArgumentException("Batch size must be at least 1, found: " + batchSize);
+		}
+
+		if (flushInterval < 0)
+		{
+			throw new IllegalArgumentException("Flush interval cannot be negative, found: " + flushInterval);
+		}
+
+		this.sink = sink;
+		this.batchSize = batchSize;
+		this.flushInterval = flushInterval;
+		this.buffer = new ArrayList<>(batchSize);
+	}
+
+	/**
+	 * Returns the total number of records written to the sink.
+	 * <hr>
+	 * @return Number of records.
+	 */
+	public final synchronized long getWritten()
+	{
+		return written;
+	}
+
+	@SuppressWarnings("nls")
+	@Override
+	public final void onSubscribe(@NonNull final IExecutionResultSubscription subscription)
+	{
+		this.subscription = subscription;
+
+		synchronized (this)
+		{
+			try
+			{
+				sink.open();
+			}
+			catch (ResultSinkException e)
+			{
+				log.error(String.format("Result sink: %1s cannot be opened, results will not be persisted: %2s", sink.getClass().getSimpleName(), e.getMessage()), e);
+				closed = true;
+				subscription.cancel();
+				return;
+			}
+
+			if (flushInterval > 0)
+			{
+				timer = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat(sink.getClass().getSimpleName() + "-flush-%d").setDaemon(true).build());
+				timer.scheduleWithFixedDelay(new Runnable()
+				{
+					@Override
+					public void run()
+					{
+						request(flush());
+					}
+				}, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+			}
+		}
+
+		subscription.request(batchSize);
+	}
+
+	@Override
+	public final void onNext(@NonNull final IExecutionResult result)
+	{
+		int flushed = 0;
+
+		synchronized (this)
+		{
+			if (closed)
+			{
+				return;
+			}
+
+			buffer.add(ResultRecord.of(result));
+			if (buffer.size() >= batchSize)
+			{
+				flushed = flush();
+			}
+		}
+
+		request(flushed);
+	}
+
+	@SuppressWarnings("nls")
+	@Override
+	public final void onError(final Throwable throwable)
+	{
+		log.warn(String.format("Run has failed, flushing the buffered result(s) to: %1s", sink.getClass().getSimpleName()));
+		terminate();
+	}
+
+	@Override
+	public final void onComplete()
+	{
+		terminate();
+	}
+
+	/**
+	 * Writes the buffered records to the sink.
+	 * <hr>
+	 * @return Number of records written.
+	 */
+	@SuppressWarnings("nls")
+	private synchronized int flush()
+	{
+		if (closed || buffer.isEmpty())
+		{
+			return 0;
+		}
+
+		int count = buffer.size();
+		try
+		{
+			sink.write(buffer);
+			written += count;
+		}
+		catch (ResultSinkException e)
+		{
+			log.error(String.format("Result sink: %1s has failed, results will no longer be persisted: %2s", sink.getClass().getSimpleName(), e.getMessage()), e);
+			close();
+			subscription.cancel();
+			count = 0;
+		}
+		finally
+		{
+			buffer.clear();
+		}
+
+		return count;
+	}
+
+	/**
+	 * Requests as many results as the ones just written.
+	 * <hr>
+	 * @param count Number of results.
+	 */
+	private void request(final int count)
+	{
+		if (count > 0)
+		{
+			subscription.request(count);
+		}
+	}
+
+	/**
+	 * Flushes the remaining records and closes the sink.
+	 */
+	private synchronized void terminate()
+	{
+		flush();
+		close();
+	}
+
+	/**
+	 * Closes the sink and stops the flush timer.
+	 */
+	@SuppressWarnings("nls")
+	private synchronized void close()
+	{
+		if (timer != null)
+		{
+			timer.shutdown();
+			timer = null;
+		}
+
+		if (closed)
+		{
+			return;
+		}
+
+		closed = true;
+		try
+		{
+			sink.close();
+		}
+		catch (ResultSinkException e)
+		{
+			log.error(String.format("Result sink: %1s cannot be closed: %2s", sink.getClass().getSimpleName(), e.getMessage()), e);
+		}
+	}
+}
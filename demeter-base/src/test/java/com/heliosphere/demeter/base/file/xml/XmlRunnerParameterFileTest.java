@@ -22,11 +22,13 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import com.heliosphere.demeter.base.file.FileException;
 import com.heliosphere.demeter.base.file.xml.model.Footer;
 import com.heliosphere.demeter.base.file.xml.model.Header;
 import com.heliosphere.demeter.base.runner.IRunner;
 import com.heliosphere.demeter.base.runner.file.xml.configuration.XmlConfigurationFile;
 import com.heliosphere.demeter.base.runner.file.xml.execution.XmlExecutionFile;
+import com.heliosphere.demeter.base.runner.parameter.TestParameterType;
 import com.heliosphere.demeter.base.runner.parameter.configuration.IParameterConfiguration;
 import com.heliosphere.demeter.base.runner.parameter.configuration.ParameterConfiguration;
 import com.heliosphere.demeter.base.runner.parameter.execution.IParameterExecution;
@@ -221,4 +223,56 @@ public class XmlRunnerParameterFileTest
 			fail(e.getMessage());
 		}
 	}
+
+	/**
+	 * Test the retrieval of the parameters of a loaded XML {@link IRunner} configuration file by name and by alias.
+	 * <hr>
+	 * @throws FileException Thrown in case an error occurred while loading the file.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void lookupConfigurationParameter() throws FileException
+	{
+		XmlConfigurationFile file = new XmlConfigurationFile("config/runner/test.runner.configuration.xml");
+		file.load();
+
+		IParameterConfiguration hello = file.getParameter("hello");
+		Assert.assertNotNull(hello);
+		Assert.assertSame(hello, file.getParameter("he"));
+		Assert.assertSame(file.getParameter("version"), file.getParameter("v"));
+		Assert.assertNull(file.getParameter("unknown"));
+
+		// A parameter added after the loading is indexed too.
+		IParameterConfiguration added = new ParameterConfiguration();
+		added.setName("added");
+		added.addAlias("ad");
+		file.getContent().getElements().add(added);
+		Assert.assertSame(added, file.getParameter("ad"));
+	}
+
+	/**
+	 * Test an alias shared by two parameters of a XML {@link IRunner} configuration file is detected.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test(expected = IllegalStateException.class)
+	public final void conflictingConfigurationAlias()
+	{
+		XmlConfigurationFile file = new XmlConfigurationFile("/unit/path/test/test-runner-conflict.xml");
+
+		ParameterList<IParameterConfiguration> content = new ParameterList<>();
+		IParameterConfiguration first = new ParameterConfiguration();
+		first.setName("first");
+		first.setType(TestParameterType.PARAMETER_HELP);
+		first.addAlias("f");
+		content.add(first);
+
+		IParameterConfiguration second = new ParameterConfiguration();
+		second.setName("second");
+		second.setType(TestParameterType.PARAMETER_VERSION);
+		second.addAlias("f");
+		content.add(second);
+
+		file.setContent(content);
+		file.getParameter("first");
+	}
 }
@@ -13,12 +13,36 @@ package com.heliosphere.demeter.base.runner;
 
 import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
 import org.junit.After;
 import org.junit.AfterClass;
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import com.heliosphere.demeter.base.runner.annotation.RunnerBulkhead;
+import com.heliosphere.demeter.base.runner.annotation.RunnerConfig;
+import com.heliosphere.demeter.base.runner.entity.EntityType;
+import com.heliosphere.demeter.base.runner.executor.ExecutorMode;
+import com.heliosphere.demeter.base.runner.executor.OverflowPolicy;
+import com.heliosphere.demeter.base.runner.file.xml.configuration.XmlConfigurationFile;
+import com.heliosphere.demeter.base.runner.file.xml.execution.XmlExecutionFile;
+import com.heliosphere.demeter.base.runner.lifecycle.RunnerStatusType;
+import com.heliosphere.demeter.base.runner.message.MessageChannel;
+import com.heliosphere.demeter.base.runner.metric.PoolMetrics;
+import com.heliosphere.demeter.base.runner.parameter.TestParameterType;
+import com.heliosphere.demeter.base.runner.processor.TestProcessor;
+import com.heliosphere.demeter.base.runner.result.ExecutionStatusType;
+import com.heliosphere.demeter.base.runner.result.ExecutionSummary;
+import com.heliosphere.demeter.base.runner.result.IExecutionResult;
+import com.heliosphere.demeter.base.runner.result.IExecutionResultListener;
+import com.heliosphere.demeter.base.runner.result.IExecutionResultSubscriber;
+import com.heliosphere.demeter.base.runner.result.IExecutionResultSubscription;
+
 /**
  * Test class for the {@code runner} class model.
  * <hr>
@@ -88,4 +112,383 @@ public class RunnerTest
 			fail(e.getMessage());
 		}
 	}
+
+	/**
+	 * Tests a runner using the virtual executor mode.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void runnerVirtualExecutorMode()
+	{
+		try
+		{
+			XmlConfigurationFile configuration = new XmlConfigurationFile("config/runner/test.runner.configuration.xml");
+			XmlExecutionFile execution = new XmlExecutionFile("config/runner/test.runner.execution.xml");
+			IRunner runner = new TestRunner(configuration, execution, null, ExecutorMode.VIRTUAL, 2);
+			runner.start();
+		}
+		catch (Exception e)
+		{
+			fail(e.getMessage());
+		}
+	}
+
+	/**
+	 * Tests the execution results are streamed to the registered listeners and to the summary.
+	 */
+	@SuppressWarnings({ "static-method" })
+	@Test
+	public final void runnerResultListener()
+	{
+		try
+		{
+			final List<IExecutionResult> results = new ArrayList<>();
+
+			IRunner runner = new TestRunner();
+			runner.addResultListener(new IExecutionResultListener()
+			{
+				@Override
+				public void onResult(IExecutionResult result)
+				{
+					results.add(result);
+				}
+			});
+			runner.start();
+
+			Assert.assertEquals(1, results.size());
+			Assert.assertEquals(1, runner.getSummary().getCount());
+			Assert.assertEquals(1, runner.getSummary().getCount(ExecutionStatusType.SUCESSS));
+		}
+		catch (RunnerException e)
+		{
+			fail(e.getMessage());
+		}
+	}
+
+	/**
+	 * Tests the utilization metrics of the bulkheads are exposed once the runner has been started.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void runnerPoolMetrics()
+	{
+		try
+		{
+			IRunner runner = new TestRunner();
+			Assert.assertTrue(runner.getPoolMetrics().isEmpty());
+
+			runner.start();
+
+			List<PoolMetrics> metrics = runner.getPoolMetrics();
+			Assert.assertEquals(1, metrics.size());
+			Assert.assertEquals("display", metrics.get(0).getName());
+			Assert.assertEquals(1, metrics.get(0).getCompleted());
+			Assert.assertEquals(0, metrics.get(0).getActive());
+		}
+		catch (RunnerException e)
+		{
+			fail(e.getMessage());
+		}
+	}
+
+	/**
+	 * Tests a finished runner can be reset and started again without reloading its files.
+	 */
+	@SuppressWarnings({ "static-method" })
+	@Test
+	public final void runnerReset()
+	{
+		try
+		{
+			IRunner runner = new TestRunner();
+			runner.start();
+			Assert.assertEquals(RunnerStatusType.FINISHED, runner.getLifecycle().getStatus());
+
+			runner.reset();
+			Assert.assertEquals(RunnerStatusType.READY, runner.getLifecycle().getStatus());
+			Assert.assertEquals(0, runner.getSummary().getCount());
+
+			runner.start();
+			Assert.assertEquals(1, runner.getSummary().getCount(ExecutionStatusType.SUCESSS));
+		}
+		catch (RunnerException e)
+		{
+			fail(e.getMessage());
+		}
+	}
+
+	/**
+	 * Tests a runner which is not running cannot be paused or stopped.
+	 * <hr>
+	 * @throws RunnerException Expected exception.
+	 */
+	@SuppressWarnings({ "static-method" })
+	@Test(expected = RunnerException.class)
+	public final void runnerStopNotRunning() throws RunnerException
+	{
+		IRunner runner = new TestRunner();
+		runner.stop();
+	}
+
+	/**
+	 * Tests a daemon is run periodically until it has executed all its ticks.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void runnerDaemon()
+	{
+		try
+		{
+			final List<IExecutionResult> results = new ArrayList<>();
+
+			XmlConfigurationFile configuration = new XmlConfigurationFile("config/runner/test.runner.configuration.xml");
+			XmlExecutionFile execution = new XmlExecutionFile("config/runner/test.runner.execution.daemon.xml");
+			IRunner runner = new TestRunner(configuration, execution, null);
+			runner.addResultListener(new IExecutionResultListener()
+			{
+				@Override
+				public void onResult(IExecutionResult result)
+				{
+					results.add(result);
+				}
+			});
+			runner.start();
+
+			Assert.assertEquals(1, results.size());
+			Assert.assertEquals(ExecutionStatusType.SUCESSS, results.get(0).getStatus());
+			Assert.assertNotNull(results.get(0).getTickMetrics());
+			Assert.assertEquals(5, results.get(0).getTickMetrics().getTicks());
+			Assert.assertEquals(5, results.get(0).getTickMetrics().getLatency().getCount());
+		}
+		catch (Exception e)
+		{
+			fail(e.getMessage());
+		}
+	}
+
+	/**
+	 * Tests a context exceeding the timeout of its parameter is cancelled and reported as timed out.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void runnerTimeout()
+	{
+		try
+		{
+			XmlConfigurationFile configuration = new XmlConfigurationFile("config/runner/test.runner.configuration.xml");
+			XmlExecutionFile execution = new XmlExecutionFile("config/runner/test.runner.execution.timeout.xml");
+			IRunner runner = new TestRunner(configuration, execution, null);
+
+			long start = System.currentTimeMillis();
+			runner.start();
+
+			Assert.assertTrue(System.currentTimeMillis() - start < 5000);
+			Assert.assertEquals(1, runner.getSummary().getCount());
+			Assert.assertEquals(1, runner.getSummary().getCount(ExecutionStatusType.TIMED_OUT));
+		}
+		catch (Exception e)
+		{
+			fail(e.getMessage());
+		}
+	}
+
+	/**
+	 * Tests a context failing transiently is retried until it succeeds.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void runnerRetry()
+	{
+		try
+		{
+			final List<IExecutionResult> results = new ArrayList<>();
+
+			XmlConfigurationFile configuration = new XmlConfigurationFile("config/runner/test.runner.configuration.xml");
+			XmlExecutionFile execution = new XmlExecutionFile("config/runner/test.runner.execution.retry.xml");
+			IRunner runner = new TestRunner(configuration, execution, null);
+			runner.addResultListener(new IExecutionResultListener()
+			{
+				@Override
+				public void onResult(IExecutionResult result)
+				{
+					results.add(result);
+				}
+			});
+			runner.start();
+
+			Assert.assertEquals(1, results.size());
+			Assert.assertEquals(ExecutionStatusType.SUCESSS, results.get(0).getStatus());
+			Assert.assertEquals(3, results.get(0).getAttempts());
+			// Two retries delayed by 10 then 20 ms (jitter of 20%), the retry time being in nanoseconds.
+			Assert.assertTrue(results.get(0).getRetryTime() >= TimeUnit.MILLISECONDS.toNanos(20));
+		}
+		catch (Exception e)
+		{
+			fail(e.getMessage());
+		}
+	}
+
+	/**
+	 * Tests a file is split into ranges, each range being processed by its own context.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void runnerFileSplits()
+	{
+		try
+		{
+			XmlConfigurationFile configuration = new XmlConfigurationFile("config/runner/test.runner.configuration.xml");
+			XmlExecutionFile execution = new XmlExecutionFile("config/runner/test.runner.execution.file.xml");
+			IRunner runner = new TestRunner(configuration, execution, null);
+			runner.start();
+
+			Assert.assertEquals(4, runner.getSummary().getCount());
+			Assert.assertEquals(4, runner.getSummary().getCount(ExecutionStatusType.SUCESSS));
+		}
+		catch (Exception e)
+		{
+			fail(e.getMessage());
+		}
+	}
+
+	/**
+	 * Tests the messages published on a channel are consumed by the message contexts until the channel is closed.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void runnerMessages()
+	{
+		try
+		{
+			XmlConfigurationFile configuration = new XmlConfigurationFile("config/runner/test.runner.configuration.xml");
+			XmlExecutionFile execution = new XmlExecutionFile("config/runner/test.runner.execution.message.xml");
+			IRunner runner = new TestRunner(configuration, execution, null);
+
+			final MessageChannel<Integer> channel = runner.getChannel("events");
+			Assert.assertNotNull(channel);
+
+			Thread producer = new Thread(new Runnable()
+			{
+				@Override
+				public void run()
+				{
+					for (int i = 0; i < 100000; i++)
+					{
+						channel.publish(Integer.valueOf(i));
+					}
+					channel.close();
+				}
+			});
+			producer.start();
+			runner.start();
+
+			Assert.assertEquals(2, runner.getSummary().getCount(ExecutionStatusType.SUCESSS));
+			Assert.assertEquals(100000, channel.getConsumed());
+		}
+		catch (Exception e)
+		{
+			fail(e.getMessage());
+		}
+	}
+
+	/**
+	 * Tests a runner started asynchronously streams its results to a subscriber requesting them one at a time.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void runnerAsync()
+	{
+		try
+		{
+			final List<IExecutionResult> results = new ArrayList<>();
+			final List<Boolean> completed = new ArrayList<>();
+
+			XmlConfigurationFile configuration = new XmlConfigurationFile("config/runner/test.runner.configuration.xml");
+			XmlExecutionFile execution = new XmlExecutionFile("config/runner/test.runner.execution.overflow.xml");
+			IRunner runner = new TestRunner(configuration, execution, null);
+			runner.subscribe(new IExecutionResultSubscriber()
+			{
+				private IExecutionResultSubscription subscription;
+
+				@Override
+				public void onSubscribe(IExecutionResultSubscription subscription)
+				{
+					this.subscription = subscription;
+					subscription.request(1);
+				}
+
+				@Override
+				public void onNext(IExecutionResult result)
+				{
+					results.add(result);
+					subscription.request(1);
+				}
+
+				@Override
+				public void onError(Throwable throwable)
+				{
+					fail(throwable.getMessage());
+				}
+
+				@Override
+				public void onComplete()
+				{
+					completed.add(Boolean.TRUE);
+				}
+			});
+
+			ExecutionSummary summary = runner.startAsync().get(10, TimeUnit.SECONDS);
+
+			Assert.assertEquals(3, summary.getCount(ExecutionStatusType.SUCESSS));
+			Assert.assertEquals(3, results.size());
+			Assert.assertEquals(1, completed.size());
+		}
+		catch (Exception e)
+		{
+			fail(e.getMessage());
+		}
+	}
+
+	/**
+	 * Tests the contexts exceeding the capacity of a saturated bulkhead are rejected when shedding load.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void runnerOverflowShed()
+	{
+		try
+		{
+			XmlConfigurationFile configuration = new XmlConfigurationFile("config/runner/test.runner.configuration.xml");
+			XmlExecutionFile execution = new XmlExecutionFile("config/runner/test.runner.execution.overflow.xml");
+			IRunner runner = new ShedRunner(configuration, execution);
+			runner.start();
+
+			Assert.assertEquals(3, runner.getSummary().getCount());
+			Assert.assertEquals(1, runner.getSummary().getCount(ExecutionStatusType.SUCESSS));
+			Assert.assertEquals(2, runner.getSummary().getCount(ExecutionStatusType.REJECTED));
+		}
+		catch (Exception e)
+		{
+			fail(e.getMessage());
+		}
+	}
+
+	/**
+	 * Test runner with a single slot bulkhead shedding the contexts it cannot accept.
+	 */
+	@RunnerConfig(enumParameterClass = TestParameterType.class, processorClass = TestProcessor.class, bulkheads = { @RunnerBulkhead(type = EntityType.DISPLAY, size = 1, queueSize = 0) }, overflow = OverflowPolicy.SHED)
+	public static final class ShedRunner extends AbstractRunner
+	{
+		/**
+		 * Creates a new shedding test runner.
+		 * <hr>
+		 * @param configuration XML configuration file to use.
+		 * @param execution XML execution file to use.
+		 * @throws RunnerException Thrown in case an error occurred while initializing the runner.
+		 */
+		public ShedRunner(final XmlConfigurationFile configuration, final XmlExecutionFile execution) throws RunnerException
+		{
+			super(configuration, execution, null);
+		}
+	}
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the 
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.context;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.heliosphere.demeter.base.runner.RunnerException;
+import com.heliosphere.demeter.base.runner.TestRunner;
+import com.heliosphere.demeter.base.runner.entity.Entity;
+import com.heliosphere.demeter.base.runner.entity.EntityType;
+import com.heliosphere.demeter.base.runner.entity.IEntity;
+import com.heliosphere.demeter.base.runner.parameter.TestParameterType;
+import com.heliosphere.demeter.base.runner.parameter.base.ParameterStatusType;
+import com.heliosphere.demeter.base.runner.parameter.execution.IParameterExecution;
+import com.heliosphere.demeter.base.runner.parameter.execution.ParameterExecution;
+import com.heliosphere.demeter.base.runner.parameter.list.ParameterList;
+
+/**
+ * Test class for the {@link ContextSupplier} class.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public class ContextSupplierTest
+{
+	/**
+	 * Tests the contexts are created on demand, in the order of their entities.
+	 * <hr>
+	 * @throws RunnerException Thrown in case an error occurred during the test.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void supply() throws RunnerException
+	{
+		IParameterExecution parameter = new ParameterExecution("hello");
+		parameter.setType(TestParameterType.PARAMETER_HELLO);
+		parameter.setStatus(ParameterStatusType.UNPROCESSED);
+
+		ParameterList<IParameterExecution> parameters = new ParameterList<>();
+		parameters.add(parameter);
+
+		List<IEntity<?>> entities = new ArrayList<>();
+		for (int i = 0; i < 3; i++)
+		{
+			entities.add(new Entity<>("hello[" + i + "]", EntityType.DISPLAY, null, parameter));
+		}
+
+		TestRunner runner = new TestRunner();
+		ContextSupplier supplier = new ContextSupplier(runner, entities, parameters);
+		Assert.assertEquals(3, supplier.size());
+		Assert.assertEquals(3, supplier.getRemaining());
+
+		for (int i = 0; i < 3; i++)
+		{
+			Assert.assertTrue(supplier.hasNext());
+
+			IContext context = supplier.next();
+			Assert.assertSame(entities.get(i), context.getEntity());
+			Assert.assertSame(runner, context.getRunner());
+			Assert.assertEquals(2 - i, supplier.getRemaining());
+		}
+
+		Assert.assertFalse(supplier.hasNext());
+		Assert.assertEquals(3, supplier.size());
+
+		try
+		{
+			supplier.next();
+			Assert.fail("Exhausted supplier should throw!");
+		}
+		catch (NoSuchElementException e)
+		{
+			// Expected.
+		}
+	}
+}
@@ -0,0 +1,299 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the 
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.executor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.heliosphere.demeter.base.runner.context.IContext;
+import com.heliosphere.demeter.base.runner.entity.EntityType;
+import com.heliosphere.demeter.base.runner.parameter.TestParameterType;
+import com.heliosphere.demeter.base.runner.processor.AbstractProcessor;
+import com.heliosphere.demeter.base.runner.processor.ProcessorException;
+import com.heliosphere.demeter.base.runner.processor.TestContextFactory;
+import com.heliosphere.demeter.base.runner.processor.TestProcessor;
+import com.heliosphere.demeter.base.runner.result.IExecutionResult;
+
+/**
+ * Test class for the {@link Bulkhead} and {@link BulkheadExecutor} classes.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public class BulkheadTest
+{
+	/**
+	 * Creates a processor displaying the hello message.
+	 * <hr>
+	 * @return Processor.
+	 */
+	@SuppressWarnings("nls")
+	private static TestProcessor createProcessor()
+	{
+		return new TestProcessor(TestContextFactory.create("hello", EntityType.DISPLAY, null));
+	}
+
+	/**
+	 * Creates a processor sleeping the given time.
+	 * <hr>
+	 * @param sleep Sleep time (in milliseconds).
+	 * @return Processor.
+	 */
+	@SuppressWarnings("nls")
+	private static TestProcessor createProcessor(final long sleep)
+	{
+		return new TestProcessor(TestContextFactory.create("sleep", EntityType.DISPLAY, null, TestParameterType.PARAMETER_SLEEP, Long.toString(sleep)));
+	}
+
+	/**
+	 * Tests the default sizing of the bulkheads.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void defaultBulkheads()
+	{
+		BulkheadExecutor executor = new BulkheadExecutor(ExecutorMode.FIXED, 3, 100, "test");
+
+		Assert.assertEquals(ExecutorMode.WORK_STEALING, executor.get(EntityType.COMPUTATION).getMode());
+		Assert.assertEquals(Runtime.getRuntime().availableProcessors(), executor.get(EntityType.COMPUTATION).getSize());
+		Assert.assertEquals(ExecutorMode.SCHEDULED, executor.get(EntityType.DAEMON).getMode());
+		Assert.assertEquals(3, executor.get(EntityType.DISPLAY).getSize());
+		Assert.assertTrue(executor.get(EntityType.FILE).getSize() >= 3);
+		Assert.assertTrue(executor.getMetrics().isEmpty());
+
+		executor.configure(new Bulkhead(EntityType.FILE, ExecutorMode.VIRTUAL, 50, 0, "test"));
+		Assert.assertEquals(ExecutorMode.VIRTUAL, executor.get(EntityType.FILE).getMode());
+
+		// Without virtual threads, the I/O bound bulkheads of a virtual runner are bounded fixed pools.
+		executor = new BulkheadExecutor(ExecutorMode.VIRTUAL, 3, 100, "test");
+		if (!ExecutorFactory.isVirtualThreadSupported())
+		{
+			Assert.assertEquals(ExecutorMode.FIXED, executor.get(EntityType.MESSAGE).getMode());
+			Assert.assertEquals(Runtime.getRuntime().availableProcessors() * 4, executor.get(EntityType.MESSAGE).getSize());
+		}
+		else
+		{
+			Assert.assertEquals(ExecutorMode.VIRTUAL, executor.get(EntityType.MESSAGE).getMode());
+		}
+	}
+
+	/**
+	 * Tests the capacity of a bulkhead accounts for its queue and its metrics are updated once a processor has completed.
+	 * <hr>
+	 * @throws Exception Thrown in case an error occurred while running the processor.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void bulkheadCapacity() throws Exception
+	{
+		Bulkhead bulkhead = new Bulkhead(EntityType.DISPLAY, ExecutorMode.FIXED, 1, 1, "test");
+		Assert.assertFalse(bulkhead.limit(1));
+		Assert.assertFalse(bulkhead.isStarted());
+
+		try
+		{
+			Future<IExecutionResult> first = bulkhead.submit(createProcessor(100));
+			Assert.assertTrue(bulkhead.hasCapacity());
+
+			Future<IExecutionResult> second = bulkhead.submit(createProcessor(10));
+			Assert.assertFalse(bulkhead.hasCapacity());
+
+			// Slots are released by the processors themselves once they have ended.
+			first.get();
+			second.get();
+			Assert.assertTrue(bulkhead.hasCapacity());
+			Assert.assertEquals(0, bulkhead.getOccupied());
+			Assert.assertTrue(bulkhead.getMetrics().getCompleted() >= 1);
+			Assert.assertEquals(1, bulkhead.getMetrics().getSize());
+		}
+		finally
+		{
+			bulkhead.shutdown();
+		}
+	}
+
+	/**
+	 * Tests the phase timings of a processor waiting in the queue of a saturated bulkhead.
+	 * <hr>
+	 * @throws Exception Thrown in case an error occurred while running the processors.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void phaseTimings() throws Exception
+	{
+		Bulkhead bulkhead = new Bulkhead(EntityType.DISPLAY, ExecutorMode.FIXED, 1, 1, "test");
+
+		try
+		{
+			bulkhead.submit(createProcessor(50));
+			IExecutionResult result = bulkhead.submit(createProcessor(20)).get();
+
+			Assert.assertTrue(result.getQueuedTime() >= TimeUnit.MILLISECONDS.toNanos(30));
+			Assert.assertTrue(result.getProcessTime() >= TimeUnit.MILLISECONDS.toNanos(20));
+			Assert.assertTrue(result.getInitializeTime() >= 0);
+			Assert.assertTrue(result.getTotalTime() >= result.getQueuedTime() + result.getInitializeTime() + result.getProcessTime());
+			Assert.assertNotNull(result.getExecutionThread());
+		}
+		finally
+		{
+			bulkhead.shutdown();
+		}
+	}
+
+	/**
+	 * Tests a processor ignoring the interruption keeps its slot once cancelled (as done when its timeout expires) until it has
+	 * actually ended.
+	 * <hr>
+	 * @throws Exception Thrown in case an error occurred while running the processor.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void timedOutProcessorIgnoringInterrupt() throws Exception
+	{
+		Bulkhead bulkhead = new Bulkhead(EntityType.DISPLAY, ExecutorMode.FIXED, 1, 0, "test");
+		final CountDownLatch released = new CountDownLatch(1);
+		StubbornProcessor processor = new StubbornProcessor(createProcessor().getContext());
+
+		try
+		{
+			Future<IExecutionResult> future = bulkhead.submit(processor, new Runnable()
+			{
+				@Override
+				public void run()
+				{
+					released.countDown();
+				}
+			});
+			Assert.assertTrue(processor.started.await(1, TimeUnit.SECONDS));
+
+			future.cancel(true);
+			Assert.assertTrue(future.isDone());
+			Assert.assertFalse(bulkhead.hasCapacity());
+			Assert.assertEquals(1, bulkhead.getOccupied());
+
+			processor.finish.countDown();
+			Assert.assertTrue(released.await(1, TimeUnit.SECONDS));
+			Assert.assertTrue(bulkhead.hasCapacity());
+		}
+		finally
+		{
+			processor.finish.countDown();
+			bulkhead.shutdown();
+		}
+	}
+
+	/**
+	 * Tests the tasks executed on the chunk bulkhead are accounted for in the bulkhead executor metrics.
+	 * <hr>
+	 * @throws Exception Thrown in case an error occurred while running the tasks.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void chunkTasks() throws Exception
+	{
+		BulkheadExecutor executor = new BulkheadExecutor(ExecutorMode.FIXED, 2, 100, "test");
+		final CountDownLatch done = new CountDownLatch(10);
+
+		try
+		{
+			for (int i = 0; i < 10; i++)
+			{
+				executor.getChunks().execute(new Runnable()
+				{
+					@Override
+					public void run()
+					{
+						done.countDown();
+					}
+				});
+			}
+
+			Assert.assertTrue(done.await(1, TimeUnit.SECONDS));
+			Assert.assertEquals(EntityType.BATCH, executor.getChunks().getType());
+			Assert.assertEquals(1, executor.getMetrics().size());
+			Assert.assertEquals("batch-chunk", executor.getMetrics().get(0).getName());
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Tests a processor cancelled before being started releases its slot right away.
+	 * <hr>
+	 * @throws Exception Thrown in case an error occurred while running the processors.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void cancelledBeforeStart() throws Exception
+	{
+		Bulkhead bulkhead = new Bulkhead(EntityType.DISPLAY, ExecutorMode.FIXED, 1, 1, "test");
+		StubbornProcessor processor = new StubbornProcessor(createProcessor().getContext());
+
+		try
+		{
+			bulkhead.submit(processor);
+			Assert.assertTrue(processor.started.await(1, TimeUnit.SECONDS));
+
+			Future<IExecutionResult> queued = bulkhead.submit(createProcessor());
+			Assert.assertEquals(2, bulkhead.getOccupied());
+
+			queued.cancel(true);
+			Assert.assertEquals(1, bulkhead.getOccupied());
+		}
+		finally
+		{
+			processor.finish.countDown();
+			bulkhead.shutdown();
+		}
+	}
+
+	/**
+	 * Processor ignoring the interruption until it is allowed to finish.
+	 */
+	@SuppressWarnings("serial")
+	private static final class StubbornProcessor extends AbstractProcessor
+	{
+		/**
+		 * Counted down once the processor has started.
+		 */
+		private final CountDownLatch started = new CountDownLatch(1);
+
+		/**
+		 * Counted down to let the processor finish.
+		 */
+		private final CountDownLatch finish = new CountDownLatch(1);
+
+		/**
+		 * Creates a new stubborn processor.
+		 * <hr>
+		 * @param context Context.
+		 */
+		private StubbornProcessor(final IContext context)
+		{
+			super(context);
+		}
+
+		@Override
+		public void process() throws ProcessorException
+		{
+			started.countDown();
+			Uninterruptibles.awaitUninterruptibly(finish);
+		}
+	}
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the 
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.file.split;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test class for the {@link FileSource}, {@link FileSplit} and {@link FileSplitReader} classes.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public class FileSourceTest
+{
+	/**
+	 * Reads all the records of a list of splits.
+	 * <hr>
+	 * @param splits Splits.
+	 * @return Records in file order.
+	 * @throws IOException Thrown in case an error occurred while reading the file.
+	 */
+	private static List<String> read(final List<FileSplit> splits) throws IOException
+	{
+		List<String> records = new ArrayList<>();
+
+		for (FileSplit split : splits)
+		{
+			try (FileSplitReader reader = split.open())
+			{
+				String record;
+				while ((record = reader.next()) != null)
+				{
+					records.add(record);
+				}
+			}
+		}
+
+		return records;
+	}
+
+	/**
+	 * Tests a file of lines is split on line boundaries without losing or duplicating any line.
+	 * <hr>
+	 * @throws IOException Thrown in case an error occurred during the test.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void splitLines() throws IOException
+	{
+		File file = File.createTempFile("demeter-split", ".txt");
+		file.deleteOnExit();
+
+		List<String> lines = new ArrayList<>();
+		StringBuilder content = new StringBuilder();
+		for (int i = 0; i < 1000; i++)
+		{
+			String line = "line-" + i + (i % 7 == 0 ? "-a-longer-line-to-unbalance-the-ranges" : "");
+			lines.add(line);
+			content.append(line).append(i % 2 == 0 ? "\r\n" : "\n");
+		}
+		Files.write(file.toPath(), content.toString().getBytes(StandardCharsets.UTF_8));
+
+		List<FileSplit> splits = new FileSource(file, RecordFormatType.LINE, 0, 5, 100, StandardCharsets.UTF_8).split();
+
+		Assert.assertEquals(5, splits.size());
+		Assert.assertEquals(0, splits.get(0).getStart());
+		Assert.assertEquals(file.length(), splits.get(splits.size() - 1).getEnd());
+		for (int i = 1; i < splits.size(); i++)
+		{
+			Assert.assertEquals(splits.get(i - 1).getEnd(), splits.get(i).getStart());
+		}
+		Assert.assertEquals(lines, read(splits));
+	}
+
+	/**
+	 * Tests a file of fixed length records is split on record boundaries.
+	 * <hr>
+	 * @throws IOException Thrown in case an error occurred during the test.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void splitFixed() throws IOException
+	{
+		File file = File.createTempFile("demeter-split", ".dat");
+		file.deleteOnExit();
+
+		StringBuilder content = new StringBuilder();
+		for (int i = 0; i < 100; i++)
+		{
+			content.append(String.format("%08d", Integer.valueOf(i)));
+		}
+		Files.write(file.toPath(), content.toString().getBytes(StandardCharsets.US_ASCII));
+
+		List<FileSplit> splits = new FileSource(file, RecordFormatType.FIXED, 8, 3, 1, StandardCharsets.US_ASCII).split();
+
+		Assert.assertEquals(3, splits.size());
+		for (FileSplit split : splits)
+		{
+			Assert.assertEquals(0, split.getStart() % 8);
+		}
+
+		List<String> records = read(splits);
+		Assert.assertEquals(100, records.size());
+		Assert.assertEquals("00000042", records.get(42));
+	}
+
+	/**
+	 * Tests a small file is not split below the minimum split size.
+	 * <hr>
+	 * @throws IOException Thrown in case an error occurred during the test.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void splitSmallFile() throws IOException
+	{
+		File file = File.createTempFile("demeter-split", ".txt");
+		file.deleteOnExit();
+		Files.write(file.toPath(), "a\nb\nc".getBytes(StandardCharsets.UTF_8));
+
+		List<FileSplit> splits = new FileSource(file, RecordFormatType.LINE, 0, 8, FileSource.DEFAULT_MIN_SIZE, StandardCharsets.UTF_8).split();
+
+		Assert.assertEquals(1, splits.size());
+		Assert.assertEquals(3, read(splits).size());
+	}
+
+	/**
+	 * Tests the line format only accepts ASCII compatible character sets, the fixed format accepting any of them.
+	 * <hr>
+	 * @throws IOException Thrown in case an error occurred during the test.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void lineCharset() throws IOException
+	{
+		File file = File.createTempFile("demeter-split", ".txt");
+		file.deleteOnExit();
+		Files.write(file.toPath(), "\u00e9t\u00e9\nhiver".getBytes(StandardCharsets.ISO_8859_1));
+
+		List<String> records = read(new FileSource(file, RecordFormatType.LINE, 0, 1, 1, StandardCharsets.ISO_8859_1).split());
+		Assert.assertEquals("\u00e9t\u00e9", records.get(0));
+
+		new FileSource(file, RecordFormatType.FIXED, 4, 1, 1, StandardCharsets.UTF_16BE);
+
+		try
+		{
+			new FileSource(file, RecordFormatType.LINE, 0, 1, 1, StandardCharsets.UTF_16);
+			Assert.fail("UTF-16 should be rejected for the line format!");
+		}
+		catch (IllegalArgumentException e)
+		{
+			// Expected.
+		}
+	}
+}
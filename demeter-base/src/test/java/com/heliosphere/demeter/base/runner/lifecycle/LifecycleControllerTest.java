@@ -0,0 +1,103 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the 
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.lifecycle;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.heliosphere.demeter.base.runner.processor.ProcessorCancelledException;
+
+/**
+ * Test class for the {@link LifecycleController} class.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public class LifecycleControllerTest
+{
+	/**
+	 * Tests the allowed status transitions.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public final void transitions()
+	{
+		LifecycleController lifecycle = new LifecycleController();
+
+		Assert.assertEquals(RunnerStatusType.READY, lifecycle.getStatus());
+		Assert.assertFalse(lifecycle.pause());
+		Assert.assertTrue(lifecycle.start());
+		Assert.assertFalse(lifecycle.reset());
+		Assert.assertTrue(lifecycle.pause());
+		Assert.assertFalse(lifecycle.isDispatching());
+		Assert.assertTrue(lifecycle.resume());
+		Assert.assertTrue(lifecycle.isDispatching());
+
+		lifecycle.terminate();
+		Assert.assertEquals(RunnerStatusType.FINISHED, lifecycle.getStatus());
+		Assert.assertFalse(lifecycle.stop(1, TimeUnit.SECONDS));
+		Assert.assertTrue(lifecycle.reset());
+		Assert.assertEquals(RunnerStatusType.READY, lifecycle.getStatus());
+	}
+
+	/**
+	 * Tests a checkpoint blocks while the runner is paused and throws once the runner is stopping.
+	 * <hr>
+	 * @throws Exception Thrown in case an error occurred during the test.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public final void checkpoint() throws Exception
+	{
+		final LifecycleController lifecycle = new LifecycleController();
+		final CountDownLatch started = new CountDownLatch(1);
+		final AtomicReference<Exception> caught = new AtomicReference<>();
+
+		lifecycle.start();
+		lifecycle.checkpoint();
+		lifecycle.pause();
+
+		Thread thread = new Thread(new Runnable()
+		{
+			@Override
+			public void run()
+			{
+				started.countDown();
+				try
+				{
+					lifecycle.checkpoint();
+				}
+				catch (ProcessorCancelledException e)
+				{
+					caught.set(e);
+				}
+			}
+		});
+		thread.start();
+		started.await();
+
+		thread.join(100);
+		Assert.assertTrue(thread.isAlive());
+
+		Assert.assertTrue(lifecycle.stop(1, TimeUnit.SECONDS));
+		thread.join(1000);
+		Assert.assertFalse(thread.isAlive());
+		Assert.assertNotNull(caught.get());
+
+		lifecycle.terminate();
+		Assert.assertEquals(RunnerStatusType.STOPPED, lifecycle.getStatus());
+	}
+}
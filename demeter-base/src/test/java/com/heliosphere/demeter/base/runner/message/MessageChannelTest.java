@@ -0,0 +1,220 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the 
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.message;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test class for the {@link RingBuffer} and {@link MessageChannel} classes.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public class MessageChannelTest
+{
+	/**
+	 * Tests the capacity and ordering of a ring buffer.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public final void ringBuffer()
+	{
+		RingBuffer<Integer> buffer = new RingBuffer<>(5, ProducerModeType.SINGLE);
+		Assert.assertEquals(8, buffer.getCapacity());
+
+		for (int i = 0; i < 8; i++)
+		{
+			Assert.assertTrue(buffer.offer(Integer.valueOf(i)));
+		}
+		Assert.assertFalse(buffer.offer(Integer.valueOf(8)));
+		Assert.assertEquals(8, buffer.size());
+
+		Assert.assertEquals(Integer.valueOf(0), buffer.poll());
+		Assert.assertTrue(buffer.offer(Integer.valueOf(8)));
+
+		List<Integer> sink = new ArrayList<>();
+		Assert.assertEquals(8, buffer.drainTo(sink, 100));
+		Assert.assertEquals(Integer.valueOf(1), sink.get(0));
+		Assert.assertEquals(Integer.valueOf(8), sink.get(7));
+		Assert.assertNull(buffer.poll());
+		Assert.assertTrue(buffer.isEmpty());
+	}
+
+	/**
+	 * Tests several producers and consumers exchange all the messages through a small channel applying backpressure.
+	 * <hr>
+	 * @throws InterruptedException Thrown in case the test has been interrupted.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void multiProducers() throws InterruptedException
+	{
+		final int producers = 4;
+		final int messages = 50000;
+		final MessageChannel<Long> channel = new MessageChannel<>(new MessageSettings("test", 64, ProducerModeType.MULTI, BackpressureType.BLOCK, 2, 32));
+		final AtomicLong sum = new AtomicLong();
+		final CountDownLatch done = new CountDownLatch(producers);
+
+		List<Thread> threads = new ArrayList<>();
+		for (int p = 0; p < producers; p++)
+		{
+			threads.add(new Thread(new Runnable()
+			{
+				@Override
+				public void run()
+				{
+					for (long i = 1; i <= messages; i++)
+					{
+						channel.publish(Long.valueOf(i));
+					}
+					done.countDown();
+				}
+			}));
+		}
+
+		for (int c = 0; c < 2; c++)
+		{
+			threads.add(new Thread(new Runnable()
+			{
+				@Override
+				public void run()
+				{
+					List<Long> batch = new ArrayList<>();
+					while (!channel.isTerminated())
+					{
+						channel.drain(batch, 10, TimeUnit.MILLISECONDS);
+						for (Long value : batch)
+						{
+							sum.addAndGet(value.longValue());
+						}
+						batch.clear();
+					}
+				}
+			}));
+		}
+
+		for (Thread thread : threads)
+		{
+			thread.start();
+		}
+
+		Assert.assertTrue(done.await(30, TimeUnit.SECONDS));
+		channel.close();
+
+		for (Thread thread : threads)
+		{
+			thread.join(10000);
+		}
+
+		Assert.assertEquals(producers * (long) messages, channel.getPublished());
+		Assert.assertEquals(producers * (long) messages, channel.getConsumed());
+		Assert.assertEquals(0, channel.getDropped());
+		Assert.assertEquals(producers * (messages * (messages + 1L) / 2), sum.get());
+	}
+
+	/**
+	 * Tests messages are dropped when the channel is full and rejected once it is closed.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void dropAndClose()
+	{
+		MessageChannel<String> channel = new MessageChannel<>(new MessageSettings("test", 2, ProducerModeType.SINGLE, BackpressureType.DROP, 1, 10));
+
+		Assert.assertTrue(channel.publish("a"));
+		Assert.assertTrue(channel.publish("b"));
+		Assert.assertFalse(channel.publish("c"));
+		Assert.assertEquals(1, channel.getDropped());
+
+		channel.close();
+		Assert.assertFalse(channel.publish("d"));
+		Assert.assertFalse(channel.isTerminated());
+
+		List<String> batch = new ArrayList<>();
+		Assert.assertEquals(2, channel.drain(batch, 0, TimeUnit.MILLISECONDS));
+		Assert.assertTrue(channel.isTerminated());
+	}
+
+	/**
+	 * Tests every message acknowledged as published is consumed when the channel is closed while producers are publishing.
+	 * <hr>
+	 * @throws InterruptedException Thrown in case the test has been interrupted.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void closeWhilePublishing() throws InterruptedException
+	{
+		for (int round = 0; round < 200; round++)
+		{
+			final MessageChannel<Integer> channel = new MessageChannel<>(new MessageSettings("test", 1024, ProducerModeType.MULTI, BackpressureType.BLOCK, 1, 64));
+			final AtomicLong acknowledged = new AtomicLong();
+			final CountDownLatch started = new CountDownLatch(2);
+
+			List<Thread> producers = new ArrayList<>();
+			for (int p = 0; p < 2; p++)
+			{
+				producers.add(new Thread(new Runnable()
+				{
+					@Override
+					public void run()
+					{
+						started.countDown();
+						while (channel.publish(Integer.valueOf(1)))
+						{
+							acknowledged.incrementAndGet();
+						}
+					}
+				}));
+			}
+
+			Thread consumer = new Thread(new Runnable()
+			{
+				@Override
+				public void run()
+				{
+					List<Integer> batch = new ArrayList<>();
+					while (!channel.isTerminated())
+					{
+						channel.drain(batch, 1, TimeUnit.MILLISECONDS);
+						batch.clear();
+					}
+				}
+			});
+
+			consumer.start();
+			for (Thread producer : producers)
+			{
+				producer.start();
+			}
+
+			started.await();
+			channel.close();
+
+			for (Thread producer : producers)
+			{
+				producer.join(10000);
+			}
+			consumer.join(10000);
+
+			Assert.assertFalse(consumer.isAlive());
+			Assert.assertEquals(acknowledged.get(), channel.getPublished());
+			Assert.assertEquals(channel.getPublished(), channel.getConsumed());
+		}
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the 
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.parameter.base;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.heliosphere.demeter.base.runner.daemon.DaemonModeType;
+
+/**
+ * Test class for the {@link ParameterOptions} class.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public class ParameterOptionsTest
+{
+	/**
+	 * Tests the parsing of the options and their typed access.
+	 * <hr>
+	 * @throws ParameterException Thrown in case an error occurred during the test.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void options() throws ParameterException
+	{
+		ParameterOptions options = new ParameterOptions("heartbeat", " Mode=fixed-delay; period=2s ;ticks=5;verbose=true;");
+
+		Assert.assertEquals(4, options.getKeys().size());
+		Assert.assertTrue(options.contains("mode"));
+		Assert.assertEquals(DaemonModeType.FIXED_DELAY, options.getEnum("mode", DaemonModeType.class, DaemonModeType.FIXED_RATE));
+		Assert.assertEquals(2000, options.getDuration("period", 0));
+		Assert.assertEquals(5, options.getInt("ticks", 0));
+		Assert.assertTrue(options.getBoolean("verbose", false));
+		Assert.assertEquals(100, options.getDuration("delay", 100));
+		Assert.assertEquals("none", options.getString("jitter", "none"));
+	}
+
+	/**
+	 * Tests the duration units.
+	 * <hr>
+	 * @throws ParameterException Thrown in case an error occurred during the test.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void durations() throws ParameterException
+	{
+		ParameterOptions options = new ParameterOptions("heartbeat", "a=250;b=250ms;c=3s;d=2m;e=1h");
+
+		Assert.assertEquals(250, options.getDuration("a", 0));
+		Assert.assertEquals(250, options.getDuration("b", 0));
+		Assert.assertEquals(3000, options.getDuration("c", 0));
+		Assert.assertEquals(120000, options.getDuration("d", 0));
+		Assert.assertEquals(3600000, options.getDuration("e", 0));
+	}
+
+	/**
+	 * Tests a malformed option is rejected.
+	 * <hr>
+	 * @throws ParameterException Expected exception.
+	 */
+	@SuppressWarnings({ "static-method", "nls", "unused" })
+	@Test(expected = ParameterException.class)
+	public final void malformedOption() throws ParameterException
+	{
+		new ParameterOptions("heartbeat", "period");
+	}
+
+	/**
+	 * Tests a malformed duration is rejected.
+	 * <hr>
+	 * @throws ParameterException Expected exception.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test(expected = ParameterException.class)
+	public final void malformedDuration() throws ParameterException
+	{
+		new ParameterOptions("heartbeat", "period=fast").getDuration("period", 0);
+	}
+}
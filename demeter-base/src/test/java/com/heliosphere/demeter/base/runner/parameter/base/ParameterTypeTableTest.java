@@ -0,0 +1,61 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the 
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.parameter.base;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.heliosphere.demeter.base.runner.entity.EntityType;
+import com.heliosphere.demeter.base.runner.parameter.TestParameterType;
+
+/**
+ * Test class for the {@link ParameterTypeTable} class.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public class ParameterTypeTableTest
+{
+	/**
+	 * Tests the resolution of the parameter types from their names.
+	 * <hr>
+	 * @throws Exception Thrown in case an error occurred during the test.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void resolve() throws Exception
+	{
+		ParameterTypeTable table = ParameterTypeTable.of(TestParameterType.class);
+
+		Assert.assertSame(TestParameterType.class, table.getEnumeration());
+		Assert.assertEquals(TestParameterType.values().length, table.getTypes().size());
+
+		for (TestParameterType type : TestParameterType.values())
+		{
+			Assert.assertSame(type.fromName(type.getName()), table.get(type.getName()));
+		}
+
+		Assert.assertNull(table.get("unknown"));
+	}
+
+	/**
+	 * Tests a class which is not a parameter type enumeration is rejected.
+	 * <hr>
+	 * @throws ParameterException Expected exception.
+	 */
+	@SuppressWarnings("static-method")
+	@Test(expected = ParameterException.class)
+	public final void rejectNonParameterType() throws ParameterException
+	{
+		ParameterTypeTable.of(EntityType.class);
+	}
+}
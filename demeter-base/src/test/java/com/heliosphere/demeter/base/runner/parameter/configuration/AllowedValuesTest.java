@@ -0,0 +1,89 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the 
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.parameter.configuration;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test class for the {@link AllowedValues} class.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public class AllowedValuesTest
+{
+	/**
+	 * Tests the matching of plain values, ranges and regular expressions.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void matches()
+	{
+		AllowedValues allowed = AllowedValues.compile(Arrays.asList("CPA", "TAK", "range:1..10", "range:100..", "regex:W[A-Z]{3}"));
+
+		Assert.assertTrue(allowed.isRestricted());
+		Assert.assertTrue(allowed.matches("CPA"));
+		Assert.assertFalse(allowed.matches("cpa"));
+		Assert.assertTrue(allowed.matchesIgnoreCase("cpa"));
+		Assert.assertTrue(allowed.matches("5"));
+		Assert.assertTrue(allowed.matches("10.0"));
+		Assert.assertFalse(allowed.matches("11"));
+		Assert.assertTrue(allowed.matches("1000"));
+		Assert.assertTrue(allowed.matches("WTRZ"));
+		Assert.assertFalse(allowed.matches("WTRZX"));
+		Assert.assertFalse(allowed.matchesIgnoreCase("unknown"));
+	}
+
+	/**
+	 * Tests an empty or {@code null} list of allowed values does not restrict the values.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void unrestricted()
+	{
+		Assert.assertFalse(AllowedValues.compile(null).isRestricted());
+		Assert.assertTrue(AllowedValues.compile(null).matches("any"));
+		Assert.assertTrue(AllowedValues.compile(Arrays.<String> asList()).matchesIgnoreCase("any"));
+	}
+
+	/**
+	 * Tests the compiled allowed values of a configuration parameter follow the modifications of its allowed values.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void configuration()
+	{
+		IParameterConfiguration parameter = new ParameterConfiguration();
+		parameter.addAllowed("CPA");
+		Assert.assertTrue(parameter.isAllowed("CPA"));
+		Assert.assertFalse(parameter.isAllowed("TAK"));
+
+		parameter.addAllowed("TAK");
+		Assert.assertTrue(parameter.isAllowed("TAK"));
+
+		parameter.getAllowedValues().add("CUY");
+		Assert.assertTrue(parameter.isAllowedIgnoreCase("cuy"));
+	}
+
+	/**
+	 * Tests an invalid range is rejected.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test(expected = IllegalArgumentException.class)
+	public final void invalidRange()
+	{
+		AllowedValues.compile(Arrays.asList("range:10..1"));
+	}
+}
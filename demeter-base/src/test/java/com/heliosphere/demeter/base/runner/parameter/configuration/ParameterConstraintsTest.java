@@ -0,0 +1,156 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the 
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.parameter.configuration;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.heliosphere.demeter.base.runner.parameter.TestParameterType;
+import com.heliosphere.demeter.base.runner.parameter.base.ParameterException;
+import com.heliosphere.demeter.base.runner.parameter.execution.IParameterExecution;
+import com.heliosphere.demeter.base.runner.parameter.execution.ParameterExecution;
+
+/**
+ * Test class for the {@link ParameterConstraints} class.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public class ParameterConstraintsTest
+{
+	/**
+	 * Creates the configuration parameters: {@code help} excludes {@code hello}, {@code input} requires {@code sleep} (through its
+	 * alias).
+	 * <hr>
+	 * @return Configuration parameters.
+	 */
+	@SuppressWarnings("nls")
+	private static List<IParameterConfiguration> createConfiguration()
+	{
+		IParameterConfiguration help = create("help", TestParameterType.PARAMETER_HELP);
+		help.addExclude("hello");
+
+		IParameterConfiguration input = create("input", TestParameterType.PARAMETER_INPUT);
+		input.addInclude("sl");
+
+		IParameterConfiguration sleep = create("sleep", TestParameterType.PARAMETER_SLEEP);
+		sleep.addAlias("sl");
+
+		return Arrays.asList(help, input, sleep, create("hello", TestParameterType.PARAMETER_HELLO));
+	}
+
+	/**
+	 * Creates a configuration parameter.
+	 * <hr>
+	 * @param name Parameter name.
+	 * @param type Parameter type.
+	 * @return Configuration parameter.
+	 */
+	private static IParameterConfiguration create(final String name, final TestParameterType type)
+	{
+		IParameterConfiguration parameter = new ParameterConfiguration();
+		parameter.setName(name);
+		parameter.setType(type);
+
+		return parameter;
+	}
+
+	/**
+	 * Creates execution parameters.
+	 * <hr>
+	 * @param types Parameter types.
+	 * @return Execution parameters.
+	 */
+	private static List<IParameterExecution> execute(final TestParameterType... types)
+	{
+		IParameterExecution[] parameters = new IParameterExecution[types.length];
+		for (int i = 0; i < types.length; i++)
+		{
+			parameters[i] = new ParameterExecution(types[i].getName());
+			parameters[i].setType(types[i]);
+		}
+
+		return Arrays.asList(parameters);
+	}
+
+	/**
+	 * Tests the compiled masks.
+	 * <hr>
+	 * @throws ParameterException Thrown in case an error occurred during the test.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public final void compile() throws ParameterException
+	{
+		ParameterConstraints constraints = ParameterConstraints.compile(createConfiguration());
+
+		Assert.assertTrue(constraints.isIncompatible(TestParameterType.PARAMETER_HELP, TestParameterType.PARAMETER_HELLO));
+		Assert.assertFalse(constraints.isIncompatible(TestParameterType.PARAMETER_HELLO, TestParameterType.PARAMETER_HELP));
+		Assert.assertTrue(constraints.isRequired(TestParameterType.PARAMETER_INPUT, TestParameterType.PARAMETER_SLEEP));
+		Assert.assertFalse(constraints.isRequired(TestParameterType.PARAMETER_FAIL, TestParameterType.PARAMETER_SLEEP));
+	}
+
+	/**
+	 * Tests the validation of execution parameters.
+	 * <hr>
+	 * @throws ParameterException Thrown in case an error occurred during the test.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public final void validate() throws ParameterException
+	{
+		ParameterConstraints constraints = ParameterConstraints.compile(createConfiguration());
+
+		constraints.validate(execute(TestParameterType.PARAMETER_HELP, TestParameterType.PARAMETER_SLEEP));
+		constraints.validate(execute(TestParameterType.PARAMETER_INPUT, TestParameterType.PARAMETER_SLEEP, TestParameterType.PARAMETER_HELLO));
+		constraints.validate(Collections.<IParameterExecution> emptyList());
+
+		try
+		{
+			constraints.validate(execute(TestParameterType.PARAMETER_HELLO, TestParameterType.PARAMETER_HELP));
+			Assert.fail("Incompatible parameters not detected!"); //$NON-NLS-1$
+		}
+		catch (ParameterException e)
+		{
+			// Expected.
+		}
+
+		try
+		{
+			constraints.validate(execute(TestParameterType.PARAMETER_INPUT));
+			Assert.fail("Missing required parameter not detected!"); //$NON-NLS-1$
+		}
+		catch (ParameterException e)
+		{
+			// Expected.
+		}
+	}
+
+	/**
+	 * Tests a constraint referring to an unknown parameter is rejected.
+	 * <hr>
+	 * @throws ParameterException Expected exception.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test(expected = ParameterException.class)
+	public final void unknownReference() throws ParameterException
+	{
+		IParameterConfiguration help = create("help", TestParameterType.PARAMETER_HELP);
+		help.addExclude("unknown");
+
+		ParameterConstraints.compile(Arrays.asList(help));
+	}
+}
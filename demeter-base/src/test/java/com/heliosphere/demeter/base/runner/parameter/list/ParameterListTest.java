@@ -0,0 +1,162 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the 
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.parameter.list;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.heliosphere.demeter.base.runner.parameter.TestParameterType;
+import com.heliosphere.demeter.base.runner.parameter.execution.IParameterExecution;
+import com.heliosphere.demeter.base.runner.parameter.execution.ParameterExecution;
+
+/**
+ * Test class for the {@link ParameterList} class.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public class ParameterListTest
+{
+	/**
+	 * Creates an execution parameter.
+	 * <hr>
+	 * @param name Parameter name.
+	 * @param type Parameter type.
+	 * @return Execution parameter.
+	 */
+	private static IParameterExecution create(final String name, final TestParameterType type)
+	{
+		IParameterExecution parameter = new ParameterExecution(name);
+		parameter.setType(type);
+
+		return parameter;
+	}
+
+	/**
+	 * Tests the lookups by type and by name and the add and remove operations.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void lookup()
+	{
+		ParameterList<IParameterExecution> parameters = new ParameterList<>();
+		IParameterExecution hello = create("hello", TestParameterType.PARAMETER_HELLO);
+		IParameterExecution version = create("version", TestParameterType.PARAMETER_VERSION);
+
+		parameters.add(hello);
+		parameters.add(version);
+		parameters.add(create("other", TestParameterType.PARAMETER_HELLO));
+
+		Assert.assertEquals(2, parameters.getElements().size());
+		Assert.assertSame(hello, parameters.get(TestParameterType.PARAMETER_HELLO));
+		Assert.assertSame(version, parameters.get("version"));
+		Assert.assertFalse(parameters.contain("other"));
+		Assert.assertFalse(parameters.contain(TestParameterType.PARAMETER_SLEEP));
+
+		parameters.remove(hello);
+		Assert.assertNull(parameters.get(TestParameterType.PARAMETER_HELLO));
+		Assert.assertNull(parameters.get("hello"));
+		Assert.assertTrue(parameters.contain(version));
+
+		parameters.clear();
+		Assert.assertNull(parameters.get("version"));
+	}
+
+	/**
+	 * Tests the indexes follow the modifications made through the elements and the types resolved once loaded when reindexed.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void consistency()
+	{
+		// Parameters loaded from a file have no type until it is resolved.
+		IParameterExecution first = new ParameterExecution("sleep");
+		IParameterExecution second = new ParameterExecution("sleep");
+		List<IParameterExecution> elements = new ArrayList<>();
+		elements.add(first);
+		elements.add(second);
+
+		ParameterList<IParameterExecution> parameters = new ParameterList<>();
+		parameters.setElements(elements);
+		Assert.assertNull(parameters.get(TestParameterType.PARAMETER_SLEEP));
+
+		first.setType(TestParameterType.PARAMETER_SLEEP);
+		second.setType(TestParameterType.PARAMETER_SLEEP);
+		Assert.assertNull(parameters.get(TestParameterType.PARAMETER_SLEEP));
+
+		parameters.reindex();
+		Assert.assertSame(first, parameters.get(TestParameterType.PARAMETER_SLEEP));
+		Assert.assertSame(first, parameters.get("sleep"));
+
+		IParameterExecution hello = create("hello", TestParameterType.PARAMETER_HELLO);
+		parameters.getElements().add(hello);
+		Assert.assertSame(hello, parameters.get("hello"));
+
+		parameters.getElements().remove(0);
+		Assert.assertSame(second, parameters.get(TestParameterType.PARAMETER_SLEEP));
+
+		parameters.getElements().set(0, create("version", TestParameterType.PARAMETER_VERSION));
+		Assert.assertNull(parameters.get("sleep"));
+		Assert.assertTrue(parameters.contain(TestParameterType.PARAMETER_VERSION));
+	}
+
+	/**
+	 * Tests concurrent lookups racing to build the indexes never miss a parameter.
+	 * <hr>
+	 * @throws Exception Thrown in case an error occurred during the test.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void concurrentLookups() throws Exception
+	{
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		try
+		{
+			for (int round = 0; round < 100; round++)
+			{
+				final ParameterList<IParameterExecution> parameters = new ParameterList<>();
+				parameters.add(create("hello", TestParameterType.PARAMETER_HELLO));
+				parameters.add(create("version", TestParameterType.PARAMETER_VERSION));
+
+				List<Future<Boolean>> lookups = new ArrayList<>();
+				for (int i = 0; i < 4; i++)
+				{
+					lookups.add(executor.submit(new Callable<Boolean>()
+					{
+						@Override
+						public Boolean call()
+						{
+							return Boolean.valueOf(parameters.get(TestParameterType.PARAMETER_HELLO) != null && parameters.get("version") != null);
+						}
+					}));
+				}
+
+				for (Future<Boolean> lookup : lookups)
+				{
+					Assert.assertTrue(lookup.get().booleanValue());
+				}
+			}
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the 
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.parameter.list;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.heliosphere.demeter.base.runner.context.Context;
+import com.heliosphere.demeter.base.runner.context.IContext;
+import com.heliosphere.demeter.base.runner.entity.Entity;
+import com.heliosphere.demeter.base.runner.entity.EntityType;
+import com.heliosphere.demeter.base.runner.parameter.TestParameterType;
+import com.heliosphere.demeter.base.runner.parameter.base.ParameterStatusType;
+import com.heliosphere.demeter.base.runner.parameter.execution.IParameterExecution;
+import com.heliosphere.demeter.base.runner.parameter.execution.ParameterExecution;
+
+/**
+ * Test class for the {@link ParameterSnapshot} and {@link ParameterOverlay} classes.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public class ParameterOverlayTest
+{
+	/**
+	 * Creates a list of execution parameters.
+	 * <hr>
+	 * @return List of execution parameters.
+	 */
+	@SuppressWarnings("nls")
+	private static ParameterList<IParameterExecution> createParameters()
+	{
+		IParameterExecution hello = new ParameterExecution("hello");
+		hello.setType(TestParameterType.PARAMETER_HELLO);
+		hello.setValue("world");
+		hello.addProperty("count", Integer.valueOf(1));
+
+		IParameterExecution version = new ParameterExecution("version");
+		version.setType(TestParameterType.PARAMETER_VERSION);
+
+		ParameterList<IParameterExecution> parameters = new ParameterList<>();
+		parameters.add(hello);
+		parameters.add(version);
+
+		return parameters;
+	}
+
+	/**
+	 * Tests a snapshot is a copy of its source list and cannot be modified.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void snapshot()
+	{
+		ParameterList<IParameterExecution> parameters = createParameters();
+		ParameterSnapshot snapshot = ParameterSnapshot.of(parameters);
+
+		parameters.get("hello").setValue("changed");
+
+		Assert.assertEquals(2, snapshot.size());
+		Assert.assertEquals("world", snapshot.get(TestParameterType.PARAMETER_HELLO).getValue());
+		Assert.assertEquals(1, snapshot.indexOf("version"));
+		Assert.assertSame(snapshot, ParameterSnapshot.of(snapshot));
+
+		try
+		{
+			snapshot.add(new ParameterExecution("other"));
+			Assert.fail("Snapshot should not be modifiable!");
+		}
+		catch (UnsupportedOperationException e)
+		{
+			// Expected.
+		}
+	}
+
+	/**
+	 * Tests the contexts created from a snapshot share it and do not see each other modifications.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void overlay()
+	{
+		ParameterSnapshot snapshot = ParameterSnapshot.of(createParameters());
+		IParameterExecution shared = snapshot.get("hello");
+
+		IContext first = new Context(new Entity<>("first", EntityType.DISPLAY, null, shared), snapshot);
+		IContext second = new Context(new Entity<>("second", EntityType.DISPLAY, null, shared), snapshot);
+		Assert.assertSame(snapshot, ((ParameterOverlay) first.getParameters()).getSnapshot());
+		Assert.assertSame(snapshot, ((ParameterOverlay) second.getParameters()).getSnapshot());
+
+		IParameterExecution parameter = first.getParameters().get(TestParameterType.PARAMETER_HELLO);
+		Assert.assertSame(parameter, first.getParameters().get("hello"));
+		parameter.setStatus(ParameterStatusType.PROCESSED);
+		parameter.addProperty("count", Integer.valueOf(2));
+
+		Assert.assertEquals(ParameterStatusType.PROCESSED, first.getParameters().get("hello").getStatus());
+		Assert.assertEquals(Integer.valueOf(2), first.getParameters().get("hello").getProperty("count"));
+		Assert.assertEquals(ParameterStatusType.UNPROCESSED, second.getParameters().get("hello").getStatus());
+		Assert.assertEquals(Integer.valueOf(1), second.getParameters().get("hello").getProperty("count"));
+		Assert.assertEquals(ParameterStatusType.UNPROCESSED, shared.getStatus());
+		Assert.assertEquals(Integer.valueOf(1), shared.getProperty("count"));
+
+		first.getParameters().remove(first.getParameters().get("version"));
+		Assert.assertEquals(1, first.getParameters().getElements().size());
+		Assert.assertEquals(2, second.getParameters().getElements().size());
+		Assert.assertEquals(2, snapshot.size());
+	}
+
+	/**
+	 * Tests the lookups of a context go through the indexes of the snapshot shared by all its overlays.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void indexedLookups()
+	{
+		ParameterList<IParameterExecution> parameters = new ParameterList<>();
+		for (TestParameterType type : TestParameterType.values())
+		{
+			IParameterExecution parameter = new ParameterExecution(type.getName());
+			parameter.setType(type);
+			parameters.add(parameter);
+		}
+
+		// Not added to the list as its type is already present, a snapshot keeps the first parameter of a type anyway.
+		IParameterExecution duplicate = new ParameterExecution("other");
+		duplicate.setType(TestParameterType.PARAMETER_HELLO);
+		parameters.getElements().add(duplicate);
+
+		ParameterSnapshot snapshot = ParameterSnapshot.of(parameters);
+		IContext context = new Context(new Entity<>("context", EntityType.DISPLAY, null, snapshot.get("hello")), snapshot);
+		IParameterList<IParameterExecution> list = context.getParameters();
+
+		for (TestParameterType type : TestParameterType.values())
+		{
+			IParameterExecution parameter = list.get(type);
+			Assert.assertNotNull(parameter);
+			Assert.assertSame(type, parameter.getType());
+			Assert.assertSame(parameter, list.get(type.getName()));
+			Assert.assertTrue(list.contain(type));
+			Assert.assertEquals(type.ordinal(), snapshot.indexOf(type));
+		}
+
+		Assert.assertEquals("hello", list.get(TestParameterType.PARAMETER_HELLO).getName());
+		Assert.assertSame(list.get("other"), list.getElements().get(TestParameterType.values().length));
+		Assert.assertNull(list.get("unknown"));
+		Assert.assertFalse(list.contain("unknown"));
+	}
+}
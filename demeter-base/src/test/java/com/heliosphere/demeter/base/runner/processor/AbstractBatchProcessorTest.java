@@ -0,0 +1,176 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the 
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.processor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.heliosphere.demeter.base.runner.batch.BatchSettings;
+import com.heliosphere.demeter.base.runner.context.Context;
+import com.heliosphere.demeter.base.runner.entity.EntityType;
+import com.heliosphere.demeter.base.runner.metric.BatchMetrics;
+import com.heliosphere.demeter.base.runner.result.ExecutionStatusType;
+import com.heliosphere.demeter.base.runner.result.IExecutionResult;
+
+/**
+ * Test class for the {@link AbstractBatchProcessor} class.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public class AbstractBatchProcessorTest
+{
+	/**
+	 * Tests the items are processed by chunks in parallel, a failed chunk being retried.
+	 * <hr>
+	 * @throws Exception Thrown in case an error occurred during the test.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void chunks() throws Exception
+	{
+		SumProcessor processor = new SumProcessor(TestContextFactory.create("batch", EntityType.BATCH, new BatchSettings(10, 4, 1)), 1000, 37);
+		IExecutionResult result = processor.call();
+
+		Assert.assertEquals(ExecutionStatusType.SUCESSS, result.getStatus());
+		Assert.assertEquals(499500, processor.sum.get());
+
+		BatchMetrics metrics = result.getBatchMetrics();
+		Assert.assertEquals(1000, metrics.getItems());
+		Assert.assertEquals(100, metrics.getChunks());
+		Assert.assertEquals(1, metrics.getRetries());
+		Assert.assertEquals(0, metrics.getFailures());
+		Assert.assertEquals(100, metrics.getLatency().getCount());
+		Assert.assertTrue(metrics.getThroughput() > 0);
+	}
+
+	/**
+	 * Tests a chunk failing on every attempt fails the batch while the other chunks are still committed.
+	 * <hr>
+	 * @throws Exception Thrown in case an error occurred during the test.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void chunkFailure() throws Exception
+	{
+		SumProcessor processor = new SumProcessor(TestContextFactory.create("batch", EntityType.BATCH, new BatchSettings(10, 2, 2)), 100, -5);
+		IExecutionResult result = processor.call();
+
+		Assert.assertEquals(ExecutionStatusType.FAILED, result.getStatus());
+		Assert.assertEquals(9, result.getBatchMetrics().getChunks());
+		Assert.assertEquals(1, result.getBatchMetrics().getFailures());
+		Assert.assertEquals(2, result.getBatchMetrics().getRetries());
+		Assert.assertEquals(4950 - 545, processor.sum.get());
+	}
+
+	/**
+	 * Tests a failed chunk is retried after an exponential backoff.
+	 * <hr>
+	 * @throws Exception Thrown in case an error occurred during the test.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void chunkBackoff() throws Exception
+	{
+		SumProcessor processor = new SumProcessor(TestContextFactory.create("batch", EntityType.BATCH, new BatchSettings(10, 1, 2, 50)), 20, -1);
+		long start = System.nanoTime();
+		IExecutionResult result = processor.call();
+
+		// Two retries waiting for 50 then 100 ms (jitter of 10%).
+		Assert.assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(135));
+		Assert.assertEquals(ExecutionStatusType.FAILED, result.getStatus());
+		Assert.assertEquals(2, result.getBatchMetrics().getRetries());
+		Assert.assertEquals(1, result.getBatchMetrics().getFailures());
+	}
+
+	/**
+	 * Batch processor summing integers.
+	 */
+	private static final class SumProcessor extends AbstractBatchProcessor<Integer>
+	{
+		/**
+		 * Number of items.
+		 */
+		private final int count;
+
+		/**
+		 * Chunk index failing once (positive value) or always (negative value).
+		 */
+		private final int failing;
+
+		/**
+		 * Committed sum.
+		 */
+		private final AtomicLong sum = new AtomicLong();
+
+		/**
+		 * Chunks having already failed.
+		 */
+		private final Set<Integer> failed = Collections.newSetFromMap(new ConcurrentHashMap<Integer, Boolean>());
+
+		/**
+		 * Creates a new sum processor.
+		 * <hr>
+		 * @param context Context.
+		 * @param count Number of items.
+		 * @param failing Chunk index failing once (positive value) or always (negative value).
+		 */
+		private SumProcessor(final Context context, final int count, final int failing)
+		{
+			super(context);
+
+			this.count = count;
+			this.failing = failing;
+		}
+
+		@Override
+		protected Iterator<Integer> open()
+		{
+			List<Integer> items = new ArrayList<>(count);
+			for (int i = 0; i < count; i++)
+			{
+				items.add(Integer.valueOf(i));
+			}
+
+			return items.iterator();
+		}
+
+		@SuppressWarnings("nls")
+		@Override
+		protected void processChunk(final List<Integer> chunk) throws ProcessorException
+		{
+			Integer index = Integer.valueOf(chunk.get(0).intValue() / chunk.size());
+			if (index.intValue() == Math.abs(failing) && (failing < 0 || failed.add(index)))
+			{
+				throw new ProcessorException("Chunk " + index + " has failed");
+			}
+		}
+
+		@Override
+		protected void commit(final List<Integer> chunk)
+		{
+			for (Integer item : chunk)
+			{
+				sum.addAndGet(item.intValue());
+			}
+		}
+	}
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the 
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.processor;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.heliosphere.demeter.base.runner.computation.ComputationTask;
+import com.heliosphere.demeter.base.runner.context.Context;
+import com.heliosphere.demeter.base.runner.entity.EntityType;
+import com.heliosphere.demeter.base.runner.executor.Bulkhead;
+import com.heliosphere.demeter.base.runner.executor.ExecutorMode;
+import com.heliosphere.demeter.base.runner.result.ExecutionStatusType;
+import com.heliosphere.demeter.base.runner.result.IExecutionResult;
+
+/**
+ * Test class for the {@link AbstractComputationProcessor} and {@link ComputationTask} classes.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public class AbstractComputationProcessorTest
+{
+	/**
+	 * Number of values summed by the computation.
+	 */
+	private static final int COUNT = 1000000;
+
+	/**
+	 * Expected sum of the squares of the values.
+	 */
+	private static final long EXPECTED = sumOfSquares(0, COUNT);
+
+	/**
+	 * Computes the sum of the squares of a range of values.
+	 * <hr>
+	 * @param from First value (inclusive).
+	 * @param to Last value (exclusive).
+	 * @return Sum of the squares.
+	 */
+	private static long sumOfSquares(final int from, final int to)
+	{
+		long sum = 0;
+		for (long i = from; i < to; i++)
+		{
+			sum += i * i;
+		}
+
+		return sum;
+	}
+
+	/**
+	 * Creates a computation processor.
+	 * <hr>
+	 * @return Processor.
+	 */
+	@SuppressWarnings("nls")
+	private static SumProcessor createProcessor()
+	{
+		return new SumProcessor(TestContextFactory.create("compute", EntityType.COMPUTATION, null));
+	}
+
+	/**
+	 * Tests a computation run outside of any fork/join pool.
+	 * <hr>
+	 * @throws Exception Thrown in case an error occurred during the test.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public final void computeOutsidePool() throws Exception
+	{
+		SumProcessor processor = createProcessor();
+		IExecutionResult result = processor.call();
+
+		Assert.assertEquals(ExecutionStatusType.SUCESSS, result.getStatus());
+		Assert.assertEquals(Long.valueOf(EXPECTED), processor.getComputationResult());
+	}
+
+	/**
+	 * Tests a computation run on a work-stealing bulkhead forks its subtasks on the bulkhead pool.
+	 * <hr>
+	 * @throws Exception Thrown in case an error occurred during the test.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void computeOnWorkStealingBulkhead() throws Exception
+	{
+		Bulkhead bulkhead = new Bulkhead(EntityType.COMPUTATION, ExecutorMode.WORK_STEALING, 4, 0, "test");
+
+		try
+		{
+			SumProcessor first = createProcessor();
+			SumProcessor second = createProcessor();
+
+			IExecutionResult result = bulkhead.submit(first).get();
+			Assert.assertEquals(ExecutionStatusType.SUCESSS, result.getStatus());
+			Assert.assertEquals(ExecutionStatusType.SUCESSS, bulkhead.submit(second).get().getStatus());
+			Assert.assertEquals(Long.valueOf(EXPECTED), first.getComputationResult());
+			Assert.assertEquals(Long.valueOf(EXPECTED), second.getComputationResult());
+			Assert.assertNotNull(bulkhead.getForkJoinPool());
+			Assert.assertTrue(first.pooled);
+		}
+		finally
+		{
+			bulkhead.shutdown();
+		}
+	}
+
+	/**
+	 * Computation processor summing the squares of a range of values.
+	 */
+	private static final class SumProcessor extends AbstractComputationProcessor<Long>
+	{
+		/**
+		 * Has the computation been run on a fork/join pool worker?
+		 */
+		private volatile boolean pooled = false;
+
+		/**
+		 * Creates a new sum processor.
+		 * <hr>
+		 * @param context Context.
+		 */
+		private SumProcessor(final Context context)
+		{
+			super(context);
+		}
+
+		@Override
+		protected ForkJoinTask<Long> createTask()
+		{
+			pooled = ForkJoinTask.inForkJoinPool();
+			return new SumTask(0, COUNT);
+		}
+	}
+
+	/**
+	 * Task summing the squares of a range of values.
+	 */
+	private static final class SumTask extends ComputationTask<Long>
+	{
+		/**
+		 * Default serialization identifier.
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * First value (inclusive).
+		 */
+		private final int from;
+
+		/**
+		 * Last value (exclusive).
+		 */
+		private final int to;
+
+		/**
+		 * Creates a new sum task.
+		 * <hr>
+		 * @param from First value (inclusive).
+		 * @param to Last value (exclusive).
+		 */
+		private SumTask(final int from, final int to)
+		{
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected boolean isDivisible()
+		{
+			return to - from > 10000;
+		}
+
+		@Override
+		protected Long computeDirectly()
+		{
+			return Long.valueOf(sumOfSquares(from, to));
+		}
+
+		@Override
+		protected List<SumTask> split()
+		{
+			int middle = (from + to) >>> 1;
+			return Arrays.asList(new SumTask(from, middle), new SumTask(middle, to));
+		}
+
+		@Override
+		protected Long combine(final List<Long> results)
+		{
+			long sum = 0;
+			for (Long result : results)
+			{
+				sum += result.longValue();
+			}
+
+			return Long.valueOf(sum);
+		}
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the 
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.processor;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.heliosphere.demeter.base.runner.context.IContext;
+import com.heliosphere.demeter.base.runner.entity.EntityType;
+import com.heliosphere.demeter.base.runner.result.ExecutionStatusType;
+import com.heliosphere.demeter.base.runner.result.IExecutionResult;
+
+/**
+ * Test class for the {@link ProcessorFactory} and {@link ProcessorPool} classes.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public class ProcessorFactoryTest
+{
+	/**
+	 * Tests the factory creates a new processor bound to each context.
+	 * <hr>
+	 * @throws ProcessorException Thrown in case an error occurred during the test.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void create() throws ProcessorException
+	{
+		ProcessorFactory factory = new ProcessorFactory(TestProcessor.class);
+		IContext context = TestContextFactory.create("first", EntityType.DISPLAY, null);
+
+		IProcessor first = factory.create(context);
+		IProcessor second = factory.create(TestContextFactory.create("second", EntityType.DISPLAY, null));
+
+		Assert.assertTrue(first instanceof TestProcessor);
+		Assert.assertSame(context, first.getContext());
+		Assert.assertEquals("first", first.getExecutionResult().getName());
+		Assert.assertNotSame(first, second);
+	}
+
+	/**
+	 * Tests a processor class without an accessible context constructor is rejected when the factory is created.
+	 * <hr>
+	 * @throws ProcessorException Expected exception.
+	 */
+	@SuppressWarnings("static-method")
+	@Test(expected = ProcessorException.class)
+	public final void createInaccessible() throws ProcessorException
+	{
+		new ProcessorFactory(HiddenProcessor.class);
+	}
+
+	/**
+	 * Tests the pool reuses a released processor and resets it for its new context.
+	 * <hr>
+	 * @throws Exception Thrown in case an error occurred during the test.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void reuse() throws Exception
+	{
+		ProcessorPool pool = new ProcessorPool(new ProcessorFactory(TestProcessor.class), 1);
+
+		IProcessor first = pool.create(TestContextFactory.create("first", EntityType.DISPLAY, null));
+		IProcessor second = pool.create(TestContextFactory.create("second", EntityType.DISPLAY, null));
+		IExecutionResult result = first.call();
+		Assert.assertEquals(ExecutionStatusType.SUCESSS, result.getStatus());
+
+		pool.release(first);
+		pool.release(second);
+		Assert.assertEquals(1, pool.getIdle());
+
+		IContext context = TestContextFactory.create("third", EntityType.DISPLAY, null);
+		IProcessor third = pool.create(context);
+
+		Assert.assertSame(first, third);
+		Assert.assertSame(context, third.getContext());
+		Assert.assertEquals("third", third.getName());
+		Assert.assertNotSame(result, third.getExecutionResult());
+		Assert.assertEquals(ExecutionStatusType.SUCESSS, result.getStatus());
+		Assert.assertEquals("third", third.getExecutionResult().getName());
+		Assert.assertEquals(2, pool.getCreated());
+		Assert.assertEquals(1, pool.getReused());
+		Assert.assertEquals(0, pool.getIdle());
+	}
+
+	/**
+	 * Processor whose class is not accessible.
+	 */
+	private static final class HiddenProcessor extends AbstractProcessor
+	{
+		/**
+		 * Creates a new hidden processor.
+		 * <hr>
+		 * @param context Context.
+		 */
+		@SuppressWarnings("unused")
+		public HiddenProcessor(final IContext context)
+		{
+			super(context);
+		}
+	}
+}
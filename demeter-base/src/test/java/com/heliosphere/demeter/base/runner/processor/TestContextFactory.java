@@ -0,0 +1,80 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the 
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.processor;
+
+import com.heliosphere.demeter.base.runner.context.Context;
+import com.heliosphere.demeter.base.runner.entity.Entity;
+import com.heliosphere.demeter.base.runner.entity.EntityType;
+import com.heliosphere.demeter.base.runner.parameter.TestParameterType;
+import com.heliosphere.demeter.base.runner.parameter.base.ParameterStatusType;
+import com.heliosphere.demeter.base.runner.parameter.execution.IParameterExecution;
+import com.heliosphere.demeter.base.runner.parameter.execution.ParameterExecution;
+import com.heliosphere.demeter.base.runner.parameter.list.ParameterList;
+
+import lombok.NonNull;
+
+/**
+ * Provides a factory of test {@link Context} having a single unprocessed execution parameter, to be run by a {@link TestProcessor}
+ * or any other processor.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public final class TestContextFactory
+{
+	/**
+	 * Prevents the instantiation of this class.
+	 */
+	private TestContextFactory()
+	{
+		// Empty.
+	}
+
+	/**
+	 * Creates a context whose execution parameter displays the hello message.
+	 * <hr>
+	 * @param name Entity and parameter name.
+	 * @param type Entity type.
+	 * @param content Entity content, can be {@code null}.
+	 * @return Context.
+	 */
+	public static final Context create(@NonNull final String name, @NonNull final EntityType type, final Object content)
+	{
+		return create(name, type, content, TestParameterType.PARAMETER_HELLO, null);
+	}
+
+	/**
+	 * Creates a context having a single unprocessed execution parameter.
+	 * <hr>
+	 * @param name Entity and parameter name.
+	 * @param type Entity type.
+	 * @param content Entity content, can be {@code null}.
+	 * @param parameterType Execution parameter type.
+	 * @param value Execution parameter value, can be {@code null}.
+	 * @return Context.
+	 */
+	public static final Context create(@NonNull final String name, @NonNull final EntityType type, final Object content, @NonNull final TestParameterType parameterType, final String value)
+	{
+		IParameterExecution parameter = new ParameterExecution(name);
+		parameter.setType(parameterType);
+		parameter.setStatus(ParameterStatusType.UNPROCESSED);
+		if (value != null)
+		{
+			parameter.setValue(value);
+		}
+
+		ParameterList<IParameterExecution> parameters = new ParameterList<>();
+		parameters.add(parameter);
+
+		return new Context(new Entity<>(name, type, content, parameter), parameters);
+	}
+}
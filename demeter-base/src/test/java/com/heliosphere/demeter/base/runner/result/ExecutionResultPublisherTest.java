@@ -0,0 +1,187 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the 
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.result;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test class for the {@link ExecutionResultPublisher} class.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public class ExecutionResultPublisherTest
+{
+	/**
+	 * Tests results are only delivered once requested and the publisher waits while the buffer is full.
+	 * <hr>
+	 * @throws Exception Thrown in case an error occurred during the test.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void publishWithBackpressure() throws Exception
+	{
+		final ExecutionResultPublisher publisher = new ExecutionResultPublisher();
+		final RecordingSubscriber subscriber = new RecordingSubscriber();
+		final CountDownLatch published = new CountDownLatch(1);
+
+		publisher.subscribe(subscriber, 1);
+
+		Thread producer = new Thread(new Runnable()
+		{
+			@Override
+			public void run()
+			{
+				publisher.publish(new ExecutionResult("first"));
+				publisher.publish(new ExecutionResult("second"));
+				published.countDown();
+				publisher.complete();
+			}
+		});
+		producer.start();
+
+		// Nothing requested, the second result cannot be buffered.
+		Assert.assertFalse(published.await(100, TimeUnit.MILLISECONDS));
+		Assert.assertTrue(subscriber.results.isEmpty());
+
+		subscriber.subscription.request(1);
+		Assert.assertTrue(published.await(5, TimeUnit.SECONDS));
+		producer.join(5000);
+
+		Assert.assertEquals(1, subscriber.results.size());
+		Assert.assertEquals("first", subscriber.results.get(0).getName());
+		Assert.assertFalse(subscriber.completed);
+
+		subscriber.subscription.request(Long.MAX_VALUE);
+		Assert.assertEquals(2, subscriber.results.size());
+		Assert.assertTrue(subscriber.completed);
+		Assert.assertEquals(0, publisher.getSubscriptionCount());
+	}
+
+	/**
+	 * Tests a failed run discards the buffered results and a cancelled subscription no longer receives any result.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void errorAndCancel()
+	{
+		ExecutionResultPublisher publisher = new ExecutionResultPublisher();
+		RecordingSubscriber failed = new RecordingSubscriber();
+		RecordingSubscriber cancelled = new RecordingSubscriber();
+
+		publisher.subscribe(failed);
+		publisher.subscribe(cancelled);
+		cancelled.subscription.cancel();
+
+		publisher.publish(new ExecutionResult("result"));
+		publisher.error(new IllegalStateException("failure"));
+
+		Assert.assertTrue(failed.results.isEmpty());
+		Assert.assertTrue(failed.error instanceof IllegalStateException);
+		Assert.assertTrue(cancelled.results.isEmpty());
+		Assert.assertNull(cancelled.error);
+		Assert.assertFalse(cancelled.completed);
+	}
+
+	/**
+	 * Tests a failing subscriber is cancelled without preventing the following subscribers from receiving the result.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void failingSubscriber()
+	{
+		ExecutionResultPublisher publisher = new ExecutionResultPublisher();
+		RecordingSubscriber failing = new RecordingSubscriber()
+		{
+			@Override
+			public void onNext(final IExecutionResult result)
+			{
+				throw new IllegalStateException("failure");
+			}
+		};
+		RecordingSubscriber healthy = new RecordingSubscriber();
+
+		publisher.subscribe(failing);
+		publisher.subscribe(healthy);
+		failing.subscription.request(Long.MAX_VALUE);
+		healthy.subscription.request(Long.MAX_VALUE);
+
+		try
+		{
+			publisher.publish(new ExecutionResult("first"));
+			Assert.fail("The subscriber failure should be rethrown");
+		}
+		catch (IllegalStateException e)
+		{
+			Assert.assertEquals("failure", e.getMessage());
+		}
+
+		publisher.publish(new ExecutionResult("second"));
+		Assert.assertEquals(2, healthy.results.size());
+	}
+
+	/**
+	 * Subscriber recording the signals it receives.
+	 */
+	private static class RecordingSubscriber implements IExecutionResultSubscriber
+	{
+		/**
+		 * Subscription.
+		 */
+		private volatile IExecutionResultSubscription subscription;
+
+		/**
+		 * Received results.
+		 */
+		private final List<IExecutionResult> results = new ArrayList<>();
+
+		/**
+		 * Received failure.
+		 */
+		private volatile Throwable error;
+
+		/**
+		 * Has the completion been received?
+		 */
+		private volatile boolean completed = false;
+
+		@Override
+		public void onSubscribe(final IExecutionResultSubscription subscription)
+		{
+			this.subscription = subscription;
+		}
+
+		@Override
+		public void onNext(final IExecutionResult result)
+		{
+			results.add(result);
+		}
+
+		@Override
+		public void onError(final Throwable throwable)
+		{
+			this.error = throwable;
+		}
+
+		@Override
+		public void onComplete()
+		{
+			completed = true;
+		}
+	}
+}
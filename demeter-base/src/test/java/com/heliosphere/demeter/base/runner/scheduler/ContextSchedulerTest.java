@@ -0,0 +1,280 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the 
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.scheduler;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.heliosphere.demeter.base.runner.context.Context;
+import com.heliosphere.demeter.base.runner.context.IContext;
+import com.heliosphere.demeter.base.runner.entity.Entity;
+import com.heliosphere.demeter.base.runner.entity.EntityType;
+import com.heliosphere.demeter.base.runner.file.xml.configuration.XmlConfigurationFile;
+import com.heliosphere.demeter.base.runner.parameter.TestParameterType;
+import com.heliosphere.demeter.base.runner.parameter.base.ParameterException;
+import com.heliosphere.demeter.base.runner.parameter.configuration.IParameterConfiguration;
+import com.heliosphere.demeter.base.runner.parameter.configuration.ParameterConfiguration;
+import com.heliosphere.demeter.base.runner.parameter.execution.IParameterExecution;
+import com.heliosphere.demeter.base.runner.parameter.execution.ParameterExecution;
+import com.heliosphere.demeter.base.runner.parameter.list.ParameterList;
+import com.heliosphere.demeter.base.runner.result.ExecutionResult;
+import com.heliosphere.demeter.base.runner.result.ExecutionStatusType;
+import com.heliosphere.demeter.base.runner.result.IExecutionResult;
+
+/**
+ * Test class for the {@link IContextScheduler} implementations.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public class ContextSchedulerTest
+{
+	/**
+	 * Creates a context for a parameter having the given name and priority.
+	 * <hr>
+	 * @param name Parameter name.
+	 * @param priority Parameter priority.
+	 * @return Context.
+	 */
+	private static IContext createContext(final String name, final int priority)
+	{
+		IParameterConfiguration configuration = new ParameterConfiguration();
+		configuration.setName(name);
+		configuration.setPriority(priority);
+
+		IParameterExecution parameter = new ParameterExecution(name);
+		parameter.setConfiguration(configuration);
+
+		return new Context(new Entity<>(name, EntityType.DISPLAY, null, parameter), new ParameterList<IParameterExecution>());
+	}
+
+	/**
+	 * Tests the contexts are dispatched by ascending priority value, in scheduling order for equal priorities.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void priorityOrder()
+	{
+		IContextScheduler scheduler = new PriorityContextScheduler();
+		scheduler.schedule(createContext("help", 150));
+		scheduler.schedule(createContext("hello", 100));
+		scheduler.schedule(createContext("version", 150));
+
+		Assert.assertEquals(3, scheduler.size());
+		Assert.assertEquals("hello", scheduler.next().getEntity().getName());
+		Assert.assertEquals("help", scheduler.next().getEntity().getName());
+		Assert.assertEquals("version", scheduler.next().getEntity().getName());
+		Assert.assertNull(scheduler.next());
+		Assert.assertTrue(scheduler.isEmpty());
+	}
+
+	/**
+	 * Tests a context waiting long enough is dispatched before a more urgent context scheduled later.
+	 * <hr>
+	 * @throws InterruptedException Thrown in case the test has been interrupted.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void priorityAging() throws InterruptedException
+	{
+		IContextScheduler scheduler = new PriorityContextScheduler(1000);
+		scheduler.schedule(createContext("batch", 150));
+		Thread.sleep(100);
+		scheduler.schedule(createContext("urgent", 100));
+
+		Assert.assertEquals("batch", scheduler.next().getEntity().getName());
+		Assert.assertEquals("urgent", scheduler.next().getEntity().getName());
+	}
+
+	/**
+	 * Creates a parameter of the given type requiring the given parameters.
+	 * <hr>
+	 * @param type Parameter type.
+	 * @param includes Names of the required parameters.
+	 * @return Execution parameter.
+	 */
+	private static IParameterExecution createParameter(final TestParameterType type, final String... includes)
+	{
+		IParameterConfiguration configuration = new ParameterConfiguration();
+		configuration.setName(type.getName());
+		configuration.setType(type);
+		configuration.setRequiredParameters(Arrays.asList(includes));
+
+		IParameterExecution parameter = new ParameterExecution(type.getName());
+		parameter.setType(type);
+		parameter.setConfiguration(configuration);
+
+		return parameter;
+	}
+
+	/**
+	 * Creates the dependency graph of the given parameters.
+	 * <hr>
+	 * @param parameters Execution parameters.
+	 * @return Dependency graph.
+	 * @throws ParameterException Thrown in case the graph cannot be built.
+	 */
+	@SuppressWarnings("nls")
+	private static ParameterGraph createGraph(final List<IParameterExecution> parameters) throws ParameterException
+	{
+		ParameterList<IParameterConfiguration> definitions = new ParameterList<>();
+		for (IParameterExecution parameter : parameters)
+		{
+			definitions.add(parameter.getConfiguration());
+		}
+
+		XmlConfigurationFile configuration = new XmlConfigurationFile("config/runner/test.runner.configuration.xml");
+		configuration.setContent(definitions);
+
+		return ParameterGraph.build(configuration, parameters);
+	}
+
+	/**
+	 * Creates an execution result having the given status.
+	 * <hr>
+	 * @param status Execution status.
+	 * @return Execution result.
+	 */
+	private static IExecutionResult createResult(final ExecutionStatusType status)
+	{
+		IExecutionResult result = new ExecutionResult(status.name());
+		result.setStatus(status);
+
+		return result;
+	}
+
+	/**
+	 * Tests the dependency graph metrics and the release of the contexts once their dependencies have succeeded.
+	 * <hr>
+	 * @throws ParameterException Thrown in case the graph cannot be built.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void dependencyOrder() throws ParameterException
+	{
+		IParameterExecution help = createParameter(TestParameterType.PARAMETER_HELP);
+		IParameterExecution version = createParameter(TestParameterType.PARAMETER_VERSION, "help");
+		IParameterExecution hello = createParameter(TestParameterType.PARAMETER_HELLO, "help");
+
+		ParameterGraph graph = createGraph(Arrays.asList(hello, version, help));
+		IContext first = new Context(new Entity<>("help", EntityType.DISPLAY, null, help), new ParameterList<IParameterExecution>());
+		IContext second = new Context(new Entity<>("version", EntityType.DISPLAY, null, version), new ParameterList<IParameterExecution>());
+		IContext third = new Context(new Entity<>("hello", EntityType.DISPLAY, null, hello), new ParameterList<IParameterExecution>());
+		for (IContext context : Arrays.asList(third, second, first))
+		{
+			graph.register(context);
+		}
+
+		Assert.assertEquals(2, graph.getDepth());
+		Assert.assertEquals(2, graph.getMaxParallelism());
+		Assert.assertEquals("help", graph.getCriticalPath().get(0));
+
+		IContextScheduler scheduler = new DependencyContextScheduler(graph, new PriorityContextScheduler());
+		scheduler.schedule(third);
+		scheduler.schedule(second);
+		scheduler.schedule(first);
+
+		Assert.assertEquals(3, scheduler.size());
+		Assert.assertSame(first, scheduler.next());
+		Assert.assertNull(scheduler.next());
+
+		scheduler.complete(first, createResult(ExecutionStatusType.SUCESSS));
+		Assert.assertNotNull(scheduler.next());
+		Assert.assertNotNull(scheduler.next());
+		Assert.assertTrue(scheduler.isEmpty());
+	}
+
+	/**
+	 * Tests the maximum parallelism accounts for the independent contexts of different dependency levels.
+	 * <hr>
+	 * @throws ParameterException Thrown in case the graph cannot be built.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void maxParallelism() throws ParameterException
+	{
+		IParameterExecution help = createParameter(TestParameterType.PARAMETER_HELP);
+		IParameterExecution version = createParameter(TestParameterType.PARAMETER_VERSION, "help");
+		IParameterExecution hello = createParameter(TestParameterType.PARAMETER_HELLO);
+		ParameterGraph graph = createGraph(Arrays.asList(help, version, hello));
+
+		// Independent 'hello' (3 contexts) and chain 'help' (1 context) -> 'version' (3 contexts).
+		graph.register(new Entity<>("help", EntityType.DISPLAY, null, help));
+		for (int i = 0; i < 3; i++)
+		{
+			graph.register(new Entity<>("version", EntityType.DISPLAY, null, version));
+			graph.register(new Entity<>("hello", EntityType.DISPLAY, null, hello));
+		}
+
+		Assert.assertEquals(6, graph.getMaxParallelism());
+
+		// Chain 'help' (1 context) -> 'version' (3 contexts) -> 'hello' (3 contexts).
+		hello = createParameter(TestParameterType.PARAMETER_HELLO, "version");
+		graph = createGraph(Arrays.asList(help, version, hello));
+		graph.register(new Entity<>("help", EntityType.DISPLAY, null, help));
+		for (int i = 0; i < 3; i++)
+		{
+			graph.register(new Entity<>("version", EntityType.DISPLAY, null, version));
+			graph.register(new Entity<>("hello", EntityType.DISPLAY, null, hello));
+		}
+
+		Assert.assertEquals(3, graph.getMaxParallelism());
+	}
+
+	/**
+	 * Tests the contexts depending on a failed context are skipped.
+	 * <hr>
+	 * @throws ParameterException Thrown in case the graph cannot be built.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test
+	public final void dependencyFailure() throws ParameterException
+	{
+		IParameterExecution help = createParameter(TestParameterType.PARAMETER_HELP);
+		IParameterExecution version = createParameter(TestParameterType.PARAMETER_VERSION, "help");
+		IParameterExecution hello = createParameter(TestParameterType.PARAMETER_HELLO, "version");
+
+		ParameterGraph graph = createGraph(Arrays.asList(help, version, hello));
+		Assert.assertEquals(Arrays.asList("help", "version", "hello"), graph.getCriticalPath());
+
+		IContext first = new Context(new Entity<>("help", EntityType.DISPLAY, null, help), new ParameterList<IParameterExecution>());
+		IContext second = new Context(new Entity<>("version", EntityType.DISPLAY, null, version), new ParameterList<IParameterExecution>());
+		IContext third = new Context(new Entity<>("hello", EntityType.DISPLAY, null, hello), new ParameterList<IParameterExecution>());
+
+		IContextScheduler scheduler = new DependencyContextScheduler(graph, new PriorityContextScheduler());
+		scheduler.schedule(first);
+		scheduler.schedule(second);
+		scheduler.schedule(third);
+
+		Assert.assertSame(first, scheduler.next());
+		scheduler.complete(first, createResult(ExecutionStatusType.FAILED));
+
+		Assert.assertNull(scheduler.next());
+		Assert.assertEquals(2, scheduler.drainSkipped().size());
+		Assert.assertTrue(scheduler.isEmpty());
+	}
+
+	/**
+	 * Tests a dependency cycle is rejected.
+	 * <hr>
+	 * @throws ParameterException Expected exception.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test(expected = ParameterException.class)
+	public final void dependencyCycle() throws ParameterException
+	{
+		createGraph(Arrays.asList(createParameter(TestParameterType.PARAMETER_HELP, "version"), createParameter(TestParameterType.PARAMETER_VERSION, "help")));
+	}
+}
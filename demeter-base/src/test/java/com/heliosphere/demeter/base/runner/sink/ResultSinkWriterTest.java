@@ -0,0 +1,121 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the 
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ * 
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.demeter.base.runner.sink;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.heliosphere.demeter.base.runner.IRunner;
+import com.heliosphere.demeter.base.runner.TestRunner;
+import com.heliosphere.demeter.base.runner.file.xml.configuration.XmlConfigurationFile;
+import com.heliosphere.demeter.base.runner.file.xml.execution.XmlExecutionFile;
+
+/**
+ * Test class for the {@link ResultSinkWriter} class and the provided {@link IResultSink}.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public class ResultSinkWriterTest
+{
+	/**
+	 * Temporary folder.
+	 */
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * Runs the test runner, writing its results to the given sink.
+	 * <hr>
+	 * @param sink Result sink.
+	 * @return Result sink writer.
+	 * @throws Exception Thrown in case an error occurred while running the runner.
+	 */
+	@SuppressWarnings("nls")
+	private static ResultSinkWriter run(final IResultSink sink) throws Exception
+	{
+		XmlConfigurationFile configuration = new XmlConfigurationFile("config/runner/test.runner.configuration.xml");
+		XmlExecutionFile execution = new XmlExecutionFile("config/runner/test.runner.execution.overflow.xml");
+		IRunner runner = new TestRunner(configuration, execution, null);
+
+		// A batch size lower than the number of contexts exercises both the size trigger and the final flush.
+		ResultSinkWriter writer = new ResultSinkWriter(sink, 2, 1000);
+		runner.subscribe(writer);
+		runner.start();
+
+		return writer;
+	}
+
+	/**
+	 * Tests the results are written to a JSON lines file, one line per result.
+	 * <hr>
+	 * @throws Exception Thrown in case an error occurred during the test.
+	 */
+	@SuppressWarnings("nls")
+	@Test
+	public final void writeJsonLines() throws Exception
+	{
+		File file = new File(folder.getRoot(), "results/results.jsonl");
+		ResultSinkWriter writer = run(new JsonLinesResultSink(file));
+
+		List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+		Assert.assertEquals(3, writer.getWritten());
+		Assert.assertEquals(3, lines.size());
+		for (String line : lines)
+		{
+			Assert.assertTrue(line.startsWith("{\"time\":"));
+			Assert.assertTrue(line.contains("\"status\":\"SUCESSS\""));
+			Assert.assertTrue(line.endsWith("\"errors\":[]}"));
+		}
+	}
+
+	/**
+	 * Tests the results are inserted into an embedded H2 database.
+	 * <hr>
+	 * @throws Exception Thrown in case an error occurred during the test.
+	 */
+	@SuppressWarnings("nls")
+	@Test
+	public final void writeH2() throws Exception
+	{
+		String url = "jdbc:h2:" + new File(folder.getRoot(), "results").getAbsolutePath();
+		ResultSinkWriter writer = run(new H2ResultSink(url, "sa", ""));
+
+		Assert.assertEquals(3, writer.getWritten());
+		try (Connection connection = DriverManager.getConnection(url, "sa", ""); Statement statement = connection.createStatement(); ResultSet set = statement.executeQuery("SELECT COUNT(*) FROM " + H2ResultSink.DEFAULT_TABLE + " WHERE STATUS = 'SUCESSS'"))
+		{
+			Assert.assertTrue(set.next());
+			Assert.assertEquals(3, set.getInt(1));
+		}
+	}
+
+	/**
+	 * Tests a sink rejects an invalid table name.
+	 */
+	@SuppressWarnings({ "static-method", "nls" })
+	@Test(expected = IllegalArgumentException.class)
+	public final void invalidTableName()
+	{
+		new H2ResultSink("jdbc:h2:mem:results", "sa", "", "RESULT; DROP TABLE USERS");
+	}
+}